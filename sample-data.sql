@@ -1,106 +1,7 @@
--- Student Management System Database Initialization
+-- Student Management System sample data
 -- PostgreSQL 15+
--- This script creates all tables and inserts sample data
-
--- Drop existing tables (in correct order to respect foreign keys)
-DROP TABLE IF EXISTS assignment_details CASCADE;
-DROP TABLE IF EXISTS grade_details CASCADE;
-DROP TABLE IF EXISTS assignments CASCADE;
-DROP TABLE IF EXISTS student_course_details CASCADE;
-DROP TABLE IF EXISTS courses CASCADE;
-DROP TABLE IF EXISTS students CASCADE;
-DROP TABLE IF EXISTS teachers CASCADE;
-DROP TABLE IF EXISTS admins CASCADE;
-
--- 1. Admin Table
-CREATE TABLE admins (
-    id SERIAL PRIMARY KEY,
-    username VARCHAR(50) UNIQUE NOT NULL,
-    password VARCHAR(255) NOT NULL,
-    first_name VARCHAR(50) NOT NULL,
-    last_name VARCHAR(50) NOT NULL,
-    email VARCHAR(100) UNIQUE NOT NULL
-);
-
--- 2. Student Table
-CREATE TABLE students (
-    id SERIAL PRIMARY KEY,
-    username VARCHAR(50) UNIQUE NOT NULL,
-    password VARCHAR(255) NOT NULL,
-    first_name VARCHAR(50) NOT NULL,
-    last_name VARCHAR(50) NOT NULL,
-    email VARCHAR(100) UNIQUE NOT NULL
-);
-
--- 3. Teacher Table
-CREATE TABLE teachers (
-    id SERIAL PRIMARY KEY,
-    username VARCHAR(50) UNIQUE NOT NULL,
-    password VARCHAR(255) NOT NULL,
-    first_name VARCHAR(50) NOT NULL,
-    last_name VARCHAR(50) NOT NULL,
-    email VARCHAR(100) UNIQUE NOT NULL
-);
-
--- 4. Course Table
-CREATE TABLE courses (
-    id SERIAL PRIMARY KEY,
-    code VARCHAR(20) UNIQUE NOT NULL,
-    name VARCHAR(100) NOT NULL,
-    teacher_id INTEGER REFERENCES teachers(id) ON DELETE SET NULL
-);
-
--- 5. Student Course Details (Junction table for students and courses)
-CREATE TABLE student_course_details (
-    id SERIAL PRIMARY KEY,
-    student_id INTEGER NOT NULL REFERENCES students(id) ON DELETE CASCADE,
-    course_id INTEGER NOT NULL REFERENCES courses(id) ON DELETE CASCADE,
-    UNIQUE(student_id, course_id)
-);
-
--- 6. Assignment Table
-CREATE TABLE assignments (
-    id SERIAL PRIMARY KEY,
-    course_id INTEGER NOT NULL REFERENCES courses(id) ON DELETE CASCADE,
-    title VARCHAR(200) NOT NULL,
-    description TEXT,
-    due_date VARCHAR(50),
-    max_score DECIMAL(5,2) DEFAULT 100.00,
-    created_date VARCHAR(50),
-    status VARCHAR(20) DEFAULT 'active', -- 'active', 'closed', 'draft'
-    created_by_teacher_id INTEGER REFERENCES teachers(id) ON DELETE SET NULL
-);
-
--- 7. Assignment Details (tracks student assignment completion)
-CREATE TABLE assignment_details (
-    id SERIAL PRIMARY KEY,
-    assignment_id INTEGER NOT NULL REFERENCES assignments(id) ON DELETE CASCADE,
-    student_course_details_id INTEGER NOT NULL REFERENCES student_course_details(id) ON DELETE CASCADE,
-    is_done INTEGER DEFAULT 0, -- 0 = incomplete, 1 = completed
-    UNIQUE(assignment_id, student_course_details_id)
-);
-
--- 8. Grade Details Table
-CREATE TABLE grade_details (
-    id SERIAL PRIMARY KEY,
-    student_id INTEGER NOT NULL REFERENCES students(id) ON DELETE CASCADE,
-    course_id INTEGER NOT NULL REFERENCES courses(id) ON DELETE CASCADE,
-    assignment_name VARCHAR(200),
-    score DECIMAL(5,2) DEFAULT 0.00,
-    max_score DECIMAL(5,2) DEFAULT 100.00,
-    grade VARCHAR(2), -- 'A', 'B', 'C', 'D', 'F'
-    feedback TEXT,
-    graded_date VARCHAR(50),
-    graded_by_teacher_id INTEGER REFERENCES teachers(id) ON DELETE SET NULL
-);
-
--- Create indexes for better query performance
-CREATE INDEX idx_course_teacher ON courses(teacher_id);
-CREATE INDEX idx_student_course_student ON student_course_details(student_id);
-CREATE INDEX idx_student_course_course ON student_course_details(course_id);
-CREATE INDEX idx_assignment_course ON assignments(course_id);
-CREATE INDEX idx_grade_student ON grade_details(student_id);
-CREATE INDEX idx_grade_course ON grade_details(course_id);
+-- The schema is created by the application at startup (src/main/resources/db/migration);
+-- start it once against an empty database, then load this script for demo accounts and courses.
 
 -- ========================================
 -- INSERT SAMPLE DATA
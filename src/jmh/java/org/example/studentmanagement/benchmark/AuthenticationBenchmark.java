@@ -0,0 +1,77 @@
+package org.example.studentmanagement.benchmark;
+
+import org.example.studentmanagement.security.CompositeUserDetailsService;
+import org.example.studentmanagement.security.PlainTextOrBCryptPasswordEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthenticationBenchmark {
+
+    @Param({"5000"})
+    private int students;
+
+    @Param({"10"})
+    private int bcryptStrength;
+
+    private EmbeddedDatabase dataSource;
+    private AnnotationConfigApplicationContext context;
+    private CompositeUserDetailsService userDetailsService;
+    private PlainTextOrBCryptPasswordEncoder passwordEncoder;
+    private String bcryptHash;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dataSource = BenchmarkDataset.create(10, students, 20, 0, 0);
+        passwordEncoder = new PlainTextOrBCryptPasswordEncoder(bcryptStrength);
+        bcryptHash = passwordEncoder.encode("student123");
+
+        // Wired by Spring so the login cache uses the production CacheConfig defaults
+        context = BenchmarkContext.create(dataSource, passwordEncoder, true, CompositeUserDetailsService.class);
+        userDetailsService = context.getBean(CompositeUserDetailsService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        dataSource.shutdown();
+    }
+
+    @Benchmark
+    public UserDetails loadUserByUsername() {
+        return userDetailsService.loadUserByUsername("student" + ThreadLocalRandom.current().nextInt(1, students + 1));
+    }
+
+    @Benchmark
+    public boolean matchesPlainText() {
+        return passwordEncoder.matches("student123", "student123");
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public boolean matchesBCrypt() {
+        return passwordEncoder.matches("student123", bcryptHash);
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.studentmanagement.benchmark;
+
+import jakarta.validation.Validator;
+import org.example.studentmanagement.config.CacheConfig;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.ClassPathBeanDefinitionScanner;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import javax.sql.DataSource;
+
+/**
+ * Wires the real DAOs and services around a benchmark DataSource without starting the web app.
+ */
+final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    static AnnotationConfigApplicationContext create(DataSource dataSource, PasswordEncoder passwordEncoder,
+                                                     boolean caching, Class<?>... extraBeans) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.registerBean(DataSource.class, () -> dataSource);
+        context.registerBean(PasswordEncoder.class, () -> passwordEncoder);
+        // Boot auto-configures this one in the app; the bulk import service validates rows with it
+        context.registerBean(Validator.class, LocalValidatorFactoryBean::new);
+        if (caching) {
+            context.register(CacheConfig.class);
+        }
+
+        // Test classes share the packages and are on the benchmark classpath, so skip their @Configuration classes
+        ClassPathBeanDefinitionScanner scanner = new ClassPathBeanDefinitionScanner(context);
+        scanner.addExcludeFilter(new AnnotationTypeFilter(Configuration.class));
+        scanner.scan("org.example.studentmanagement.dao", "org.example.studentmanagement.service", "org.example.studentmanagement.event");
+
+        for (Class<?> extraBean : extraBeans) {
+            context.register(extraBean);
+        }
+        context.refresh();
+        return context;
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.studentmanagement.benchmark;
+
+import org.example.studentmanagement.config.SchemaMigrator;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * Builds an embedded H2 database from the application's schema migrations and fills it with a synthetic dataset.
+ * Sizes come from the benchmark's @Param fields, so they can be changed from the JMH
+ * command line (-p students=50000) without recompiling.
+ */
+final class BenchmarkDataset {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private BenchmarkDataset() {
+    }
+
+    static EmbeddedDatabase create(int teachers, int students, int courses, int coursesPerStudent,
+                                   int assignmentsPerCourse) throws SQLException {
+        EmbeddedDatabase dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("benchmark_" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE")
+                .build();
+        new SchemaMigrator(dataSource, "classpath:db/migration", 1).migrate();
+
+        try (Connection conn = dataSource.getConnection()) {
+            conn.setAutoCommit(false);
+            seedTeachers(conn, teachers);
+            seedStudents(conn, students);
+            seedCourses(conn, courses, teachers);
+            seedEnrollmentsAndGrades(conn, students, courses, coursesPerStudent);
+            seedAssignments(conn, courses, assignmentsPerCourse);
+            conn.commit();
+        }
+        return dataSource;
+    }
+
+    private static void seedTeachers(Connection conn, int teachers) throws SQLException {
+        String sql = "INSERT INTO teachers (username, password, first_name, last_name, email) VALUES (?, ?, ?, ?, ?)";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (int i = 1; i <= teachers; i++) {
+                pstmt.setString(1, "teacher" + i);
+                pstmt.setString(2, "teacher123");
+                pstmt.setString(3, "Teacher");
+                pstmt.setString(4, "No" + i);
+                pstmt.setString(5, "teacher" + i + "@example.com");
+                addToBatch(pstmt, i);
+            }
+            pstmt.executeBatch();
+        }
+    }
+
+    private static void seedStudents(Connection conn, int students) throws SQLException {
+        String sql = "INSERT INTO students (username, password, first_name, last_name, email) VALUES (?, ?, ?, ?, ?)";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (int i = 1; i <= students; i++) {
+                pstmt.setString(1, "student" + i);
+                pstmt.setString(2, "student123");
+                pstmt.setString(3, "Student");
+                pstmt.setString(4, "No" + i);
+                pstmt.setString(5, "student" + i + "@example.com");
+                addToBatch(pstmt, i);
+            }
+            pstmt.executeBatch();
+        }
+    }
+
+    private static void seedCourses(Connection conn, int courses, int teachers) throws SQLException {
+        String sql = "INSERT INTO courses (code, name, teacher_id) VALUES (?, ?, ?)";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (int i = 1; i <= courses; i++) {
+                pstmt.setString(1, "C" + i);
+                pstmt.setString(2, "Course " + i);
+                pstmt.setInt(3, (i - 1) % teachers + 1);
+                addToBatch(pstmt, i);
+            }
+            pstmt.executeBatch();
+        }
+    }
+
+    // Every student takes coursesPerStudent consecutive courses and has a course-level grade in each
+    private static void seedEnrollmentsAndGrades(Connection conn, int students, int courses, int coursesPerStudent)
+            throws SQLException {
+        String enrollSql = "INSERT INTO student_course_details (student_id, course_id) VALUES (?, ?)";
+        String gradeSql = "INSERT INTO grade_details (student_id, course_id, assignment_name, score, max_score, grade) "
+                + "VALUES (?, ?, 'Final', ?, 100.00, 'B')";
+        try (PreparedStatement enroll = conn.prepareStatement(enrollSql);
+             PreparedStatement grade = conn.prepareStatement(gradeSql)) {
+            int rows = 0;
+            for (int student = 1; student <= students; student++) {
+                for (int k = 0; k < Math.min(coursesPerStudent, courses); k++) {
+                    int course = (student + k - 1) % courses + 1;
+                    enroll.setInt(1, student);
+                    enroll.setInt(2, course);
+                    grade.setInt(1, student);
+                    grade.setInt(2, course);
+                    grade.setDouble(3, 50 + (student * 7 + course) % 50);
+                    rows++;
+                    addToBatch(enroll, rows);
+                    addToBatch(grade, rows);
+                }
+            }
+            enroll.executeBatch();
+            grade.executeBatch();
+        }
+    }
+
+    private static void seedAssignments(Connection conn, int courses, int assignmentsPerCourse) throws SQLException {
+        String sql = "INSERT INTO assignments (course_id, title, description, due_date, created_date, status) "
+                + "VALUES (?, ?, 'Synthetic assignment', '2030-01-15', '2025-09-01', 'active')";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            int rows = 0;
+            for (int course = 1; course <= courses; course++) {
+                for (int a = 1; a <= assignmentsPerCourse; a++) {
+                    pstmt.setInt(1, course);
+                    pstmt.setString(2, "Assignment " + a);
+                    rows++;
+                    addToBatch(pstmt, rows);
+                }
+            }
+            pstmt.executeBatch();
+        }
+    }
+
+    private static void addToBatch(PreparedStatement pstmt, int rows) throws SQLException {
+        pstmt.addBatch();
+        if (rows % BATCH_SIZE == 0) {
+            pstmt.executeBatch();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.studentmanagement.benchmark;
+
+import org.example.studentmanagement.dao.CourseDAOImpl;
+import org.example.studentmanagement.dao.StudentDAOImpl;
+import org.example.studentmanagement.entity.Course;
+import org.example.studentmanagement.entity.Student;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DaoBenchmark {
+
+    @Param({"50"})
+    private int teachers;
+
+    @Param({"5000"})
+    private int students;
+
+    @Param({"200"})
+    private int courses;
+
+    @Param({"4"})
+    private int coursesPerStudent;
+
+    private EmbeddedDatabase dataSource;
+    private StudentDAOImpl studentDAO;
+    private CourseDAOImpl courseDAO;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dataSource = BenchmarkDataset.create(teachers, students, courses, coursesPerStudent, 0);
+        studentDAO = new StudentDAOImpl(dataSource);
+        courseDAO = new CourseDAOImpl(dataSource);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @Benchmark
+    public Student studentFindById() {
+        return studentDAO.findById(ThreadLocalRandom.current().nextInt(1, students + 1));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Course> courseFindAll() {
+        return courseDAO.findAll();
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.studentmanagement.benchmark;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.example.studentmanagement.config.StatementCacheMetricsDataSource;
+import org.example.studentmanagement.config.StatementCacheStats;
+import org.example.studentmanagement.dao.GradeDetailsDAOImpl;
+import org.example.studentmanagement.entity.GradeDetails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-student grade lookup the teacher course pages run in a loop under different
+ * PostgreSQL driver statement settings. prepareThreshold=0 re-parses and re-plans the SQL on every call;
+ * the other combinations show what server-side preparing and the driver's statement cache save.
+ * Needs a running PostgreSQL (by default the one from application.properties, ideally filled by the
+ * seed profile); point it elsewhere with -p jdbcUrl=... The statement cache hit ratio is printed after each trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PreparedStatementBenchmark {
+
+    @Param({"jdbc:postgresql://localhost:5433/studentdb?options=-c%20timezone=UTC"})
+    private String jdbcUrl;
+
+    @Param({"postgres"})
+    private String username;
+
+    @Param({"postgres"})
+    private String password;
+
+    @Param({"0", "5", "1"})
+    private int prepareThreshold;
+
+    @Param({"0", "256"})
+    private int preparedStatementCacheQueries;
+
+    // Id ranges the random lookups are drawn from; match them to the seeded dataset
+    @Param({"100000"})
+    private int students;
+
+    @Param({"5000"})
+    private int courses;
+
+    private HikariDataSource pool;
+    private StatementCacheStats stats;
+    private GradeDetailsDAOImpl gradeDetailsDAO;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(jdbcUrl);
+        config.setUsername(username);
+        config.setPassword(password);
+        // One connection, so every call sees the same statement cache
+        config.setMaximumPoolSize(1);
+        config.addDataSourceProperty("prepareThreshold", prepareThreshold);
+        config.addDataSourceProperty("preparedStatementCacheQueries", preparedStatementCacheQueries);
+        pool = new HikariDataSource(config);
+
+        stats = new StatementCacheStats(preparedStatementCacheQueries);
+        gradeDetailsDAO = new GradeDetailsDAOImpl(new StatementCacheMetricsDataSource(pool, stats));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("%nstatement cache: %d hits, %d misses, hit ratio %.3f%n",
+                stats.getHits(), stats.getMisses(), stats.getHitRatio());
+        pool.close();
+    }
+
+    @Benchmark
+    public List<GradeDetails> gradeLookup() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return gradeDetailsDAO.findByStudentIdAndCourseId(random.nextInt(1, students + 1), random.nextInt(1, courses + 1));
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.studentmanagement.benchmark;
+
+import org.example.studentmanagement.controller.TeacherController;
+import org.example.studentmanagement.security.PlainTextOrBCryptPasswordEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.ui.ExtendedModelMap;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the model assembly behind GET /teacher/{teacherId}/courses/{courseId} (no view rendering).
+ * The controller and its services are wired by Spring so the caching proxies match production
+ * when the caching param is on.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TeacherControllerBenchmark {
+
+    @Param({"50"})
+    private int teachers;
+
+    @Param({"5000"})
+    private int students;
+
+    @Param({"200"})
+    private int courses;
+
+    @Param({"4"})
+    private int coursesPerStudent;
+
+    @Param({"10"})
+    private int assignmentsPerCourse;
+
+    @Param({"false", "true"})
+    private boolean caching;
+
+    private EmbeddedDatabase dataSource;
+    private AnnotationConfigApplicationContext context;
+    private TeacherController teacherController;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dataSource = BenchmarkDataset.create(teachers, students, courses, coursesPerStudent, assignmentsPerCourse);
+
+        context = BenchmarkContext.create(dataSource, new PlainTextOrBCryptPasswordEncoder(4), caching,
+                TeacherController.class);
+        teacherController = context.getBean(TeacherController.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        dataSource.shutdown();
+    }
+
+    @Benchmark
+    public ExtendedModelMap showTeacherCourseDetails() {
+        // Courses are assigned round-robin, so course c belongs to teacher (c - 1) % teachers + 1
+        int courseId = ThreadLocalRandom.current().nextInt(1, courses + 1);
+        int teacherId = (courseId - 1) % teachers + 1;
+        ExtendedModelMap model = new ExtendedModelMap();
+        teacherController.showTeacherCourseDetails(teacherId, courseId, model);
+        return model;
+    }
+}
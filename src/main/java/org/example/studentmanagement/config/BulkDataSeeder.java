@@ -0,0 +1,224 @@
+package org.example.studentmanagement.config;
+
+import org.example.studentmanagement.dao.BulkInsert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+/**
+ * Generates a large synthetic dataset for load testing when the "seed" profile is active.
+ * Sizes are configured in application-seed.properties; the same random seed always produces
+ * the same rows. On PostgreSQL rows are streamed with COPY, elsewhere with JDBC batches.
+ * Only runs against an empty students table.
+ */
+@Component
+@Profile("seed")
+public class BulkDataSeeder implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkDataSeeder.class);
+
+    private static final LocalDate TERM_START = LocalDate.of(2025, 9, 1);
+    private static final String[] TABLES = {
+            "teachers", "students", "courses", "student_course_details", "assignments", "assignment_details"
+    };
+
+    private final DataSource dataSource;
+    private final PasswordEncoder passwordEncoder;
+    private final int teachers;
+    private final int students;
+    private final int courses;
+    private final int enrollmentsPerStudent;
+    private final int assignmentsPerCourse;
+    private final long randomSeed;
+
+    public BulkDataSeeder(DataSource dataSource,
+                          PasswordEncoder passwordEncoder,
+                          @Value("${app.seed.teachers:2000}") int teachers,
+                          @Value("${app.seed.students:100000}") int students,
+                          @Value("${app.seed.courses:5000}") int courses,
+                          @Value("${app.seed.enrollments-per-student:20}") int enrollmentsPerStudent,
+                          @Value("${app.seed.assignments-per-course:10}") int assignmentsPerCourse,
+                          @Value("${app.seed.random-seed:42}") long randomSeed) {
+        if (enrollmentsPerStudent > courses) {
+            throw new IllegalArgumentException("enrollments-per-student cannot exceed the number of courses");
+        }
+        this.dataSource = dataSource;
+        this.passwordEncoder = passwordEncoder;
+        this.teachers = teachers;
+        this.students = students;
+        this.courses = courses;
+        this.enrollmentsPerStudent = enrollmentsPerStudent;
+        this.assignmentsPerCourse = assignmentsPerCourse;
+        this.randomSeed = randomSeed;
+    }
+
+    @Override
+    public void run(String... args) {
+        seed();
+    }
+
+    public void seed() {
+        try (Connection conn = dataSource.getConnection()) {
+            if (countRows(conn, "students") > 0) {
+                logger.info("Bulk seed skipped: students table is not empty");
+                return;
+            }
+
+            boolean useCopy = BulkInsert.supportsCopy(conn);
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try {
+                // One shared hash keeps seeding fast while logins still go through BCrypt
+                String password = passwordEncoder.encode("password123");
+
+                long start = System.currentTimeMillis();
+                seedTeachers(conn, useCopy, password);
+                seedStudents(conn, useCopy, password);
+                seedCourses(conn, useCopy);
+                seedEnrollments(conn, useCopy);
+                seedAssignments(conn, useCopy);
+                seedAssignmentDetails(conn, useCopy);
+                resetIdSequences(conn, useCopy);
+                conn.commit();
+
+                logger.info("Bulk seed finished in {} ms", System.currentTimeMillis() - start);
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Error seeding data: " + e.getMessage(), e);
+        }
+    }
+
+    private void seedTeachers(Connection conn, boolean useCopy, String password) throws SQLException {
+        try (BulkInsert sink = BulkInsert.open(conn, useCopy, "teachers",
+                "id", "username", "password", "first_name", "last_name", "email")) {
+            for (int id = 1; id <= teachers; id++) {
+                sink.add(id, "teacher" + id, password, "Teacher", "No" + id, "teacher" + id + "@example.com");
+            }
+        }
+        logger.info("Seeded {} teachers", teachers);
+    }
+
+    private void seedStudents(Connection conn, boolean useCopy, String password) throws SQLException {
+        try (BulkInsert sink = BulkInsert.open(conn, useCopy, "students",
+                "id", "username", "password", "first_name", "last_name", "email")) {
+            for (int id = 1; id <= students; id++) {
+                sink.add(id, "student" + id, password, "Student", "No" + id, "student" + id + "@example.com");
+            }
+        }
+        logger.info("Seeded {} students", students);
+    }
+
+    private void seedCourses(Connection conn, boolean useCopy) throws SQLException {
+        SplittableRandom random = new SplittableRandom(randomSeed);
+        try (BulkInsert sink = BulkInsert.open(conn, useCopy, "courses", "id", "code", "name", "teacher_id")) {
+            for (int id = 1; id <= courses; id++) {
+                sink.add(id, "C" + id, "Course " + id, random.nextInt(teachers) + 1);
+            }
+        }
+        logger.info("Seeded {} courses", courses);
+    }
+
+    private void seedEnrollments(Connection conn, boolean useCopy) throws SQLException {
+        try (BulkInsert sink = BulkInsert.open(conn, useCopy, "student_course_details", "id", "student_id", "course_id")) {
+            forEachEnrollment((id, studentId, courseId) -> sink.add(id, studentId, courseId));
+        }
+        logger.info("Seeded {} enrollments", (long) students * enrollmentsPerStudent);
+    }
+
+    private void seedAssignments(Connection conn, boolean useCopy) throws SQLException {
+        SplittableRandom random = new SplittableRandom(randomSeed + 1);
+        try (BulkInsert sink = BulkInsert.open(conn, useCopy, "assignments",
+                "id", "course_id", "title", "description", "due_date", "created_date", "status")) {
+            int id = 0;
+            for (int courseId = 1; courseId <= courses; courseId++) {
+                for (int n = 1; n <= assignmentsPerCourse; n++) {
+                    LocalDate created = TERM_START.plusDays(random.nextInt(90));
+                    LocalDate due = created.plusDays(7 + random.nextInt(21));
+                    sink.add(++id, courseId, "Assignment " + n, "Synthetic assignment", due, created, "active");
+                }
+            }
+        }
+        logger.info("Seeded {} assignments", (long) courses * assignmentsPerCourse);
+    }
+
+    // Assignments of course c have ids (c - 1) * assignmentsPerCourse + 1 .. c * assignmentsPerCourse
+    private void seedAssignmentDetails(Connection conn, boolean useCopy) throws SQLException {
+        SplittableRandom random = new SplittableRandom(randomSeed + 2);
+        long[] nextId = {0};
+        try (BulkInsert sink = BulkInsert.open(conn, useCopy, "assignment_details",
+                "id", "assignment_id", "student_course_details_id", "is_done")) {
+            forEachEnrollment((enrollmentId, studentId, courseId) -> {
+                int firstAssignment = (courseId - 1) * assignmentsPerCourse + 1;
+                for (int n = 0; n < assignmentsPerCourse; n++) {
+                    sink.add(++nextId[0], firstAssignment + n, enrollmentId, random.nextInt(10) < 6 ? 1 : 0);
+                }
+            });
+        }
+        logger.info("Seeded {} assignment details", nextId[0]);
+    }
+
+    // Regenerates the same enrollments on every call, so dependent tables can be streamed without holding them
+    private void forEachEnrollment(EnrollmentConsumer consumer) throws SQLException {
+        SplittableRandom random = new SplittableRandom(randomSeed + 3);
+        int id = 0;
+        for (int studentId = 1; studentId <= students; studentId++) {
+            // Consecutive courses from a random start are distinct, keeping (student_id, course_id) unique
+            int start = random.nextInt(courses);
+            for (int n = 0; n < enrollmentsPerStudent; n++) {
+                consumer.accept(++id, studentId, (start + n) % courses + 1);
+            }
+        }
+    }
+
+    // Explicit ids were inserted, so move each id sequence past them for rows created by the app later
+    private void resetIdSequences(Connection conn, boolean useCopy) throws SQLException {
+        for (String table : TABLES) {
+            long maxId = countRows(conn, table) == 0 ? 0 : maxId(conn, table);
+            String sql = useCopy
+                    ? "SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), " + Math.max(maxId, 1) + ", " + (maxId > 0) + ")"
+                    : "ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + (maxId + 1);
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute(sql);
+            }
+        }
+    }
+
+    private long countRows(Connection conn, String table) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private long maxId(Connection conn, String table) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT MAX(id) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    @FunctionalInterface
+    private interface EnrollmentConsumer {
+        void accept(int enrollmentId, int studentId, int courseId) throws SQLException;
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.studentmanagement.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Read-through caches for the course, teacher and student lookups made on every page view,
+ * for the accounts resolved at login, and for the admin dashboard statistics.
+ * Each cache has its own Caffeine spec (size bound and TTL) and records hit/miss/eviction
+ * statistics, which the actuator publishes under the cache.* metrics.
+ */
+@Configuration
+// Ordered outside the transaction interceptor, so evictions run after the surrounding write has committed
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+
+    public static final String COURSES = "courses";
+    public static final String TEACHERS = "teachers";
+    public static final String STUDENTS = "students";
+    public static final String USERS = "users";
+    public static final String STATISTICS = "statistics";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${app.cache.courses.spec:maximumSize=5000,expireAfterWrite=10m}") String coursesSpec,
+                                     @Value("${app.cache.teachers.spec:maximumSize=2000,expireAfterWrite=10m}") String teachersSpec,
+                                     @Value("${app.cache.students.spec:maximumSize=20000,expireAfterWrite=5m}") String studentsSpec,
+                                     @Value("${app.cache.users.spec:maximumSize=20000,expireAfterWrite=15m}") String usersSpec,
+                                     @Value("${app.cache.statistics.spec:maximumSize=1,expireAfterWrite=30s}") String statisticsSpec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        cacheManager.registerCustomCache(COURSES, Caffeine.from(coursesSpec).recordStats().build());
+        cacheManager.registerCustomCache(TEACHERS, Caffeine.from(teachersSpec).recordStats().build());
+        cacheManager.registerCustomCache(STUDENTS, Caffeine.from(studentsSpec).recordStats().build());
+        cacheManager.registerCustomCache(USERS, Caffeine.from(usersSpec).recordStats().build());
+        cacheManager.registerCustomCache(STATISTICS, Caffeine.from(statisticsSpec).recordStats().build());
+        return cacheManager;
+    }
+}
@@ -0,0 +1,312 @@
+package org.example.studentmanagement.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * Brings the schema up to date at startup from the versioned scripts in db/migration
+ * (V&lt;version&gt;__&lt;description&gt;.sql), recording each applied version and its checksum in schema_version.
+ * The same scripts build the PostgreSQL database and the H2 test databases (H2 in PostgreSQL mode).
+ * <p>
+ * A script runs in one transaction, unless it uses CREATE/DROP INDEX CONCURRENTLY, which PostgreSQL
+ * only allows outside a transaction; such scripts run statement by statement and must be idempotent.
+ * On H2 the CONCURRENTLY keyword is dropped, and DO blocks, which guard PostgreSQL catalog changes, are skipped. Editing a script that was already applied fails startup.
+ * A database that already has the application tables but no history is baselined at
+ * app.db.migration.baseline-version without running those scripts.
+ */
+@Component
+@ConditionalOnProperty(name = "app.db.migration.enabled", havingValue = "true", matchIfMissing = true)
+public class SchemaMigrator implements InitializingBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchemaMigrator.class);
+
+    private static final Pattern SCRIPT_NAME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+    private static final Pattern CONCURRENTLY = Pattern.compile("\\bCONCURRENTLY\\s+", Pattern.CASE_INSENSITIVE);
+    private static final Pattern DO_BLOCK = Pattern.compile("^DO\\s+\\$\\$", Pattern.CASE_INSENSITIVE);
+
+    // Held while migrating so that two instances starting together do not both apply a script
+    private static final long ADVISORY_LOCK_KEY = 7_265_401_001L;
+    private static final long LOCK_POLL_MILLIS = 500;
+
+    private static final String HISTORY_TABLE = "CREATE TABLE IF NOT EXISTS schema_version (" +
+            "version INTEGER PRIMARY KEY, description VARCHAR(200) NOT NULL, checksum BIGINT NOT NULL, " +
+            "baseline BOOLEAN NOT NULL DEFAULT FALSE, installed_on TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)";
+
+    private final DataSource dataSource;
+    private final String location;
+    private final int baselineVersion;
+
+    @Value("${app.db.migration.lock-timeout-seconds:600}")
+    private long lockTimeoutSeconds = 600;
+
+    public SchemaMigrator(DataSource dataSource,
+                          @Value("${app.db.migration.location:classpath:db/migration}") String location,
+                          @Value("${app.db.migration.baseline-version:1}") int baselineVersion) {
+        this.dataSource = dataSource;
+        this.location = location;
+        this.baselineVersion = baselineVersion;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        migrate();
+    }
+
+    /**
+     * Applies every script newer than the database's current version, in version order.
+     *
+     * @return the versions applied by this call
+     */
+    public List<Integer> migrate() {
+        List<Migration> migrations = loadMigrations();
+        try (Connection conn = dataSource.getConnection()) {
+            boolean postgres = "PostgreSQL".equals(conn.getMetaData().getDatabaseProductName());
+            conn.setAutoCommit(true);
+            if (postgres) {
+                acquireLock(conn);
+            }
+            try {
+                execute(conn, HISTORY_TABLE);
+                Map<Integer, Long> applied = appliedChecksums(conn);
+                if (applied.isEmpty() && tableExists(conn, "students")) {
+                    baseline(conn, migrations, applied);
+                }
+
+                List<Integer> appliedNow = new ArrayList<>();
+                for (Migration migration : migrations) {
+                    Long checksum = applied.get(migration.version());
+                    if (checksum == null) {
+                        apply(conn, migration, postgres);
+                        appliedNow.add(migration.version());
+                    } else if (checksum != migration.checksum()) {
+                        throw new IllegalStateException("Migration " + migration.name()
+                                + " was changed after it was applied; add a new version instead");
+                    }
+                }
+                if (appliedNow.isEmpty()) {
+                    logger.info("Schema is up to date at version {}", migrations.isEmpty() ? 0 : migrations.get(migrations.size() - 1).version());
+                }
+                return appliedNow;
+            } finally {
+                if (postgres) {
+                    execute(conn, "SELECT pg_advisory_unlock(" + ADVISORY_LOCK_KEY + ")");
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Error migrating schema: " + e.getMessage(), e);
+        }
+    }
+
+    /*
+     * Polls instead of blocking in pg_advisory_lock: a waiter blocked inside a statement holds a snapshot, and
+     * CREATE INDEX CONCURRENTLY in the lock holder waits for every older snapshot, so neither would ever finish.
+     * Between attempts this connection is idle in autocommit mode and holds no snapshot.
+     */
+    private void acquireLock(Connection conn) throws SQLException {
+        long deadline = System.nanoTime() + lockTimeoutSeconds * 1_000_000_000L;
+        boolean waiting = false;
+        while (!tryLock(conn)) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Timed out after " + lockTimeoutSeconds
+                        + " s waiting for another instance to finish migrating the schema");
+            }
+            if (!waiting) {
+                logger.info("Waiting for another instance to finish migrating the schema");
+                waiting = true;
+            }
+            try {
+                Thread.sleep(LOCK_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the schema migration lock", e);
+            }
+        }
+    }
+
+    private static boolean tryLock(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT pg_try_advisory_lock(" + ADVISORY_LOCK_KEY + ")")) {
+            return rs.next() && rs.getBoolean(1);
+        }
+    }
+
+    private List<Migration> loadMigrations() {
+        try {
+            Resource[] resources = new PathMatchingResourcePatternResolver().getResources(location + "/V*__*.sql");
+            Map<Integer, Migration> byVersion = new HashMap<>();
+            for (Resource resource : resources) {
+                Matcher matcher = SCRIPT_NAME.matcher(resource.getFilename());
+                if (!matcher.matches()) {
+                    throw new IllegalStateException("Migration script name must look like V1__description.sql: " + resource.getFilename());
+                }
+                String script = StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8).replace("\r\n", "\n");
+                Migration migration = new Migration(Integer.parseInt(matcher.group(1)), matcher.group(2).replace('_', ' '),
+                        resource.getFilename(), script, checksum(script));
+                Migration duplicate = byVersion.put(migration.version(), migration);
+                if (duplicate != null) {
+                    throw new IllegalStateException("Duplicate migration version " + migration.version() + ": "
+                            + duplicate.name() + " and " + migration.name());
+                }
+            }
+            List<Migration> migrations = new ArrayList<>(byVersion.values());
+            migrations.sort((a, b) -> Integer.compare(a.version(), b.version()));
+            return migrations;
+        } catch (IOException e) {
+            throw new IllegalStateException("Error reading migrations from " + location + ": " + e.getMessage(), e);
+        }
+    }
+
+    private void apply(Connection conn, Migration migration, boolean postgres) throws SQLException {
+        boolean concurrent = CONCURRENTLY.matcher(migration.script()).find();
+        String script = postgres ? migration.script() : CONCURRENTLY.matcher(migration.script()).replaceAll("");
+        List<String> statements = splitStatements(script);
+        if (!postgres) {
+            statements.removeIf(sql -> DO_BLOCK.matcher(sql).find());
+        }
+
+        long start = System.nanoTime();
+        if (concurrent && postgres) {
+            for (String sql : statements) {
+                execute(conn, sql);
+            }
+            record(conn, migration, false);
+        } else {
+            conn.setAutoCommit(false);
+            try {
+                for (String sql : statements) {
+                    execute(conn, sql);
+                }
+                record(conn, migration, false);
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+        logger.info("Applied migration {} in {} ms", migration.name(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // Marks the scripts up to the baseline version as applied without running them
+    private void baseline(Connection conn, List<Migration> migrations, Map<Integer, Long> applied) throws SQLException {
+        for (Migration migration : migrations) {
+            if (migration.version() <= baselineVersion) {
+                record(conn, migration, true);
+                applied.put(migration.version(), migration.checksum());
+                logger.info("Existing schema baselined at migration {}", migration.name());
+            }
+        }
+    }
+
+    private static void record(Connection conn, Migration migration, boolean baseline) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "INSERT INTO schema_version (version, description, checksum, baseline) VALUES (?, ?, ?, ?)")) {
+            pstmt.setInt(1, migration.version());
+            pstmt.setString(2, migration.description());
+            pstmt.setLong(3, migration.checksum());
+            pstmt.setBoolean(4, baseline);
+            pstmt.executeUpdate();
+        }
+    }
+
+    private static Map<Integer, Long> appliedChecksums(Connection conn) throws SQLException {
+        Map<Integer, Long> applied = new HashMap<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT version, checksum FROM schema_version")) {
+            while (rs.next()) {
+                applied.put(rs.getInt(1), rs.getLong(2));
+            }
+        }
+        return applied;
+    }
+
+    private static boolean tableExists(Connection conn, String table) throws SQLException {
+        for (String name : new String[]{table, table.toUpperCase()}) {
+            try (ResultSet rs = conn.getMetaData().getTables(null, null, name, new String[]{"TABLE"})) {
+                if (rs.next()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // Splits on semicolons outside string literals and $$-quoted bodies, and drops -- comments outside them
+    private static List<String> splitStatements(String script) {
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean inLiteral = false;
+        boolean inBody = false;
+        for (int i = 0; i < script.length(); i++) {
+            char c = script.charAt(i);
+            if (!inLiteral && c == '$' && i + 1 < script.length() && script.charAt(i + 1) == '$') {
+                inBody = !inBody;
+                current.append("$$");
+                i++;
+            } else if (inBody) {
+                current.append(c);
+            } else if (!inLiteral && c == '-' && i + 1 < script.length() && script.charAt(i + 1) == '-') {
+                while (i < script.length() && script.charAt(i) != '\n') {
+                    i++;
+                }
+                current.append('\n');
+            } else if (!inLiteral && c == ';') {
+                addStatement(statements, current);
+            } else {
+                if (c == '\'') {
+                    inLiteral = !inLiteral;
+                }
+                current.append(c);
+            }
+        }
+        addStatement(statements, current);
+        return statements;
+    }
+
+    private static void addStatement(List<String> statements, StringBuilder current) {
+        String sql = current.toString().trim();
+        if (!sql.isEmpty()) {
+            statements.add(sql);
+        }
+        current.setLength(0);
+    }
+
+    private static void execute(Connection conn, String sql) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+
+    private static long checksum(String script) {
+        CRC32 crc = new CRC32();
+        crc.update(script.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+
+    private record Migration(int version, String description, String name, String script, long checksum) {
+    }
+}
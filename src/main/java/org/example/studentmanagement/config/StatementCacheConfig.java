@@ -0,0 +1,39 @@
+package org.example.studentmanagement.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Publishes prepared statement cache hit/miss metrics (see {@link StatementCacheStats}) when
+ * app.datasource.statement-metrics.enabled is set, e.g. by the pgtuned profile. Use them to size
+ * preparedStatementCacheQueries: a steady miss rate with evictions means the cache is too small.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.statement-metrics.enabled", havingValue = "true")
+public class StatementCacheConfig {
+
+    @Bean
+    public StatementCacheStats statementCacheStats(@Value("${app.datasource.statement-cache-queries:256}") int capacity) {
+        return new StatementCacheStats(capacity);
+    }
+
+    // Static so the post-processor is registered before the DataSource it wraps is created
+    @Bean
+    public static BeanPostProcessor statementCacheMetricsPostProcessor(ObjectProvider<StatementCacheStats> stats) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof StatementCacheMetricsDataSource)) {
+                    return new StatementCacheMetricsDataSource(dataSource, stats.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.studentmanagement.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Hands out connections that report every prepareStatement call to {@link StatementCacheStats}.
+ * Pooled connections are unwrapped to the physical connection, because that is what the driver's cache belongs to.
+ */
+public class StatementCacheMetricsDataSource extends DelegatingDataSource {
+
+    private final StatementCacheStats stats;
+
+    public StatementCacheMetricsDataSource(DataSource targetDataSource, StatementCacheStats stats) {
+        super(targetDataSource);
+        this.stats = stats;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(super.getConnection(username, password));
+    }
+
+    private Connection track(Connection connection) throws SQLException {
+        Connection physical = connection.unwrap(Connection.class);
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (isPrepare(method, args)) {
+                        stats.record(physical, (String) args[0]);
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    private static boolean isPrepare(Method method, Object[] args) {
+        return "prepareStatement".equals(method.getName()) && args != null && args.length > 0 && args[0] instanceof String;
+    }
+}
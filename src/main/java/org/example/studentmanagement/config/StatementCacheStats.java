@@ -0,0 +1,103 @@
+package org.example.studentmanagement.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.sql.Connection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Mirrors the PostgreSQL driver's per-connection prepared statement cache to report how often it hits.
+ * The driver keeps an LRU of the last preparedStatementCacheQueries SQL strings for each physical
+ * connection but exposes no statistics, so the same LRU is replayed here from every prepareStatement call.
+ * Published as jdbc.statement.cache.requests (tagged hit/miss), jdbc.statement.cache.evictions and
+ * jdbc.statement.cache.hit.ratio.
+ */
+public class StatementCacheStats implements MeterBinder {
+
+    private final int capacity;
+    private final Map<Connection, Map<String, Boolean>> caches = Collections.synchronizedMap(new WeakHashMap<>());
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param capacity the driver's preparedStatementCacheQueries; 0 means the driver caches nothing
+     */
+    public StatementCacheStats(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Records one prepareStatement call on the given physical (unpooled) connection.
+     */
+    public void record(Connection physicalConnection, String sql) {
+        if (capacity <= 0) {
+            misses.increment();
+            return;
+        }
+        Map<String, Boolean> cache = caches.computeIfAbsent(physicalConnection, connection -> newLru());
+        synchronized (cache) {
+            if (cache.get(sql) != null) {
+                hits.increment();
+            } else {
+                misses.increment();
+                cache.put(sql, Boolean.TRUE);
+            }
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public double getHitRatio() {
+        long total = getHits() + getMisses();
+        return total == 0 ? 0.0 : (double) getHits() / total;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("jdbc.statement.cache.requests", this, StatementCacheStats::getHits)
+                .tag("result", "hit")
+                .description("prepareStatement calls whose SQL was still in the connection's statement cache")
+                .register(registry);
+        FunctionCounter.builder("jdbc.statement.cache.requests", this, StatementCacheStats::getMisses)
+                .tag("result", "miss")
+                .description("prepareStatement calls that had to parse and plan the SQL again")
+                .register(registry);
+        FunctionCounter.builder("jdbc.statement.cache.evictions", this, StatementCacheStats::getEvictions)
+                .description("Statements pushed out of a full per-connection cache")
+                .register(registry);
+        Gauge.builder("jdbc.statement.cache.hit.ratio", this, StatementCacheStats::getHitRatio)
+                .register(registry);
+    }
+
+    // Access-ordered, like the driver's own LRU
+    private Map<String, Boolean> newLru() {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                if (size() > capacity) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+}
@@ -1,10 +1,19 @@
 package org.example.studentmanagement.controller;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import jakarta.validation.Valid;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -12,9 +21,18 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import org.example.studentmanagement.dto.AdminStatistics;
+import org.example.studentmanagement.dto.ExportDataset;
+import org.example.studentmanagement.dto.ExportFormat;
+import org.example.studentmanagement.dto.ImportResult;
+import org.example.studentmanagement.dto.KeysetPage;
+import org.example.studentmanagement.dto.PageQuery;
 import org.example.studentmanagement.entity.Assignment;
 import org.example.studentmanagement.entity.Course;
 import org.example.studentmanagement.entity.GradeDetails;
@@ -22,9 +40,11 @@ import org.example.studentmanagement.entity.Student;
 import org.example.studentmanagement.entity.StudentCourseDetails;
 import org.example.studentmanagement.entity.Teacher;
 import org.example.studentmanagement.service.AdminService;
+import org.example.studentmanagement.service.BulkImportService;
 import org.example.studentmanagement.service.CourseService;
-import org.example.studentmanagement.service.GradeDetailsService;
+import org.example.studentmanagement.service.ExportService;
 import org.example.studentmanagement.service.StudentCourseDetailsService;
+import org.example.studentmanagement.service.StatisticsService;
 import org.example.studentmanagement.service.StudentService;
 import org.example.studentmanagement.service.TeacherService;
 
@@ -48,7 +68,13 @@ public class AdminController {
 	private StudentCourseDetailsService studentCourseDetailsService;
 	
 	@Autowired
-	private GradeDetailsService gradeDetailsService;
+	private StatisticsService statisticsService;
+	
+	@Autowired
+	private ExportService exportService;
+	
+	@Autowired
+	private BulkImportService bulkImportService;
 	
 	private int teacherDeleteErrorValue; //used for deleting teacher, 0 means the teacher has not any assigned courses, 1 means it has
 	
@@ -60,18 +86,84 @@ public class AdminController {
 	
 	@GetMapping("/adminInfo")
 	public String showAdminInfo(Model theModel) {
-		int courseSize = courseService.findAllCourses().size();
-		theModel.addAttribute("courseSize", courseSize);
-		int studentSize = studentService.findAllStudents().size();
-		theModel.addAttribute("studentSize", studentSize);
-		int teacherSize = teacherService.findAllTeachers().size();
-		theModel.addAttribute("teacherSize", teacherSize);
+		AdminStatistics statistics = statisticsService.getAdminStatistics();
+		theModel.addAttribute("courseSize", statistics.getCourseCount());
+		theModel.addAttribute("studentSize", statistics.getStudentCount());
+		theModel.addAttribute("teacherSize", statistics.getTeacherCount());
+		theModel.addAttribute("statistics", statistics);
 		return "admin/admin-info";
 	}
 	
+	@GetMapping("/export/{dataset}")
+	public ResponseEntity<StreamingResponseBody> exportDataset(@PathVariable("dataset") String datasetPath,
+			@RequestParam(value = "format", defaultValue = "csv") String formatName) {
+		Optional<ExportDataset> dataset = ExportDataset.fromPath(datasetPath);
+		Optional<ExportFormat> format = ExportFormat.fromName(formatName);
+		if (dataset.isEmpty() || format.isEmpty()) {
+			return ResponseEntity.notFound().build();
+		}
+		
+		// Rows are written to the response as the cursor advances, so memory stays flat whatever the table size
+		StreamingResponseBody body = out -> exportService.export(dataset.get(), format.get(), out);
+		String fileName = dataset.get().getPath() + "." + format.get().getExtension();
+		return ResponseEntity.ok()
+				.contentType(MediaType.parseMediaType(format.get().getContentType() + ";charset=UTF-8"))
+				.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+				.body(body);
+	}
+	
+	// Term rollover: accepts a JSON array of ids and removes them with their dependent rows in one transaction
+	@PostMapping(value = "/bulk-delete/{kind}", consumes = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<Map<String, Integer>> bulkDelete(@PathVariable("kind") String kind, @RequestBody List<Integer> ids) {
+		Integer deleted = switch (kind) {
+			case "students" -> adminService.deleteStudents(ids);
+			case "teachers" -> adminService.deleteTeachers(ids);
+			case "courses" -> adminService.deleteCourses(ids);
+			default -> null;
+		};
+		if (deleted == null) {
+			return ResponseEntity.notFound().build();
+		}
+		return ResponseEntity.ok(Map.of("requested", ids.size(), "deleted", deleted));
+	}
+	
+	@GetMapping("/import")
+	public String showImport() {
+		return "admin/import";
+	}
+	
+	@PostMapping("/import/{kind}")
+	public String importCsv(@PathVariable("kind") String kind, @RequestParam("file") MultipartFile file, Model theModel) {
+		try (Reader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+			ImportResult result = switch (kind) {
+				case "students" -> bulkImportService.importStudents(reader);
+				case "teachers" -> bulkImportService.importTeachers(reader);
+				case "enrollments" -> bulkImportService.importEnrollments(reader);
+				default -> null;
+			};
+			if (result == null) {
+				return "redirect:/admin/import";
+			}
+			theModel.addAttribute("result", result);
+		} catch (IOException e) {
+			// Malformed CSV (e.g. an unterminated quote): nothing was imported
+			theModel.addAttribute("importError", e.getMessage());
+		}
+		theModel.addAttribute("kind", kind);
+		return "admin/import";
+	}
+	
 	@GetMapping("/students")
-	public String showStudentList(Model theModel) {
-		theModel.addAttribute("students", studentService.findAllStudents());
+	public String showStudentList(@RequestParam(value = "cursor", required = false) String cursor,
+			@RequestParam(value = "size", required = false) Integer size,
+			@RequestParam(value = "sort", required = false) String sort,
+			@RequestParam(value = "dir", required = false) String dir,
+			@RequestParam(value = "q", required = false) String filter, Model theModel) {
+		PageQuery query = new PageQuery(sort, "desc".equalsIgnoreCase(dir), filter, size, cursor);
+		KeysetPage<Student> page = studentService.findStudentPage(query);
+		theModel.addAttribute("students", page.getItems());
+		theModel.addAttribute("page", page);
+		theModel.addAttribute("query", query);
 		
 		return "admin/student-list"; 
 	}
@@ -175,20 +267,23 @@ public class AdminController {
 	
 	@GetMapping("/students/{studentId}/courses/delete/{courseId}")
 	public String deleteCourseFromStudent(@PathVariable("studentId") int studentId, @PathVariable("courseId") int courseId) {
-		studentCourseDetailsService.deleteByStudentAndCourseId(studentId, courseId);
-		
-		List<GradeDetails> gradeDetailsList = gradeDetailsService.findByStudentIdAndCourseId(studentId, courseId);
-		for (GradeDetails gd : gradeDetailsList) {
-			gradeDetailsService.deleteById(gd.getId());
-		}
+		adminService.removeStudentFromCourse(studentId, courseId);
 		
 		return "redirect:/admin/students/" + studentId + "/courses";
 	}
 	
 	
 	@GetMapping("/teachers")
-	public String showTeacherList(Model theModel) {
-		theModel.addAttribute("teachers", teacherService.findAllTeachers());
+	public String showTeacherList(@RequestParam(value = "cursor", required = false) String cursor,
+			@RequestParam(value = "size", required = false) Integer size,
+			@RequestParam(value = "sort", required = false) String sort,
+			@RequestParam(value = "dir", required = false) String dir,
+			@RequestParam(value = "q", required = false) String filter, Model theModel) {
+		PageQuery query = new PageQuery(sort, "desc".equalsIgnoreCase(dir), filter, size, cursor);
+		KeysetPage<Teacher> page = teacherService.findTeacherPage(query);
+		theModel.addAttribute("teachers", page.getItems());
+		theModel.addAttribute("page", page);
+		theModel.addAttribute("query", query);
 		theModel.addAttribute("error", teacherDeleteErrorValue); 
 		teacherDeleteErrorValue = 0; //0 means the teacher has not any assigned courses, 1 means it has
 		return "admin/teacher-list";
@@ -196,24 +291,9 @@ public class AdminController {
 	
 	@GetMapping("/teachers/delete")
 	public String deleteTeacher(@RequestParam("teacherId") int teacherId) {
-		Teacher teacher = teacherService.findByTeacherId(teacherId);
-		if (teacher == null) {
-			return "redirect:/admin/teachers";
-		}
-		// guard against null courses list
-		List<Course> courses = teacher.getCourses();
-		if (courses == null || courses.isEmpty()) { // if no assigned courses, safe to delete
-			teacherService.deleteTeacherById(teacherId);
-			teacherDeleteErrorValue = 0;
-		} else {
-			// Update courses to set teacher_id to null
-			for (Course course : courses) {
-				course.setTeacher(null);
-				courseService.save(course);
-			}
-			teacherService.deleteTeacherById(teacherId);
-			teacherDeleteErrorValue = 0;
-		}
+		// Assigned courses are kept and left without a teacher (ON DELETE SET NULL)
+		adminService.deleteTeacherWithRelatedData(teacherId);
+		teacherDeleteErrorValue = 0;
 		
 		return "redirect:/admin/teachers";
 	}
@@ -287,8 +367,16 @@ public class AdminController {
 	}
 	
 	@GetMapping("/courses")
-	public String showCourses(Model theModel) {
-		theModel.addAttribute("courses", courseService.findAllCourses());	
+	public String showCourses(@RequestParam(value = "cursor", required = false) String cursor,
+			@RequestParam(value = "size", required = false) Integer size,
+			@RequestParam(value = "sort", required = false) String sort,
+			@RequestParam(value = "dir", required = false) String dir,
+			@RequestParam(value = "q", required = false) String filter, Model theModel) {
+		PageQuery query = new PageQuery(sort, "desc".equalsIgnoreCase(dir), filter, size, cursor);
+		KeysetPage<Course> page = courseService.findCoursePage(query);
+		theModel.addAttribute("courses", page.getItems());
+		theModel.addAttribute("page", page);
+		theModel.addAttribute("query", query);
 		
 		return "admin/course-list";
 	}
@@ -296,21 +384,7 @@ public class AdminController {
 	
 	@GetMapping("/courses/delete")
 	public String deleteCourse(@RequestParam("courseId") int courseId) {
-		Course course = courseService.findCourseById(courseId);
-		List<Student> students = course.getStudents();
-
-		for(Student student : students) {
-			// Delete student course details
-			studentCourseDetailsService.deleteByStudentAndCourseId(student.getId(), courseId);
-
-			// Delete all grade details for this student and course
-			List<GradeDetails> gradeDetailsList = gradeDetailsService.findByStudentIdAndCourseId(student.getId(), courseId);
-			for (GradeDetails gd : gradeDetailsList) {
-				gradeDetailsService.deleteById(gd.getId());
-			}
-		}
-
-		courseService.deleteCourseById(courseId);
+		adminService.deleteCourseWithRelatedData(courseId);
 		return "redirect:/admin/courses";
 	}
 	
@@ -329,12 +403,7 @@ public class AdminController {
 	
 	@GetMapping("/courses/{courseId}/students/delete")
 	public String deleteStudentFromCourse(@PathVariable("courseId") int courseId, @RequestParam("studentId") int studentId) {
-		studentCourseDetailsService.deleteByStudentAndCourseId(studentId, courseId);
-		
-		List<GradeDetails> gradeDetailsList = gradeDetailsService.findByStudentIdAndCourseId(studentId, courseId);
-		for (GradeDetails gd : gradeDetailsList) {
-			gradeDetailsService.deleteById(gd.getId());
-		}
+		adminService.removeStudentFromCourse(studentId, courseId);
 		
 		return "redirect:/admin/courses/" + courseId + "/students";
 	}
@@ -1,8 +1,5 @@
 package org.example.studentmanagement.controller;
 
-import java.time.Duration;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -15,8 +12,11 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 
+import org.example.studentmanagement.dto.StudentAssignmentResponse;
+import org.example.studentmanagement.dto.UpcomingDeadline;
 import org.example.studentmanagement.entity.Assignment;
 import org.example.studentmanagement.entity.Course;
 import org.example.studentmanagement.entity.GradeDetails;
@@ -24,11 +24,14 @@ import org.example.studentmanagement.entity.Student;
 import org.example.studentmanagement.entity.AssignmentDetails;
 import org.example.studentmanagement.entity.StudentCourseDetails;
 import org.example.studentmanagement.service.CourseService;
+import org.example.studentmanagement.service.DeadlineCalculator;
+import org.example.studentmanagement.service.DeadlineService;
 import org.example.studentmanagement.service.AssignmentDetailsService;
 import org.example.studentmanagement.service.StudentCourseDetailsService;
 import org.example.studentmanagement.service.StudentService;
 import org.example.studentmanagement.service.GradeDetailsService;
 import org.example.studentmanagement.service.AssignmentService;
+import org.example.studentmanagement.service.StudentAssignmentService;
 
 @Controller
 @RequestMapping("/student")
@@ -52,15 +55,33 @@ public class StudentController {
 	@Autowired
 	private AssignmentService assignmentService;
 
+	@Autowired
+	private StudentAssignmentService studentAssignmentService;
+
+	@Autowired
+	private DeadlineService deadlineService;
+
+	@Autowired
+	private DeadlineCalculator deadlineCalculator;
+
 	@GetMapping("/dashboard")
-	public String dashboard(Authentication authentication, Model model) {
+	public String dashboard(Authentication authentication,
+			@RequestParam(name = "course", required = false) String courseName, Model model) {
 		String username = authentication.getName();
 		model.addAttribute("username", username);
 
 		// Add student object to model for navigation links
 		java.util.Optional<Student> studentOpt = studentService.findByUserName(username);
 		if (studentOpt.isPresent()) {
-			model.addAttribute("student", studentOpt.get());
+			Student student = studentOpt.get();
+			model.addAttribute("student", student);
+
+			// All my assignments across courses in one query; the course list for the filter comes from the student cache
+			List<StudentAssignmentResponse> assignments = studentAssignmentService
+					.getAssignmentsForStudent((long) student.getId(), java.util.Optional.ofNullable(courseName));
+			model.addAttribute("assignments", assignments);
+			model.addAttribute("courses", studentService.findByStudentId(student.getId()).getCourses());
+			model.addAttribute("selectedCourse", courseName);
 		}
 
 		return "student/dashboard";
@@ -95,10 +116,7 @@ public class StudentController {
 			studentCourseDetails.setAssignments(assignments);
 		}
 
-		for (Assignment assignment : assignments) {
-			int daysRemaining = findDayDifference(assignment);
-			assignment.setDaysRemaining(daysRemaining);
-		}
+		deadlineCalculator.applyAll(assignments);
 
 		GradeDetails gradeDetails = null;
 		if (studentCourseDetails != null && studentCourseDetails.getGradeDetails() != null) {
@@ -142,9 +160,7 @@ public class StudentController {
 			return "redirect:/student/" + studentId + "/courses/" + courseId;
 		}
 
-		// Calculate days remaining
-		int daysRemaining = findDayDifference(assignment);
-		assignment.setDaysRemaining(daysRemaining);
+		deadlineCalculator.apply(assignment);
 
 		AssignmentDetails assignmentDetails = null;
 		if (studentCourseDetails != null) {
@@ -227,23 +243,11 @@ public class StudentController {
 		return "redirect:/student/" + studentId + "/courses/" + courseId + "/assignment/" + assignmentId;
 	}
 
-	// helper method to find day difference between assignment due date and today
-	private int findDayDifference(Assignment assignment) {
-		String dateString = assignment.getDueDate();
-		if (dateString == null) {
-			return 0;
-		}
-		DateTimeFormatter dtf = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-		try {
-			LocalDate dueDate = LocalDate.parse(dateString, dtf);
-			LocalDate today = LocalDate.now();
-			int dayDiff = (int) Duration.between(today.atStartOfDay(), dueDate.atStartOfDay()).toDays();
-
-			return dayDiff;
-
-		} catch (Exception e) {
-			// e.printStackTrace();
-			return 0;
-		}
+	// JSON: the student's next open deadlines, sorted and limited by the database
+	@GetMapping("/{studentId}/deadlines")
+	@ResponseBody
+	public List<UpcomingDeadline> upcomingDeadlines(@PathVariable("studentId") int studentId,
+			@RequestParam(name = "limit", defaultValue = "10") int limit) {
+		return deadlineService.upcomingForStudent(studentId, limit);
 	}
 }
@@ -1,11 +1,11 @@
 package org.example.studentmanagement.controller;
 
-import java.time.Duration;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import jakarta.validation.Valid;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,12 +13,21 @@ import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.InitBinder;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
-
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import org.example.studentmanagement.dto.AssignmentStatusRow;
+import org.example.studentmanagement.dto.CourseGradeAnalytics;
+import org.example.studentmanagement.dto.GradeSubmissionForm;
+import org.example.studentmanagement.dto.GradebookRow;
+import org.example.studentmanagement.dto.UpcomingDeadline;
 import org.example.studentmanagement.entity.Assignment;
 import org.example.studentmanagement.entity.AssignmentDetails;
 import org.example.studentmanagement.entity.Course;
@@ -26,10 +35,14 @@ import org.example.studentmanagement.entity.GradeDetails;
 import org.example.studentmanagement.entity.Student;
 import org.example.studentmanagement.entity.StudentCourseDetails;
 import org.example.studentmanagement.entity.Teacher;
-import org.example.studentmanagement.service.AssignmentDetailsService;
 import org.example.studentmanagement.service.AssignmentService;
+import org.example.studentmanagement.service.AssignmentStatusService;
 import org.example.studentmanagement.service.CourseService;
+import org.example.studentmanagement.service.DeadlineCalculator;
+import org.example.studentmanagement.service.DeadlineService;
+import org.example.studentmanagement.service.GradeAnalyticsService;
 import org.example.studentmanagement.service.GradeDetailsService;
+import org.example.studentmanagement.service.GradebookService;
 import org.example.studentmanagement.service.StudentCourseDetailsService;
 import org.example.studentmanagement.service.TeacherService;
 
@@ -37,6 +50,10 @@ import org.example.studentmanagement.service.TeacherService;
 @RequestMapping("/teacher")
 public class TeacherController {
 
+	// Largest class the grade-all form binds. Spring stops auto-growing grades[i] at 256 rows by default; each row
+	// posts four fields, so this stays within Tomcat's default limit of 10000 request parameters
+	static final int MAX_GRADE_ROWS = 2000;
+
 	@Autowired
 	private CourseService courseService;
 
@@ -44,16 +61,33 @@ public class TeacherController {
 	private TeacherService teacherService;
 
 	@Autowired
-	private StudentCourseDetailsService studentCourseDetailsService;
+	private AssignmentService assignmentService;
 
 	@Autowired
-	private AssignmentDetailsService assignmentDetailsService;
+	private GradeDetailsService gradeDetailsService;
 
 	@Autowired
-	private AssignmentService assignmentService;
+	private AssignmentStatusService assignmentStatusService;
 
 	@Autowired
-	private GradeDetailsService gradeDetailsService;
+	private DeadlineService deadlineService;
+
+	@Autowired
+	private GradebookService gradebookService;
+
+	@Autowired
+	private GradeAnalyticsService gradeAnalyticsService;
+
+	@Autowired
+	private DeadlineCalculator deadlineCalculator;
+
+	@Autowired
+	private StudentCourseDetailsService studentCourseDetailsService;
+
+	@InitBinder("gradeSubmissionForm")
+	public void initGradeSubmissionBinder(WebDataBinder binder) {
+		binder.setAutoGrowCollectionLimit(MAX_GRADE_ROWS);
+	}
 
 	@GetMapping("/dashboard")
 	public String dashboard(Authentication authentication, Model model) {
@@ -84,42 +118,22 @@ public class TeacherController {
 		Teacher teacher = teacherService.findByTeacherId(teacherId);
 		Course course = courseService.findCourseById(courseId);
 		List<Course> courses = teacher.getCourses();
-		List<Student> students = course.getStudents();
 
 		// Load assignments directly from the course, not from StudentCourseDetails
 		List<Assignment> assignments = assignmentService.findByCourseId(courseId);
 		if (assignments != null && assignments.size() > 0) {
-			for (Assignment assignment : assignments) {
-				int daysRemaining = findDayDifference(assignment);
-				assignment.setDaysRemaining(daysRemaining);
-			}
+			deadlineCalculator.applyAll(assignments);
 		} else {
 			assignments = null;
 		}
 
-		if (students != null && students.size() != 0) {
-			List<GradeDetails> gradeDetailsList = new ArrayList<>();
-			for (Student student : students) {
-				// Load grade details directly from grade_details table
-				List<GradeDetails> studentGrades = gradeDetailsService.findByStudentIdAndCourseId(student.getId(),
-						courseId);
-				if (studentGrades != null && studentGrades.size() > 0) {
-					// Add the first grade record (assuming one grade per student per course)
-					gradeDetailsList.add(studentGrades.get(0));
-				} else {
-					// Add empty grade details for students without grades
-					GradeDetails emptyGrade = new GradeDetails();
-					emptyGrade.setStudentId(student.getId());
-					emptyGrade.setCourseId(courseId);
-					emptyGrade.setScore(0.0);
-					emptyGrade.setMaxScore(100.0);
-					gradeDetailsList.add(emptyGrade);
-				}
-			}
-			HashMap<List<Student>, List<GradeDetails>> studentGradeList = new HashMap<>();
-			studentGradeList.put(students, gradeDetailsList);
-			theModel.addAttribute("studentGradeList", studentGradeList);
+		// Roster, final grades and assignment totals for every student come from one query
+		List<GradebookRow> gradebook = gradebookService.getGradebook(courseId);
+		List<Student> students = new ArrayList<>(gradebook.size());
+		for (GradebookRow row : gradebook) {
+			students.add(row.getStudent());
 		}
+		theModel.addAttribute("gradebook", gradebook);
 
 		theModel.addAttribute("assignments", assignments);
 		theModel.addAttribute("teacher", teacher);
@@ -136,31 +150,16 @@ public class TeacherController {
 		Teacher teacher = teacherService.findByTeacherId(teacherId);
 		Course course = courseService.findCourseById(courseId);
 		List<Course> courses = teacher.getCourses();
-		List<Student> students = course.getStudents();
-
-		List<GradeDetails> gradeDetailsList = new ArrayList<>();
-		for (Student student : students) {
-			// Load grade details directly from grade_details table
-			List<GradeDetails> studentGrades = gradeDetailsService.findByStudentIdAndCourseId(student.getId(),
-					courseId);
-			if (studentGrades != null && studentGrades.size() > 0) {
-				// Add the first grade record (assuming one grade per student per course)
-				gradeDetailsList.add(studentGrades.get(0));
-			} else {
-				// Create a default empty GradeDetails for students without grades
-				GradeDetails emptyGrade = new GradeDetails();
-				emptyGrade.setStudentId(student.getId());
-				emptyGrade.setCourseId(courseId);
-				emptyGrade.setScore(0.0);
-				emptyGrade.setMaxScore(100.0);
-				gradeDetailsList.add(emptyGrade);
-			}
-		}
 
-		HashMap<List<Student>, List<GradeDetails>> studentGradeList = new HashMap<>();
-		studentGradeList.put(students, gradeDetailsList);
+		// Final grades of the whole roster in one query; students without one get a blank row to fill in
+		List<GradebookRow> gradebook = gradebookService.getGradebook(courseId);
+		List<Student> students = new ArrayList<>(gradebook.size());
+		List<GradeDetails> gradeDetailsList = new ArrayList<>(gradebook.size());
+		for (GradebookRow row : gradebook) {
+			students.add(row.getStudent());
+			gradeDetailsList.add(row.getCourseGrade());
+		}
 
-		theModel.addAttribute("studentGradeList", studentGradeList);
 		theModel.addAttribute("course", course);
 		theModel.addAttribute("courses", courses);
 		theModel.addAttribute("teacher", teacher);
@@ -180,7 +179,7 @@ public class TeacherController {
 
 		// Set common fields
 		gradeDetails.setGradedByTeacherId(teacherId);
-		gradeDetails.setGradedDate(java.time.LocalDate.now().toString());
+		gradeDetails.setGradedDate(LocalDate.now());
 
 		if (gradeDetailsId != 0) {
 			// Update existing grade - set the ID and save
@@ -199,48 +198,22 @@ public class TeacherController {
 			@PathVariable("assignmentId") int assignmentId, Model theModel) {
 		Teacher teacher = teacherService.findByTeacherId(teacherId);
 		Course course = courseService.findCourseById(courseId);
-		List<Student> students = course.getStudents();
 		List<Course> courses = teacher.getCourses();
 
 		Assignment assignment = assignmentService.findById(assignmentId);
-		List<Assignment> assignments = new ArrayList<>();
-		List<StudentCourseDetails> studentCourseDetails = new ArrayList<>();
+
+		// Status and grade of every enrolled student come from one joined query
+		List<AssignmentStatusRow> statusRows = assignmentStatusService.getStatusMatrix(courseId, assignmentId);
+		List<Student> students = new ArrayList<>();
 		List<AssignmentDetails> studentCourseAssignmentDetails = new ArrayList<>();
 		List<String> assignmentStatuses = new ArrayList<>();
 		List<GradeDetails> assignmentGrades = new ArrayList<>();
 
-		for (Student student : students) {
-			StudentCourseDetails scd = studentCourseDetailsService.findByStudentAndCourseId(student.getId(), courseId);
-			if (scd != null) {
-				AssignmentDetails studentCourseAssignmentDetail = assignmentDetailsService
-						.findByAssignmentAndStudentCourseDetailsId(assignmentId, scd.getId());
-				studentCourseAssignmentDetails.add(studentCourseAssignmentDetail);
-				if (studentCourseAssignmentDetail != null && studentCourseAssignmentDetail.getIsDone() == 0) {
-					assignmentStatuses.add("incomplete");
-				} else if (studentCourseAssignmentDetail != null) {
-					assignmentStatuses.add("completed");
-				} else {
-					assignmentStatuses.add("not assigned");
-				}
-
-				// Load assignment grade for this student
-				GradeDetails gradeForAssignment = null;
-				List<GradeDetails> studentGrades = gradeDetailsService.findByStudentIdAndCourseId(student.getId(),
-						courseId);
-				if (studentGrades != null && assignment != null) {
-					for (GradeDetails grade : studentGrades) {
-						if (grade.getAssignmentName() != null
-								&& grade.getAssignmentName().equals(assignment.getTitle())) {
-							gradeForAssignment = grade;
-							break;
-						}
-					}
-				}
-				assignmentGrades.add(gradeForAssignment);
-			} else {
-				assignmentStatuses.add("not enrolled");
-				assignmentGrades.add(null);
-			}
+		for (AssignmentStatusRow row : statusRows) {
+			students.add(row.getStudent());
+			studentCourseAssignmentDetails.add(row.getAssignmentDetails());
+			assignmentStatuses.add(row.getStatus());
+			assignmentGrades.add(row.getGrade());
 		}
 
 		HashMap<List<Student>, List<String>> list = new HashMap<>();
@@ -277,33 +250,42 @@ public class TeacherController {
 			@ModelAttribute GradeDetails gradeDetails) {
 
 		Assignment assignment = assignmentService.findById(assignmentId);
-
-		// Check if grade already exists for this student/assignment combination
-		List<GradeDetails> existingGrades = gradeDetailsService.findByStudentIdAndCourseId(studentId, courseId);
-		GradeDetails existingGrade = null;
-		if (existingGrades != null && assignment != null) {
-			for (GradeDetails grade : existingGrades) {
-				if (grade.getAssignmentName() != null && grade.getAssignmentName().equals(assignment.getTitle())) {
-					existingGrade = grade;
-					break;
-				}
-			}
+		if (assignment == null || assignment.getCourseId() != courseId || !rosterStudentIds(courseId).contains(studentId)) {
+			return "redirect:/teacher/" + teacherId + "/courses/" + courseId;
 		}
 
-		// Set all required fields
-		if (existingGrade != null) {
-			gradeDetails.setId(existingGrade.getId());
-		}
+		// Upsert on (student, course, assignment) so an existing grade is updated without reloading the student's grades
 		gradeDetails.setStudentId(studentId);
-		gradeDetails.setCourseId(courseId);
-		if (assignment != null) {
-			gradeDetails.setAssignmentName(assignment.getTitle());
+		prepareAssignmentGrade(gradeDetails, teacherId, courseId, assignment);
+		gradeDetailsService.upsertAll(List.of(gradeDetails));
+
+		return "redirect:/teacher/" + teacherId + "/courses/" + courseId + "/assignments/" + assignmentId;
+	}
+
+	@PostMapping("/{teacherId}/courses/{courseId}/assignments/{assignmentId}/gradeAll")
+	public String gradeAssignmentForAllStudents(
+			@PathVariable("teacherId") int teacherId,
+			@PathVariable("courseId") int courseId,
+			@PathVariable("assignmentId") int assignmentId,
+			@ModelAttribute GradeSubmissionForm gradeSubmissionForm) {
+
+		Assignment assignment = assignmentService.findById(assignmentId);
+		if (assignment == null || assignment.getCourseId() != courseId) {
+			return "redirect:/teacher/" + teacherId + "/courses/" + courseId;
 		}
-		gradeDetails.setGradedByTeacherId(teacherId);
-		gradeDetails.setGradedDate(java.time.LocalDate.now().toString());
 
-		// Save the grade
-		gradeDetailsService.save(gradeDetails);
+		// Student ids arrive in hidden fields, so grade only rows for students enrolled in the course
+		Set<Integer> roster = rosterStudentIds(courseId);
+		List<GradeDetails> grades = new ArrayList<>();
+		for (GradeDetails gradeDetails : gradeSubmissionForm.getGrades()) {
+			if (gradeDetails != null && roster.contains(gradeDetails.getStudentId())) {
+				prepareAssignmentGrade(gradeDetails, teacherId, courseId, assignment);
+				grades.add(gradeDetails);
+			}
+		}
+
+		// Save the whole class in one batched upsert
+		gradeDetailsService.upsertAll(grades);
 
 		return "redirect:/teacher/" + teacherId + "/courses/" + courseId + "/assignments/" + assignmentId;
 	}
@@ -341,47 +323,48 @@ public class TeacherController {
 		// Set required fields before saving
 		assignment.setCourseId(courseId);
 		assignment.setCreatedByTeacherId(teacherId);
-		assignment.setCreatedDate(java.time.LocalDate.now().toString());
+		assignment.setCreatedDate(LocalDate.now());
 		if (assignment.getStatus() == null || assignment.getStatus().isEmpty()) {
 			assignment.setStatus("active");
 		}
 
-		// assignment.setDaysRemaining(findDayDifference(assignment));
-		assignmentService.save(assignment);
-
-		Course course = courseService.findCourseById(courseId);
-		List<Student> students = course.getStudents();
-
-		for (Student student : students) {
-			StudentCourseDetails studentCourseDetails = studentCourseDetailsService
-					.findByStudentAndCourseId(student.getId(), courseId);
-			AssignmentDetails assignmentDetail = new AssignmentDetails();
-			assignmentDetail.setAssignmentId(assignment.getId());
-			assignmentDetail.setStudentCourseDetailsId(studentCourseDetails.getId());
-			assignmentDetail.setIsDone(0);
-			assignmentDetailsService.save(assignmentDetail);
-		}
+		// Saves the assignment and fans it out to every enrolled student in one transaction
+		assignmentService.createAssignment(assignment);
 
 		theModel.addAttribute("teacher", teacher);
 
 		return "redirect:/teacher/" + teacherId + "/courses/" + courseId;
 	}
 
-	private int findDayDifference(Assignment assignment) {
-		String dateString = assignment.getDueDate();
-		DateTimeFormatter dtf = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-		try {
-			LocalDate dueDate = LocalDate.parse(dateString, dtf);
-			LocalDate today = LocalDate.now();
-			long dayDiff = java.time.temporal.ChronoUnit.DAYS.between(today, dueDate);
+	// the students enrolled in the course, the only ones a grade submitted for it may belong to
+	private Set<Integer> rosterStudentIds(int courseId) {
+		return studentCourseDetailsService.findByCourseId(courseId).stream()
+				.map(StudentCourseDetails::getStudentId)
+				.collect(Collectors.toSet());
+	}
 
-			return (int) dayDiff;
+	// fills in the fields of an assignment grade that come from the request path rather than the form
+	private void prepareAssignmentGrade(GradeDetails gradeDetails, int teacherId, int courseId, Assignment assignment) {
+		gradeDetails.setCourseId(courseId);
+		gradeDetails.setAssignmentName(assignment.getTitle());
+		gradeDetails.setGradedByTeacherId(teacherId);
+		gradeDetails.setGradedDate(LocalDate.now());
+	}
 
-		} catch (Exception e) {
-			e.printStackTrace();
-		}
+	// JSON: the next deadlines across the teacher's courses, sorted and limited by the database
+	@GetMapping("/{teacherId}/deadlines")
+	@ResponseBody
+	public List<UpcomingDeadline> upcomingDeadlines(@PathVariable("teacherId") int teacherId,
+			@RequestParam(name = "limit", defaultValue = "10") int limit) {
+		return deadlineService.upcomingForTeacher(teacherId, limit);
+	}
 
-		return -1;
+	// JSON: grade statistics of the course and each of its assignments, read from running totals kept on every grade write
+	@GetMapping("/{teacherId}/courses/{courseId}/analytics")
+	@ResponseBody
+	public CourseGradeAnalytics courseAnalytics(@PathVariable("teacherId") int teacherId,
+			@PathVariable("courseId") int courseId) {
+		return gradeAnalyticsService.getCourseAnalytics(courseId);
 	}
 
 }
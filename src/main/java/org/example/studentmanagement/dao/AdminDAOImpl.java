@@ -9,7 +9,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public class AdminDAOImpl extends BaseDAOImpl<Admin, Integer> implements AdminDAO {
+public class AdminDAOImpl implements AdminDAO {
 
     private final List<Admin> admins = new ArrayList<>();
 
@@ -1,7 +1,10 @@
 package org.example.studentmanagement.dao;
 
+import org.example.studentmanagement.dto.StudentAssignmentRow;
+import org.example.studentmanagement.dto.UpcomingDeadline;
 import org.example.studentmanagement.entity.Assignment;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface AssignmentDAO extends BaseDAO<Assignment, Integer> {
@@ -9,5 +12,11 @@ public interface AssignmentDAO extends BaseDAO<Assignment, Integer> {
     List<Assignment> findByCourseId(int courseId);
     List<Assignment> findByStatus(String status);
     List<Assignment> findByCourseIdAndStatus(int courseId, String status);
+    // Assignments across all of a student's courses with their completion flag, earliest due first;
+    // courseName narrows the feed to one course and may be null
+    List<StudentAssignmentRow> findRowsForStudent(int studentId, String courseName);
+    // Active assignments due on or after from, earliest first, at most limit rows; students only see ones not yet done
+    List<UpcomingDeadline> findUpcomingForStudent(int studentId, LocalDate from, int limit);
+    List<UpcomingDeadline> findUpcomingForTeacher(int teacherId, LocalDate from, int limit);
 }
 
@@ -1,212 +1,139 @@
 package org.example.studentmanagement.dao;
 
+import org.example.studentmanagement.dto.StudentAssignmentRow;
+import org.example.studentmanagement.dto.UpcomingDeadline;
 import org.example.studentmanagement.entity.Assignment;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 import javax.sql.DataSource;
-import java.sql.*;
-import java.util.ArrayList;
+import java.time.LocalDate;
 import java.util.List;
 
+import static org.example.studentmanagement.dao.EntityMappers.ASSIGNMENT;
+import static org.example.studentmanagement.dao.EntityMappers.ASSIGNMENT_SELECT;
+
 @Repository
 public class AssignmentDAOImpl extends BaseDAOImpl<Assignment, Integer> implements AssignmentDAO {
 
-    private final DataSource dataSource;
+    private static final String INSERT_SQL = "INSERT INTO assignments (course_id, title, description, due_date, max_score, created_date, status, created_by_teacher_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_SQL = "UPDATE assignments SET course_id = ?, title = ?, description = ?, due_date = ?, max_score = ?, created_date = ?, status = ?, created_by_teacher_id = ? WHERE id = ?";
+
+    // One round-trip for the student dashboard: enrollments -> courses -> assignments -> completion flag.
+    // Driven by the student's enrollments (idx_student_course_student); undated assignments sort last.
+    private static final String STUDENT_FEED_SQL = "SELECT a.id, a.title, a.description, a.due_date, c.id AS course_id, c.name AS course_name, " +
+            "COALESCE(ad.is_done, 0) AS is_done " +
+            "FROM student_course_details scd " +
+            "JOIN courses c ON c.id = scd.course_id " +
+            "JOIN assignments a ON a.course_id = scd.course_id " +
+            "LEFT JOIN assignment_details ad ON ad.student_course_details_id = scd.id AND ad.assignment_id = a.id " +
+            "WHERE scd.student_id = ?";
+
+    private static final String STUDENT_FEED_ORDER = " ORDER BY a.due_date NULLS LAST, a.id";
+
+    static final String STUDENT_FEED_ALL_SQL = STUDENT_FEED_SQL + STUDENT_FEED_ORDER;
+
+    // Course name filter, served by idx_course_name_id (asserted by SchemaIndexTest)
+    static final String STUDENT_FEED_BY_COURSE_SQL = STUDENT_FEED_SQL + " AND c.name = ?" + STUDENT_FEED_ORDER;
+
+    private static final RowMapper<StudentAssignmentRow> STUDENT_FEED_ROW = RowMapper.of((rs, c) -> new StudentAssignmentRow(
+                    rs.getLong(c[0]), rs.getString(c[1]), rs.getString(c[2]), rs.getObject(c[3], LocalDate.class),
+                    rs.getInt(c[4]), rs.getString(c[5]), rs.getInt(c[6]) != 0),
+            "id", "title", "description", "due_date", "course_id", "course_name", "is_done");
+
+    // Upcoming deadlines are filtered, sorted and cut to the limit by the database
+    static final String UPCOMING_FOR_STUDENT_SQL = "SELECT a.id, a.title, a.due_date, c.id AS course_id, c.name AS course_name " +
+            "FROM student_course_details scd " +
+            "JOIN courses c ON c.id = scd.course_id " +
+            "JOIN assignments a ON a.course_id = scd.course_id AND a.status = 'active' AND a.due_date >= ? " +
+            "LEFT JOIN assignment_details ad ON ad.student_course_details_id = scd.id AND ad.assignment_id = a.id " +
+            "WHERE scd.student_id = ? AND COALESCE(ad.is_done, 0) = 0 " +
+            "ORDER BY a.due_date, a.id LIMIT ?";
+
+    // Per course a range scan on idx_assignment_course_status_due (asserted by SchemaIndexTest)
+    static final String UPCOMING_FOR_TEACHER_SQL = "SELECT a.id, a.title, a.due_date, c.id AS course_id, c.name AS course_name " +
+            "FROM courses c " +
+            "JOIN assignments a ON a.course_id = c.id AND a.status = 'active' AND a.due_date >= ? " +
+            "WHERE c.teacher_id = ? " +
+            "ORDER BY a.due_date, a.id LIMIT ?";
+
+    private static final RowMapper<UpcomingDeadline> UPCOMING_ROW = RowMapper.of((rs, c) -> new UpcomingDeadline(
+                    rs.getInt(c[0]), rs.getString(c[1]), rs.getInt(c[3]), rs.getString(c[4]), rs.getObject(c[2], LocalDate.class)),
+            "id", "title", "due_date", "course_id", "course_name");
 
     @Autowired
     public AssignmentDAOImpl(DataSource dataSource) {
-        this.dataSource = dataSource;
+        super(dataSource);
     }
 
     @Override
     public void save(Assignment assignment) {
-        String sql;
         if (assignment.getId() == 0) {
-            // Insert new assignment
-            sql = "INSERT INTO assignments (course_id, title, description, due_date, max_score, created_date, status, created_by_teacher_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+            // Insert new assignment and keep the generated ID
+            assignment.setId(insert("saving assignment", INSERT_SQL,
+                    assignment.getCourseId(), assignment.getTitle(), assignment.getDescription(), assignment.getDueDate(),
+                    assignment.getMaxScore(), assignment.getCreatedDate(), assignment.getStatus(),
+                    assignment.getCreatedByTeacherId()));
         } else {
-            // Update existing assignment
-            sql = "UPDATE assignments SET course_id = ?, title = ?, description = ?, due_date = ?, max_score = ?, created_date = ?, status = ?, created_by_teacher_id = ? WHERE id = ?";
-        }
-
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-
-            pstmt.setInt(1, assignment.getCourseId());
-            pstmt.setString(2, assignment.getTitle());
-            pstmt.setString(3, assignment.getDescription());
-            pstmt.setString(4, assignment.getDueDate());
-            pstmt.setDouble(5, assignment.getMaxScore());
-            pstmt.setString(6, assignment.getCreatedDate());
-            pstmt.setString(7, assignment.getStatus());
-            pstmt.setInt(8, assignment.getCreatedByTeacherId());
-
-            if (assignment.getId() != 0) {
-                pstmt.setInt(9, assignment.getId());
-            }
-
-            pstmt.executeUpdate();
-
-            // If it's a new assignment, get the generated ID
-            if (assignment.getId() == 0) {
-                try (ResultSet rs = pstmt.getGeneratedKeys()) {
-                    if (rs.next()) {
-                        assignment.setId(rs.getInt(1));
-                    }
-                }
-            }
-
-        } catch (SQLException e) {
-            throw new RuntimeException("Error saving assignment: " + e.getMessage(), e);
+            update("saving assignment", UPDATE_SQL,
+                    assignment.getCourseId(), assignment.getTitle(), assignment.getDescription(), assignment.getDueDate(),
+                    assignment.getMaxScore(), assignment.getCreatedDate(), assignment.getStatus(),
+                    assignment.getCreatedByTeacherId(), assignment.getId());
         }
     }
 
     @Override
     public List<Assignment> findAll() {
-        List<Assignment> assignments = new ArrayList<>();
-        String sql = "SELECT id, course_id, title, description, due_date, max_score, created_date, status, created_by_teacher_id FROM assignments";
-
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql);
-             ResultSet rs = pstmt.executeQuery()) {
-
-            while (rs.next()) {
-                Assignment assignment = mapResultSetToAssignment(rs);
-                assignments.add(assignment);
-            }
-
-        } catch (SQLException e) {
-            throw new RuntimeException("Error finding all assignments: " + e.getMessage(), e);
-        }
-
-        return assignments;
+        return query("finding all assignments", ASSIGNMENT_SELECT, ASSIGNMENT);
     }
 
     @Override
     public Assignment findById(Integer id) {
-        String sql = "SELECT id, course_id, title, description, due_date, max_score, created_date, status, created_by_teacher_id FROM assignments WHERE id = ?";
-        Assignment assignment = null;
-
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setInt(1, id);
-
-            try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next()) {
-                    assignment = mapResultSetToAssignment(rs);
-                }
-            }
-
-        } catch (SQLException e) {
-            throw new RuntimeException("Error finding assignment by id: " + e.getMessage(), e);
-        }
-
-        return assignment;
+        return queryForObject("finding assignment by id", ASSIGNMENT_SELECT + " WHERE id = ?", ASSIGNMENT, id);
     }
 
     @Override
     public void deleteById(Integer id) {
-        String sql = "DELETE FROM assignments WHERE id = ?";
-
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setInt(1, id);
-            pstmt.executeUpdate();
+        update("deleting assignment by id", "DELETE FROM assignments WHERE id = ?", id);
+    }
 
-        } catch (SQLException e) {
-            throw new RuntimeException("Error deleting assignment by id: " + e.getMessage(), e);
-        }
+    @Override
+    public void delete(Assignment assignment) {
+        deleteById(assignment.getId());
     }
 
     @Override
     public List<Assignment> findByCourseId(int courseId) {
-        List<Assignment> assignments = new ArrayList<>();
-        String sql = "SELECT id, course_id, title, description, due_date, max_score, created_date, status, created_by_teacher_id FROM assignments WHERE course_id = ?";
-
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setInt(1, courseId);
-
-            try (ResultSet rs = pstmt.executeQuery()) {
-                while (rs.next()) {
-                    Assignment assignment = mapResultSetToAssignment(rs);
-                    assignments.add(assignment);
-                }
-            }
-
-        } catch (SQLException e) {
-            throw new RuntimeException("Error finding assignments by course id: " + e.getMessage(), e);
-        }
-
-        return assignments;
+        return query("finding assignments by course id", ASSIGNMENT_SELECT + " WHERE course_id = ?", ASSIGNMENT, courseId);
     }
 
     @Override
     public List<Assignment> findByStatus(String status) {
-        List<Assignment> assignments = new ArrayList<>();
-        String sql = "SELECT id, course_id, title, description, due_date, max_score, created_date, status, created_by_teacher_id FROM assignments WHERE status = ?";
-
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setString(1, status);
-
-            try (ResultSet rs = pstmt.executeQuery()) {
-                while (rs.next()) {
-                    Assignment assignment = mapResultSetToAssignment(rs);
-                    assignments.add(assignment);
-                }
-            }
-
-        } catch (SQLException e) {
-            throw new RuntimeException("Error finding assignments by status: " + e.getMessage(), e);
-        }
-
-        return assignments;
+        return query("finding assignments by status", ASSIGNMENT_SELECT + " WHERE status = ?", ASSIGNMENT, status);
     }
 
     @Override
     public List<Assignment> findByCourseIdAndStatus(int courseId, String status) {
-        List<Assignment> assignments = new ArrayList<>();
-        String sql = "SELECT id, course_id, title, description, due_date, max_score, created_date, status, created_by_teacher_id FROM assignments WHERE course_id = ? AND status = ?";
-
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setInt(1, courseId);
-            pstmt.setString(2, status);
-
-            try (ResultSet rs = pstmt.executeQuery()) {
-                while (rs.next()) {
-                    Assignment assignment = mapResultSetToAssignment(rs);
-                    assignments.add(assignment);
-                }
-            }
+        return query("finding assignments by course id and status",
+                ASSIGNMENT_SELECT + " WHERE course_id = ? AND status = ?", ASSIGNMENT, courseId, status);
+    }
 
-        } catch (SQLException e) {
-            throw new RuntimeException("Error finding assignments by course id and status: " + e.getMessage(), e);
+    @Override
+    public List<StudentAssignmentRow> findRowsForStudent(int studentId, String courseName) {
+        if (courseName == null) {
+            return query("finding assignments for student", STUDENT_FEED_ALL_SQL, STUDENT_FEED_ROW, studentId);
         }
+        return query("finding assignments for student by course name", STUDENT_FEED_BY_COURSE_SQL, STUDENT_FEED_ROW,
+                studentId, courseName);
+    }
 
-        return assignments;
+    @Override
+    public List<UpcomingDeadline> findUpcomingForStudent(int studentId, LocalDate from, int limit) {
+        return query("finding upcoming deadlines for student", UPCOMING_FOR_STUDENT_SQL, UPCOMING_ROW, from, studentId, limit);
     }
 
-    // Helper method to map ResultSet to Assignment object
-    private Assignment mapResultSetToAssignment(ResultSet rs) throws SQLException {
-        Assignment assignment = new Assignment();
-        assignment.setId(rs.getInt("id"));
-        assignment.setCourseId(rs.getInt("course_id"));
-        assignment.setTitle(rs.getString("title"));
-        assignment.setDescription(rs.getString("description"));
-        assignment.setDueDate(rs.getString("due_date"));
-        assignment.setMaxScore(rs.getDouble("max_score"));
-        assignment.setCreatedDate(rs.getString("created_date"));
-        assignment.setStatus(rs.getString("status"));
-        assignment.setCreatedByTeacherId(rs.getInt("created_by_teacher_id"));
-        return assignment;
+    @Override
+    public List<UpcomingDeadline> findUpcomingForTeacher(int teacherId, LocalDate from, int limit) {
+        return query("finding upcoming deadlines for teacher", UPCOMING_FOR_TEACHER_SQL, UPCOMING_ROW, from, teacherId, limit);
     }
 }
-
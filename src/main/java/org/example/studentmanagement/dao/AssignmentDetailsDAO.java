@@ -1,5 +1,6 @@
 package org.example.studentmanagement.dao;
 
+import org.example.studentmanagement.dto.AssignmentStatusRow;
 import org.example.studentmanagement.entity.AssignmentDetails;
 
 import java.util.List;
@@ -8,5 +9,8 @@ public interface AssignmentDetailsDAO extends BaseDAO<AssignmentDetails, Integer
     AssignmentDetails findByAssignmentIdAndStudentCourseDetailsId(int assignmentId, int studentCourseDetailsId);
     List<AssignmentDetails> findByAssignmentId(int assignmentId);
     List<AssignmentDetails> findByStudentCourseDetailsId(int studentCourseDetailsId);
+    void saveAll(List<AssignmentDetails> detailsList);
+    // One row per enrolled student with their completion record and grade for the assignment
+    List<AssignmentStatusRow> findStatusRowsByCourseIdAndAssignmentId(int courseId, int assignmentId);
 }
 
@@ -1,197 +1,197 @@
 package org.example.studentmanagement.dao;
 
+import org.example.studentmanagement.dto.AssignmentStatusRow;
 import org.example.studentmanagement.entity.AssignmentDetails;
+import org.example.studentmanagement.entity.GradeDetails;
+import org.example.studentmanagement.entity.Student;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 import javax.sql.DataSource;
-import java.sql.*;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.example.studentmanagement.dao.EntityMappers.ASSIGNMENT_DETAILS;
+import static org.example.studentmanagement.dao.EntityMappers.ASSIGNMENT_DETAILS_SELECT;
+
 @Repository
 public class AssignmentDetailsDAOImpl extends BaseDAOImpl<AssignmentDetails, Integer> implements AssignmentDetailsDAO {
 
-    private final DataSource dataSource;
+    // Number of rows sent to the database per executeBatch call
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = "INSERT INTO assignment_details (assignment_id, student_course_details_id, is_done) VALUES (?, ?, ?)";
+    private static final String UPDATE_SQL = "UPDATE assignment_details SET assignment_id = ?, student_course_details_id = ?, is_done = ? WHERE id = ?";
+
+    // Served by idx_assignment_details_enrollment (asserted by SchemaIndexTest)
+    static final String BY_ENROLLMENT_SQL = ASSIGNMENT_DETAILS_SELECT + " WHERE student_course_details_id = ?";
+
+    private static final String STATUS_ROWS_SQL = "SELECT s.id AS student_id, s.first_name, s.last_name, s.email, " +
+            "ad.id AS details_id, ad.assignment_id, ad.is_done, scd.id AS scd_id, scd.course_id, " +
+            "g.id AS grade_id, g.assignment_name, g.score, g.max_score, g.grade, g.feedback, g.graded_date, g.graded_by_teacher_id " +
+            "FROM student_course_details scd " +
+            "JOIN students s ON s.id = scd.student_id " +
+            "LEFT JOIN assignments a ON a.id = ? " +
+            "LEFT JOIN assignment_details ad ON ad.student_course_details_id = scd.id AND ad.assignment_id = a.id " +
+            "LEFT JOIN grade_details g ON g.student_id = scd.student_id AND g.course_id = scd.course_id AND g.assignment_name = a.title " +
+            "WHERE scd.course_id = ? " +
+            "ORDER BY scd.id";
+
+    // Completion record and grade are null for students who have neither yet
+    private static final RowMapper<AssignmentStatusRow> STATUS_ROW = RowMapper.of((rs, c) -> {
+        Student student = new Student();
+        student.setId(rs.getInt(c[0]));
+        student.setFirstName(rs.getString(c[1]));
+        student.setLastName(rs.getString(c[2]));
+        student.setEmail(rs.getString(c[3]));
+
+        AssignmentDetails details = null;
+        int detailsId = rs.getInt(c[4]);
+        if (!rs.wasNull()) {
+            details = new AssignmentDetails(detailsId, rs.getInt(c[5]), rs.getInt(c[7]), rs.getInt(c[6]));
+        }
+
+        GradeDetails grade = null;
+        int gradeId = rs.getInt(c[9]);
+        if (!rs.wasNull()) {
+            grade = new GradeDetails(gradeId, student.getId(), rs.getInt(c[8]), rs.getString(c[10]),
+                    rs.getDouble(c[11]), rs.getDouble(c[12]), rs.getString(c[13]),
+                    rs.getString(c[14]), rs.getObject(c[15], LocalDate.class), rs.getInt(c[16]));
+        }
+
+        return new AssignmentStatusRow(student, details, grade);
+    }, "student_id", "first_name", "last_name", "email", "details_id", "assignment_id", "is_done", "scd_id", "course_id",
+            "grade_id", "assignment_name", "score", "max_score", "grade", "feedback", "graded_date", "graded_by_teacher_id");
 
     @Autowired
     public AssignmentDetailsDAOImpl(DataSource dataSource) {
-        this.dataSource = dataSource;
+        super(dataSource);
     }
 
     @Override
     public void save(AssignmentDetails details) {
-        String sql;
         if (details.getId() == 0) {
-            sql = "INSERT INTO assignment_details (assignment_id, student_course_details_id, is_done) VALUES (?, ?, ?)";
+            details.setId(insert("saving assignment details", INSERT_SQL,
+                    details.getAssignmentId(), details.getStudentCourseDetailsId(), details.getIsDone()));
         } else {
-            sql = "UPDATE assignment_details SET assignment_id = ?, student_course_details_id = ?, is_done = ? WHERE id = ?";
+            update("saving assignment details", UPDATE_SQL,
+                    details.getAssignmentId(), details.getStudentCourseDetailsId(), details.getIsDone(), details.getId());
         }
+    }
 
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-
-            pstmt.setInt(1, details.getAssignmentId());
-            pstmt.setInt(2, details.getStudentCourseDetailsId());
-            pstmt.setInt(3, details.getIsDone());
+    @Override
+    public void saveAll(List<AssignmentDetails> detailsList) {
+        if (detailsList == null || detailsList.isEmpty()) {
+            return;
+        }
 
-            if (details.getId() != 0) {
-                pstmt.setInt(4, details.getId());
+        List<AssignmentDetails> inserts = new ArrayList<>();
+        List<AssignmentDetails> updates = new ArrayList<>();
+        for (AssignmentDetails details : detailsList) {
+            if (details.getId() == 0) {
+                inserts.add(details);
+            } else {
+                updates.add(details);
             }
+        }
 
-            pstmt.executeUpdate();
+        try (Connection conn = dataSource.getConnection()) {
+            try (LocalTransaction tx = LocalTransaction.begin(conn)) {
+                // Insert new rows in batches and read back their generated IDs
+                try (PreparedStatement pstmt = conn.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                    for (int from = 0; from < inserts.size(); from += BATCH_SIZE) {
+                        List<AssignmentDetails> chunk = inserts.subList(from, Math.min(from + BATCH_SIZE, inserts.size()));
+                        for (AssignmentDetails details : chunk) {
+                            pstmt.setInt(1, details.getAssignmentId());
+                            pstmt.setInt(2, details.getStudentCourseDetailsId());
+                            pstmt.setInt(3, details.getIsDone());
+                            pstmt.addBatch();
+                        }
+                        pstmt.executeBatch();
+
+                        try (ResultSet rs = pstmt.getGeneratedKeys()) {
+                            for (AssignmentDetails details : chunk) {
+                                if (!rs.next()) {
+                                    break;
+                                }
+                                details.setId(rs.getInt(1));
+                            }
+                        }
+                    }
+                }
 
-            if (details.getId() == 0) {
-                try (ResultSet rs = pstmt.getGeneratedKeys()) {
-                    if (rs.next()) {
-                        details.setId(rs.getInt(1));
+                // Update existing rows in batches
+                try (PreparedStatement pstmt = conn.prepareStatement(UPDATE_SQL)) {
+                    for (int i = 0; i < updates.size(); i++) {
+                        AssignmentDetails details = updates.get(i);
+                        pstmt.setInt(1, details.getAssignmentId());
+                        pstmt.setInt(2, details.getStudentCourseDetailsId());
+                        pstmt.setInt(3, details.getIsDone());
+                        pstmt.setInt(4, details.getId());
+                        pstmt.addBatch();
+                        if ((i + 1) % BATCH_SIZE == 0 || i == updates.size() - 1) {
+                            pstmt.executeBatch();
+                        }
                     }
                 }
+
+                tx.commit();
             }
 
         } catch (SQLException e) {
-            throw new RuntimeException("Error saving assignment details: " + e.getMessage(), e);
+            throw translate("saving assignment details batch", INSERT_SQL, e);
         }
     }
 
     @Override
     public List<AssignmentDetails> findAll() {
-        List<AssignmentDetails> detailsList = new ArrayList<>();
-        String sql = "SELECT id, assignment_id, student_course_details_id, is_done FROM assignment_details";
-
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql);
-             ResultSet rs = pstmt.executeQuery()) {
-
-            while (rs.next()) {
-                AssignmentDetails details = mapResultSetToAssignmentDetails(rs);
-                detailsList.add(details);
-            }
-
-        } catch (SQLException e) {
-            throw new RuntimeException("Error finding all assignment details: " + e.getMessage(), e);
-        }
-
-        return detailsList;
+        return query("finding all assignment details", ASSIGNMENT_DETAILS_SELECT, ASSIGNMENT_DETAILS);
     }
 
     @Override
     public AssignmentDetails findById(Integer id) {
-        String sql = "SELECT id, assignment_id, student_course_details_id, is_done FROM assignment_details WHERE id = ?";
-        AssignmentDetails details = null;
-
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setInt(1, id);
-
-            try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next()) {
-                    details = mapResultSetToAssignmentDetails(rs);
-                }
-            }
-
-        } catch (SQLException e) {
-            throw new RuntimeException("Error finding assignment details by id: " + e.getMessage(), e);
-        }
-
-        return details;
+        return queryForObject("finding assignment details by id",
+                ASSIGNMENT_DETAILS_SELECT + " WHERE id = ?", ASSIGNMENT_DETAILS, id);
     }
 
     @Override
     public void deleteById(Integer id) {
-        String sql = "DELETE FROM assignment_details WHERE id = ?";
-
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setInt(1, id);
-            pstmt.executeUpdate();
+        update("deleting assignment details by id", "DELETE FROM assignment_details WHERE id = ?", id);
+    }
 
-        } catch (SQLException e) {
-            throw new RuntimeException("Error deleting assignment details by id: " + e.getMessage(), e);
-        }
+    @Override
+    public void delete(AssignmentDetails details) {
+        deleteById(details.getId());
     }
 
     @Override
     public AssignmentDetails findByAssignmentIdAndStudentCourseDetailsId(int assignmentId, int studentCourseDetailsId) {
-        String sql = "SELECT id, assignment_id, student_course_details_id, is_done FROM assignment_details WHERE assignment_id = ? AND student_course_details_id = ?";
-        AssignmentDetails details = null;
-
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setInt(1, assignmentId);
-            pstmt.setInt(2, studentCourseDetailsId);
-
-            try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next()) {
-                    details = mapResultSetToAssignmentDetails(rs);
-                }
-            }
-
-        } catch (SQLException e) {
-            throw new RuntimeException("Error finding assignment details by assignment and student course details id: " + e.getMessage(), e);
-        }
-
-        return details;
+        return queryForObject("finding assignment details by assignment and student course details id",
+                ASSIGNMENT_DETAILS_SELECT + " WHERE assignment_id = ? AND student_course_details_id = ?",
+                ASSIGNMENT_DETAILS, assignmentId, studentCourseDetailsId);
     }
 
     @Override
     public List<AssignmentDetails> findByAssignmentId(int assignmentId) {
-        List<AssignmentDetails> detailsList = new ArrayList<>();
-        String sql = "SELECT id, assignment_id, student_course_details_id, is_done FROM assignment_details WHERE assignment_id = ?";
-
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setInt(1, assignmentId);
-
-            try (ResultSet rs = pstmt.executeQuery()) {
-                while (rs.next()) {
-                    AssignmentDetails details = mapResultSetToAssignmentDetails(rs);
-                    detailsList.add(details);
-                }
-            }
-
-        } catch (SQLException e) {
-            throw new RuntimeException("Error finding assignment details by assignment id: " + e.getMessage(), e);
-        }
-
-        return detailsList;
+        return query("finding assignment details by assignment id",
+                ASSIGNMENT_DETAILS_SELECT + " WHERE assignment_id = ?", ASSIGNMENT_DETAILS, assignmentId);
     }
 
     @Override
     public List<AssignmentDetails> findByStudentCourseDetailsId(int studentCourseDetailsId) {
-        List<AssignmentDetails> detailsList = new ArrayList<>();
-        String sql = "SELECT id, assignment_id, student_course_details_id, is_done FROM assignment_details WHERE student_course_details_id = ?";
-
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setInt(1, studentCourseDetailsId);
-
-            try (ResultSet rs = pstmt.executeQuery()) {
-                while (rs.next()) {
-                    AssignmentDetails details = mapResultSetToAssignmentDetails(rs);
-                    detailsList.add(details);
-                }
-            }
-
-        } catch (SQLException e) {
-            throw new RuntimeException("Error finding assignment details by student course details id: " + e.getMessage(), e);
-        }
-
-        return detailsList;
+        return query("finding assignment details by student course details id",
+                BY_ENROLLMENT_SQL, ASSIGNMENT_DETAILS, studentCourseDetailsId);
     }
 
-    private AssignmentDetails mapResultSetToAssignmentDetails(ResultSet rs) throws SQLException {
-        AssignmentDetails details = new AssignmentDetails();
-        details.setId(rs.getInt("id"));
-        details.setAssignmentId(rs.getInt("assignment_id"));
-        details.setStudentCourseDetailsId(rs.getInt("student_course_details_id"));
-        details.setIsDone(rs.getInt("is_done"));
-        return details;
+    @Override
+    public List<AssignmentStatusRow> findStatusRowsByCourseIdAndAssignmentId(int courseId, int assignmentId) {
+        return query("finding assignment status rows by course and assignment id",
+                STATUS_ROWS_SQL, STATUS_ROW, assignmentId, courseId);
     }
 }
-
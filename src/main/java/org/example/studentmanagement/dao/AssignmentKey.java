@@ -0,0 +1,24 @@
+package org.example.studentmanagement.dao;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * One assignment's slot in the course analytics: a course and assignment name, where a null name stands for the
+ * course's final grades. Ordered the way grade_distribution's primary key is, which is the order writers lock in.
+ */
+public record AssignmentKey(int courseId, String assignmentName) implements Comparable<AssignmentKey> {
+
+    private static final Comparator<AssignmentKey> ORDER = Comparator.comparingInt(AssignmentKey::courseId)
+            .thenComparing(AssignmentKey::storedName);
+
+    // The assignment_key column: final grades are stored under the empty name
+    public String storedName() {
+        return Objects.requireNonNullElse(assignmentName, "");
+    }
+
+    @Override
+    public int compareTo(AssignmentKey other) {
+        return ORDER.compare(this, other);
+    }
+}
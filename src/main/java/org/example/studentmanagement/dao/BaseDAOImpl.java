@@ -1,38 +1,14 @@
 package org.example.studentmanagement.dao;
 
-import java.util.List;
+import javax.sql.DataSource;
 
+/**
+ * Base class of the DAOs for an entity table. It implements none of the {@link BaseDAO} operations,
+ * so every entity DAO provides all of them instead of inheriting a stub that silently does nothing.
+ */
+public abstract class BaseDAOImpl<T, ID> extends JdbcDAOSupport implements BaseDAO<T, ID> {
 
-public abstract class BaseDAOImpl<T, ID> implements BaseDAO<T, ID> {
-
-    protected Class<T> getEntityClass() {
-        return null;
-    }
-
-    @Override
-    public void save(T entity) {
-        // Default implementation - can be overridden by subclasses
-    }
-
-    @Override
-    public T findById(ID id) {
-        // Default implementation - can be overridden by subclasses
-        return null;
-    }
-
-    @Override
-    public List<T> findAll() {
-        // Default implementation - can be overridden by subclasses
-        return List.of();
-    }
-
-    @Override
-    public void deleteById(ID id) {
-        // Default implementation - can be overridden by subclasses
-    }
-
-    @Override
-    public void delete(T entity) {
-        // Default implementation - can be overridden by subclasses
+    protected BaseDAOImpl(DataSource dataSource) {
+        super(dataSource);
     }
 }
@@ -0,0 +1,13 @@
+package org.example.studentmanagement.dao;
+
+import org.example.studentmanagement.dto.ImportAccountRow;
+import org.example.studentmanagement.dto.ImportEnrollmentRow;
+import org.example.studentmanagement.dto.ImportResult;
+
+import java.util.Iterator;
+
+public interface BulkImportDAO {
+    void importStudents(Iterator<ImportAccountRow> rows, ImportResult result);
+    void importTeachers(Iterator<ImportAccountRow> rows, ImportResult result);
+    void importEnrollments(Iterator<ImportEnrollmentRow> rows, ImportResult result);
+}
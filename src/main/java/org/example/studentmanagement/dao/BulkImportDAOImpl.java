@@ -0,0 +1,165 @@
+package org.example.studentmanagement.dao;
+
+import org.example.studentmanagement.dto.ImportAccountRow;
+import org.example.studentmanagement.dto.ImportEnrollmentRow;
+import org.example.studentmanagement.dto.ImportResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+
+/**
+ * Loads validated import rows into a session-local staging table (COPY on PostgreSQL, JDBC batches elsewhere),
+ * reports the rows that clash with existing data, and merges the rest with a single INSERT ... SELECT.
+ * Each import runs in one transaction: either every accepted row is inserted or none are.
+ */
+@Repository
+public class BulkImportDAOImpl extends JdbcDAOSupport implements BulkImportDAO {
+
+    private static final String ACCOUNT_STAGING = "import_accounts";
+    private static final String ENROLLMENT_STAGING = "import_enrollments";
+
+    @Autowired
+    public BulkImportDAOImpl(DataSource dataSource) {
+        super(dataSource);
+    }
+
+    @Override
+    public void importStudents(Iterator<ImportAccountRow> rows, ImportResult result) {
+        importAccounts("students", rows, result);
+    }
+
+    @Override
+    public void importTeachers(Iterator<ImportAccountRow> rows, ImportResult result) {
+        importAccounts("teachers", rows, result);
+    }
+
+    @Override
+    public void importEnrollments(Iterator<ImportEnrollmentRow> rows, ImportResult result) {
+        // Duplicates inside the file are found here rather than in memory, so a large file never needs a
+        // heap-side set of every pair; only the first occurrence is inserted
+        String earlierDuplicate = "EXISTS (SELECT 1 FROM " + ENROLLMENT_STAGING + " p " +
+                "WHERE p.username = e.username AND p.course_code = e.course_code AND p.line_no < e.line_no)";
+        String conflictSql = "SELECT e.line_no, " +
+                "CASE WHEN s.id IS NULL THEN 'Unknown student' " +
+                "WHEN c.id IS NULL THEN 'Unknown course' " +
+                "WHEN " + earlierDuplicate + " THEN 'Duplicate enrollment in file' " +
+                "ELSE 'Student is already enrolled in this course' END AS reason " +
+                "FROM " + ENROLLMENT_STAGING + " e " +
+                "LEFT JOIN students s ON s.username = e.username " +
+                "LEFT JOIN courses c ON c.code = e.course_code " +
+                "WHERE s.id IS NULL OR c.id IS NULL OR " + earlierDuplicate + " " +
+                "OR EXISTS (SELECT 1 FROM student_course_details d WHERE d.student_id = s.id AND d.course_id = c.id) " +
+                "ORDER BY e.line_no";
+        String mergeSql = "INSERT INTO student_course_details (student_id, course_id) " +
+                "SELECT DISTINCT s.id, c.id FROM " + ENROLLMENT_STAGING + " e " +
+                "JOIN students s ON s.username = e.username " +
+                "JOIN courses c ON c.code = e.course_code " +
+                "WHERE NOT EXISTS (SELECT 1 FROM student_course_details d WHERE d.student_id = s.id AND d.course_id = c.id)";
+
+        try (Connection conn = dataSource.getConnection()) {
+            createStaging(conn, ENROLLMENT_STAGING,
+                    "line_no INT, username VARCHAR(255), course_code VARCHAR(255)");
+            try (LocalTransaction tx = LocalTransaction.begin(conn)) {
+                boolean useCopy = BulkInsert.supportsCopy(conn);
+                try (BulkInsert staging = BulkInsert.open(conn, useCopy, ENROLLMENT_STAGING,
+                        "line_no", "username", "course_code")) {
+                    while (rows.hasNext()) {
+                        ImportEnrollmentRow row = rows.next();
+                        staging.add(row.getLine(), row.getUserName(), row.getCourseCode());
+                    }
+                }
+                analyzeStaging(conn, useCopy, ENROLLMENT_STAGING);
+                reportConflicts(conn, conflictSql, result);
+                result.setImportedRows(executeUpdate(conn, mergeSql));
+                tx.commit();
+            } finally {
+                dropStaging(conn, ENROLLMENT_STAGING);
+            }
+        } catch (SQLException e) {
+            throw translate("importing enrollments", mergeSql, e);
+        }
+    }
+
+    // Usernames are checked against both account tables because logins are resolved across them
+    private void importAccounts(String table, Iterator<ImportAccountRow> rows, ImportResult result) {
+        String usernameTaken = "EXISTS (SELECT 1 FROM students s WHERE s.username = i.username) " +
+                "OR EXISTS (SELECT 1 FROM teachers t WHERE t.username = i.username)";
+        String emailTaken = "EXISTS (SELECT 1 FROM " + table + " x WHERE x.email = i.email)";
+        String conflictSql = "SELECT i.line_no, " +
+                "CASE WHEN " + usernameTaken + " THEN 'Username already exists' ELSE 'Email already exists' END AS reason " +
+                "FROM " + ACCOUNT_STAGING + " i WHERE " + usernameTaken + " OR " + emailTaken + " " +
+                "ORDER BY i.line_no";
+        String rejectSql = "DELETE FROM " + ACCOUNT_STAGING + " i WHERE " + usernameTaken + " OR " + emailTaken;
+        String mergeSql = "INSERT INTO " + table + " (username, password, first_name, last_name, email) " +
+                "SELECT username, password, first_name, last_name, email FROM " + ACCOUNT_STAGING + " " +
+                "ORDER BY line_no";
+
+        try (Connection conn = dataSource.getConnection()) {
+            createStaging(conn, ACCOUNT_STAGING, "line_no INT, username VARCHAR(255), password VARCHAR(255), " +
+                    "first_name VARCHAR(255), last_name VARCHAR(255), email VARCHAR(255)");
+            try (LocalTransaction tx = LocalTransaction.begin(conn)) {
+                boolean useCopy = BulkInsert.supportsCopy(conn);
+                try (BulkInsert staging = BulkInsert.open(conn, useCopy, ACCOUNT_STAGING,
+                        "line_no", "username", "password", "first_name", "last_name", "email")) {
+                    while (rows.hasNext()) {
+                        ImportAccountRow row = rows.next();
+                        staging.add(row.getLine(), row.getUserName(), row.getPassword(), row.getFirstName(),
+                                row.getLastName(), row.getEmail());
+                    }
+                }
+                analyzeStaging(conn, useCopy, ACCOUNT_STAGING);
+                reportConflicts(conn, conflictSql, result);
+                executeUpdate(conn, rejectSql);
+                result.setImportedRows(executeUpdate(conn, mergeSql));
+                tx.commit();
+            } finally {
+                dropStaging(conn, ACCOUNT_STAGING);
+            }
+        } catch (SQLException e) {
+            throw translate("importing " + table, mergeSql, e);
+        }
+    }
+
+    // A pooled connection may still hold the staging table of an import that failed half way
+    private void createStaging(Connection conn, String staging, String columns) throws SQLException {
+        dropStaging(conn, staging);
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE LOCAL TEMPORARY TABLE " + staging + " (" + columns + ")");
+        }
+    }
+
+    private void dropStaging(Connection conn, String staging) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TABLE IF EXISTS " + staging);
+        }
+    }
+
+    // PostgreSQL never auto-analyzes temporary tables; without statistics the merge joins are planned blind
+    private void analyzeStaging(Connection conn, boolean useCopy, String staging) throws SQLException {
+        if (useCopy) {
+            executeUpdate(conn, "ANALYZE " + staging);
+        }
+    }
+
+    private void reportConflicts(Connection conn, String conflictSql, ImportResult result) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(conflictSql);
+             ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                result.addError(rs.getInt("line_no"), rs.getString("reason"));
+            }
+        }
+    }
+
+    private int executeUpdate(Connection conn, String sql) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            return pstmt.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.studentmanagement.dao;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+
+/**
+ * Appends rows to one table as fast as the database allows: a COPY stream on PostgreSQL,
+ * JDBC batches elsewhere. Rows are only guaranteed to be written once the writer is closed.
+ */
+public abstract class BulkInsert implements AutoCloseable {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int COPY_BUFFER_SIZE = 1 << 16;
+
+    public static boolean supportsCopy(Connection conn) throws SQLException {
+        return conn.isWrapperFor(PGConnection.class);
+    }
+
+    public static BulkInsert open(Connection conn, String table, String... columns) throws SQLException {
+        return open(conn, supportsCopy(conn), table, columns);
+    }
+
+    public static BulkInsert open(Connection conn, boolean useCopy, String table, String... columns) throws SQLException {
+        String columnList = String.join(", ", columns);
+        if (useCopy) {
+            CopyIn copyIn = conn.unwrap(PGConnection.class).getCopyAPI()
+                    .copyIn("COPY " + table + " (" + columnList + ") FROM STDIN WITH (FORMAT csv)");
+            return new CopyInsert(copyIn);
+        }
+        String placeholders = String.join(", ", Collections.nCopies(columns.length, "?"));
+        return new BatchInsert(conn.prepareStatement(
+                "INSERT INTO " + table + " (" + columnList + ") VALUES (" + placeholders + ")"));
+    }
+
+    public abstract void add(Object... values) throws SQLException;
+
+    @Override
+    public abstract void close() throws SQLException;
+
+    // Streams CSV rows into a PostgreSQL COPY, flushing whenever the buffer fills
+    private static final class CopyInsert extends BulkInsert {
+
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE);
+
+        private CopyInsert(CopyIn copyIn) {
+            this.copyIn = copyIn;
+        }
+
+        @Override
+        public void add(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                if (values[i] instanceof String text) {
+                    buffer.append('"').append(text.replace("\"", "\"\"")).append('"');
+                } else if (values[i] != null) {
+                    buffer.append(values[i]);
+                }
+            }
+            buffer.append('\n');
+            if (buffer.length() >= COPY_BUFFER_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() throws SQLException {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                if (buffer.length() > 0) {
+                    flush();
+                }
+                copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        }
+    }
+
+    private static final class BatchInsert extends BulkInsert {
+
+        private final PreparedStatement pstmt;
+        private int pending;
+
+        private BatchInsert(PreparedStatement pstmt) {
+            this.pstmt = pstmt;
+        }
+
+        @Override
+        public void add(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                pstmt.setObject(i + 1, values[i]);
+            }
+            pstmt.addBatch();
+            if (++pending == BATCH_SIZE) {
+                pstmt.executeBatch();
+                pending = 0;
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                if (pending > 0) {
+                    pstmt.executeBatch();
+                }
+            } finally {
+                pstmt.close();
+            }
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package org.example.studentmanagement.dao;
 
+import org.example.studentmanagement.dto.KeysetPage;
+import org.example.studentmanagement.dto.PageQuery;
 import org.example.studentmanagement.entity.Course;
 
 public interface CourseDAO extends BaseDAO<Course, Integer> {
+    // Sort keys: id, code, name; the filter matches code and name. Rosters are not loaded.
+    KeysetPage<Course> findPage(PageQuery query);
 }
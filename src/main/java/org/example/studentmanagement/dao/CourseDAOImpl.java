@@ -1,187 +1,142 @@
 package org.example.studentmanagement.dao;
 
+import org.example.studentmanagement.dto.KeysetPage;
+import org.example.studentmanagement.dto.PageQuery;
 import org.example.studentmanagement.entity.Course;
 import org.example.studentmanagement.entity.Student;
-import org.example.studentmanagement.entity.Teacher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 import javax.sql.DataSource;
-import java.sql.*;
-import java.util.ArrayList;
-import java.util.List;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+
+import static org.example.studentmanagement.dao.EntityMappers.COURSE_WITH_TEACHER;
+import static org.example.studentmanagement.dao.EntityMappers.COURSE_WITH_TEACHER_SELECT;
 
 @Repository
 public class CourseDAOImpl extends BaseDAOImpl<Course, Integer> implements CourseDAO{
+
+    private static final KeysetSql PAGE_SQL = new KeysetSql("c.id",
+            Map.of("code", "c.code", "name", "c.name"),
+            List.of("c.code", "c.name"));
     
-    private final DataSource dataSource;
+    private static final String INSERT_SQL = "INSERT INTO courses (code, name, teacher_id) VALUES (?, ?, ?)";
+    private static final String UPDATE_SQL = "UPDATE courses SET code = ?, name = ?, teacher_id = ? WHERE id = ?";
+
+    // Rosters for every course are loaded in one pass and stitched in memory instead of one query per course
+    private static final String ALL_ROSTERS_SQL = "SELECT scd.course_id, s.id, s.first_name, s.last_name FROM students s JOIN student_course_details scd ON s.id = scd.student_id ORDER BY scd.course_id, scd.id";
+    private static final String ROSTER_SQL = "SELECT scd.course_id, s.id, s.first_name, s.last_name FROM students s JOIN student_course_details scd ON s.id = scd.student_id WHERE scd.course_id = ?";
+
+    // Roster entries keyed by the course they belong to
+    private static final RowMapper<Map.Entry<Integer, Student>> ROSTER_ENTRY = RowMapper.of((rs, c) -> {
+        Student student = new Student();
+        student.setId(rs.getInt(c[1]));
+        student.setFirstName(rs.getString(c[2]));
+        student.setLastName(rs.getString(c[3]));
+        return Map.entry(rs.getInt(c[0]), student);
+    }, "course_id", "id", "first_name", "last_name");
 
     @Autowired
     public CourseDAOImpl(DataSource dataSource) {
-        this.dataSource = dataSource;
+        super(dataSource);
     }
 
     @Override
     public void save(Course course) {
-        String sql;
+        Integer teacherId = course.getTeacher() != null ? course.getTeacher().getId() : null;
         if (course.getId() == 0) {
-            // Insert new course
-            sql = "INSERT INTO courses (code, name, teacher_id) VALUES (?, ?, ?)";
+            // Insert new course and keep the generated ID
+            course.setId(insert("saving course", INSERT_SQL, course.getCode(), course.getName(), teacherId));
         } else {
-            // Update existing course
-            sql = "UPDATE courses SET code = ?, name = ?, teacher_id = ? WHERE id = ?";
-        }
-        
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            
-            pstmt.setString(1, course.getCode());
-            pstmt.setString(2, course.getName());
-            
-            if (course.getTeacher() != null) {
-                pstmt.setInt(3, course.getTeacher().getId());
-            } else {
-                pstmt.setNull(3, Types.INTEGER);
-            }
-            
-            if (course.getId() != 0) {
-                pstmt.setInt(4, course.getId());
-            }
-            
-            pstmt.executeUpdate();
-            
-            // If it's a new course, get the generated ID
-            if (course.getId() == 0) {
-                try (ResultSet rs = pstmt.getGeneratedKeys()) {
-                    if (rs.next()) {
-                        course.setId(rs.getInt(1));
-                    }
-                }
-            }
-            
-        } catch (SQLException e) {
-            throw new RuntimeException("Error saving course: " + e.getMessage(), e);
+            update("saving course", UPDATE_SQL, course.getCode(), course.getName(), teacherId, course.getId());
         }
     }
 
     @Override
     public List<Course> findAll(){
-        List<Course> courses = new ArrayList<>();
-        String sql = "SELECT c.id, c.code, c.name, c.teacher_id, t.first_name AS firstName, t.last_name AS lastName FROM courses c LEFT JOIN teachers t ON c.teacher_id = t.id";
+        try (Connection conn = dataSource.getConnection()) {
 
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql);
-             ResultSet rs = pstmt.executeQuery()) {
-
-            while (rs.next()) {
-                Course course = new Course();
-                course.setId(rs.getInt("id"));
-                course.setCode(rs.getString("code"));
-                course.setName(rs.getString("name"));
-
-                // Set teacher if exists
-                int teacherId = rs.getInt("teacher_id");
-                if (!rs.wasNull()) {
-                    Teacher teacher = new Teacher();
-                    teacher.setId(teacherId);
-                    teacher.setFirstName(rs.getString("firstName"));
-                    teacher.setLastName(rs.getString("lastName"));
-                    course.setTeacher(teacher);
-                }
+            List<Course> courses = query(conn, COURSE_WITH_TEACHER_SELECT, COURSE_WITH_TEACHER);
+            if (courses.isEmpty()) {
+                return courses;
+            }
 
-                // Load students
-                List<Student> students = new ArrayList<>();
-                String studentSql = "SELECT s.id, s.first_name, s.last_name FROM students s JOIN student_course_details scd ON s.id = scd.student_id WHERE scd.course_id = ?";
-                try (PreparedStatement studentPstmt = conn.prepareStatement(studentSql)) {
-                    studentPstmt.setInt(1, course.getId());
-                    try (ResultSet studentRs = studentPstmt.executeQuery()) {
-                        while (studentRs.next()) {
-                            Student student = new Student();
-                            student.setId(studentRs.getInt("id"));
-                            student.setFirstName(studentRs.getString("first_name"));
-                            student.setLastName(studentRs.getString("last_name"));
-                            students.add(student);
-                        }
-                    }
+            // Load students
+            Map<Integer, Course> coursesById = new HashMap<>();
+            for (Course course : courses) {
+                coursesById.put(course.getId(), course);
+            }
+            for (Map.Entry<Integer, Student> entry : query(conn, ALL_ROSTERS_SQL, ROSTER_ENTRY)) {
+                Course course = coursesById.get(entry.getKey());
+                if (course != null) {
+                    course.getStudents().add(entry.getValue());
                 }
-                course.setStudents(students);
-
-                courses.add(course);
             }
+            return courses;
 
         } catch (SQLException e) {
-            throw new RuntimeException("Error finding all courses: " + e.getMessage(), e);
+            throw translate("finding all courses", COURSE_WITH_TEACHER_SELECT, e);
         }
-
-        return courses;
     }
 
     @Override
     public Course findById(Integer id){
-        String sql = "SELECT c.id, c.code, c.name, c.teacher_id, t.first_name AS firstName, t.last_name AS lastName FROM courses c LEFT JOIN teachers t ON c.teacher_id = t.id WHERE c.id = ?";
-        Course course = null;
+        String sql = COURSE_WITH_TEACHER_SELECT + " WHERE c.id = ?";
 
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        try (Connection conn = dataSource.getConnection()) {
 
-            pstmt.setInt(1, id);
+            Course course;
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                pstmt.setInt(1, id);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    course = COURSE_WITH_TEACHER.mapFirst(rs);
+                }
+            }
 
-            try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next()) {
-                    course = new Course();
-                    course.setId(rs.getInt("id"));
-                    course.setCode(rs.getString("code"));
-                    course.setName(rs.getString("name"));
-
-                    // Set teacher if exists
-                    int teacherId = rs.getInt("teacher_id");
-                    if (!rs.wasNull()) {
-                        Teacher teacher = new Teacher();
-                        teacher.setId(teacherId);
-                        teacher.setFirstName(rs.getString("firstName"));
-                        teacher.setLastName(rs.getString("lastName"));
-                        course.setTeacher(teacher);
-                    }
-
-                    // Load students
-                    List<Student> students = new ArrayList<>();
-                    String studentSql = "SELECT s.id, s.first_name, s.last_name FROM students s JOIN student_course_details scd ON s.id = scd.student_id WHERE scd.course_id = ?";
-                    try (PreparedStatement studentPstmt = conn.prepareStatement(studentSql)) {
-                        studentPstmt.setInt(1, id);
-                        try (ResultSet studentRs = studentPstmt.executeQuery()) {
-                            while (studentRs.next()) {
-                                Student student = new Student();
-                                student.setId(studentRs.getInt("id"));
-                                student.setFirstName(studentRs.getString("first_name"));
-                                student.setLastName(studentRs.getString("last_name"));
-                                students.add(student);
-                            }
-                        }
-                    }
-                    course.setStudents(students);
+            // Load students
+            if (course != null) {
+                for (Map.Entry<Integer, Student> entry : query(conn, ROSTER_SQL, ROSTER_ENTRY, id)) {
+                    course.getStudents().add(entry.getValue());
                 }
             }
+            return course;
 
         } catch (SQLException e) {
-            throw new RuntimeException("Error finding course by id: " + e.getMessage(), e);
+            throw translate("finding course by id", sql, e);
         }
-
-        return course;
     }
 
     @Override
     public void deleteById(Integer id){
-        String sql = "DELETE FROM courses WHERE id = ?";
+        update("deleting course by id", "DELETE FROM courses WHERE id = ?", id);
+    }
+
+    @Override
+    public void delete(Course course) {
+        deleteById(course.getId());
+    }
+
+    @Override
+    public KeysetPage<Course> findPage(PageQuery query) {
+        KeysetSql.Page page = PAGE_SQL.prepare(query);
+        String sql = COURSE_WITH_TEACHER_SELECT + page.sql();
 
         try (Connection conn = dataSource.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
-            pstmt.setInt(1, id);
-            pstmt.executeUpdate();
+            page.bind(pstmt);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return page.read(rs, COURSE_WITH_TEACHER);
+            }
 
         } catch (SQLException e) {
-            throw new RuntimeException("Error deleting course by id: " + e.getMessage(), e);
+            throw translate("finding course page", sql, e);
         }
     }
 }
@@ -0,0 +1,23 @@
+package org.example.studentmanagement.dao;
+
+import java.util.Collection;
+
+/**
+ * Set-based deletes that leave dependent rows to the foreign keys declared in db/migration:
+ * enrollments, assignments, assignment details and grades cascade from their student or course,
+ * while courses, assignments and grades keep their rows with the teacher reference set to NULL.
+ */
+public interface DeletionDAO {
+
+    // Upper bound on the ids bound to one DELETE by the bulk methods
+    int CHUNK_SIZE = 5000;
+
+    boolean deleteStudent(int studentId);
+    boolean deleteTeacher(int teacherId);
+    boolean deleteCourse(int courseId);
+    boolean deleteEnrollment(int studentId, int courseId);
+
+    int deleteStudents(Collection<Integer> studentIds);
+    int deleteTeachers(Collection<Integer> teacherIds);
+    int deleteCourses(Collection<Integer> courseIds);
+}
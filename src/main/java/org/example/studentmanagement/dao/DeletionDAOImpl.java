@@ -0,0 +1,110 @@
+package org.example.studentmanagement.dao;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+@Repository
+public class DeletionDAOImpl extends JdbcDAOSupport implements DeletionDAO {
+
+    private static final String DELETE_ENROLLMENT_GRADES_SQL = "DELETE FROM grade_details WHERE student_id = ? AND course_id = ?";
+    private static final String DELETE_ENROLLMENT_SUMMARY_SQL = "DELETE FROM course_grade_summary WHERE student_id = ? AND course_id = ?";
+    private static final String DELETE_ENROLLMENT_SQL = "DELETE FROM student_course_details WHERE student_id = ? AND course_id = ?";
+
+    @Autowired
+    public DeletionDAOImpl(DataSource dataSource) {
+        super(dataSource);
+    }
+
+    @Override
+    public boolean deleteStudent(int studentId) {
+        return deleteStudents(List.of(studentId)) > 0;
+    }
+
+    @Override
+    public boolean deleteTeacher(int teacherId) {
+        return deleteTeachers(List.of(teacherId)) > 0;
+    }
+
+    @Override
+    public boolean deleteCourse(int courseId) {
+        return deleteCourses(List.of(courseId)) > 0;
+    }
+
+    // Grades and their summary are keyed by student and course rather than by enrollment, so they are removed explicitly
+    @Override
+    public boolean deleteEnrollment(int studentId, int courseId) {
+        try (Connection conn = dataSource.getConnection()) {
+            try (LocalTransaction tx = LocalTransaction.begin(conn)) {
+                execute(conn, DELETE_ENROLLMENT_GRADES_SQL, studentId, courseId);
+                execute(conn, DELETE_ENROLLMENT_SUMMARY_SQL, studentId, courseId);
+                int deleted = execute(conn, DELETE_ENROLLMENT_SQL, studentId, courseId);
+                tx.commit();
+                return deleted > 0;
+            }
+        } catch (SQLException e) {
+            throw translate("deleting enrollment", DELETE_ENROLLMENT_SQL, e);
+        }
+    }
+
+    @Override
+    public int deleteStudents(Collection<Integer> studentIds) {
+        return deleteByIds("students", studentIds);
+    }
+
+    @Override
+    public int deleteTeachers(Collection<Integer> teacherIds) {
+        return deleteByIds("teachers", teacherIds);
+    }
+
+    @Override
+    public int deleteCourses(Collection<Integer> courseIds) {
+        return deleteByIds("courses", courseIds);
+    }
+
+    // Every chunk runs in one transaction, so a failure part way through leaves nothing deleted
+    private int deleteByIds(String table, Collection<Integer> ids) {
+        List<Integer> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        if (distinctIds.isEmpty()) {
+            return 0;
+        }
+
+        String sql = "DELETE FROM " + table + " WHERE id = ANY (?)";
+        try (Connection conn = dataSource.getConnection()) {
+            try (LocalTransaction tx = LocalTransaction.begin(conn);
+                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+                int deleted = 0;
+                for (int from = 0; from < distinctIds.size(); from += CHUNK_SIZE) {
+                    List<Integer> chunk = distinctIds.subList(from, Math.min(from + CHUNK_SIZE, distinctIds.size()));
+                    Array array = conn.createArrayOf("INTEGER", chunk.toArray());
+                    try {
+                        stmt.setArray(1, array);
+                        deleted += stmt.executeUpdate();
+                    } finally {
+                        array.free();
+                    }
+                }
+                tx.commit();
+                return deleted;
+            }
+        } catch (SQLException e) {
+            throw translate("deleting from " + table, sql, e);
+        }
+    }
+
+    private static int execute(Connection conn, String sql, Object... params) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            bind(pstmt, params);
+            return pstmt.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.studentmanagement.dao;
+
+import org.example.studentmanagement.entity.Assignment;
+import org.example.studentmanagement.entity.AssignmentDetails;
+import org.example.studentmanagement.entity.Course;
+import org.example.studentmanagement.entity.GradeDetails;
+import org.example.studentmanagement.entity.Student;
+import org.example.studentmanagement.entity.StudentCourseDetails;
+import org.example.studentmanagement.entity.Teacher;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+/**
+ * Column lists and row mappers shared by the DAOs. Each SELECT constant returns exactly the
+ * labels its mapper reads, so a query built from one can always be mapped by the other.
+ */
+final class EntityMappers {
+
+    static final String ASSIGNMENT_SELECT = "SELECT id, course_id, title, description, due_date, max_score, created_date, status, created_by_teacher_id FROM assignments";
+
+    static final String ASSIGNMENT_DETAILS_SELECT = "SELECT id, assignment_id, student_course_details_id, is_done FROM assignment_details";
+
+    static final String GRADE_DETAILS_SELECT = "SELECT id, student_id, course_id, assignment_name, score, max_score, grade, feedback, graded_date, graded_by_teacher_id FROM grade_details";
+
+    static final String STUDENT_COURSE_DETAILS_SELECT = "SELECT id, student_id, course_id FROM student_course_details";
+
+    static final String STUDENT_SELECT = "SELECT id, username, password, first_name, last_name, email FROM students";
+
+    static final String TEACHER_SELECT = "SELECT id, username, password, first_name, last_name, email FROM teachers";
+
+    // Courses with their teacher's name; the teacher columns are NULL for unassigned courses
+    static final String COURSE_WITH_TEACHER_SELECT = "SELECT c.id, c.code, c.name, c.teacher_id, t.first_name AS firstName, t.last_name AS lastName "
+            + "FROM courses c LEFT JOIN teachers t ON c.teacher_id = t.id";
+
+    static final RowMapper<Assignment> ASSIGNMENT = RowMapper.of((rs, c) -> new Assignment(
+                    rs.getInt(c[0]), rs.getInt(c[1]), rs.getString(c[2]), rs.getString(c[3]), rs.getObject(c[4], LocalDate.class),
+                    rs.getDouble(c[5]), rs.getObject(c[6], LocalDate.class), rs.getString(c[7]), rs.getInt(c[8])),
+            "id", "course_id", "title", "description", "due_date", "max_score", "created_date", "status",
+            "created_by_teacher_id");
+
+    static final RowMapper<AssignmentDetails> ASSIGNMENT_DETAILS = RowMapper.of((rs, c) -> new AssignmentDetails(
+                    rs.getInt(c[0]), rs.getInt(c[1]), rs.getInt(c[2]), rs.getInt(c[3])),
+            "id", "assignment_id", "student_course_details_id", "is_done");
+
+    static final RowMapper<GradeDetails> GRADE_DETAILS = RowMapper.of((rs, c) -> new GradeDetails(
+                    rs.getInt(c[0]), rs.getInt(c[1]), rs.getInt(c[2]), rs.getString(c[3]), rs.getDouble(c[4]),
+                    rs.getDouble(c[5]), rs.getString(c[6]), rs.getString(c[7]), rs.getObject(c[8], LocalDate.class), rs.getInt(c[9])),
+            "id", "student_id", "course_id", "assignment_name", "score", "max_score", "grade", "feedback",
+            "graded_date", "graded_by_teacher_id");
+
+    // Grades and assignments are loaded separately via their services
+    static final RowMapper<StudentCourseDetails> STUDENT_COURSE_DETAILS = RowMapper.of((rs, c) -> {
+        StudentCourseDetails details = new StudentCourseDetails();
+        details.setId(rs.getInt(c[0]));
+        details.setStudentId(rs.getInt(c[1]));
+        details.setCourseId(rs.getInt(c[2]));
+        return details;
+    }, "id", "student_id", "course_id");
+
+    // Courses start empty; callers that need them load them in a second query
+    static final RowMapper<Student> STUDENT = RowMapper.of((rs, c) -> new Student(
+                    rs.getInt(c[0]), rs.getString(c[1]), rs.getString(c[2]), rs.getString(c[3]), rs.getString(c[4]),
+                    rs.getString(c[5]), new ArrayList<>()),
+            "id", "username", "password", "first_name", "last_name", "email");
+
+    static final RowMapper<Teacher> TEACHER = RowMapper.of((rs, c) -> new Teacher(
+                    rs.getInt(c[0]), rs.getString(c[1]), rs.getString(c[2]), rs.getString(c[3]), rs.getString(c[4]),
+                    rs.getString(c[5]), new ArrayList<>()),
+            "id", "username", "password", "first_name", "last_name", "email");
+
+    // Maps COURSE_WITH_TEACHER_SELECT rows; the roster starts empty
+    static final RowMapper<Course> COURSE_WITH_TEACHER = RowMapper.of((rs, c) -> {
+        Course course = new Course(rs.getInt(c[0]), rs.getString(c[1]), rs.getString(c[2]), null, new ArrayList<>());
+        int teacherId = rs.getInt(c[3]);
+        if (!rs.wasNull()) {
+            Teacher teacher = new Teacher();
+            teacher.setId(teacherId);
+            teacher.setFirstName(rs.getString(c[4]));
+            teacher.setLastName(rs.getString(c[5]));
+            course.setTeacher(teacher);
+        }
+        return course;
+    }, "id", "code", "name", "teacher_id", "firstName", "lastName");
+
+    private EntityMappers() {
+    }
+}
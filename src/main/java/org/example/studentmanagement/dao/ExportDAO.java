@@ -0,0 +1,9 @@
+package org.example.studentmanagement.dao;
+
+import org.example.studentmanagement.dto.ExportDataset;
+
+import java.io.IOException;
+
+public interface ExportDAO {
+    void stream(ExportDataset dataset, ExportRowHandler handler) throws IOException;
+}
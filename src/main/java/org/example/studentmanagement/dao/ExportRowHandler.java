@@ -0,0 +1,11 @@
+package org.example.studentmanagement.dao;
+
+import java.io.IOException;
+
+/**
+ * Receives an export one row at a time while the cursor is still open, so nothing is collected on the heap.
+ */
+public interface ExportRowHandler {
+    void header(String[] columns) throws IOException;
+    void row(Object[] values) throws IOException;
+}
@@ -0,0 +1,18 @@
+package org.example.studentmanagement.dao;
+
+import org.example.studentmanagement.dto.GradeStatistics;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface GradeAnalyticsDAO {
+    // The course's running statistics, final grades first (null assignment name), then by assignment name
+    List<GradeStatistics> findByCourseId(int courseId);
+    // Locks the existing grades (may be null) in id order, then creates and locks every bucket row of their assignments
+    // and of the written ones in key order; call first in the transaction of a grade write, before subtract and add
+    void lock(GradeSelection existing, Collection<AssignmentKey> written);
+    // Adds the current values of the selected grades; call after writing them, in the same transaction
+    void add(GradeSelection grades);
+    // Locks the selected grades and subtracts their current values; call before changing or deleting them
+    void subtract(GradeSelection grades);
+}
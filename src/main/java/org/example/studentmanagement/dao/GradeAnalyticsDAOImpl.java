@@ -0,0 +1,234 @@
+package org.example.studentmanagement.dao;
+
+import org.example.studentmanagement.dto.GradeStatistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Maintains grade_distribution by deltas: a write subtracts the grades it is about to change and adds them back
+ * once written, so each grade write touches only the buckets its old and new percentages fall in. Percentages and
+ * buckets are computed by the database from the stored scores, so a grade added and later subtracted always
+ * cancels exactly. A grade write first calls lock, which locks the grades it changes in id order and then creates and
+ * locks every bucket row of the assignments they belong to and are written to, in primary key order. The subtract
+ * and add that follow only touch rows the writer already holds, so writers of the same assignment, first grades
+ * included, queue on its first bucket row instead of taking its rows in the order their deltas happen to arrive.
+ */
+@Repository
+public class GradeAnalyticsDAOImpl extends JdbcDAOSupport implements GradeAnalyticsDAO {
+
+    // Same expressions as the V6 backfill: percentage rounded to cents, 5-point buckets with 100 and above in the last
+    private static final String DELTA_SQL = "SELECT course_id, assignment_key, bucket, COUNT(*), SUM(percentage), SUM(percentage * percentage) " +
+            "FROM (SELECT course_id, assignment_key, percentage, " +
+            "LEAST(GREATEST(CAST(FLOOR(percentage / 5) AS INTEGER), 0), 19) AS bucket " +
+            "FROM (SELECT course_id, COALESCE(assignment_name, '') AS assignment_key, " +
+            "CASE WHEN max_score > 0 THEN ROUND(COALESCE(score, 0) * 100 / max_score, 2) ELSE 0 END AS percentage " +
+            "FROM grade_details WHERE %s) p) b " +
+            "GROUP BY course_id, assignment_key, bucket ORDER BY course_id, assignment_key, bucket";
+
+    private static final String LOCK_SQL = "SELECT id, course_id, assignment_name FROM grade_details WHERE %s ORDER BY id FOR UPDATE";
+
+    private static final String LOCK_BUCKETS_SQL = "SELECT bucket FROM grade_distribution " +
+            "WHERE course_id = ? AND assignment_key = ? ORDER BY bucket FOR UPDATE";
+
+    private static final String UPDATE_SQL = "UPDATE grade_distribution SET graded_count = graded_count + ?, " +
+            "percentage_sum = percentage_sum + ?, percentage_sum_sq = percentage_sum_sq + ? " +
+            "WHERE course_id = ? AND assignment_key = ? AND bucket = ?";
+    // Creates lock's empty bucket rows; add falls back to it when a caller that skipped lock finds its bucket missing,
+    // and if a concurrent writer inserts the row first, the delta goes through UPDATE_SQL
+    private static final String INSERT_SQL = "INSERT INTO grade_distribution " +
+            "(course_id, assignment_key, bucket, graded_count, percentage_sum, percentage_sum_sq) " +
+            "VALUES (?, ?, ?, ?, ?, ?) ON CONFLICT DO NOTHING";
+
+    // Served by the primary key; at most BUCKETS rows per assignment, however many students are graded
+    static final String BY_COURSE_SQL = "SELECT assignment_key, bucket, graded_count, percentage_sum, percentage_sum_sq " +
+            "FROM grade_distribution WHERE course_id = ? AND graded_count > 0 ORDER BY assignment_key, bucket";
+
+    private static final RowMapper<BucketRow> BUCKET_ROW = RowMapper.of((rs, c) -> new BucketRow(
+            rs.getString(c[0]), rs.getInt(c[1]), rs.getInt(c[2]), rs.getDouble(c[3]), rs.getDouble(c[4])),
+            "assignment_key", "bucket", "graded_count", "percentage_sum", "percentage_sum_sq");
+
+    @Autowired
+    public GradeAnalyticsDAOImpl(DataSource dataSource) {
+        super(dataSource);
+    }
+
+    @Override
+    public List<GradeStatistics> findByCourseId(int courseId) {
+        List<GradeStatistics> statistics = new ArrayList<>();
+        GradeStatistics current = null;
+        String currentKey = null;
+        for (BucketRow row : query("finding grade statistics by course id", BY_COURSE_SQL, BUCKET_ROW, courseId)) {
+            if (!row.assignmentKey().equals(currentKey)) {
+                currentKey = row.assignmentKey();
+                current = new GradeStatistics(currentKey.isEmpty() ? null : currentKey);
+                statistics.add(current);
+            }
+            current.addBucket(row.bucket(), row.gradedCount(), row.percentageSum(), row.percentageSumSq());
+        }
+        return statistics;
+    }
+
+    @Override
+    public void lock(GradeSelection existing, Collection<AssignmentKey> written) {
+        String lockSql = existing == null ? LOCK_BUCKETS_SQL : String.format(LOCK_SQL, existing.predicate());
+        try (Connection conn = dataSource.getConnection()) {
+            try (LocalTransaction tx = LocalTransaction.begin(conn)) {
+                // A regrade may move a grade to another assignment, so the old assignments are locked along with the new
+                SortedSet<AssignmentKey> assignments = new TreeSet<>(written);
+                if (existing != null) {
+                    try (PreparedStatement pstmt = conn.prepareStatement(lockSql)) {
+                        bind(conn, pstmt, existing.params());
+                        try (ResultSet rs = pstmt.executeQuery()) {
+                            while (rs.next()) {
+                                assignments.add(new AssignmentKey(rs.getInt(2), rs.getString(3)));
+                            }
+                        }
+                    }
+                }
+                if (assignments.isEmpty()) {
+                    tx.commit();
+                    return;
+                }
+
+                // Every bucket row exists before any is locked, so a first grade locks the same rows as a regrade
+                try (PreparedStatement pstmt = conn.prepareStatement(INSERT_SQL)) {
+                    for (AssignmentKey assignment : assignments) {
+                        for (int bucket = 0; bucket < GradeStatistics.BUCKETS; bucket++) {
+                            bind(pstmt, assignment.courseId(), assignment.storedName(), bucket, 0, BigDecimal.ZERO, BigDecimal.ZERO);
+                            pstmt.addBatch();
+                        }
+                    }
+                    pstmt.executeBatch();
+                }
+                try (PreparedStatement pstmt = conn.prepareStatement(LOCK_BUCKETS_SQL)) {
+                    for (AssignmentKey assignment : assignments) {
+                        bind(pstmt, assignment.courseId(), assignment.storedName());
+                        pstmt.execute();
+                    }
+                }
+                tx.commit();
+            }
+        } catch (SQLException e) {
+            throw translate("locking grade statistics", lockSql, e);
+        }
+    }
+
+    @Override
+    public void add(GradeSelection grades) {
+        apply(grades, false);
+    }
+
+    @Override
+    public void subtract(GradeSelection grades) {
+        apply(grades, true);
+    }
+
+    private void apply(GradeSelection grades, boolean subtract) {
+        String deltaSql = String.format(DELTA_SQL, grades.predicate());
+        try (Connection conn = dataSource.getConnection()) {
+            try (LocalTransaction tx = LocalTransaction.begin(conn)) {
+                if (subtract) {
+                    execute(conn, String.format(LOCK_SQL, grades.predicate()), grades.params());
+                }
+
+                List<Delta> deltas = new ArrayList<>();
+                try (PreparedStatement pstmt = conn.prepareStatement(deltaSql)) {
+                    bind(conn, pstmt, grades.params());
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        while (rs.next()) {
+                            Delta delta = new Delta(rs.getInt(1), rs.getString(2), rs.getInt(3),
+                                    rs.getInt(4), rs.getBigDecimal(5), rs.getBigDecimal(6));
+                            deltas.add(subtract ? delta.negate() : delta);
+                        }
+                    }
+                }
+
+                List<Delta> missing = updateBuckets(conn, deltas);
+                // A grade being subtracted was added when written, so only additions can find their bucket missing
+                missing.removeIf(delta -> delta.count() < 0);
+                if (!missing.isEmpty()) {
+                    updateBuckets(conn, insertBuckets(conn, missing));
+                }
+                tx.commit();
+            }
+        } catch (SQLException e) {
+            throw translate(subtract ? "subtracting grade statistics" : "adding grade statistics", deltaSql, e);
+        }
+    }
+
+    // Applies the deltas and returns those whose bucket row does not exist yet
+    private static List<Delta> updateBuckets(Connection conn, List<Delta> deltas) throws SQLException {
+        if (deltas.isEmpty()) {
+            return new ArrayList<>();
+        }
+        try (PreparedStatement pstmt = conn.prepareStatement(UPDATE_SQL)) {
+            for (Delta delta : deltas) {
+                bind(pstmt, delta.count(), delta.sum(), delta.sumSq(), delta.courseId(), delta.assignmentKey(), delta.bucket());
+                pstmt.addBatch();
+            }
+            return unmatched(deltas, pstmt.executeBatch());
+        }
+    }
+
+    // Creates the missing bucket rows with the deltas as their totals and returns those another writer created first
+    private static List<Delta> insertBuckets(Connection conn, List<Delta> deltas) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(INSERT_SQL)) {
+            for (Delta delta : deltas) {
+                bind(pstmt, delta.courseId(), delta.assignmentKey(), delta.bucket(), delta.count(), delta.sum(), delta.sumSq());
+                pstmt.addBatch();
+            }
+            return unmatched(deltas, pstmt.executeBatch());
+        }
+    }
+
+    private static List<Delta> unmatched(List<Delta> deltas, int[] counts) {
+        List<Delta> unmatched = new ArrayList<>();
+        for (int i = 0; i < deltas.size(); i++) {
+            if (counts[i] == 0) {
+                unmatched.add(deltas.get(i));
+            }
+        }
+        return unmatched;
+    }
+
+    private static void execute(Connection conn, String sql, List<Object> params) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            bind(conn, pstmt, params);
+            pstmt.execute();
+        }
+    }
+
+    // Binds collections of ids as one INTEGER array, for the = ANY (?) selections
+    private static void bind(Connection conn, PreparedStatement pstmt, List<Object> params) throws SQLException {
+        Object[] values = params.toArray();
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] instanceof Collection<?> ids) {
+                Array array = conn.createArrayOf("INTEGER", ids.toArray());
+                values[i] = array;
+            }
+        }
+        bind(pstmt, values);
+    }
+
+    private record BucketRow(String assignmentKey, int bucket, int gradedCount, double percentageSum, double percentageSumSq) {
+    }
+
+    private record Delta(int courseId, String assignmentKey, int bucket, int count, BigDecimal sum, BigDecimal sumSq) {
+        Delta negate() {
+            return new Delta(courseId, assignmentKey, bucket, -count, sum.negate(), sumSq.negate());
+        }
+    }
+}
@@ -9,5 +9,7 @@ public interface GradeDetailsDAO extends BaseDAO<GradeDetails, Integer> {
     List<GradeDetails> findByStudentId(int studentId);
     List<GradeDetails> findByCourseId(int courseId);
     List<GradeDetails> findByStudentIdAndCourseId(int studentId, int courseId);
+    // Inserts or updates grades keyed by (student_id, course_id, assignment_name)
+    void upsertAll(List<GradeDetails> gradeDetailsList);
 }
 
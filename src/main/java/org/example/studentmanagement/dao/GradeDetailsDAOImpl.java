@@ -5,210 +5,175 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 import javax.sql.DataSource;
-import java.sql.*;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+
+import static org.example.studentmanagement.dao.EntityMappers.GRADE_DETAILS;
+import static org.example.studentmanagement.dao.EntityMappers.GRADE_DETAILS_SELECT;
 
 @Repository
 public class GradeDetailsDAOImpl extends BaseDAOImpl<GradeDetails, Integer> implements GradeDetailsDAO {
 
-    private final DataSource dataSource;
+    // Number of rows sent to the database per executeBatch call
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = "INSERT INTO grade_details (student_id, course_id, assignment_name, score, max_score, grade, feedback, graded_date, graded_by_teacher_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_SQL = "UPDATE grade_details SET student_id = ?, course_id = ?, assignment_name = ?, score = ?, max_score = ?, grade = ?, feedback = ?, graded_date = ?, graded_by_teacher_id = ? WHERE id = ?";
+
+    // Served by uq_grade_student_course_assignment, or idx_grade_student for the two-column lookup (asserted by SchemaIndexTest)
+    static final String BY_STUDENT_AND_COURSE_SQL = GRADE_DETAILS_SELECT + " WHERE student_id = ? AND course_id = ?";
+    static final String UPSERT_INSERT_SQL = INSERT_SQL + " ON CONFLICT DO NOTHING";
+    static final String UPSERT_UPDATE_SQL = "UPDATE grade_details SET score = ?, max_score = ?, grade = ?, feedback = ?, graded_date = ?, graded_by_teacher_id = ? WHERE student_id = ? AND course_id = ? AND assignment_name = ?";
 
     @Autowired
     public GradeDetailsDAOImpl(DataSource dataSource) {
-        this.dataSource = dataSource;
+        super(dataSource);
     }
 
     @Override
     public void save(GradeDetails gradeDetails) {
-        String sql;
         if (gradeDetails.getId() == 0) {
-            // Insert new grade
-            sql = "INSERT INTO grade_details (student_id, course_id, assignment_name, score, max_score, grade, feedback, graded_date, graded_by_teacher_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+            // Insert new grade and keep the generated ID
+            gradeDetails.setId(insert("saving grade details", INSERT_SQL,
+                    gradeDetails.getStudentId(), gradeDetails.getCourseId(), gradeDetails.getAssignmentName(),
+                    gradeDetails.getScore(), gradeDetails.getMaxScore(), gradeDetails.getGrade(), gradeDetails.getFeedback(),
+                    gradeDetails.getGradedDate(), gradeDetails.getGradedByTeacherId()));
         } else {
-            // Update existing grade
-            sql = "UPDATE grade_details SET student_id = ?, course_id = ?, assignment_name = ?, score = ?, max_score = ?, grade = ?, feedback = ?, graded_date = ?, graded_by_teacher_id = ? WHERE id = ?";
-        }
-
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-
-            pstmt.setInt(1, gradeDetails.getStudentId());
-            pstmt.setInt(2, gradeDetails.getCourseId());
-            pstmt.setString(3, gradeDetails.getAssignmentName());
-            pstmt.setDouble(4, gradeDetails.getScore());
-            pstmt.setDouble(5, gradeDetails.getMaxScore());
-            pstmt.setString(6, gradeDetails.getGrade());
-            pstmt.setString(7, gradeDetails.getFeedback());
-            pstmt.setString(8, gradeDetails.getGradedDate());
-            pstmt.setInt(9, gradeDetails.getGradedByTeacherId());
-
-            if (gradeDetails.getId() != 0) {
-                pstmt.setInt(10, gradeDetails.getId());
-            }
-
-            pstmt.executeUpdate();
-
-            // If it's a new grade, get the generated ID
-            if (gradeDetails.getId() == 0) {
-                try (ResultSet rs = pstmt.getGeneratedKeys()) {
-                    if (rs.next()) {
-                        gradeDetails.setId(rs.getInt(1));
-                    }
-                }
-            }
-
-        } catch (SQLException e) {
-            throw new RuntimeException("Error saving grade details: " + e.getMessage(), e);
+            update("saving grade details", UPDATE_SQL,
+                    gradeDetails.getStudentId(), gradeDetails.getCourseId(), gradeDetails.getAssignmentName(),
+                    gradeDetails.getScore(), gradeDetails.getMaxScore(), gradeDetails.getGrade(), gradeDetails.getFeedback(),
+                    gradeDetails.getGradedDate(), gradeDetails.getGradedByTeacherId(), gradeDetails.getId());
         }
     }
 
     @Override
     public List<GradeDetails> findAll() {
-        List<GradeDetails> gradesList = new ArrayList<>();
-        String sql = "SELECT id, student_id, course_id, assignment_name, score, max_score, grade, feedback, graded_date, graded_by_teacher_id FROM grade_details";
-
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql);
-             ResultSet rs = pstmt.executeQuery()) {
-
-            while (rs.next()) {
-                GradeDetails grade = mapResultSetToGradeDetails(rs);
-                gradesList.add(grade);
-            }
-
-        } catch (SQLException e) {
-            throw new RuntimeException("Error finding all grade details: " + e.getMessage(), e);
-        }
-
-        return gradesList;
+        return query("finding all grade details", GRADE_DETAILS_SELECT, GRADE_DETAILS);
     }
 
     @Override
     public GradeDetails findById(Integer id) {
-        String sql = "SELECT id, student_id, course_id, assignment_name, score, max_score, grade, feedback, graded_date, graded_by_teacher_id FROM grade_details WHERE id = ?";
-        GradeDetails gradeDetails = null;
-
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setInt(1, id);
-
-            try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next()) {
-                    gradeDetails = mapResultSetToGradeDetails(rs);
-                }
-            }
-
-        } catch (SQLException e) {
-            throw new RuntimeException("Error finding grade details by id: " + e.getMessage(), e);
-        }
-
-        return gradeDetails;
+        return queryForObject("finding grade details by id", GRADE_DETAILS_SELECT + " WHERE id = ?", GRADE_DETAILS, id);
     }
 
     @Override
     public void deleteById(Integer id) {
-        String sql = "DELETE FROM grade_details WHERE id = ?";
-
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setInt(1, id);
-            pstmt.executeUpdate();
+        update("deleting grade details by id", "DELETE FROM grade_details WHERE id = ?", id);
+    }
 
-        } catch (SQLException e) {
-            throw new RuntimeException("Error deleting grade details by id: " + e.getMessage(), e);
-        }
+    @Override
+    public void delete(GradeDetails gradeDetails) {
+        deleteById(gradeDetails.getId());
     }
 
     @Override
     public List<GradeDetails> findByStudentId(int studentId) {
-        List<GradeDetails> gradesList = new ArrayList<>();
-        String sql = "SELECT id, student_id, course_id, assignment_name, score, max_score, grade, feedback, graded_date, graded_by_teacher_id FROM grade_details WHERE student_id = ?";
-
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setInt(1, studentId);
-
-            try (ResultSet rs = pstmt.executeQuery()) {
-                while (rs.next()) {
-                    GradeDetails grade = mapResultSetToGradeDetails(rs);
-                    gradesList.add(grade);
-                }
-            }
-
-        } catch (SQLException e) {
-            throw new RuntimeException("Error finding grade details by student id: " + e.getMessage(), e);
-        }
-
-        return gradesList;
+        return query("finding grade details by student id",
+                GRADE_DETAILS_SELECT + " WHERE student_id = ?", GRADE_DETAILS, studentId);
     }
 
     @Override
     public List<GradeDetails> findByCourseId(int courseId) {
-        List<GradeDetails> gradesList = new ArrayList<>();
-        String sql = "SELECT id, student_id, course_id, assignment_name, score, max_score, grade, feedback, graded_date, graded_by_teacher_id FROM grade_details WHERE course_id = ?";
-
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setInt(1, courseId);
-
-            try (ResultSet rs = pstmt.executeQuery()) {
-                while (rs.next()) {
-                    GradeDetails grade = mapResultSetToGradeDetails(rs);
-                    gradesList.add(grade);
-                }
-            }
-
-        } catch (SQLException e) {
-            throw new RuntimeException("Error finding grade details by course id: " + e.getMessage(), e);
-        }
-
-        return gradesList;
+        return query("finding grade details by course id",
+                GRADE_DETAILS_SELECT + " WHERE course_id = ?", GRADE_DETAILS, courseId);
     }
 
     @Override
     public List<GradeDetails> findByStudentIdAndCourseId(int studentId, int courseId) {
-        List<GradeDetails> gradesList = new ArrayList<>();
-        String sql = "SELECT id, student_id, course_id, assignment_name, score, max_score, grade, feedback, graded_date, graded_by_teacher_id FROM grade_details WHERE student_id = ? AND course_id = ?";
+        return query("finding grade details by student and course id",
+                BY_STUDENT_AND_COURSE_SQL, GRADE_DETAILS, studentId, courseId);
+    }
 
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+    @Override
+    public void upsertAll(List<GradeDetails> gradeDetailsList) {
+        if (gradeDetailsList == null || gradeDetailsList.isEmpty()) {
+            return;
+        }
+        for (GradeDetails gradeDetails : gradeDetailsList) {
+            if (gradeDetails.getAssignmentName() == null) {
+                throw new IllegalArgumentException("Assignment name is required to upsert grade details");
+            }
+        }
 
-            pstmt.setInt(1, studentId);
-            pstmt.setInt(2, courseId);
+        // A student listed twice on one form keeps the last grade entered, as it would with one save per row
+        Map<List<Object>, GradeDetails> byKey = new LinkedHashMap<>();
+        for (GradeDetails gradeDetails : gradeDetailsList) {
+            byKey.put(List.of(gradeDetails.getStudentId(), gradeDetails.getCourseId(), gradeDetails.getAssignmentName()),
+                    gradeDetails);
+        }
+        List<GradeDetails> rows = new ArrayList<>(byKey.values());
+
+        // Batched UPDATE on the natural key first, then a batched INSERT for the rows that matched nothing.
+        // This keeps grading a whole class to two round-trips per 500 rows on both Postgres and H2. A concurrent
+        // grader may insert one of those rows in between; the INSERT then skips it and it is updated once more.
+        try (Connection conn = dataSource.getConnection()) {
+            try (LocalTransaction tx = LocalTransaction.begin(conn);
+                 PreparedStatement updatePstmt = conn.prepareStatement(UPSERT_UPDATE_SQL);
+                 PreparedStatement insertPstmt = conn.prepareStatement(UPSERT_INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+
+                for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+                    List<GradeDetails> chunk = rows.subList(from, Math.min(from + BATCH_SIZE, rows.size()));
+
+                    List<GradeDetails> inserts = unmatched(chunk, updateByKey(updatePstmt, chunk));
+                    if (inserts.isEmpty()) {
+                        continue;
+                    }
+
+                    for (GradeDetails gradeDetails : inserts) {
+                        bind(insertPstmt, gradeDetails.getStudentId(), gradeDetails.getCourseId(), gradeDetails.getAssignmentName(),
+                                gradeDetails.getScore(), gradeDetails.getMaxScore(), gradeDetails.getGrade(), gradeDetails.getFeedback(),
+                                gradeDetails.getGradedDate(), gradeDetails.getGradedByTeacherId());
+                        insertPstmt.addBatch();
+                    }
+                    int[] insertCounts = insertPstmt.executeBatch();
+
+                    // Keys come back only for the rows actually inserted
+                    try (ResultSet rs = insertPstmt.getGeneratedKeys()) {
+                        for (int i = 0; i < inserts.size(); i++) {
+                            if (insertCounts[i] != 0 && rs.next()) {
+                                inserts.get(i).setId(rs.getInt(1));
+                            }
+                        }
+                    }
 
-            try (ResultSet rs = pstmt.executeQuery()) {
-                while (rs.next()) {
-                    GradeDetails grade = mapResultSetToGradeDetails(rs);
-                    gradesList.add(grade);
+                    List<GradeDetails> conflicts = unmatched(inserts, insertCounts);
+                    if (!conflicts.isEmpty()) {
+                        updateByKey(updatePstmt, conflicts);
+                    }
                 }
-            }
 
+                tx.commit();
+            }
         } catch (SQLException e) {
-            throw new RuntimeException("Error finding grade details by student and course id: " + e.getMessage(), e);
+            throw translate("upserting grade details", UPSERT_UPDATE_SQL, e);
         }
+    }
 
-        return gradesList;
+    private static int[] updateByKey(PreparedStatement pstmt, List<GradeDetails> rows) throws SQLException {
+        for (GradeDetails gradeDetails : rows) {
+            bind(pstmt, gradeDetails.getScore(), gradeDetails.getMaxScore(), gradeDetails.getGrade(), gradeDetails.getFeedback(),
+                    gradeDetails.getGradedDate(), gradeDetails.getGradedByTeacherId(),
+                    gradeDetails.getStudentId(), gradeDetails.getCourseId(), gradeDetails.getAssignmentName());
+            pstmt.addBatch();
+        }
+        return pstmt.executeBatch();
     }
 
-    // Helper method to map ResultSet to GradeDetails object
-    private GradeDetails mapResultSetToGradeDetails(ResultSet rs) throws SQLException {
-        GradeDetails grade = new GradeDetails();
-        grade.setId(rs.getInt("id"));
-        grade.setStudentId(rs.getInt("student_id"));
-        grade.setCourseId(rs.getInt("course_id"));
-        grade.setAssignmentName(rs.getString("assignment_name"));
-        grade.setScore(rs.getDouble("score"));
-        grade.setMaxScore(rs.getDouble("max_score"));
-        grade.setGrade(rs.getString("grade"));
-        grade.setFeedback(rs.getString("feedback"));
-        grade.setGradedDate(rs.getString("graded_date"));
-        grade.setGradedByTeacherId(rs.getInt("graded_by_teacher_id"));
-        return grade;
+    // The rows whose statement changed nothing
+    private static List<GradeDetails> unmatched(List<GradeDetails> rows, int[] counts) {
+        List<GradeDetails> unmatched = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            if (counts[i] == 0) {
+                unmatched.add(rows.get(i));
+            }
+        }
+        return unmatched;
     }
 }
-
@@ -0,0 +1,81 @@
+package org.example.studentmanagement.dao;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A set of grade_details rows whose contribution to the course analytics is added or subtracted as a unit.
+ * Each selection is a WHERE clause over grade_details; integer collections are bound as one array parameter.
+ */
+public final class GradeSelection {
+
+    private final String predicate;
+    private final List<Object> params;
+
+    private GradeSelection(String predicate, Object... params) {
+        this.predicate = predicate;
+        this.params = List.of(params);
+    }
+
+    public static GradeSelection byId(int gradeId) {
+        return new GradeSelection("id = ?", gradeId);
+    }
+
+    // One assignment's grades for the given students, i.e. exactly the rows a bulk upsert of that assignment writes
+    public static GradeSelection byAssignment(int courseId, String assignmentName, Collection<Integer> studentIds) {
+        return new GradeSelection("course_id = ? AND assignment_name = ? AND student_id = ANY (?)",
+                courseId, assignmentName, sorted(studentIds));
+    }
+
+    public static GradeSelection byEnrollment(int studentId, int courseId) {
+        return new GradeSelection("student_id = ? AND course_id = ?", studentId, courseId);
+    }
+
+    public static GradeSelection byStudents(Collection<Integer> studentIds) {
+        return new GradeSelection("student_id = ANY (?)", sorted(studentIds));
+    }
+
+    // The grades matched by any of the selections, so that they can be locked in one statement
+    public static GradeSelection anyOf(List<GradeSelection> selections) {
+        if (selections.size() == 1) {
+            return selections.get(0);
+        }
+        StringBuilder predicate = new StringBuilder();
+        List<Object> params = new ArrayList<>();
+        for (GradeSelection selection : selections) {
+            predicate.append(predicate.isEmpty() ? "(" : " OR (").append(selection.predicate).append(')');
+            params.addAll(selection.params);
+        }
+        return new GradeSelection(predicate.toString(), params.toArray());
+    }
+
+    private static List<Integer> sorted(Collection<Integer> ids) {
+        return ids.stream().sorted().toList();
+    }
+
+    String predicate() {
+        return predicate;
+    }
+
+    List<Object> params() {
+        return params;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof GradeSelection selection
+                && predicate.equals(selection.predicate) && params.equals(selection.params);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(predicate, params);
+    }
+
+    @Override
+    public String toString() {
+        return predicate + " " + params;
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.studentmanagement.dao;
+
+import org.example.studentmanagement.dto.GradebookRow;
+
+import java.util.List;
+
+public interface GradebookDAO {
+    // One row per enrolled student, in enrollment order, with the course final grade and the assignment totals
+    List<GradebookRow> findByCourseId(int courseId);
+    // Recomputes the summary of one student in one course; call in the transaction that changed the grades
+    void refreshSummary(int studentId, int courseId);
+    // Recomputes the summaries of every student in the course, for writes that touch many students at once
+    void refreshCourseSummaries(int courseId);
+}
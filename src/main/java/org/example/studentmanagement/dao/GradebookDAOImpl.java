@@ -0,0 +1,127 @@
+package org.example.studentmanagement.dao;
+
+import org.example.studentmanagement.dto.GradebookRow;
+import org.example.studentmanagement.entity.GradeDetails;
+import org.example.studentmanagement.entity.Student;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the per-course gradebook in one query and maintains course_grade_summary. A refresh locks the
+ * enrollment rows it covers, so two writers grading the same student recompute the summary one after the other.
+ */
+@Repository
+public class GradebookDAOImpl extends JdbcDAOSupport implements GradebookDAO {
+
+    // Driven by the course's enrollments; the summary is read by its (course_id, student_id) primary key
+    static final String GRADEBOOK_SQL = "SELECT s.id AS student_id, s.first_name, s.last_name, s.email, scd.course_id, " +
+            "g.id AS grade_id, g.score, g.max_score, g.grade, g.feedback, g.graded_date, g.graded_by_teacher_id, " +
+            "cs.graded_count, cs.total_score, cs.total_max_score " +
+            "FROM student_course_details scd " +
+            "JOIN students s ON s.id = scd.student_id " +
+            "LEFT JOIN grade_details g ON g.student_id = scd.student_id AND g.course_id = scd.course_id AND g.assignment_name IS NULL " +
+            "LEFT JOIN course_grade_summary cs ON cs.course_id = scd.course_id AND cs.student_id = scd.student_id " +
+            "WHERE scd.course_id = ? " +
+            "ORDER BY scd.id, g.id";
+
+    private static final String LOCK_ENROLLMENT_SQL = "SELECT id FROM student_course_details WHERE student_id = ? AND course_id = ? FOR UPDATE";
+    private static final String LOCK_COURSE_ENROLLMENTS_SQL = "SELECT id FROM student_course_details WHERE course_id = ? ORDER BY id FOR UPDATE";
+
+    private static final String DELETE_SUMMARY_SQL = "DELETE FROM course_grade_summary WHERE course_id = ? AND student_id = ?";
+    private static final String DELETE_COURSE_SUMMARIES_SQL = "DELETE FROM course_grade_summary WHERE course_id = ?";
+
+    // Students without graded assignments get no row; the gradebook reads a missing row as zero totals
+    private static final String INSERT_SUMMARY_SELECT = "INSERT INTO course_grade_summary (course_id, student_id, graded_count, total_score, total_max_score) " +
+            "SELECT course_id, student_id, COUNT(*), COALESCE(SUM(score), 0), COALESCE(SUM(max_score), 0) FROM grade_details ";
+    private static final String INSERT_SUMMARY_SQL = INSERT_SUMMARY_SELECT +
+            "WHERE course_id = ? AND student_id = ? AND assignment_name IS NOT NULL GROUP BY course_id, student_id";
+    private static final String INSERT_COURSE_SUMMARIES_SQL = INSERT_SUMMARY_SELECT +
+            "WHERE course_id = ? AND assignment_name IS NOT NULL GROUP BY course_id, student_id";
+
+    private static final RowMapper<GradebookRow> GRADEBOOK_ROW = RowMapper.of((rs, c) -> {
+        Student student = new Student();
+        student.setId(rs.getInt(c[0]));
+        student.setFirstName(rs.getString(c[1]));
+        student.setLastName(rs.getString(c[2]));
+        student.setEmail(rs.getString(c[3]));
+
+        GradeDetails courseGrade;
+        int gradeId = rs.getInt(c[4]);
+        if (rs.wasNull()) {
+            // Same defaults the edit form has always shown for students without a final grade
+            courseGrade = new GradeDetails();
+            courseGrade.setStudentId(student.getId());
+            courseGrade.setCourseId(rs.getInt(c[14]));
+            courseGrade.setScore(0.0);
+            courseGrade.setMaxScore(100.0);
+        } else {
+            courseGrade = new GradeDetails(gradeId, student.getId(), rs.getInt(c[14]), null, rs.getDouble(c[5]), rs.getDouble(c[6]),
+                    rs.getString(c[7]), rs.getString(c[8]), rs.getObject(c[9], LocalDate.class), rs.getInt(c[10]));
+        }
+
+        return new GradebookRow(student, courseGrade, rs.getInt(c[11]), rs.getDouble(c[12]), rs.getDouble(c[13]));
+    }, "student_id", "first_name", "last_name", "email", "grade_id", "score", "max_score", "grade", "feedback",
+            "graded_date", "graded_by_teacher_id", "graded_count", "total_score", "total_max_score", "course_id");
+
+    @Autowired
+    public GradebookDAOImpl(DataSource dataSource) {
+        super(dataSource);
+    }
+
+    @Override
+    public List<GradebookRow> findByCourseId(int courseId) {
+        List<GradebookRow> rows = query("finding gradebook by course id", GRADEBOOK_SQL, GRADEBOOK_ROW, courseId);
+
+        // Keep the oldest final grade should a student have more than one
+        List<GradebookRow> gradebook = new ArrayList<>(rows.size());
+        for (GradebookRow row : rows) {
+            if (gradebook.isEmpty() || gradebook.get(gradebook.size() - 1).getStudent().getId() != row.getStudent().getId()) {
+                gradebook.add(row);
+            }
+        }
+        return gradebook;
+    }
+
+    @Override
+    public void refreshSummary(int studentId, int courseId) {
+        try (Connection conn = dataSource.getConnection()) {
+            try (LocalTransaction tx = LocalTransaction.begin(conn)) {
+                execute(conn, LOCK_ENROLLMENT_SQL, studentId, courseId);
+                execute(conn, DELETE_SUMMARY_SQL, courseId, studentId);
+                execute(conn, INSERT_SUMMARY_SQL, courseId, studentId);
+                tx.commit();
+            }
+        } catch (SQLException e) {
+            throw translate("refreshing grade summary", INSERT_SUMMARY_SQL, e);
+        }
+    }
+
+    @Override
+    public void refreshCourseSummaries(int courseId) {
+        try (Connection conn = dataSource.getConnection()) {
+            try (LocalTransaction tx = LocalTransaction.begin(conn)) {
+                execute(conn, LOCK_COURSE_ENROLLMENTS_SQL, courseId);
+                execute(conn, DELETE_COURSE_SUMMARIES_SQL, courseId);
+                execute(conn, INSERT_COURSE_SUMMARIES_SQL, courseId);
+                tx.commit();
+            }
+        } catch (SQLException e) {
+            throw translate("refreshing course grade summaries", INSERT_COURSE_SUMMARIES_SQL, e);
+        }
+    }
+
+    private static void execute(Connection conn, String sql, Object... params) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            bind(pstmt, params);
+            pstmt.execute();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.studentmanagement.dao;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
+import org.springframework.jdbc.support.SQLExceptionSubclassTranslator;
+import org.springframework.jdbc.support.SQLExceptionTranslator;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Shared JDBC plumbing for the DAOs: connection handling, parameter binding, row mapping through
+ * {@link RowMapper} and translation of SQLExceptions into Spring's DataAccessException hierarchy.
+ * Connections come from a transaction-aware proxy, so calls inside a Spring transaction share its connection.
+ * DAOs for an entity table extend {@link BaseDAOImpl}; the rest extend this directly and take connections from
+ * {@link #dataSource} when they need one for several statements, a stream or a COPY.
+ */
+public abstract class JdbcDAOSupport {
+
+    private static final SQLExceptionTranslator EXCEPTION_TRANSLATOR = new SQLExceptionSubclassTranslator();
+
+    protected final DataSource dataSource;
+
+    protected JdbcDAOSupport(DataSource dataSource) {
+        this.dataSource = new TransactionAwareDataSourceProxy(dataSource);
+    }
+
+    protected <R> List<R> query(String task, String sql, RowMapper<R> mapper, Object... params) {
+        try (Connection conn = dataSource.getConnection()) {
+            return query(conn, sql, mapper, params);
+        } catch (SQLException e) {
+            throw translate(task, sql, e);
+        }
+    }
+
+    // Returns the first mapped row, or null when the query matches nothing
+    protected <R> R queryForObject(String task, String sql, RowMapper<R> mapper, Object... params) {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            bind(pstmt, params);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return mapper.mapFirst(rs);
+            }
+
+        } catch (SQLException e) {
+            throw translate(task, sql, e);
+        }
+    }
+
+    protected int update(String task, String sql, Object... params) {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            bind(pstmt, params);
+            return pstmt.executeUpdate();
+
+        } catch (SQLException e) {
+            throw translate(task, sql, e);
+        }
+    }
+
+    // Runs an INSERT and returns the generated id, or 0 if the driver reported none
+    protected int insert(String task, String sql, Object... params) {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+
+            bind(pstmt, params);
+            pstmt.executeUpdate();
+            try (ResultSet rs = pstmt.getGeneratedKeys()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+
+        } catch (SQLException e) {
+            throw translate(task, sql, e);
+        }
+    }
+
+    // For queries issued on a connection the caller already holds, e.g. the second query of a two-step load
+    protected static <R> List<R> query(Connection conn, String sql, RowMapper<R> mapper, Object... params) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            bind(pstmt, params);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return mapper.mapAll(rs);
+            }
+        }
+    }
+
+    protected static void bind(PreparedStatement pstmt, Object... params) throws SQLException {
+        for (int i = 0; i < params.length; i++) {
+            if (params[i] == null) {
+                pstmt.setNull(i + 1, Types.NULL);
+            } else {
+                pstmt.setObject(i + 1, params[i]);
+            }
+        }
+    }
+
+    protected static DataAccessException translate(String task, String sql, SQLException e) {
+        DataAccessException translated = EXCEPTION_TRANSLATOR.translate("Error " + task, sql, e);
+        return translated != null ? translated : new UncategorizedSQLException("Error " + task, sql, e);
+    }
+}
@@ -0,0 +1,174 @@
+package org.example.studentmanagement.dao;
+
+import org.example.studentmanagement.dto.KeysetPage;
+import org.example.studentmanagement.dto.PageQuery;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Builds the WHERE / ORDER BY / LIMIT tail of a keyset (seek-method) page query and reads the page back.
+ * Rows are ordered by (sort column, id) and the next page starts strictly after the last row's pair,
+ * so the database seeks through the (sort column, id) index instead of skipping over earlier rows like OFFSET would.
+ */
+final class KeysetSql {
+
+    private final String idColumn;
+    private final Map<String, String> sortColumns;
+    private final List<String> filterColumns;
+
+    /**
+     * @param idColumn      the unique id column, used as tie-breaker and as the "id" sort
+     * @param sortColumns   allowed sort keys mapped to their column; the column's label in the
+     *                      result set must be the part after the last dot
+     * @param filterColumns columns matched case-insensitively against the filter text
+     */
+    KeysetSql(String idColumn, Map<String, String> sortColumns, List<String> filterColumns) {
+        this.idColumn = idColumn;
+        this.sortColumns = sortColumns;
+        this.filterColumns = filterColumns;
+    }
+
+    Page prepare(PageQuery query) {
+        String sortKey = sortColumns.containsKey(query.getSort()) ? query.getSort() : "id";
+        String sortColumn = "id".equals(sortKey) ? idColumn : sortColumns.get(sortKey);
+        boolean byId = sortColumn.equals(idColumn);
+        String[] cursor = decodeCursor(query.getCursor(), sortKey, query.isDescending());
+
+        StringBuilder sql = new StringBuilder();
+        List<Object> params = new ArrayList<>();
+        List<String> conditions = new ArrayList<>();
+
+        if (query.getFilter() != null && !filterColumns.isEmpty()) {
+            String pattern = "%" + escapeLike(query.getFilter().toLowerCase(Locale.ROOT)) + "%";
+            List<String> matches = new ArrayList<>();
+            for (String column : filterColumns) {
+                matches.add("LOWER(" + column + ") LIKE ? ESCAPE '\\'");
+                params.add(pattern);
+            }
+            conditions.add("(" + String.join(" OR ", matches) + ")");
+        }
+
+        if (cursor != null) {
+            String op = query.isDescending() ? "<" : ">";
+            int lastId = Integer.parseInt(cursor[2]);
+            if (byId) {
+                conditions.add(idColumn + " " + op + " ?");
+                params.add(lastId);
+            } else {
+                // A row-value comparison is one range condition, so the (sort column, id) index seeks straight to it
+                conditions.add("(" + sortColumn + ", " + idColumn + ") " + op + " (?, ?)");
+                params.add(cursor[3]);
+                params.add(lastId);
+            }
+        }
+
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+
+        String direction = query.isDescending() ? " DESC" : " ASC";
+        sql.append(" ORDER BY ");
+        if (!byId) {
+            sql.append(sortColumn).append(direction).append(", ");
+        }
+        sql.append(idColumn).append(direction);
+
+        // One extra row tells whether there is a next page
+        sql.append(" LIMIT ?");
+        params.add(query.getSize() + 1);
+
+        return new Page(sql.toString(), params, sortKey, label(sortColumn), label(idColumn), query);
+    }
+
+    private static String label(String column) {
+        return column.substring(column.lastIndexOf('.') + 1);
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    // Token layout: sortKey|a-or-d|lastId|lastSortValue, Base64url encoded
+    private static String encodeCursor(String sortKey, boolean descending, int lastId, String lastValue) {
+        String raw = sortKey + "|" + (descending ? "d" : "a") + "|" + lastId + "|" + (lastValue == null ? "" : lastValue);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Returns null for a missing, malformed or differently sorted cursor, which restarts from the first page
+    private static String[] decodeCursor(String token, String sortKey, boolean descending) {
+        if (token == null) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 4);
+            if (parts.length != 4 || !parts[0].equals(sortKey) || !parts[1].equals(descending ? "d" : "a")) {
+                return null;
+            }
+            Integer.parseInt(parts[2]);
+            return parts;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    static final class Page {
+
+        private final String sql;
+        private final List<Object> params;
+        private final String sortKey;
+        private final String sortLabel;
+        private final String idLabel;
+        private final PageQuery query;
+
+        private Page(String sql, List<Object> params, String sortKey, String sortLabel, String idLabel, PageQuery query) {
+            this.sql = sql;
+            this.params = params;
+            this.sortKey = sortKey;
+            this.sortLabel = sortLabel;
+            this.idLabel = idLabel;
+            this.query = query;
+        }
+
+        String sql() {
+            return sql;
+        }
+
+        void bind(PreparedStatement pstmt) throws SQLException {
+            for (int i = 0; i < params.size(); i++) {
+                pstmt.setObject(i + 1, params.get(i));
+            }
+        }
+
+        <T> KeysetPage<T> read(ResultSet rs, RowMapper<T> mapper) throws SQLException {
+            List<T> items = new ArrayList<>();
+            int lastId = 0;
+            String lastValue = null;
+            boolean hasNext = false;
+            int[] columns = mapper.resolve(rs);
+            int idColumn = rs.findColumn(idLabel);
+            int sortColumn = rs.findColumn(sortLabel);
+
+            while (rs.next()) {
+                if (items.size() == query.getSize()) {
+                    hasNext = true;
+                    break;
+                }
+                items.add(mapper.map(rs, columns));
+                lastId = rs.getInt(idColumn);
+                lastValue = rs.getString(sortColumn);
+            }
+
+            String nextCursor = hasNext ? encodeCursor(sortKey, query.isDescending(), lastId, lastValue) : null;
+            return new KeysetPage<>(items, nextCursor);
+        }
+    }
+}
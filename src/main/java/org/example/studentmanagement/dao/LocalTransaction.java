@@ -0,0 +1,55 @@
+package org.example.studentmanagement.dao;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Makes the statements of one DAO method atomic. Inside a Spring-managed transaction the
+ * connection already belongs to that transaction, so commit and rollback are left to it;
+ * otherwise autocommit is switched off and close() rolls back unless commit() was called.
+ */
+final class LocalTransaction implements AutoCloseable {
+
+    private final Connection conn;
+    private final boolean managed;
+    private final boolean autoCommit;
+    private boolean committed;
+
+    private LocalTransaction(Connection conn, boolean managed, boolean autoCommit) {
+        this.conn = conn;
+        this.managed = managed;
+        this.autoCommit = autoCommit;
+    }
+
+    static LocalTransaction begin(Connection conn) throws SQLException {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return new LocalTransaction(conn, true, false);
+        }
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        return new LocalTransaction(conn, false, autoCommit);
+    }
+
+    void commit() throws SQLException {
+        if (!managed) {
+            conn.commit();
+        }
+        committed = true;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (managed) {
+            return;
+        }
+        try {
+            if (!committed) {
+                conn.rollback();
+            }
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.studentmanagement.dao;
+
+import org.example.studentmanagement.event.DomainEvent;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface OutboxDAO {
+    // Stores the events in the caller's transaction, so they commit or roll back with the change they describe
+    void append(List<DomainEvent> events);
+    // Claims up to limit pending events in id order for claimSeconds and commits the claim, passes them to the handler
+    // outside any transaction and deletes them once it returns; if it throws, their attempt count goes up, the claim
+    // is released and the exception is rethrown. Returns 0 when nothing is pending. Call outside a transaction.
+    int dispatch(int limit, int maxAttempts, int claimSeconds, Consumer<List<DomainEvent>> handler);
+}
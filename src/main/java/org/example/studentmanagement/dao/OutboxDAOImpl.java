@@ -0,0 +1,120 @@
+package org.example.studentmanagement.dao;
+
+import org.example.studentmanagement.event.DomainEvent;
+import org.example.studentmanagement.event.DomainEventType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The domain_event_outbox table. Batches are claimed with SKIP LOCKED and a claimed_until lease that commits before
+ * delivery, so several dispatcher threads or application instances drain the outbox side by side without delivering
+ * the same event twice, and no transaction stays open while the listeners run.
+ */
+@Repository
+public class OutboxDAOImpl extends JdbcDAOSupport implements OutboxDAO {
+
+    private static final String APPEND_SQL = "INSERT INTO domain_event_outbox (event_type, entity_id, course_id, student_id) VALUES (?, ?, ?, ?)";
+
+    // Served by the primary key; rows that ran out of attempts are skipped but stay in the table, and rows another
+    // dispatcher is delivering are skipped until their claim runs out
+    static final String PENDING_SQL = "SELECT id, event_type, entity_id, course_id, student_id, created_on " +
+            "FROM domain_event_outbox WHERE attempts < ? AND (claimed_until IS NULL OR claimed_until < CURRENT_TIMESTAMP) " +
+            "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+    private static final String CLAIM_SQL = "UPDATE domain_event_outbox SET claimed_until = CURRENT_TIMESTAMP + CAST(? AS INTEGER) * INTERVAL '1' SECOND " +
+            "WHERE id = ANY (?)";
+    private static final String DELETE_SQL = "DELETE FROM domain_event_outbox WHERE id = ANY (?)";
+    private static final String FAILED_SQL = "UPDATE domain_event_outbox SET attempts = attempts + 1, claimed_until = NULL WHERE id = ANY (?)";
+
+    private static final RowMapper<DomainEvent> DOMAIN_EVENT = RowMapper.of((rs, c) -> new DomainEvent(
+            rs.getLong(c[0]), DomainEventType.valueOf(rs.getString(c[1])), rs.getObject(c[2], Integer.class),
+            rs.getObject(c[3], Integer.class), rs.getObject(c[4], Integer.class), rs.getObject(c[5], LocalDateTime.class)),
+            "id", "event_type", "entity_id", "course_id", "student_id", "created_on");
+
+    @Autowired
+    public OutboxDAOImpl(DataSource dataSource) {
+        super(dataSource);
+    }
+
+    @Override
+    public void append(List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(APPEND_SQL)) {
+            for (DomainEvent event : events) {
+                bind(pstmt, event.type().name(), event.entityId(), event.courseId(), event.studentId());
+                pstmt.addBatch();
+            }
+            pstmt.executeBatch();
+        } catch (SQLException e) {
+            throw translate("appending domain events", APPEND_SQL, e);
+        }
+    }
+
+    @Override
+    public int dispatch(int limit, int maxAttempts, int claimSeconds, Consumer<List<DomainEvent>> handler) {
+        List<DomainEvent> events = claim(limit, maxAttempts, claimSeconds);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = events.stream().map(DomainEvent::id).toList();
+        try {
+            handler.accept(events);
+        } catch (RuntimeException e) {
+            release(FAILED_SQL, ids);
+            throw e;
+        }
+        release(DELETE_SQL, ids);
+        return events.size();
+    }
+
+    // Selects and leases the batch in one short transaction, committed before the batch is handed out
+    private List<DomainEvent> claim(int limit, int maxAttempts, int claimSeconds) {
+        try (Connection conn = dataSource.getConnection()) {
+            try (LocalTransaction tx = LocalTransaction.begin(conn)) {
+                List<DomainEvent> events = query(conn, PENDING_SQL, DOMAIN_EVENT, maxAttempts, limit);
+                if (!events.isEmpty()) {
+                    execute(conn, CLAIM_SQL, events.stream().map(DomainEvent::id).toList(), claimSeconds);
+                }
+                tx.commit();
+                return events;
+            }
+        } catch (SQLException e) {
+            throw translate("claiming domain events", PENDING_SQL, e);
+        }
+    }
+
+    // Deletes a delivered batch or returns a failed one to the outbox, in a statement of its own
+    private void release(String sql, List<Long> ids) {
+        try (Connection conn = dataSource.getConnection()) {
+            execute(conn, sql, ids);
+        } catch (SQLException e) {
+            throw translate("releasing domain events", sql, e);
+        }
+    }
+
+    // Runs an update whose last parameter is the batch's ids, bound as one BIGINT array
+    private static void execute(Connection conn, String sql, List<Long> ids, Object... params) throws SQLException {
+        Array array = conn.createArrayOf("BIGINT", ids.toArray());
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            Object[] values = Arrays.copyOf(params, params.length + 1);
+            values[params.length] = array;
+            bind(pstmt, values);
+            pstmt.executeUpdate();
+        } finally {
+            array.free();
+        }
+    }
+}
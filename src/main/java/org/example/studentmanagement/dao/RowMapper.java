@@ -0,0 +1,60 @@
+package org.example.studentmanagement.dao;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps result-set rows by column position. The labels are looked up once per result set in
+ * {@link #resolve}, so mapping a row reads every value by index instead of searching by name.
+ */
+final class RowMapper<T> {
+
+    @FunctionalInterface
+    interface Mapping<T> {
+        T map(ResultSet rs, int[] columns) throws SQLException;
+    }
+
+    private final String[] labels;
+    private final Mapping<T> mapping;
+
+    private RowMapper(String[] labels, Mapping<T> mapping) {
+        this.labels = labels;
+        this.mapping = mapping;
+    }
+
+    /**
+     * @param mapping builds one object from the current row; columns[i] is the position of labels[i]
+     * @param labels  result-set labels the mapping reads, in the order it indexes them
+     */
+    static <T> RowMapper<T> of(Mapping<T> mapping, String... labels) {
+        return new RowMapper<>(labels.clone(), mapping);
+    }
+
+    int[] resolve(ResultSet rs) throws SQLException {
+        int[] columns = new int[labels.length];
+        for (int i = 0; i < labels.length; i++) {
+            columns[i] = rs.findColumn(labels[i]);
+        }
+        return columns;
+    }
+
+    T map(ResultSet rs, int[] columns) throws SQLException {
+        return mapping.map(rs, columns);
+    }
+
+    List<T> mapAll(ResultSet rs) throws SQLException {
+        List<T> results = new ArrayList<>();
+        int[] columns = resolve(rs);
+        while (rs.next()) {
+            results.add(mapping.map(rs, columns));
+        }
+        return results;
+    }
+
+    // Returns null when the result set is empty
+    T mapFirst(ResultSet rs) throws SQLException {
+        return rs.next() ? mapping.map(rs, resolve(rs)) : null;
+    }
+}
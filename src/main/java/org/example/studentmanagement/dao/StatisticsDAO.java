@@ -0,0 +1,21 @@
+package org.example.studentmanagement.dao;
+
+import org.example.studentmanagement.dto.CourseEnrollmentCount;
+
+import java.util.List;
+import java.util.Map;
+
+public interface StatisticsDAO {
+
+    // Keys of the map returned by countRows
+    String COURSES = "courses";
+    String STUDENTS = "students";
+    String TEACHERS = "teachers";
+    String ENROLLMENTS = "enrollments";
+    String ASSIGNMENTS = "assignments";
+
+    Map<String, Long> countRows();
+    List<CourseEnrollmentCount> findTopEnrollments(int limit);
+    Map<String, Long> countAssignmentsByStatus();
+    Map<String, Long> countGradesByLetter();
+}
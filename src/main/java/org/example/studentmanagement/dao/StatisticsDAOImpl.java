@@ -0,0 +1,82 @@
+package org.example.studentmanagement.dao;
+
+import org.example.studentmanagement.dto.CourseEnrollmentCount;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class StatisticsDAOImpl extends JdbcDAOSupport implements StatisticsDAO {
+
+    // One round-trip for all table counts; each COUNT(*) can be answered from the primary key index
+    private static final String COUNT_ROWS_SQL = "SELECT "
+            + "(SELECT COUNT(*) FROM courses) AS courses, "
+            + "(SELECT COUNT(*) FROM students) AS students, "
+            + "(SELECT COUNT(*) FROM teachers) AS teachers, "
+            + "(SELECT COUNT(*) FROM student_course_details) AS enrollments, "
+            + "(SELECT COUNT(*) FROM assignments) AS assignments";
+
+    private static final RowMapper<Map<String, Long>> ROW_COUNTS = RowMapper.of((rs, c) -> {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        List<String> tables = List.of(COURSES, STUDENTS, TEACHERS, ENROLLMENTS, ASSIGNMENTS);
+        for (int i = 0; i < tables.size(); i++) {
+            counts.put(tables.get(i), rs.getLong(c[i]));
+        }
+        return counts;
+    }, COURSES, STUDENTS, TEACHERS, ENROLLMENTS, ASSIGNMENTS);
+
+    private static final RowMapper<CourseEnrollmentCount> ENROLLMENT_COUNT = RowMapper.of((rs, c) -> new CourseEnrollmentCount(
+                    rs.getInt(c[0]), rs.getString(c[1]), rs.getString(c[2]), rs.getLong(c[3])),
+            "id", "code", "name", "enrollments");
+
+    private static final RowMapper<Map.Entry<String, Long>> GROUP_COUNT = RowMapper.of((rs, c) -> Map.entry(
+                    rs.getString(c[0]), rs.getLong(c[1])),
+            "label", "total");
+
+    @Autowired
+    public StatisticsDAOImpl(DataSource dataSource) {
+        super(dataSource);
+    }
+
+    @Override
+    public Map<String, Long> countRows() {
+        Map<String, Long> counts = queryForObject("counting rows", COUNT_ROWS_SQL, ROW_COUNTS);
+        return counts != null ? counts : new LinkedHashMap<>();
+    }
+
+    @Override
+    public List<CourseEnrollmentCount> findTopEnrollments(int limit) {
+        String sql = "SELECT c.id, c.code, c.name, COUNT(scd.id) AS enrollments " +
+                "FROM courses c LEFT JOIN student_course_details scd ON scd.course_id = c.id " +
+                "GROUP BY c.id, c.code, c.name " +
+                "ORDER BY enrollments DESC, c.code LIMIT ?";
+        return query("counting enrollments per course", sql, ENROLLMENT_COUNT, limit);
+    }
+
+    @Override
+    public Map<String, Long> countAssignmentsByStatus() {
+        String sql = "SELECT COALESCE(status, 'unknown') AS label, COUNT(*) AS total " +
+                "FROM assignments GROUP BY COALESCE(status, 'unknown') ORDER BY label";
+        return countGroups(sql, "assignments per status");
+    }
+
+    @Override
+    public Map<String, Long> countGradesByLetter() {
+        String sql = "SELECT COALESCE(grade, 'Ungraded') AS label, COUNT(*) AS total " +
+                "FROM grade_details GROUP BY COALESCE(grade, 'Ungraded') ORDER BY label";
+        return countGroups(sql, "grade distribution");
+    }
+
+    // Helper method to read a label/total GROUP BY result into an ordered map
+    private Map<String, Long> countGroups(String sql, String description) {
+        Map<String, Long> groups = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> group : query("counting " + description, sql, GROUP_COUNT)) {
+            groups.put(group.getKey(), group.getValue());
+        }
+        return groups;
+    }
+}
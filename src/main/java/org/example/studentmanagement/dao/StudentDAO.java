@@ -1,10 +1,14 @@
 package org.example.studentmanagement.dao;
 
+import org.example.studentmanagement.dto.KeysetPage;
+import org.example.studentmanagement.dto.PageQuery;
 import org.example.studentmanagement.entity.Student;
 
 import java.util.Optional;
 
 public interface StudentDAO extends BaseDAO<Student, Integer> {
     Optional<Student> findByUserName(String userName);
+    // Sort keys: id, firstName, lastName, email; the filter matches names and email. Courses are not loaded.
+    KeysetPage<Student> findPage(PageQuery query);
 }
 
@@ -1,5 +1,7 @@
 package org.example.studentmanagement.dao;
 
+import org.example.studentmanagement.dto.KeysetPage;
+import org.example.studentmanagement.dto.PageQuery;
 import org.example.studentmanagement.entity.Course;
 import org.example.studentmanagement.entity.Student;
 import org.example.studentmanagement.entity.Teacher;
@@ -7,187 +9,128 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 import javax.sql.DataSource;
-import java.sql.*;
-import java.util.ArrayList;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import static org.example.studentmanagement.dao.EntityMappers.STUDENT;
+import static org.example.studentmanagement.dao.EntityMappers.STUDENT_SELECT;
+
 @Repository
 public class StudentDAOImpl extends BaseDAOImpl<Student, Integer> implements StudentDAO{
-    
-    private final DataSource dataSource;
+
+    private static final KeysetSql PAGE_SQL = new KeysetSql("id",
+            Map.of("firstName", "first_name", "lastName", "last_name", "email", "email"),
+            List.of("first_name", "last_name", "email"));
+
+    private static final String INSERT_SQL = "INSERT INTO students (username, password, first_name, last_name, email) VALUES (?, ?, ?, ?, ?)";
+    private static final String UPDATE_SQL = "UPDATE students SET username = ?, password = ?, first_name = ?, last_name = ?, email = ? WHERE id = ?";
+
+    private static final String COURSES_SQL = "SELECT c.id, c.code, c.name, t.first_name AS firstName, t.last_name AS lastName FROM courses c JOIN student_course_details scd ON c.id = scd.course_id LEFT JOIN teachers t ON c.teacher_id = t.id WHERE scd.student_id = ?";
+
+    // Enrolled courses carry only the teacher's name
+    private static final RowMapper<Course> COURSE = RowMapper.of((rs, c) -> {
+        Course course = new Course();
+        course.setId(rs.getInt(c[0]));
+        course.setCode(rs.getString(c[1]));
+        course.setName(rs.getString(c[2]));
+
+        // Set teacher if exists
+        String firstName = rs.getString(c[3]);
+        if (firstName != null) {
+            Teacher teacher = new Teacher();
+            teacher.setFirstName(firstName);
+            teacher.setLastName(rs.getString(c[4]));
+            course.setTeacher(teacher);
+        }
+        return course;
+    }, "id", "code", "name", "firstName", "lastName");
 
     @Autowired
     public StudentDAOImpl(DataSource dataSource) {
-        this.dataSource = dataSource;
+        super(dataSource);
     }
 
     @Override
     public void save(Student student) {
-        String sql;
         if (student.getId() == 0) {
-            // Insert new student
-            sql = "INSERT INTO students (username, password, first_name, last_name, email) VALUES (?, ?, ?, ?, ?)";
+            // Insert new student and keep the generated ID
+            student.setId(insert("saving student", INSERT_SQL,
+                    student.getUserName(), student.getPassword(), student.getFirstName(), student.getLastName(),
+                    student.getEmail()));
         } else {
-            // Update existing student
-            sql = "UPDATE students SET username = ?, password = ?, first_name = ?, last_name = ?, email = ? WHERE id = ?";
-        }
-        
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            
-            pstmt.setString(1, student.getUserName());
-            pstmt.setString(2, student.getPassword());
-            pstmt.setString(3, student.getFirstName());
-            pstmt.setString(4, student.getLastName());
-            pstmt.setString(5, student.getEmail());
-            
-            if (student.getId() != 0) {
-                pstmt.setInt(6, student.getId());
-            }
-            
-            pstmt.executeUpdate();
-            
-            // If it's a new student, get the generated ID
-            if (student.getId() == 0) {
-                try (ResultSet rs = pstmt.getGeneratedKeys()) {
-                    if (rs.next()) {
-                        student.setId(rs.getInt(1));
-                    }
-                }
-            }
-            
-        } catch (SQLException e) {
-            throw new RuntimeException("Error saving student: " + e.getMessage(), e);
+            update("saving student", UPDATE_SQL,
+                    student.getUserName(), student.getPassword(), student.getFirstName(), student.getLastName(),
+                    student.getEmail(), student.getId());
         }
     }
 
     @Override
     public List<Student> findAll() {
-        List<Student> students = new ArrayList<>();
-        String sql = "SELECT id, username, password, first_name, last_name, email FROM students";
-        
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql);
-             ResultSet rs = pstmt.executeQuery()) {
-            
-            while (rs.next()) {
-                Student student = new Student();
-                student.setId(rs.getInt("id"));
-                student.setUserName(rs.getString("username"));
-                student.setPassword(rs.getString("password"));
-                student.setFirstName(rs.getString("first_name"));
-                student.setLastName(rs.getString("last_name"));
-                student.setEmail(rs.getString("email"));
-                // Note: Courses will need to be loaded separately if needed
-                students.add(student);
-            }
-            
-        } catch (SQLException e) {
-            throw new RuntimeException("Error finding all students: " + e.getMessage(), e);
-        }
-        
-        return students;
+        // Note: Courses will need to be loaded separately if needed
+        return query("finding all students", STUDENT_SELECT, STUDENT);
     }
 
     @Override
     public Student findById(Integer id) {
-        String sql = "SELECT id, username, password, first_name, last_name, email FROM students WHERE id = ?";
-        Student student = null;
-        
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setInt(1, id);
-            
-            try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next()) {
-                    student = new Student();
-                    student.setId(rs.getInt("id"));
-                    student.setUserName(rs.getString("username"));
-                    student.setPassword(rs.getString("password"));
-                    student.setFirstName(rs.getString("first_name"));
-                    student.setLastName(rs.getString("last_name"));
-                    student.setEmail(rs.getString("email"));
-                    
-                    // Load courses
-                    List<Course> courses = new ArrayList<>();
-                    String courseSql = "SELECT c.id, c.code, c.name, t.first_name AS firstName, t.last_name AS lastName FROM courses c JOIN student_course_details scd ON c.id = scd.course_id LEFT JOIN teachers t ON c.teacher_id = t.id WHERE scd.student_id = ?";
-                    try (PreparedStatement coursePstmt = conn.prepareStatement(courseSql)) {
-                        coursePstmt.setInt(1, id);
-                        try (ResultSet courseRs = coursePstmt.executeQuery()) {
-                            while (courseRs.next()) {
-                                Course course = new Course();
-                                course.setId(courseRs.getInt("id"));
-                                course.setCode(courseRs.getString("code"));
-                                course.setName(courseRs.getString("name"));
-                                
-                                // Set teacher if exists
-                                String firstName = courseRs.getString("firstName");
-                                if (firstName != null) {
-                                    Teacher teacher = new Teacher();
-                                    teacher.setFirstName(firstName);
-                                    teacher.setLastName(courseRs.getString("lastName"));
-                                    course.setTeacher(teacher);
-                                }
-                                
-                                courses.add(course);
-                            }
-                        }
-                    }
-                    student.setCourses(courses);
+        String sql = STUDENT_SELECT + " WHERE id = ?";
+
+        try (Connection conn = dataSource.getConnection()) {
+
+            Student student;
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                pstmt.setInt(1, id);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    student = STUDENT.mapFirst(rs);
                 }
             }
-            
+
+            // Load courses
+            if (student != null) {
+                student.setCourses(query(conn, COURSES_SQL, COURSE, id));
+            }
+            return student;
+
         } catch (SQLException e) {
-            throw new RuntimeException("Error finding student by id: " + e.getMessage(), e);
+            throw translate("finding student by id", sql, e);
         }
-        
-        return student;
     }
 
     @Override
     public void deleteById(Integer id) {
-        String sql = "DELETE FROM students WHERE id = ?";
-        
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setInt(1, id);
-            pstmt.executeUpdate();
-            
-        } catch (SQLException e) {
-            throw new RuntimeException("Error deleting student by id: " + e.getMessage(), e);
-        }
+        update("deleting student by id", "DELETE FROM students WHERE id = ?", id);
+    }
+
+    @Override
+    public void delete(Student student) {
+        deleteById(student.getId());
     }
 
     @Override
     public Optional<Student> findByUserName(String userName) {
-        String sql = "SELECT id, username, password, first_name, last_name, email FROM students WHERE username = ? OR email = ?";
+        return Optional.ofNullable(queryForObject("finding student by username",
+                STUDENT_SELECT + " WHERE username = ? OR email = ?", STUDENT, userName, userName));
+    }
+
+    @Override
+    public KeysetPage<Student> findPage(PageQuery query) {
+        KeysetSql.Page page = PAGE_SQL.prepare(query);
+        String sql = STUDENT_SELECT + page.sql();
 
         try (Connection conn = dataSource.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
-            pstmt.setString(1, userName);
-            pstmt.setString(2, userName);
-            
+            page.bind(pstmt);
             try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next()) {
-                    Student student = new Student();
-                    student.setId(rs.getInt("id"));
-                    student.setUserName(rs.getString("username"));
-                    student.setPassword(rs.getString("password"));
-                    student.setFirstName(rs.getString("first_name"));
-                    student.setLastName(rs.getString("last_name"));
-                    student.setEmail(rs.getString("email"));
-                    return Optional.of(student);
-                }
+                return page.read(rs, STUDENT);
             }
-            
+
         } catch (SQLException e) {
-            throw new RuntimeException("Error finding student by username: " + e.getMessage(), e);
+            throw translate("finding student page", sql, e);
         }
-        
-        return Optional.empty();
     }
 }
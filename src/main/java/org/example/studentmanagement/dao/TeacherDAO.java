@@ -1,9 +1,13 @@
 package org.example.studentmanagement.dao;
 
+import org.example.studentmanagement.dto.KeysetPage;
+import org.example.studentmanagement.dto.PageQuery;
 import org.example.studentmanagement.entity.Teacher;
 
 import java.util.Optional;
 
 public interface TeacherDAO extends BaseDAO<Teacher, Integer>{
     Optional<Teacher> findByUserName(String userName);
+    // Sort keys: id, firstName, lastName, email; the filter matches names and email
+    KeysetPage<Teacher> findPage(PageQuery query);
 }
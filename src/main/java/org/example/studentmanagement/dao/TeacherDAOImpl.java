@@ -1,216 +1,168 @@
 package org.example.studentmanagement.dao;
 
+import org.example.studentmanagement.dto.KeysetPage;
+import org.example.studentmanagement.dto.PageQuery;
 import org.example.studentmanagement.entity.Course;
 import org.example.studentmanagement.entity.Teacher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 import javax.sql.DataSource;
-import java.sql.*;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import static org.example.studentmanagement.dao.EntityMappers.TEACHER;
+import static org.example.studentmanagement.dao.EntityMappers.TEACHER_SELECT;
+
 @Repository
 public class TeacherDAOImpl extends BaseDAOImpl<Teacher, Integer> implements TeacherDAO{
+
+    // Upper bound on bind parameters per course lookup, well below driver limits
+    private static final int COURSE_LOAD_CHUNK_SIZE = 1000;
+
+    private static final KeysetSql PAGE_SQL = new KeysetSql("id",
+            Map.of("firstName", "first_name", "lastName", "last_name", "email", "email"),
+            List.of("first_name", "last_name", "email"));
     
-    private final DataSource dataSource;
+    private static final String INSERT_SQL = "INSERT INTO teachers (username, password, first_name, last_name, email) VALUES (?, ?, ?, ?, ?)";
+    private static final String UPDATE_SQL = "UPDATE teachers SET username = ?, password = ?, first_name = ?, last_name = ?, email = ? WHERE id = ?";
+
+    // Courses keyed by the teacher they belong to, for grouping in loadCourses
+    private static final RowMapper<Map.Entry<Integer, Course>> TEACHER_COURSE = RowMapper.of((rs, c) -> {
+        Course course = new Course();
+        course.setId(rs.getInt(c[0]));
+        course.setCode(rs.getString(c[1]));
+        course.setName(rs.getString(c[2]));
+        return Map.entry(rs.getInt(c[3]), course);
+    }, "id", "code", "name", "teacher_id");
 
     @Autowired
     public TeacherDAOImpl(DataSource dataSource) {
-        this.dataSource = dataSource;
+        super(dataSource);
     }
 
     @Override
     public void save(Teacher teacher) {
-        String sql;
         if (teacher.getId() == 0) {
-            // Insert new teacher
-            sql = "INSERT INTO teachers (username, password, first_name, last_name, email) VALUES (?, ?, ?, ?, ?)";
+            // Insert new teacher and keep the generated ID
+            teacher.setId(insert("saving teacher", INSERT_SQL,
+                    teacher.getUserName(), teacher.getPassword(), teacher.getFirstName(), teacher.getLastName(),
+                    teacher.getEmail()));
         } else {
-            // Update existing teacher
-            sql = "UPDATE teachers SET username = ?, password = ?, first_name = ?, last_name = ?, email = ? WHERE id = ?";
-        }
-        
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            
-            pstmt.setString(1, teacher.getUserName());
-            pstmt.setString(2, teacher.getPassword());
-            pstmt.setString(3, teacher.getFirstName());
-            pstmt.setString(4, teacher.getLastName());
-            pstmt.setString(5, teacher.getEmail());
-            
-            if (teacher.getId() != 0) {
-                pstmt.setInt(6, teacher.getId());
-            }
-            
-            pstmt.executeUpdate();
-            
-            // If it's a new teacher, get the generated ID
-            if (teacher.getId() == 0) {
-                try (ResultSet rs = pstmt.getGeneratedKeys()) {
-                    if (rs.next()) {
-                        teacher.setId(rs.getInt(1));
-                    }
-                }
-            }
-            
-        } catch (SQLException e) {
-            throw new RuntimeException("Error saving teacher: " + e.getMessage(), e);
+            update("saving teacher", UPDATE_SQL,
+                    teacher.getUserName(), teacher.getPassword(), teacher.getFirstName(), teacher.getLastName(),
+                    teacher.getEmail(), teacher.getId());
         }
     }
 
     @Override
     public List<Teacher> findAll() {
-        List<Teacher> teachers = new ArrayList<>();
-        String sql = "SELECT id, username, password, first_name, last_name, email FROM teachers";
-        
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql);
-             ResultSet rs = pstmt.executeQuery()) {
-            
-            while (rs.next()) {
-                Teacher teacher = new Teacher();
-                teacher.setId(rs.getInt("id"));
-                teacher.setUserName(rs.getString("username"));
-                teacher.setPassword(rs.getString("password"));
-                teacher.setFirstName(rs.getString("first_name"));
-                teacher.setLastName(rs.getString("last_name"));
-                teacher.setEmail(rs.getString("email"));
-                
-                // Load courses
-                List<Course> courses = new ArrayList<>();
-                String courseSql = "SELECT id, code, name FROM courses WHERE teacher_id = ?";
-                try (PreparedStatement coursePstmt = conn.prepareStatement(courseSql)) {
-                    coursePstmt.setInt(1, teacher.getId());
-                    try (ResultSet courseRs = coursePstmt.executeQuery()) {
-                        while (courseRs.next()) {
-                            Course course = new Course();
-                            course.setId(courseRs.getInt("id"));
-                            course.setCode(courseRs.getString("code"));
-                            course.setName(courseRs.getString("name"));
-                            courses.add(course);
-                        }
-                    }
-                }
-                teacher.setCourses(courses);
-                
-                teachers.add(teacher);
-            }
-            
+        try (Connection conn = dataSource.getConnection()) {
+
+            List<Teacher> teachers = query(conn, TEACHER_SELECT, TEACHER);
+
+            // Load courses
+            loadCourses(conn, teachers);
+            return teachers;
+
         } catch (SQLException e) {
-            throw new RuntimeException("Error finding all teachers: " + e.getMessage(), e);
+            throw translate("finding all teachers", TEACHER_SELECT, e);
         }
-        
-        return teachers;
     }
 
     @Override
     public Teacher findById(Integer id) {
-        String sql = "SELECT id, username, password, first_name, last_name, email FROM teachers WHERE id = ?";
-        Teacher teacher = null;
-
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setInt(1, id);
-
-            try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next()) {
-                    teacher = new Teacher();
-                    teacher.setId(rs.getInt("id"));
-                    teacher.setUserName(rs.getString("username"));
-                    teacher.setPassword(rs.getString("password"));
-                    teacher.setFirstName(rs.getString("first_name"));
-                    teacher.setLastName(rs.getString("last_name"));
-                    teacher.setEmail(rs.getString("email"));
-
-                    // Load courses
-                    List<Course> courses = new ArrayList<>();
-                    String courseSql = "SELECT id, code, name FROM courses WHERE teacher_id = ?";
-                    try (PreparedStatement coursePstmt = conn.prepareStatement(courseSql)) {
-                        coursePstmt.setInt(1, teacher.getId());
-                        try (ResultSet courseRs = coursePstmt.executeQuery()) {
-                            while (courseRs.next()) {
-                                Course course = new Course();
-                                course.setId(courseRs.getInt("id"));
-                                course.setCode(courseRs.getString("code"));
-                                course.setName(courseRs.getString("name"));
-                                courses.add(course);
-                            }
-                        }
-                    }
-                    teacher.setCourses(courses);
-                }
-            }
+        return findOne("finding teacher by id", TEACHER_SELECT + " WHERE id = ?", id);
+    }
 
-        } catch (SQLException e) {
-            throw new RuntimeException("Error finding teacher by id: " + e.getMessage(), e);
-        }
+    @Override
+    public void deleteById(Integer id) {
+        update("deleting teacher by id", "DELETE FROM teachers WHERE id = ?", id);
+    }
 
-        return teacher;
+    @Override
+    public void delete(Teacher teacher) {
+        deleteById(teacher.getId());
     }
 
     @Override
-    public void deleteById(Integer id) {
-        String sql = "DELETE FROM teachers WHERE id = ?";
-        
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setInt(1, id);
-            pstmt.executeUpdate();
-            
+    public Optional<Teacher> findByUserName(String userName) {
+        return Optional.ofNullable(findOne("finding teacher by username", TEACHER_SELECT + " WHERE username = ?", userName));
+    }
+
+    @Override
+    public KeysetPage<Teacher> findPage(PageQuery query) {
+        KeysetSql.Page page = PAGE_SQL.prepare(query);
+        String sql = TEACHER_SELECT + page.sql();
+        KeysetPage<Teacher> result;
+
+        try (Connection conn = dataSource.getConnection()) {
+
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                page.bind(pstmt);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    result = page.read(rs, TEACHER);
+                }
+            }
+
+            // Load courses for this page only
+            loadCourses(conn, result.getItems());
+
         } catch (SQLException e) {
-            throw new RuntimeException("Error deleting teacher by id: " + e.getMessage(), e);
+            throw translate("finding teacher page", sql, e);
         }
+
+        return result;
     }
 
-    @Override
-    public Optional<Teacher> findByUserName(String userName) {
-        String sql = "SELECT id, username, password, first_name, last_name, email FROM teachers WHERE username = ?";
-
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setString(1, userName);
-
-            try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next()) {
-                    Teacher teacher = new Teacher();
-                    teacher.setId(rs.getInt("id"));
-                    teacher.setUserName(rs.getString("username"));
-                    teacher.setPassword(rs.getString("password"));
-                    teacher.setFirstName(rs.getString("first_name"));
-                    teacher.setLastName(rs.getString("last_name"));
-                    teacher.setEmail(rs.getString("email"));
-
-                    // Load courses
-                    List<Course> courses = new ArrayList<>();
-                    String courseSql = "SELECT id, code, name FROM courses WHERE teacher_id = ?";
-                    try (PreparedStatement coursePstmt = conn.prepareStatement(courseSql)) {
-                        coursePstmt.setInt(1, teacher.getId());
-                        try (ResultSet courseRs = coursePstmt.executeQuery()) {
-                            while (courseRs.next()) {
-                                Course course = new Course();
-                                course.setId(courseRs.getInt("id"));
-                                course.setCode(courseRs.getString("code"));
-                                course.setName(courseRs.getString("name"));
-                                courses.add(course);
-                            }
-                        }
-                    }
-                    teacher.setCourses(courses);
-
-                    return Optional.of(teacher);
+    // Looks up a single teacher together with their courses on one connection
+    private Teacher findOne(String task, String sql, Object param) {
+        try (Connection conn = dataSource.getConnection()) {
+
+            Teacher teacher;
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                bind(pstmt, param);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    teacher = TEACHER.mapFirst(rs);
                 }
             }
 
+            // Load courses
+            if (teacher != null) {
+                loadCourses(conn, List.of(teacher));
+            }
+            return teacher;
+
         } catch (SQLException e) {
-            throw new RuntimeException("Error finding teacher by username: " + e.getMessage(), e);
+            throw translate(task, sql, e);
         }
+    }
 
-        return Optional.empty();
+    // Loads the courses of all given teachers with one IN (...) query per chunk and groups them by teacher_id
+    private void loadCourses(Connection conn, List<Teacher> teachers) throws SQLException {
+        Map<Integer, Teacher> teachersById = new HashMap<>();
+        for (Teacher teacher : teachers) {
+            teacher.setCourses(new ArrayList<>());
+            teachersById.put(teacher.getId(), teacher);
+        }
+
+        List<Integer> teacherIds = new ArrayList<>(teachersById.keySet());
+        for (int from = 0; from < teacherIds.size(); from += COURSE_LOAD_CHUNK_SIZE) {
+            List<Integer> chunk = teacherIds.subList(from, Math.min(from + COURSE_LOAD_CHUNK_SIZE, teacherIds.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            String courseSql = "SELECT id, code, name, teacher_id FROM courses WHERE teacher_id IN (" + placeholders + ") ORDER BY id";
+
+            for (Map.Entry<Integer, Course> entry : query(conn, courseSql, TEACHER_COURSE, chunk.toArray())) {
+                teachersById.get(entry.getKey()).getCourses().add(entry.getValue());
+            }
+        }
     }
 }
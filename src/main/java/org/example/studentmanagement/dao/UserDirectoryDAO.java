@@ -0,0 +1,10 @@
+package org.example.studentmanagement.dao;
+
+import org.example.studentmanagement.dto.UserAccount;
+
+import java.util.Optional;
+
+public interface UserDirectoryDAO {
+    Optional<UserAccount> findByLogin(String login);
+    void updatePassword(String userName, String role, String encodedPassword);
+}
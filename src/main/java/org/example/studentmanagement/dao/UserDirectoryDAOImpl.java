@@ -0,0 +1,46 @@
+package org.example.studentmanagement.dao;
+
+import org.example.studentmanagement.dto.UserAccount;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.Optional;
+
+@Repository
+public class UserDirectoryDAOImpl extends JdbcDAOSupport implements UserDirectoryDAO {
+
+    // Resolves the login against teachers and students in one round-trip; teachers win on a clash,
+    // matching the order the per-role lookups were tried in before
+    private static final String FIND_BY_LOGIN_SQL = "SELECT username, password, role FROM ("
+            + "SELECT username, password, 'TEACHER' AS role, 1 AS priority FROM teachers WHERE username = ? "
+            + "UNION ALL "
+            + "SELECT username, password, 'STUDENT' AS role, 2 AS priority FROM students WHERE username = ? OR email = ?"
+            + ") accounts ORDER BY priority LIMIT 1";
+
+    private static final RowMapper<UserAccount> USER_ACCOUNT = RowMapper.of((rs, c) -> new UserAccount(
+                    rs.getString(c[0]), rs.getString(c[1]), rs.getString(c[2])),
+            "username", "password", "role");
+
+    @Autowired
+    public UserDirectoryDAOImpl(DataSource dataSource) {
+        super(dataSource);
+    }
+
+    @Override
+    public Optional<UserAccount> findByLogin(String login) {
+        return Optional.ofNullable(queryForObject("finding user by login", FIND_BY_LOGIN_SQL, USER_ACCOUNT,
+                login, login, login));
+    }
+
+    @Override
+    public void updatePassword(String userName, String role, String encodedPassword) {
+        String table = switch (role) {
+            case "TEACHER" -> "teachers";
+            case "STUDENT" -> "students";
+            default -> throw new IllegalArgumentException("Unknown role: " + role);
+        };
+
+        update("updating password", "UPDATE " + table + " SET password = ? WHERE username = ?", encodedPassword, userName);
+    }
+}
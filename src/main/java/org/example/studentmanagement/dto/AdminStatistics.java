@@ -0,0 +1,67 @@
+package org.example.studentmanagement.dto;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Snapshot of the counts and aggregates shown on the admin info page.
+ * Immutable so a single instance can be shared from the statistics cache.
+ */
+public class AdminStatistics {
+
+    private final long courseCount;
+    private final long studentCount;
+    private final long teacherCount;
+    private final long enrollmentCount;
+    private final long assignmentCount;
+    private final List<CourseEnrollmentCount> topEnrollments;
+    private final Map<String, Long> assignmentsByStatus;
+    private final Map<String, Long> gradeDistribution;
+
+    public AdminStatistics(long courseCount, long studentCount, long teacherCount, long enrollmentCount,
+                           long assignmentCount, List<CourseEnrollmentCount> topEnrollments,
+                           Map<String, Long> assignmentsByStatus, Map<String, Long> gradeDistribution) {
+        this.courseCount = courseCount;
+        this.studentCount = studentCount;
+        this.teacherCount = teacherCount;
+        this.enrollmentCount = enrollmentCount;
+        this.assignmentCount = assignmentCount;
+        this.topEnrollments = List.copyOf(topEnrollments);
+        this.assignmentsByStatus = Collections.unmodifiableMap(new LinkedHashMap<>(assignmentsByStatus));
+        this.gradeDistribution = Collections.unmodifiableMap(new LinkedHashMap<>(gradeDistribution));
+    }
+
+    public long getCourseCount() {
+        return courseCount;
+    }
+
+    public long getStudentCount() {
+        return studentCount;
+    }
+
+    public long getTeacherCount() {
+        return teacherCount;
+    }
+
+    public long getEnrollmentCount() {
+        return enrollmentCount;
+    }
+
+    public long getAssignmentCount() {
+        return assignmentCount;
+    }
+
+    public List<CourseEnrollmentCount> getTopEnrollments() {
+        return topEnrollments;
+    }
+
+    public Map<String, Long> getAssignmentsByStatus() {
+        return assignmentsByStatus;
+    }
+
+    public Map<String, Long> getGradeDistribution() {
+        return gradeDistribution;
+    }
+}
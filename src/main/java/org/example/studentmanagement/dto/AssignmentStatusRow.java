@@ -0,0 +1,37 @@
+package org.example.studentmanagement.dto;
+
+import org.example.studentmanagement.entity.AssignmentDetails;
+import org.example.studentmanagement.entity.GradeDetails;
+import org.example.studentmanagement.entity.Student;
+
+public class AssignmentStatusRow {
+
+    private final Student student;
+    private final AssignmentDetails assignmentDetails;
+    private final GradeDetails grade;
+
+    public AssignmentStatusRow(Student student, AssignmentDetails assignmentDetails, GradeDetails grade) {
+        this.student = student;
+        this.assignmentDetails = assignmentDetails;
+        this.grade = grade;
+    }
+
+    public Student getStudent() {
+        return student;
+    }
+
+    public AssignmentDetails getAssignmentDetails() {
+        return assignmentDetails;
+    }
+
+    public GradeDetails getGrade() {
+        return grade;
+    }
+
+    public String getStatus() {
+        if (assignmentDetails == null) {
+            return "not assigned";
+        }
+        return assignmentDetails.getIsDone() == 0 ? "incomplete" : "completed";
+    }
+}
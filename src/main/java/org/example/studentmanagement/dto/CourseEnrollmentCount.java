@@ -0,0 +1,32 @@
+package org.example.studentmanagement.dto;
+
+public class CourseEnrollmentCount {
+
+    private final int courseId;
+    private final String code;
+    private final String name;
+    private final long enrollments;
+
+    public CourseEnrollmentCount(int courseId, String code, String name, long enrollments) {
+        this.courseId = courseId;
+        this.code = code;
+        this.name = name;
+        this.enrollments = enrollments;
+    }
+
+    public int getCourseId() {
+        return courseId;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getEnrollments() {
+        return enrollments;
+    }
+}
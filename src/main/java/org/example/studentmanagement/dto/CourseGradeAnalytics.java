@@ -0,0 +1,30 @@
+package org.example.studentmanagement.dto;
+
+import java.util.List;
+
+public class CourseGradeAnalytics {
+
+    private final int courseId;
+    private final GradeStatistics courseGrades;
+    private final List<GradeStatistics> assignments;
+
+    public CourseGradeAnalytics(int courseId, GradeStatistics courseGrades, List<GradeStatistics> assignments) {
+        this.courseId = courseId;
+        this.courseGrades = courseGrades;
+        this.assignments = assignments;
+    }
+
+    public int getCourseId() {
+        return courseId;
+    }
+
+    // Statistics of the course final grades; empty (count 0) until the teacher enters any
+    public GradeStatistics getCourseGrades() {
+        return courseGrades;
+    }
+
+    // One entry per graded assignment, ordered by assignment name
+    public List<GradeStatistics> getAssignments() {
+        return assignments;
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.studentmanagement.dto;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Tables the registrar can bulk-export from the admin area, keyed by the path segment used in the export URL.
+ */
+public enum ExportDataset {
+
+    GRADES("grades"),
+    ENROLLMENTS("enrollments"),
+    ASSIGNMENT_COMPLETION("assignment-completion");
+
+    private final String path;
+
+    ExportDataset(String path) {
+        this.path = path;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public static Optional<ExportDataset> fromPath(String path) {
+        return Arrays.stream(values()).filter(dataset -> dataset.path.equalsIgnoreCase(path)).findFirst();
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.studentmanagement.dto;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum ExportFormat {
+
+    CSV("csv", "text/csv"),
+    NDJSON("ndjson", "application/x-ndjson");
+
+    private final String extension;
+    private final String contentType;
+
+    ExportFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public static Optional<ExportFormat> fromName(String name) {
+        return Arrays.stream(values()).filter(format -> format.extension.equalsIgnoreCase(name)).findFirst();
+    }
+}
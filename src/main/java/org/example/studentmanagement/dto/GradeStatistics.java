@@ -0,0 +1,95 @@
+package org.example.studentmanagement.dto;
+
+import java.util.Arrays;
+
+/**
+ * Grade percentage statistics for one assignment, or for a course's final grades, derived from running totals:
+ * count, sum and sum of squares give the mean and standard deviation exactly, while the median and other
+ * percentiles are interpolated within 5-point histogram buckets and so are accurate to within one bucket.
+ */
+public class GradeStatistics {
+
+    public static final int BUCKET_WIDTH = 5;
+    public static final int BUCKETS = 20;
+
+    private final String assignmentName;
+    private final int[] histogram = new int[BUCKETS];
+    private long count;
+    private double sum;
+    private double sumOfSquares;
+
+    public GradeStatistics(String assignmentName) {
+        this.assignmentName = assignmentName;
+    }
+
+    // Merges one bucket's totals; percentages of 100 and above share the last bucket
+    public void addBucket(int bucket, int gradeCount, double percentageSum, double percentageSumOfSquares) {
+        histogram[bucket] += gradeCount;
+        count += gradeCount;
+        sum += percentageSum;
+        sumOfSquares += percentageSumOfSquares;
+    }
+
+    // Null for the course final grades
+    public String getAssignmentName() {
+        return assignmentName;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return count > 0 ? sum / count : 0.0;
+    }
+
+    // Population standard deviation; clamped at zero against rounding in the stored totals
+    public double getStandardDeviation() {
+        if (count == 0) {
+            return 0.0;
+        }
+        double mean = getMean();
+        return Math.sqrt(Math.max(0.0, sumOfSquares / count - mean * mean));
+    }
+
+    public double getMedian() {
+        return percentile(50);
+    }
+
+    public double getPercentile25() {
+        return percentile(25);
+    }
+
+    public double getPercentile75() {
+        return percentile(75);
+    }
+
+    public double getPercentile90() {
+        return percentile(90);
+    }
+
+    // Grade counts per bucket: bucket i holds percentages in [i * BUCKET_WIDTH, (i + 1) * BUCKET_WIDTH)
+    public int[] getHistogram() {
+        return Arrays.copyOf(histogram, BUCKETS);
+    }
+
+    /**
+     * Estimates the given percentile (0-100) by assuming the grades inside a bucket are spread evenly across it.
+     * Returns 0 when there are no grades.
+     */
+    public double percentile(double percentile) {
+        if (count == 0) {
+            return 0.0;
+        }
+        double rank = Math.min(Math.max(percentile, 0.0), 100.0) / 100.0 * count;
+        long below = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            int inBucket = histogram[bucket];
+            if (inBucket > 0 && below + inBucket >= rank) {
+                return (bucket + (rank - below) / inBucket) * BUCKET_WIDTH;
+            }
+            below += inBucket;
+        }
+        return (double) BUCKETS * BUCKET_WIDTH;
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.studentmanagement.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.example.studentmanagement.entity.GradeDetails;
+
+public class GradeSubmissionForm {
+
+    private List<GradeDetails> grades = new ArrayList<>();
+
+    public List<GradeDetails> getGrades() {
+        return grades;
+    }
+
+    public void setGrades(List<GradeDetails> grades) {
+        this.grades = grades;
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.studentmanagement.dto;
+
+import org.example.studentmanagement.entity.GradeDetails;
+import org.example.studentmanagement.entity.Student;
+
+public class GradebookRow {
+
+    private final Student student;
+    private final GradeDetails courseGrade;
+    private final int gradedCount;
+    private final double totalScore;
+    private final double totalMaxScore;
+
+    public GradebookRow(Student student, GradeDetails courseGrade, int gradedCount, double totalScore, double totalMaxScore) {
+        this.student = student;
+        this.courseGrade = courseGrade;
+        this.gradedCount = gradedCount;
+        this.totalScore = totalScore;
+        this.totalMaxScore = totalMaxScore;
+    }
+
+    public Student getStudent() {
+        return student;
+    }
+
+    // The course final grade; an unsaved placeholder (id 0) when the teacher has not entered one yet
+    public GradeDetails getCourseGrade() {
+        return courseGrade;
+    }
+
+    public int getGradedCount() {
+        return gradedCount;
+    }
+
+    public double getTotalScore() {
+        return totalScore;
+    }
+
+    public double getTotalMaxScore() {
+        return totalMaxScore;
+    }
+
+    // Assignment scores weighted by their max score, i.e. points earned over points available
+    public double getPercentage() {
+        return totalMaxScore > 0 ? totalScore / totalMaxScore * 100 : 0.0;
+    }
+
+    // Letter for the assignment percentage, or null before anything is graded
+    public String getLetterGrade() {
+        if (gradedCount == 0) {
+            return null;
+        }
+        double percentage = getPercentage();
+        if (percentage >= 90) {
+            return "A";
+        } else if (percentage >= 80) {
+            return "B";
+        } else if (percentage >= 70) {
+            return "C";
+        } else if (percentage >= 60) {
+            return "D";
+        }
+        return "F";
+    }
+}
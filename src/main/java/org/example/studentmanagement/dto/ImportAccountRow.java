@@ -0,0 +1,49 @@
+package org.example.studentmanagement.dto;
+
+public class ImportAccountRow {
+
+    private final int line;
+    private final String userName;
+    private final String password;
+    private final String firstName;
+    private final String lastName;
+    private final String email;
+
+    public ImportAccountRow(int line, String userName, String password, String firstName, String lastName,
+                            String email) {
+        this.line = line;
+        this.userName = userName;
+        this.password = password;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+    }
+
+    public ImportAccountRow withPassword(String password) {
+        return new ImportAccountRow(line, userName, password, firstName, lastName, email);
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+}
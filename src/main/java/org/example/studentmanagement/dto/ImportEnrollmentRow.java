@@ -0,0 +1,26 @@
+package org.example.studentmanagement.dto;
+
+public class ImportEnrollmentRow {
+
+    private final int line;
+    private final String userName;
+    private final String courseCode;
+
+    public ImportEnrollmentRow(int line, String userName, String courseCode) {
+        this.line = line;
+        this.userName = userName;
+        this.courseCode = courseCode;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public String getCourseCode() {
+        return courseCode;
+    }
+}
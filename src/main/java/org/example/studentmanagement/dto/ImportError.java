@@ -0,0 +1,20 @@
+package org.example.studentmanagement.dto;
+
+public class ImportError {
+
+    private final int line;
+    private final String message;
+
+    public ImportError(int line, String message) {
+        this.line = line;
+        this.message = message;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
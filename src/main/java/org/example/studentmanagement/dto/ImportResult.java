@@ -0,0 +1,54 @@
+package org.example.studentmanagement.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of one bulk import: how many data rows were read and inserted, and why the others were rejected.
+ * Only the first MAX_REPORTED_ERRORS errors are kept; the rest are counted.
+ */
+public class ImportResult {
+
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private int totalRows;
+    private int importedRows;
+    private int errorCount;
+    private final List<ImportError> errors = new ArrayList<>();
+
+    public void addRow() {
+        totalRows++;
+    }
+
+    public void addError(int line, String message) {
+        errorCount++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new ImportError(line, message));
+        }
+    }
+
+    public void setImportedRows(int importedRows) {
+        this.importedRows = importedRows;
+    }
+
+    public int getTotalRows() {
+        return totalRows;
+    }
+
+    public int getImportedRows() {
+        return importedRows;
+    }
+
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    public List<ImportError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    public boolean isTruncated() {
+        return errorCount > errors.size();
+    }
+}
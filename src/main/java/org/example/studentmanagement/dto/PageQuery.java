@@ -0,0 +1,49 @@
+package org.example.studentmanagement.dto;
+
+/**
+ * Parameters of a keyset-paginated list request. The cursor is the opaque token returned as
+ * KeysetPage.nextCursor; a missing or stale cursor starts from the first page.
+ */
+public class PageQuery {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private final String sort;
+    private final boolean descending;
+    private final String filter;
+    private final int size;
+    private final String cursor;
+
+    public PageQuery(String sort, boolean descending, String filter, Integer size, String cursor) {
+        this.sort = sort == null || sort.isBlank() ? "id" : sort;
+        this.descending = descending;
+        this.filter = filter == null || filter.isBlank() ? null : filter.trim();
+        this.size = size == null || size < 1 ? DEFAULT_SIZE : Math.min(size, MAX_SIZE);
+        this.cursor = cursor == null || cursor.isBlank() ? null : cursor;
+    }
+
+    public static PageQuery firstPage() {
+        return new PageQuery(null, false, null, null, null);
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    public String getFilter() {
+        return filter;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+}
@@ -1,5 +1,7 @@
 package org.example.studentmanagement.dto;
 
+import org.example.studentmanagement.entity.DeadlineStatus;
+
 import java.time.LocalDate;
 
 public class StudentAssignmentResponse {
@@ -9,6 +11,8 @@ public class StudentAssignmentResponse {
     private String description;
     private LocalDate dueDate;
     private int daysRemaining;
+    private DeadlineStatus deadlineStatus;
+    private int courseId;
     private String courseName;
     private String status;
 
@@ -52,6 +56,22 @@ public class StudentAssignmentResponse {
         this.daysRemaining = daysRemaining;
     }
 
+    public DeadlineStatus getDeadlineStatus() {
+        return deadlineStatus;
+    }
+
+    public void setDeadlineStatus(DeadlineStatus deadlineStatus) {
+        this.deadlineStatus = deadlineStatus;
+    }
+
+    public int getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(int courseId) {
+        this.courseId = courseId;
+    }
+
     public String getCourseName() {
         return courseName;
     }
@@ -8,15 +8,17 @@ public class StudentAssignmentRow {
     private final String title;
     private final String description;
     private final LocalDate dueDate;
+    private final int courseId;
     private final String courseName;
     private final boolean done;
 
     public StudentAssignmentRow(Long assignmentId, String title, String description, LocalDate dueDate,
-            String courseName, boolean done) {
+            int courseId, String courseName, boolean done) {
         this.assignmentId = assignmentId;
         this.title = title;
         this.description = description;
         this.dueDate = dueDate;
+        this.courseId = courseId;
         this.courseName = courseName;
         this.done = done;
     }
@@ -37,6 +39,10 @@ public class StudentAssignmentRow {
         return dueDate;
     }
 
+    public int getCourseId() {
+        return courseId;
+    }
+
     public String getCourseName() {
         return courseName;
     }
@@ -0,0 +1,60 @@
+package org.example.studentmanagement.dto;
+
+import org.example.studentmanagement.entity.DeadlineStatus;
+
+import java.time.LocalDate;
+
+public class UpcomingDeadline {
+
+    private final int assignmentId;
+    private final String title;
+    private final int courseId;
+    private final String courseName;
+    private final LocalDate dueDate;
+    private int daysRemaining;
+    private DeadlineStatus deadlineStatus;
+
+    public UpcomingDeadline(int assignmentId, String title, int courseId, String courseName, LocalDate dueDate) {
+        this.assignmentId = assignmentId;
+        this.title = title;
+        this.courseId = courseId;
+        this.courseName = courseName;
+        this.dueDate = dueDate;
+    }
+
+    public int getAssignmentId() {
+        return assignmentId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public int getCourseId() {
+        return courseId;
+    }
+
+    public String getCourseName() {
+        return courseName;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public int getDaysRemaining() {
+        return daysRemaining;
+    }
+
+    public void setDaysRemaining(int daysRemaining) {
+        this.daysRemaining = daysRemaining;
+    }
+
+    public DeadlineStatus getDeadlineStatus() {
+        return deadlineStatus;
+    }
+
+    public void setDeadlineStatus(DeadlineStatus deadlineStatus) {
+        this.deadlineStatus = deadlineStatus;
+    }
+}
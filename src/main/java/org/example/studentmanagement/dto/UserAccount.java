@@ -0,0 +1,26 @@
+package org.example.studentmanagement.dto;
+
+public class UserAccount {
+
+    private final String userName;
+    private final String password;
+    private final String role;
+
+    public UserAccount(String userName, String password, String role) {
+        this.userName = userName;
+        this.password = password;
+        this.role = role;
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public String getRole() {
+        return role;
+    }
+}
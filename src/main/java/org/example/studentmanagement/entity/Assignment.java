@@ -1,22 +1,25 @@
 package org.example.studentmanagement.entity;
 
+import java.time.LocalDate;
+
 public class Assignment {
     private int id;
     private int courseId;
     private String title;
     private String description;
-    private String dueDate;
+    private LocalDate dueDate;
     private double maxScore;
-    private String createdDate;
+    private LocalDate createdDate;
     private String status; // e.g., "active", "closed", "draft"
     private int createdByTeacherId;
     private int daysRemaining; // calculated field for days until due date
+    private DeadlineStatus deadlineStatus = DeadlineStatus.NO_DUE_DATE; // calculated together with daysRemaining
 
     public Assignment() {
     }
 
     public Assignment(int id, int courseId, String title, String description, 
-                    String dueDate, double maxScore, String createdDate, 
+                    LocalDate dueDate, double maxScore, LocalDate createdDate, 
                     String status, int createdByTeacherId) {
         this.id = id;
         this.courseId = courseId;
@@ -61,11 +64,11 @@ public class Assignment {
         this.description = description;
     }
 
-    public String getDueDate() {
+    public LocalDate getDueDate() {
         return dueDate;
     }
 
-    public void setDueDate(String dueDate) {
+    public void setDueDate(LocalDate dueDate) {
         this.dueDate = dueDate;
     }
 
@@ -77,11 +80,11 @@ public class Assignment {
         this.maxScore = maxScore;
     }
 
-    public String getCreatedDate() {
+    public LocalDate getCreatedDate() {
         return createdDate;
     }
 
-    public void setCreatedDate(String createdDate) {
+    public void setCreatedDate(LocalDate createdDate) {
         this.createdDate = createdDate;
     }
 
@@ -117,6 +120,14 @@ public class Assignment {
         this.daysRemaining = daysRemaining;
     }
 
+    public DeadlineStatus getDeadlineStatus() {
+        return deadlineStatus;
+    }
+
+    public void setDeadlineStatus(DeadlineStatus deadlineStatus) {
+        this.deadlineStatus = deadlineStatus;
+    }
+
     @Override
     public boolean equals(Object comparedObject) {
         if (this == comparedObject) {
@@ -0,0 +1,9 @@
+package org.example.studentmanagement.entity;
+
+// Where an assignment's due date falls relative to today (see DeadlineCalculator)
+public enum DeadlineStatus {
+    NO_DUE_DATE,
+    OVERDUE,
+    DUE_SOON,
+    UPCOMING
+}
@@ -1,5 +1,7 @@
 package org.example.studentmanagement.entity;
 
+import java.time.LocalDate;
+
 public class GradeDetails {
     private int id;
     private int studentId;
@@ -9,7 +11,7 @@ public class GradeDetails {
     private double maxScore;
     private String grade; // e.g., "A", "B", "C", "D", "F"
     private String feedback;
-    private String gradedDate;
+    private LocalDate gradedDate;
     private int gradedByTeacherId;
     private StudentCourseDetails studentCourseDetails;
 
@@ -18,7 +20,7 @@ public class GradeDetails {
 
     public GradeDetails(int id, int studentId, int courseId, String assignmentName, 
                        double score, double maxScore, String grade, String feedback, 
-                       String gradedDate, int gradedByTeacherId) {
+                       LocalDate gradedDate, int gradedByTeacherId) {
         this.id = id;
         this.studentId = studentId;
         this.courseId = courseId;
@@ -95,11 +97,11 @@ public class GradeDetails {
         this.feedback = feedback;
     }
 
-    public String getGradedDate() {
+    public LocalDate getGradedDate() {
         return gradedDate;
     }
 
-    public void setGradedDate(String gradedDate) {
+    public void setGradedDate(LocalDate gradedDate) {
         this.gradedDate = gradedDate;
     }
 
@@ -0,0 +1,40 @@
+package org.example.studentmanagement.event;
+
+import org.example.studentmanagement.entity.Assignment;
+import org.example.studentmanagement.entity.AssignmentDetails;
+import org.example.studentmanagement.entity.GradeDetails;
+
+import java.time.LocalDateTime;
+
+/**
+ * Something that changed, as stored in the outbox. Ids that do not apply to the event type are null;
+ * id and createdOn are assigned by the outbox and are null on events that have not been stored yet.
+ */
+public record DomainEvent(Long id, DomainEventType type, Integer entityId, Integer courseId, Integer studentId,
+                          LocalDateTime createdOn) {
+
+    public static DomainEvent assignmentSaved(Assignment assignment) {
+        return new DomainEvent(null, DomainEventType.ASSIGNMENT_SAVED, idOrNull(assignment.getId()),
+                idOrNull(assignment.getCourseId()), null, null);
+    }
+
+    public static DomainEvent gradeSaved(GradeDetails gradeDetails) {
+        return new DomainEvent(null, DomainEventType.GRADE_SAVED, idOrNull(gradeDetails.getId()),
+                idOrNull(gradeDetails.getCourseId()), idOrNull(gradeDetails.getStudentId()), null);
+    }
+
+    public static DomainEvent gradeDeleted(GradeDetails gradeDetails) {
+        return new DomainEvent(null, DomainEventType.GRADE_DELETED, idOrNull(gradeDetails.getId()),
+                idOrNull(gradeDetails.getCourseId()), idOrNull(gradeDetails.getStudentId()), null);
+    }
+
+    public static DomainEvent assignmentStatusSaved(AssignmentDetails assignmentDetails) {
+        return new DomainEvent(null, DomainEventType.ASSIGNMENT_STATUS_SAVED, idOrNull(assignmentDetails.getId()),
+                null, null, null);
+    }
+
+    // Unsaved entities carry id 0
+    private static Integer idOrNull(int id) {
+        return id == 0 ? null : id;
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.studentmanagement.event;
+
+import org.example.studentmanagement.dao.OutboxDAO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers committed outbox events to every {@link DomainEventListener} in batches of app.events.batch-size.
+ * A commit that published events only enqueues a drain; the pool has app.events.workers threads and room for
+ * one queued drain per thread, and further wake-ups are dropped because a queued drain already reads everything
+ * committed before it starts. The backlog therefore waits in the outbox rather than in memory, and the cost on
+ * the request thread does not grow with the number or speed of the listeners. A poll every
+ * app.events.poll-interval-ms picks up events left by a restart and retries failed batches. A batch is claimed for
+ * app.events.claim-seconds and delivered outside any transaction; if its dispatcher dies, the claim runs out and
+ * the batch is delivered again.
+ */
+@Component
+@ConditionalOnProperty(name = "app.events.dispatch.enabled", havingValue = "true", matchIfMissing = true)
+public class DomainEventDispatcher implements InitializingBean, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(DomainEventDispatcher.class);
+
+    private final OutboxDAO outboxDAO;
+    private final ObjectProvider<DomainEventListener> listeners;
+    private final int workers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final int claimSeconds;
+    private final long pollIntervalMs;
+
+    private ThreadPoolExecutor executor;
+    private ScheduledExecutorService poller;
+
+    public DomainEventDispatcher(OutboxDAO outboxDAO, ObjectProvider<DomainEventListener> listeners,
+                                 @Value("${app.events.workers:1}") int workers,
+                                 @Value("${app.events.batch-size:100}") int batchSize,
+                                 @Value("${app.events.max-attempts:5}") int maxAttempts,
+                                 @Value("${app.events.claim-seconds:300}") int claimSeconds,
+                                 @Value("${app.events.poll-interval-ms:5000}") long pollIntervalMs) {
+        this.outboxDAO = outboxDAO;
+        this.listeners = listeners;
+        this.workers = Math.max(1, workers);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.claimSeconds = Math.max(1, claimSeconds);
+        this.pollIntervalMs = pollIntervalMs;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workers), new CustomizableThreadFactory("domain-events-"),
+                new ThreadPoolExecutor.DiscardPolicy());
+        if (pollIntervalMs > 0) {
+            poller = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("domain-events-poll-"));
+            poller.scheduleWithFixedDelay(this::wake, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // Requests a drain without waiting for it; cheap enough to call after every commit
+    public void wake() {
+        if (!executor.isShutdown()) {
+            executor.execute(this::drain);
+        }
+    }
+
+    // Delivers batches until the outbox is empty; a failed batch stops the drain until the next poll
+    void drain() {
+        try {
+            while (outboxDAO.dispatch(batchSize, maxAttempts, claimSeconds, this::deliver) == batchSize) {
+                // full batch, there may be more
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Delivering domain events failed, retrying on the next poll: {}", e.getMessage(), e);
+        }
+    }
+
+    private void deliver(List<DomainEvent> events) {
+        // Looked up per batch so that listeners may depend on services that publish events
+        listeners.orderedStream().forEach(listener -> listener.onEvents(events));
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
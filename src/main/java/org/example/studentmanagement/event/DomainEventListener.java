@@ -0,0 +1,12 @@
+package org.example.studentmanagement.event;
+
+import java.util.List;
+
+/**
+ * Consumes committed domain events on the dispatcher's threads, never on the request thread. Events arrive in
+ * batches in outbox order and are delivered at least once: when a listener throws, the whole batch is retried
+ * for every listener, so handling must be idempotent.
+ */
+public interface DomainEventListener {
+    void onEvents(List<DomainEvent> events);
+}
@@ -0,0 +1,50 @@
+package org.example.studentmanagement.event;
+
+import org.example.studentmanagement.dao.OutboxDAO;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Records domain events in the outbox as part of the caller's transaction and wakes the dispatcher once that
+ * transaction commits. Publishing costs one batched INSERT, however many listeners there are.
+ */
+@Component
+public class DomainEventPublisher {
+
+    private final OutboxDAO outboxDAO;
+    private final ObjectProvider<DomainEventDispatcher> dispatcher;
+
+    @Autowired
+    public DomainEventPublisher(OutboxDAO outboxDAO, ObjectProvider<DomainEventDispatcher> dispatcher) {
+        this.outboxDAO = outboxDAO;
+        this.dispatcher = dispatcher;
+    }
+
+    public void publish(DomainEvent event) {
+        publish(List.of(event));
+    }
+
+    public void publish(List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        outboxDAO.append(events);
+
+        // Woken before the commit, the dispatcher could not see the rows yet
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatcher.ifAvailable(DomainEventDispatcher::wake);
+                }
+            });
+        } else {
+            dispatcher.ifAvailable(DomainEventDispatcher::wake);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package org.example.studentmanagement.event;
+
+public enum DomainEventType {
+    // An assignment was created or edited; entity id is the assignment
+    ASSIGNMENT_SAVED,
+    // A grade was entered or changed; entity id is the grade, unknown (null) for rows updated by a bulk upsert
+    GRADE_SAVED,
+    // A grade was deleted; entity id is the grade
+    GRADE_DELETED,
+    // A student marked an assignment done or not done; entity id is the assignment_details row
+    ASSIGNMENT_STATUS_SAVED
+}
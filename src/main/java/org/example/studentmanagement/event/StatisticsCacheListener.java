@@ -0,0 +1,41 @@
+package org.example.studentmanagement.event;
+
+import org.example.studentmanagement.config.CacheConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Clears the cached admin statistics when assignments or grades change or grades are deleted, once per batch
+ * rather than per event.
+ * The statistics count assignments by status and grades by letter; assignment completion is not part of them.
+ */
+@Component
+public class StatisticsCacheListener implements DomainEventListener {
+
+    private final ObjectProvider<CacheManager> cacheManager;
+
+    @Autowired
+    public StatisticsCacheListener(ObjectProvider<CacheManager> cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        boolean affected = events.stream().anyMatch(event -> event.type() == DomainEventType.ASSIGNMENT_SAVED
+                || event.type() == DomainEventType.GRADE_SAVED || event.type() == DomainEventType.GRADE_DELETED);
+        if (!affected) {
+            return;
+        }
+        cacheManager.ifAvailable(manager -> {
+            Cache statistics = manager.getCache(CacheConfig.STATISTICS);
+            if (statistics != null) {
+                statistics.clear();
+            }
+        });
+    }
+}
@@ -1,51 +1,103 @@
 package org.example.studentmanagement.security;
 
+import org.example.studentmanagement.config.CacheConfig;
+import org.example.studentmanagement.dao.UserDirectoryDAO;
+import org.example.studentmanagement.dto.UserAccount;
+import org.example.studentmanagement.entity.Admin;
 import org.example.studentmanagement.service.AdminService;
-import org.example.studentmanagement.service.StudentService;
-import org.example.studentmanagement.service.TeacherService;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 @Service
-public class CompositeUserDetailsService implements UserDetailsService {
+public class CompositeUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final AdminService adminService;
-    private final TeacherService teacherService;
-    private final StudentService studentService;
+    private final UserDirectoryDAO userDirectoryDAO;
+    private final Cache userCache;
 
-    public CompositeUserDetailsService(AdminService adminService, 
-                                      TeacherService teacherService, 
-                                      StudentService studentService) {
+    public CompositeUserDetailsService(AdminService adminService,
+                                      UserDirectoryDAO userDirectoryDAO,
+                                      CacheManager cacheManager) {
         this.adminService = adminService;
-        this.teacherService = teacherService;
-        this.studentService = studentService;
+        this.userDirectoryDAO = userDirectoryDAO;
+        this.userCache = cacheManager.getCache(CacheConfig.USERS);
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        // Try Admin first
-        try {
-            return adminService.loadUserByUsername(username);
-        } catch (UsernameNotFoundException e) {
-            // Continue to next service
+        // Admins are held in memory, so check them first without touching the database
+        Optional<Admin> admin = adminService.findByUserName(username);
+        if (admin.isPresent()) {
+            return User.withUsername(admin.get().getUserName())
+                    .password(admin.get().getPassword())
+                    .roles("ADMIN")
+                    .build();
         }
 
-        // Try Teacher
-        try {
-            return teacherService.loadUserByUsername(username);
-        } catch (UsernameNotFoundException e) {
-            // Continue to next service
+        UserAccount account = findAccount(username);
+        if (account == null) {
+            throw new UsernameNotFoundException("User not found: " + username);
         }
 
-        // Try Student
-        try {
-            return studentService.loadUserByUsername(username);
-        } catch (UsernameNotFoundException e) {
-            // All services failed
-            throw new UsernameNotFoundException("User not found: " + username);
+        // Build a fresh UserDetails per call: Spring Security erases the password on the
+        // authenticated principal, which must not reach the cached account
+        return User.withUsername(account.getUserName())
+                .password(account.getPassword())
+                .roles(account.getRole())
+                .build();
+    }
+
+    /**
+     * Called by Spring Security after a successful login whose stored hash needs upgrading
+     * (plain text or a BCrypt cost below the configured strength).
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Optional<Admin> admin = adminService.findByUserName(user.getUsername());
+        if (admin.isPresent()) {
+            // Admins are held in memory, so updating the entity is the whole write
+            admin.get().setPassword(newPassword);
+        } else {
+            String role = user.getAuthorities().iterator().next().getAuthority().substring("ROLE_".length());
+            userDirectoryDAO.updatePassword(user.getUsername(), role, newPassword);
+            userCache.evict(user.getUsername());
         }
+
+        return User.withUserDetails(user)
+                .password(newPassword)
+                .build();
     }
-}
 
+    // Accounts are cached under their username only, and an email login caches an alias to that username, so
+    // evicting the username also retires every other login that resolved to it
+    private UserAccount findAccount(String login) {
+        Object cached = userCache.get(login, Object.class);
+        if (cached instanceof LoginAlias alias) {
+            cached = userCache.get(alias.userName(), Object.class);
+        }
+        if (cached instanceof UserAccount account) {
+            return account;
+        }
+
+        // Unknown logins are not cached, so a newly registered user can sign in immediately
+        UserAccount account = userDirectoryDAO.findByLogin(login).orElse(null);
+        if (account != null) {
+            userCache.put(account.getUserName(), account);
+            if (!login.equals(account.getUserName())) {
+                userCache.put(login, new LoginAlias(account.getUserName()));
+            }
+        }
+        return account;
+    }
+
+    private record LoginAlias(String userName) {
+    }
+}
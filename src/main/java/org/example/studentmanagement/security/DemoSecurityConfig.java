@@ -1,5 +1,8 @@
 package org.example.studentmanagement.security;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -15,11 +18,22 @@ import org.springframework.security.web.SecurityFilterChain;
 @EnableMethodSecurity
 public class DemoSecurityConfig {
 
+    private static final Logger logger = LoggerFactory.getLogger(DemoSecurityConfig.class);
+
     @Bean
-    public PasswordEncoder passwordEncoder() {
+    public PasswordEncoder passwordEncoder(@Value("${app.security.bcrypt.strength:0}") int strength,
+                                           @Value("${app.security.bcrypt.target-latency-ms:100}") long targetLatencyMs,
+                                           @Value("${app.security.bcrypt.min-strength:10}") int minStrength,
+                                           @Value("${app.security.bcrypt.max-strength:14}") int maxStrength) {
+        // A fixed strength wins; otherwise pick the strongest cost that fits the target latency on this host
+        if (strength <= 0) {
+            strength = PlainTextOrBCryptPasswordEncoder.calibrateStrength(targetLatencyMs, minStrength, maxStrength);
+            logger.info("Calibrated BCrypt strength {} for a {} ms target", strength, targetLatencyMs);
+        }
+
         // Use custom encoder that supports both plain text and BCrypt
         // This allows using plain text passwords from mock-data.sql
-        return new PlainTextOrBCryptPasswordEncoder();
+        return new PlainTextOrBCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -27,7 +41,10 @@ public class DemoSecurityConfig {
                                                        CompositeUserDetailsService compositeUserDetailsService,
                                                        PasswordEncoder passwordEncoder) throws Exception {
         AuthenticationManagerBuilder builder = http.getSharedObject(AuthenticationManagerBuilder.class);
-        builder.userDetailsService(compositeUserDetailsService).passwordEncoder(passwordEncoder);
+        // The password manager rehashes legacy plain text rows on successful login
+        builder.userDetailsService(compositeUserDetailsService)
+                .passwordEncoder(passwordEncoder)
+                .userDetailsPasswordManager(compositeUserDetailsService);
         return builder.build();
     }
 
@@ -37,7 +54,7 @@ public class DemoSecurityConfig {
         http
                 .authorizeHttpRequests(authorize -> authorize
                         .requestMatchers("/", "/css/**", "/login").permitAll()
-                        .requestMatchers("/admin/**").hasRole("ADMIN")
+                        .requestMatchers("/admin/**", "/actuator/**").hasRole("ADMIN")
                         .requestMatchers("/teacher/**").hasAnyRole("ADMIN", "TEACHER")
                         .requestMatchers("/student/**").hasAnyRole("ADMIN", "TEACHER", "STUDENT")
                         .anyRequest().authenticated()
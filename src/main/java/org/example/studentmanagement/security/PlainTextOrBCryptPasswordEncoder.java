@@ -3,16 +3,60 @@ package org.example.studentmanagement.security;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 /**
  * Password encoder that supports both plain text and BCrypt hashed passwords.
  * This is useful for migration or testing purposes.
  * 
- * When encoding: Always uses BCrypt
- * When matching: Tries BCrypt first, then plain text comparison
+ * When encoding: Always uses BCrypt at the configured strength
+ * When matching: Detects the stored format first, so plain text rows never pay for a BCrypt verify
+ * When upgrading: Plain text rows and BCrypt hashes below the configured strength are rehashed
  */
 public class PlainTextOrBCryptPasswordEncoder implements PasswordEncoder {
 
-    private final BCryptPasswordEncoder bcryptEncoder = new BCryptPasswordEncoder();
+    public static final int DEFAULT_STRENGTH = 10;
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2([ayb])?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+
+    private final int strength;
+    private final BCryptPasswordEncoder bcryptEncoder;
+
+    public PlainTextOrBCryptPasswordEncoder() {
+        this(DEFAULT_STRENGTH);
+    }
+
+    public PlainTextOrBCryptPasswordEncoder(int strength) {
+        this.strength = strength;
+        this.bcryptEncoder = new BCryptPasswordEncoder(strength);
+    }
+
+    /**
+     * Picks the highest strength between minStrength and maxStrength whose single encode
+     * stays within targetMillis on this machine. Each extra round doubles the cost.
+     */
+    public static int calibrateStrength(long targetMillis, int minStrength, int maxStrength) {
+        // Warm up the JIT so the measurement reflects steady-state cost
+        new BCryptPasswordEncoder(4).encode("calibration");
+
+        long start = System.nanoTime();
+        new BCryptPasswordEncoder(minStrength).encode("calibration");
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+
+        int calibrated = minStrength;
+        while (calibrated < maxStrength && elapsedMillis * 2 <= targetMillis) {
+            calibrated++;
+            elapsedMillis *= 2;
+        }
+        return calibrated;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
 
     @Override
     public String encode(CharSequence rawPassword) {
@@ -26,18 +70,25 @@ public class PlainTextOrBCryptPasswordEncoder implements PasswordEncoder {
             return false;
         }
 
-        // Try BCrypt first
-        try {
-            if (bcryptEncoder.matches(rawPassword, encodedPassword)) {
-                return true;
-            }
-        } catch (Exception e) {
-            // Not a BCrypt hash, continue to plain text check
+        if (BCRYPT_PATTERN.matcher(encodedPassword).matches()) {
+            return bcryptEncoder.matches(rawPassword, encodedPassword);
         }
 
-        // If BCrypt doesn't match, try plain text comparison
-        // This allows plain text passwords in database for testing
-        return encodedPassword.equals(rawPassword.toString());
+        // Plain text passwords in the database (mock-data.sql, legacy rows)
+        return MessageDigest.isEqual(encodedPassword.getBytes(StandardCharsets.UTF_8),
+                rawPassword.toString().getBytes(StandardCharsets.UTF_8));
     }
-}
 
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        if (!matcher.matches()) {
+            return true;
+        }
+        return Integer.parseInt(matcher.group(2)) < strength;
+    }
+}
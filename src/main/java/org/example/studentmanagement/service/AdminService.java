@@ -5,6 +5,7 @@ import org.example.studentmanagement.entity.Student;
 import org.example.studentmanagement.entity.Teacher;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface AdminService extends UserDetailsService {
@@ -18,6 +19,16 @@ public interface AdminService extends UserDetailsService {
     // Admin operations on Teacher entities
     void createTeacher(Teacher teacher);
     void updateTeacher(Teacher teacher);
+    void deleteTeacherWithRelatedData(int teacherId);
+
+    // Admin operations on Course entities
+    void deleteCourseWithRelatedData(int courseId);
+    void removeStudentFromCourse(int studentId, int courseId);
+
+    // Bulk deletes for term rollover, each returning the number of rows removed
+    int deleteStudents(Collection<Integer> studentIds);
+    int deleteTeachers(Collection<Integer> teacherIds);
+    int deleteCourses(Collection<Integer> courseIds);
 }
 
 
@@ -1,19 +1,26 @@
 package org.example.studentmanagement.service;
 
+import org.example.studentmanagement.config.CacheConfig;
 import org.example.studentmanagement.dao.AdminDAO;
+import org.example.studentmanagement.dao.DeletionDAO;
+import org.example.studentmanagement.dao.GradeAnalyticsDAO;
+import org.example.studentmanagement.dao.GradeSelection;
 import org.example.studentmanagement.dao.StudentDAO;
 import org.example.studentmanagement.dao.TeacherDAO;
 import org.example.studentmanagement.entity.Admin;
 import org.example.studentmanagement.entity.Student;
-import org.example.studentmanagement.entity.StudentCourseDetails;
 import org.example.studentmanagement.entity.Teacher;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,26 +30,26 @@ public class AdminServiceImpl implements AdminService {
     private final AdminDAO adminDAO;
     private final StudentDAO studentDAO;
     private final TeacherDAO teacherDAO;
+    private final DeletionDAO deletionDAO;
+    private final GradeAnalyticsDAO gradeAnalyticsDAO;
     private final StudentService studentService;
     private final TeacherService teacherService;
-    private final StudentCourseDetailsService studentCourseDetailsService;
-    private final GradeDetailsService gradeDetailsService;
 
     @Autowired
     public AdminServiceImpl(AdminDAO adminDAO,
                            StudentDAO studentDAO,
                            TeacherDAO teacherDAO,
+                           DeletionDAO deletionDAO,
+                           GradeAnalyticsDAO gradeAnalyticsDAO,
                            StudentService studentService,
-                           TeacherService teacherService,
-                           StudentCourseDetailsService studentCourseDetailsService,
-                           GradeDetailsService gradeDetailsService) {
+                           TeacherService teacherService) {
         this.adminDAO = adminDAO;
         this.studentDAO = studentDAO;
         this.teacherDAO = teacherDAO;
+        this.deletionDAO = deletionDAO;
+        this.gradeAnalyticsDAO = gradeAnalyticsDAO;
         this.studentService = studentService;
         this.teacherService = teacherService;
-        this.studentCourseDetailsService = studentCourseDetailsService;
-        this.gradeDetailsService = gradeDetailsService;
     }
 
     @Override
@@ -88,24 +95,19 @@ public class AdminServiceImpl implements AdminService {
         studentService.save(student);
     }
 
+    // Enrollments, assignment details and grades go with the student through ON DELETE CASCADE;
+    // the grades are first taken out of the course statistics, which a course delete drops along with them
     @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.STUDENTS, key = "#studentId"),
+            @CacheEvict(cacheNames = CacheConfig.USERS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.COURSES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.STATISTICS, allEntries = true)
+    })
     public void deleteStudentWithRelatedData(int studentId) {
-        // Delete all grade details for this student
-        List<StudentCourseDetails> enrollments = studentCourseDetailsService.findByStudentId(studentId);
-        for(StudentCourseDetails scd : enrollments) {
-            // Find and delete all grades for this student and course
-            List<org.example.studentmanagement.entity.GradeDetails> grades =
-                gradeDetailsService.findByStudentIdAndCourseId(studentId, scd.getCourseId());
-            for(org.example.studentmanagement.entity.GradeDetails grade : grades) {
-                gradeDetailsService.deleteById(grade.getId());
-            }
-        }
-
-        // Delete all student course enrollments
-        studentCourseDetailsService.deleteByStudentId(studentId);
-
-        // Finally delete the student
-        studentDAO.deleteById(studentId);
+        subtractGrades(GradeSelection.byStudents(List.of(studentId)));
+        deletionDAO.deleteStudent(studentId);
     }
     
     // Admin operations on Teacher entities
@@ -135,6 +137,90 @@ public class AdminServiceImpl implements AdminService {
         // Use TeacherService.save() which handles password encoding
         teacherService.save(teacher);
     }
-}
 
+    // Courses, assignments and grades keep their rows with the teacher reference set to NULL
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.TEACHERS, key = "#teacherId"),
+            @CacheEvict(cacheNames = CacheConfig.USERS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.COURSES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.STUDENTS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.STATISTICS, allEntries = true)
+    })
+    public void deleteTeacherWithRelatedData(int teacherId) {
+        deletionDAO.deleteTeacher(teacherId);
+    }
+
+    // Admin operations on Course entities
+
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.COURSES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.TEACHERS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.STUDENTS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.STATISTICS, allEntries = true)
+    })
+    public void deleteCourseWithRelatedData(int courseId) {
+        deletionDAO.deleteCourse(courseId);
+    }
+
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.COURSES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.STUDENTS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.STATISTICS, allEntries = true)
+    })
+    public void removeStudentFromCourse(int studentId, int courseId) {
+        subtractGrades(GradeSelection.byEnrollment(studentId, courseId));
+        deletionDAO.deleteEnrollment(studentId, courseId);
+    }
+
+    // Bulk deletes touch too many keys to evict individually, so every affected cache is cleared
 
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.STUDENTS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.USERS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.COURSES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.STATISTICS, allEntries = true)
+    })
+    public int deleteStudents(Collection<Integer> studentIds) {
+        subtractGrades(GradeSelection.byStudents(studentIds));
+        return deletionDAO.deleteStudents(studentIds);
+    }
+
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.TEACHERS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.USERS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.COURSES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.STUDENTS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.STATISTICS, allEntries = true)
+    })
+    public int deleteTeachers(Collection<Integer> teacherIds) {
+        return deletionDAO.deleteTeachers(teacherIds);
+    }
+
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.COURSES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.TEACHERS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.STUDENTS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.STATISTICS, allEntries = true)
+    })
+    public int deleteCourses(Collection<Integer> courseIds) {
+        return deletionDAO.deleteCourses(courseIds);
+    }
+
+    // Deleted grades leave the course statistics; their buckets are locked first, as for any grade write
+    private void subtractGrades(GradeSelection grades) {
+        gradeAnalyticsDAO.lock(grades, List.of());
+        gradeAnalyticsDAO.subtract(grades);
+    }
+}
@@ -7,6 +7,7 @@ public interface AssignmentDetailsService {
     AssignmentDetails findByAssignmentAndStudentCourseDetailsId(int assignmentId, int studentCourseDetailsId);
     List<AssignmentDetails> findAll();
     void save(AssignmentDetails assignmentDetails);
+    void saveAll(List<AssignmentDetails> assignmentDetailsList);
     void deleteById(int id);
 }
 
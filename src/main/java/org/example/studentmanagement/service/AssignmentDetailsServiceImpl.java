@@ -2,8 +2,11 @@ package org.example.studentmanagement.service;
 
 import org.example.studentmanagement.dao.AssignmentDetailsDAO;
 import org.example.studentmanagement.entity.AssignmentDetails;
+import org.example.studentmanagement.event.DomainEvent;
+import org.example.studentmanagement.event.DomainEventPublisher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -11,13 +14,16 @@ import java.util.List;
 public class AssignmentDetailsServiceImpl implements AssignmentDetailsService {
 
     private final AssignmentDetailsDAO assignmentDetailsDAO;
+    private final DomainEventPublisher eventPublisher;
 
     @Autowired
-    public AssignmentDetailsServiceImpl(AssignmentDetailsDAO assignmentDetailsDAO) {
+    public AssignmentDetailsServiceImpl(AssignmentDetailsDAO assignmentDetailsDAO, DomainEventPublisher eventPublisher) {
         this.assignmentDetailsDAO = assignmentDetailsDAO;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public AssignmentDetails findByAssignmentAndStudentCourseDetailsId(int assignmentId, int studentCourseDetailsId) {
         return assignmentDetailsDAO.findByAssignmentIdAndStudentCourseDetailsId(assignmentId, studentCourseDetailsId);
     }
@@ -28,11 +34,21 @@ public class AssignmentDetailsServiceImpl implements AssignmentDetailsService {
     }
 
     @Override
+    @Transactional
     public void save(AssignmentDetails assignmentDetails) {
         assignmentDetailsDAO.save(assignmentDetails);
+        eventPublisher.publish(DomainEvent.assignmentStatusSaved(assignmentDetails));
     }
 
     @Override
+    @Transactional
+    public void saveAll(List<AssignmentDetails> assignmentDetailsList) {
+        assignmentDetailsDAO.saveAll(assignmentDetailsList);
+        eventPublisher.publish(assignmentDetailsList.stream().map(DomainEvent::assignmentStatusSaved).toList());
+    }
+
+    @Override
+    @Transactional
     public void deleteById(int id) {
         assignmentDetailsDAO.deleteById(id);
     }
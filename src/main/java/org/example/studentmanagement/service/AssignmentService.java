@@ -12,5 +12,8 @@ public interface AssignmentService {
 
     void save(Assignment assignment);
 
+    // Saves the assignment and an incomplete AssignmentDetails row for every student enrolled in its course
+    void createAssignment(Assignment assignment);
+
     void deleteAssignmentById(int id);
 }
@@ -1,23 +1,41 @@
 package org.example.studentmanagement.service;
 
 import org.example.studentmanagement.dao.AssignmentDAO;
+import org.example.studentmanagement.dao.AssignmentDetailsDAO;
+import org.example.studentmanagement.dao.StudentCourseDetailsDAO;
 import org.example.studentmanagement.entity.Assignment;
+import org.example.studentmanagement.entity.AssignmentDetails;
+import org.example.studentmanagement.entity.StudentCourseDetails;
+import org.example.studentmanagement.event.DomainEvent;
+import org.example.studentmanagement.event.DomainEventPublisher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
 public class AssignmentServiceImpl implements AssignmentService {
 
     private final AssignmentDAO assignmentDAO;
+    private final StudentCourseDetailsDAO studentCourseDetailsDAO;
+    private final AssignmentDetailsDAO assignmentDetailsDAO;
+    private final DomainEventPublisher eventPublisher;
 
     @Autowired
-    public AssignmentServiceImpl(AssignmentDAO assignmentDAO) {
+    public AssignmentServiceImpl(AssignmentDAO assignmentDAO,
+                                 StudentCourseDetailsDAO studentCourseDetailsDAO,
+                                 AssignmentDetailsDAO assignmentDetailsDAO,
+                                 DomainEventPublisher eventPublisher) {
         this.assignmentDAO = assignmentDAO;
+        this.studentCourseDetailsDAO = studentCourseDetailsDAO;
+        this.assignmentDetailsDAO = assignmentDetailsDAO;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Assignment findById(int id) {
         return assignmentDAO.findById(id);
     }
@@ -28,16 +46,39 @@ public class AssignmentServiceImpl implements AssignmentService {
     }
 
     @Override
+    @Transactional
     public void save(Assignment assignment) {
         assignmentDAO.save(assignment);
+        eventPublisher.publish(DomainEvent.assignmentSaved(assignment));
     }
 
+    // The assignment and its fan-out commit together, so no enrolled student is left without a status row
     @Override
+    @Transactional
+    public void createAssignment(Assignment assignment) {
+        assignmentDAO.save(assignment);
+
+        List<StudentCourseDetails> enrollments = studentCourseDetailsDAO.findByCourseId(assignment.getCourseId());
+        List<AssignmentDetails> assignmentDetailsList = new ArrayList<>();
+        for (StudentCourseDetails studentCourseDetails : enrollments) {
+            AssignmentDetails assignmentDetail = new AssignmentDetails();
+            assignmentDetail.setAssignmentId(assignment.getId());
+            assignmentDetail.setStudentCourseDetailsId(studentCourseDetails.getId());
+            assignmentDetail.setIsDone(0);
+            assignmentDetailsList.add(assignmentDetail);
+        }
+        assignmentDetailsDAO.saveAll(assignmentDetailsList);
+        eventPublisher.publish(DomainEvent.assignmentSaved(assignment));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<Assignment> findByCourseId(int courseId) {
         return assignmentDAO.findByCourseId(courseId);
     }
 
     @Override
+    @Transactional
     public void deleteAssignmentById(int id) {
         assignmentDAO.deleteById(id);
     }
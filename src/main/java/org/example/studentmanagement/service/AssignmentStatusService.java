@@ -0,0 +1,8 @@
+package org.example.studentmanagement.service;
+
+import org.example.studentmanagement.dto.AssignmentStatusRow;
+import java.util.List;
+
+public interface AssignmentStatusService {
+    List<AssignmentStatusRow> getStatusMatrix(int courseId, int assignmentId);
+}
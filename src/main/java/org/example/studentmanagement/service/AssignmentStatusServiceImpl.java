@@ -0,0 +1,26 @@
+package org.example.studentmanagement.service;
+
+import org.example.studentmanagement.dao.AssignmentDetailsDAO;
+import org.example.studentmanagement.dto.AssignmentStatusRow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+public class AssignmentStatusServiceImpl implements AssignmentStatusService {
+
+    private final AssignmentDetailsDAO assignmentDetailsDAO;
+
+    @Autowired
+    public AssignmentStatusServiceImpl(AssignmentDetailsDAO assignmentDetailsDAO) {
+        this.assignmentDetailsDAO = assignmentDetailsDAO;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AssignmentStatusRow> getStatusMatrix(int courseId, int assignmentId) {
+        return assignmentDetailsDAO.findStatusRowsByCourseIdAndAssignmentId(courseId, assignmentId);
+    }
+}
@@ -0,0 +1,12 @@
+package org.example.studentmanagement.service;
+
+import org.example.studentmanagement.dto.ImportResult;
+
+import java.io.IOException;
+import java.io.Reader;
+
+public interface BulkImportService {
+    ImportResult importStudents(Reader csv) throws IOException;
+    ImportResult importTeachers(Reader csv) throws IOException;
+    ImportResult importEnrollments(Reader csv) throws IOException;
+}
@@ -0,0 +1,318 @@
+package org.example.studentmanagement.service;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.example.studentmanagement.config.CacheConfig;
+import org.example.studentmanagement.dao.BulkImportDAO;
+import org.example.studentmanagement.dto.ImportAccountRow;
+import org.example.studentmanagement.dto.ImportEnrollmentRow;
+import org.example.studentmanagement.dto.ImportResult;
+import org.example.studentmanagement.entity.Student;
+import org.example.studentmanagement.entity.Teacher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk CSV import in three stages: parse and validate each record (errors are reported per line and the
+ * record is skipped), hash passwords in parallel chunks, then hand the accepted rows to BulkImportDAO,
+ * which stages and merges them set-based. Rows stream through all stages, so file size does not drive memory.
+ */
+@Service
+public class BulkImportServiceImpl implements BulkImportService {
+
+    // Rows hashed together; large enough to keep every core busy, small enough to stream
+    static final int HASH_CHUNK_SIZE = 1024;
+
+    private static final List<String> ACCOUNT_COLUMNS = List.of("username", "password", "first_name", "last_name", "email");
+    private static final List<String> ENROLLMENT_COLUMNS = List.of("username", "course_code");
+
+    private final BulkImportDAO bulkImportDAO;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final int hashThreads;
+
+    @Autowired
+    public BulkImportServiceImpl(BulkImportDAO bulkImportDAO,
+                                 PasswordEncoder passwordEncoder,
+                                 Validator validator,
+                                 @Value("${app.import.hash-threads:0}") int hashThreads) {
+        this.bulkImportDAO = bulkImportDAO;
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.hashThreads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.STATISTICS, allEntries = true)
+    public ImportResult importStudents(Reader csv) throws IOException {
+        return importAccounts(csv, Student.class, bulkImportDAO::importStudents);
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.STATISTICS, allEntries = true)
+    public ImportResult importTeachers(Reader csv) throws IOException {
+        return importAccounts(csv, Teacher.class, bulkImportDAO::importTeachers);
+    }
+
+    // Cached students and course rosters include enrollments, so they are invalidated as a whole
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.STUDENTS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.COURSES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.STATISTICS, allEntries = true)
+    })
+    public ImportResult importEnrollments(Reader csv) throws IOException {
+        ImportResult result = new ImportResult();
+        CsvReader reader = new CsvReader(csv);
+        Map<String, Integer> header = readHeader(reader, ENROLLMENT_COLUMNS, result);
+        if (header == null) {
+            return result;
+        }
+
+        Iterator<ImportEnrollmentRow> rows = new RecordIterator<>(reader, header, ENROLLMENT_COLUMNS, result,
+                (line, fields) -> {
+                    String userName = fields.get(0).trim();
+                    String courseCode = fields.get(1).trim();
+                    if (userName.isEmpty() || courseCode.isEmpty()) {
+                        result.addError(line, "Username and course code are required");
+                        return null;
+                    }
+                    return new ImportEnrollmentRow(line, userName, courseCode);
+                });
+        try {
+            bulkImportDAO.importEnrollments(rows, result);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return result;
+    }
+
+    private ImportResult importAccounts(Reader csv, Class<?> entityType, AccountImporter importer) throws IOException {
+        ImportResult result = new ImportResult();
+        CsvReader reader = new CsvReader(csv);
+        Map<String, Integer> header = readHeader(reader, ACCOUNT_COLUMNS, result);
+        if (header == null) {
+            return result;
+        }
+
+        // Duplicates within the file are caught here so they are never hashed; clashes with existing
+        // accounts are reported by the DAO after staging
+        Map<String, Integer> userNames = new HashMap<>();
+        Map<String, Integer> emails = new HashMap<>();
+        Iterator<ImportAccountRow> rows = new RecordIterator<>(reader, header, ACCOUNT_COLUMNS, result,
+                (line, fields) -> {
+                    ImportAccountRow row = new ImportAccountRow(line, fields.get(0).trim(), fields.get(1),
+                            fields.get(2).trim(), fields.get(3).trim(), fields.get(4).trim());
+                    String violations = validate(entityType, row);
+                    if (violations != null) {
+                        result.addError(line, violations);
+                        return null;
+                    }
+                    Integer firstUserName = userNames.putIfAbsent(row.getUserName(), line);
+                    if (firstUserName != null) {
+                        result.addError(line, "Duplicate username, first used on line " + firstUserName);
+                        return null;
+                    }
+                    Integer firstEmail = emails.putIfAbsent(row.getEmail().toLowerCase(Locale.ROOT), line);
+                    if (firstEmail != null) {
+                        result.addError(line, "Duplicate email, first used on line " + firstEmail);
+                        return null;
+                    }
+                    return row;
+                });
+
+        ForkJoinPool pool = new ForkJoinPool(hashThreads);
+        try {
+            importer.importRows(new HashingIterator(rows, pool), result);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            pool.shutdown();
+        }
+        return result;
+    }
+
+    // Applies the same bean validation rules as the admin student and teacher forms
+    private String validate(Class<?> entityType, ImportAccountRow row) {
+        Set<? extends ConstraintViolation<?>> violations;
+        if (entityType == Teacher.class) {
+            Teacher teacher = new Teacher();
+            teacher.setUserName(row.getUserName());
+            teacher.setPassword(row.getPassword());
+            teacher.setFirstName(row.getFirstName());
+            teacher.setLastName(row.getLastName());
+            teacher.setEmail(row.getEmail());
+            violations = validator.validate(teacher);
+        } else {
+            Student student = new Student();
+            student.setUserName(row.getUserName());
+            student.setPassword(row.getPassword());
+            student.setFirstName(row.getFirstName());
+            student.setLastName(row.getLastName());
+            student.setEmail(row.getEmail());
+            violations = validator.validate(student);
+        }
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining("; "));
+    }
+
+    // Maps required columns to their position in the file; null (with an error on line 1) if any is missing
+    private Map<String, Integer> readHeader(CsvReader reader, List<String> required, ImportResult result)
+            throws IOException {
+        List<String> header = reader.readRecord();
+        if (header == null) {
+            result.addError(1, "File is empty");
+            return null;
+        }
+
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            positions.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missing = required.stream().filter(column -> !positions.containsKey(column)).toList();
+        if (!missing.isEmpty()) {
+            result.addError(reader.getRecordLine(), "Missing column(s): " + String.join(", ", missing));
+            return null;
+        }
+        return positions;
+    }
+
+    // Same password rule as StudentServiceImpl.save: values that are already BCrypt hashes are kept as they are
+    private ImportAccountRow hashPassword(ImportAccountRow row) {
+        String password = row.getPassword();
+        if (password.startsWith("$2a$") || password.startsWith("$2b$") || password.startsWith("$2y$")) {
+            return row;
+        }
+        return row.withPassword(passwordEncoder.encode(password));
+    }
+
+    @FunctionalInterface
+    private interface AccountImporter {
+        void importRows(Iterator<ImportAccountRow> rows, ImportResult result);
+    }
+
+    @FunctionalInterface
+    private interface RecordParser<T> {
+        // Returns the parsed row, or null after recording why the record was rejected
+        T parse(int line, List<String> fields);
+    }
+
+    // Parse and validate stage: yields only the records that passed, in file order
+    private static final class RecordIterator<T> implements Iterator<T> {
+
+        private final CsvReader reader;
+        private final int[] positions;
+        private final int requiredFields;
+        private final ImportResult result;
+        private final RecordParser<T> parser;
+        private T next;
+
+        private RecordIterator(CsvReader reader, Map<String, Integer> header, List<String> columns,
+                               ImportResult result, RecordParser<T> parser) {
+            this.reader = reader;
+            this.positions = columns.stream().mapToInt(header::get).toArray();
+            this.requiredFields = columns.stream().mapToInt(header::get).max().orElse(-1) + 1;
+            this.result = result;
+            this.parser = parser;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                while (next == null) {
+                    List<String> record = reader.readRecord();
+                    if (record == null) {
+                        return false;
+                    }
+                    result.addRow();
+                    int line = reader.getRecordLine();
+                    if (record.size() < requiredFields) {
+                        result.addError(line, "Expected at least " + requiredFields + " fields but found "
+                                + record.size());
+                        continue;
+                    }
+                    List<String> fields = new ArrayList<>(positions.length);
+                    for (int position : positions) {
+                        fields.add(record.get(position));
+                    }
+                    next = parser.parse(line, fields);
+                }
+                return true;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T row = next;
+            next = null;
+            return row;
+        }
+    }
+
+    // Hashing stage: BCrypt dominates import time, so each chunk is hashed across all cores before it is staged
+    private final class HashingIterator implements Iterator<ImportAccountRow> {
+
+        private final Iterator<ImportAccountRow> source;
+        private final ForkJoinPool pool;
+        private Iterator<ImportAccountRow> chunk = List.<ImportAccountRow>of().iterator();
+
+        private HashingIterator(Iterator<ImportAccountRow> source, ForkJoinPool pool) {
+            this.source = source;
+            this.pool = pool;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!chunk.hasNext() && source.hasNext()) {
+                List<ImportAccountRow> plain = new ArrayList<>(HASH_CHUNK_SIZE);
+                while (plain.size() < HASH_CHUNK_SIZE && source.hasNext()) {
+                    plain.add(source.next());
+                }
+                try {
+                    chunk = pool.submit(() -> plain.parallelStream().map(BulkImportServiceImpl.this::hashPassword).toList())
+                            .get().iterator();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Password hashing interrupted", e);
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Password hashing failed", e.getCause());
+                }
+            }
+            return chunk.hasNext();
+        }
+
+        @Override
+        public ImportAccountRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return chunk.next();
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package org.example.studentmanagement.service;
 
+import org.example.studentmanagement.dto.KeysetPage;
+import org.example.studentmanagement.dto.PageQuery;
 import org.example.studentmanagement.entity.Course;
 import java.util.List;
 
 public interface CourseService {
     Course findCourseById(int id);
     List<Course> findAllCourses();
+    KeysetPage<Course> findCoursePage(PageQuery query);
     void save(Course course);
     void deleteById(int id);
     void deleteCourseById(int id);
@@ -1,9 +1,16 @@
 package org.example.studentmanagement.service;
 
+import org.example.studentmanagement.config.CacheConfig;
 import org.example.studentmanagement.dao.CourseDAO;
+import org.example.studentmanagement.dto.KeysetPage;
+import org.example.studentmanagement.dto.PageQuery;
 import org.example.studentmanagement.entity.Course;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -18,26 +25,53 @@ public class CourseServiceImpl implements CourseService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.COURSES, key = "#id", unless = "#result == null")
     public Course findCourseById(int id) {
         return courseDAO.findById(id);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Course> findAllCourses() {
         return courseDAO.findAll();
     }
 
     @Override
+    public KeysetPage<Course> findCoursePage(PageQuery query) {
+        return courseDAO.findPage(query);
+    }
+
+    // Teachers and students embed their course lists, so course writes invalidate all three caches
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.COURSES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.TEACHERS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.STUDENTS, allEntries = true)
+    })
     public void save(Course course) {
         courseDAO.save(course);
     }
 
     @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.COURSES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.TEACHERS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.STUDENTS, allEntries = true)
+    })
     public void deleteById(int id) {
         courseDAO.deleteById(id);
     }
 
     @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.COURSES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.TEACHERS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.STUDENTS, allEntries = true)
+    })
     public void deleteCourseById(int id) {
         courseDAO.deleteById(id);
     }
@@ -0,0 +1,97 @@
+package org.example.studentmanagement.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 reader: comma separated, double-quoted fields may contain commas, quotes ("") and line breaks.
+ * Reads one record at a time so imports never hold the whole file.
+ */
+class CsvReader {
+
+    private final BufferedReader reader;
+    private int lineNumber = 1;
+    private int recordLine;
+    private boolean started;
+
+    CsvReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+    }
+
+    // Line on which the record most recently returned by readRecord starts
+    int getRecordLine() {
+        return recordLine;
+    }
+
+    // Returns the next non-blank record, or null at end of input
+    List<String> readRecord() throws IOException {
+        while (true) {
+            int c = reader.read();
+            if (!started) {
+                started = true;
+                if (c == '\uFEFF') {
+                    // Skip the byte order mark spreadsheet tools put in front of UTF-8 exports
+                    c = reader.read();
+                }
+            }
+            if (c == -1) {
+                return null;
+            }
+            if (c == '\n') {
+                lineNumber++;
+                continue;
+            }
+            if (c == '\r') {
+                continue;
+            }
+            recordLine = lineNumber;
+            return readFields(c);
+        }
+    }
+
+    private List<String> readFields(int c) throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Unterminated quoted field starting on line " + recordLine);
+                }
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                if (c == '\n') {
+                    lineNumber++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+}
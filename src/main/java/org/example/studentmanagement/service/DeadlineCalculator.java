@@ -0,0 +1,64 @@
+package org.example.studentmanagement.service;
+
+import org.example.studentmanagement.entity.Assignment;
+import org.example.studentmanagement.entity.DeadlineStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Days remaining and deadline buckets for every page and API that shows due dates, so students and
+ * teachers see the same numbers. Due dates are DATE columns, so nothing is parsed per row.
+ */
+@Component
+public class DeadlineCalculator {
+
+    private final Clock clock;
+    private final int dueSoonDays;
+
+    @Autowired
+    public DeadlineCalculator(@Value("${app.deadlines.due-soon-days:3}") int dueSoonDays) {
+        this(Clock.systemDefaultZone(), dueSoonDays);
+    }
+
+    public DeadlineCalculator(Clock clock, int dueSoonDays) {
+        this.clock = clock;
+        this.dueSoonDays = dueSoonDays;
+    }
+
+    public LocalDate today() {
+        return LocalDate.now(clock);
+    }
+
+    // Negative once the due date has passed; 0 when there is no due date
+    public int daysRemaining(LocalDate dueDate) {
+        return dueDate == null ? 0 : (int) ChronoUnit.DAYS.between(today(), dueDate);
+    }
+
+    public DeadlineStatus status(LocalDate dueDate) {
+        if (dueDate == null) {
+            return DeadlineStatus.NO_DUE_DATE;
+        }
+        int days = daysRemaining(dueDate);
+        if (days < 0) {
+            return DeadlineStatus.OVERDUE;
+        }
+        return days <= dueSoonDays ? DeadlineStatus.DUE_SOON : DeadlineStatus.UPCOMING;
+    }
+
+    public void apply(Assignment assignment) {
+        assignment.setDaysRemaining(daysRemaining(assignment.getDueDate()));
+        assignment.setDeadlineStatus(status(assignment.getDueDate()));
+    }
+
+    public void applyAll(List<Assignment> assignments) {
+        for (Assignment assignment : assignments) {
+            apply(assignment);
+        }
+    }
+}
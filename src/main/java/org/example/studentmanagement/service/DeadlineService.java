@@ -0,0 +1,14 @@
+package org.example.studentmanagement.service;
+
+import org.example.studentmanagement.dto.UpcomingDeadline;
+
+import java.util.List;
+
+public interface DeadlineService {
+
+    // Open assignments of the student's courses due from today on, earliest first
+    List<UpcomingDeadline> upcomingForStudent(int studentId, int limit);
+
+    // Active assignments of the teacher's courses due from today on, earliest first
+    List<UpcomingDeadline> upcomingForTeacher(int teacherId, int limit);
+}
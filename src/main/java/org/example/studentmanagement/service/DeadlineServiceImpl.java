@@ -0,0 +1,46 @@
+package org.example.studentmanagement.service;
+
+import org.example.studentmanagement.dao.AssignmentDAO;
+import org.example.studentmanagement.dto.UpcomingDeadline;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class DeadlineServiceImpl implements DeadlineService {
+
+    // Upper bound on one response, whatever the caller asks for
+    static final int MAX_LIMIT = 100;
+
+    private final AssignmentDAO assignmentDAO;
+    private final DeadlineCalculator deadlineCalculator;
+
+    @Autowired
+    public DeadlineServiceImpl(AssignmentDAO assignmentDAO, DeadlineCalculator deadlineCalculator) {
+        this.assignmentDAO = assignmentDAO;
+        this.deadlineCalculator = deadlineCalculator;
+    }
+
+    @Override
+    public List<UpcomingDeadline> upcomingForStudent(int studentId, int limit) {
+        return withDays(assignmentDAO.findUpcomingForStudent(studentId, deadlineCalculator.today(), clamp(limit)));
+    }
+
+    @Override
+    public List<UpcomingDeadline> upcomingForTeacher(int teacherId, int limit) {
+        return withDays(assignmentDAO.findUpcomingForTeacher(teacherId, deadlineCalculator.today(), clamp(limit)));
+    }
+
+    private List<UpcomingDeadline> withDays(List<UpcomingDeadline> deadlines) {
+        for (UpcomingDeadline deadline : deadlines) {
+            deadline.setDaysRemaining(deadlineCalculator.daysRemaining(deadline.getDueDate()));
+            deadline.setDeadlineStatus(deadlineCalculator.status(deadline.getDueDate()));
+        }
+        return deadlines;
+    }
+
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
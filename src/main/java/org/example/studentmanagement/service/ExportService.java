@@ -0,0 +1,11 @@
+package org.example.studentmanagement.service;
+
+import org.example.studentmanagement.dto.ExportDataset;
+import org.example.studentmanagement.dto.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ExportService {
+    void export(ExportDataset dataset, ExportFormat format, OutputStream out) throws IOException;
+}
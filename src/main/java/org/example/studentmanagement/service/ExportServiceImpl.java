@@ -0,0 +1,133 @@
+package org.example.studentmanagement.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.example.studentmanagement.dao.ExportDAO;
+import org.example.studentmanagement.dao.ExportRowHandler;
+import org.example.studentmanagement.dto.ExportDataset;
+import org.example.studentmanagement.dto.ExportFormat;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+@Service
+public class ExportServiceImpl implements ExportService {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final ExportDAO exportDAO;
+
+    @Autowired
+    public ExportServiceImpl(ExportDAO exportDAO) {
+        this.exportDAO = exportDAO;
+    }
+
+    @Override
+    public void export(ExportDataset dataset, ExportFormat format, OutputStream out) throws IOException {
+        // Rows go through a small write buffer straight to the caller's stream; the caller owns closing it
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        ExportRowHandler handler = switch (format) {
+            case CSV -> new CsvRowWriter(writer);
+            case NDJSON -> new NdjsonRowWriter(writer);
+        };
+        exportDAO.stream(dataset, handler);
+        writer.flush();
+    }
+
+    // Writes RFC 4180 CSV: a header line, then one line per row with fields quoted only when needed
+    static class CsvRowWriter implements ExportRowHandler {
+
+        private final Writer writer;
+
+        CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void header(String[] columns) throws IOException {
+            writeLine(columns);
+        }
+
+        @Override
+        public void row(Object[] values) throws IOException {
+            writeLine(values);
+        }
+
+        private void writeLine(Object[] fields) throws IOException {
+            for (int i = 0; i < fields.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                if (fields[i] != null) {
+                    writer.write(escape(fields[i].toString()));
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+
+    // Writes one JSON object per line, keyed by column name, keeping numbers and booleans unquoted
+    static class NdjsonRowWriter implements ExportRowHandler {
+
+        private final Writer writer;
+        private String[] columns;
+
+        NdjsonRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void header(String[] columns) {
+            this.columns = columns;
+        }
+
+        @Override
+        public void row(Object[] values) throws IOException {
+            JsonGenerator json = JSON_FACTORY.createGenerator(writer);
+            // The generator must not close or flush the shared writer after each line
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            json.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+            json.writeStartObject();
+            for (int i = 0; i < columns.length; i++) {
+                json.writeFieldName(columns[i]);
+                writeValue(json, values[i]);
+            }
+            json.writeEndObject();
+            json.close();
+            writer.write('\n');
+        }
+
+        private void writeValue(JsonGenerator json, Object value) throws IOException {
+            if (value == null) {
+                json.writeNull();
+            } else if (value instanceof Integer || value instanceof Long || value instanceof Short) {
+                json.writeNumber(((Number) value).longValue());
+            } else if (value instanceof BigDecimal decimal) {
+                json.writeNumber(decimal);
+            } else if (value instanceof BigInteger integer) {
+                json.writeNumber(integer);
+            } else if (value instanceof Number number) {
+                json.writeNumber(number.doubleValue());
+            } else if (value instanceof Boolean bool) {
+                json.writeBoolean(bool);
+            } else {
+                json.writeString(value.toString());
+            }
+        }
+    }
+}
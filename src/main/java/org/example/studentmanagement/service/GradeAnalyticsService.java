@@ -0,0 +1,8 @@
+package org.example.studentmanagement.service;
+
+import org.example.studentmanagement.dto.CourseGradeAnalytics;
+
+public interface GradeAnalyticsService {
+    // Mean, spread, percentiles and histogram of the course's final grades and of each assignment, from running totals
+    CourseGradeAnalytics getCourseAnalytics(int courseId);
+}
@@ -0,0 +1,35 @@
+package org.example.studentmanagement.service;
+
+import org.example.studentmanagement.dao.GradeAnalyticsDAO;
+import org.example.studentmanagement.dto.CourseGradeAnalytics;
+import org.example.studentmanagement.dto.GradeStatistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class GradeAnalyticsServiceImpl implements GradeAnalyticsService {
+
+    private final GradeAnalyticsDAO gradeAnalyticsDAO;
+
+    @Autowired
+    public GradeAnalyticsServiceImpl(GradeAnalyticsDAO gradeAnalyticsDAO) {
+        this.gradeAnalyticsDAO = gradeAnalyticsDAO;
+    }
+
+    @Override
+    public CourseGradeAnalytics getCourseAnalytics(int courseId) {
+        GradeStatistics courseGrades = new GradeStatistics(null);
+        List<GradeStatistics> assignments = new ArrayList<>();
+        for (GradeStatistics statistics : gradeAnalyticsDAO.findByCourseId(courseId)) {
+            if (statistics.getAssignmentName() == null) {
+                courseGrades = statistics;
+            } else {
+                assignments.add(statistics);
+            }
+        }
+        return new CourseGradeAnalytics(courseId, courseGrades, assignments);
+    }
+}
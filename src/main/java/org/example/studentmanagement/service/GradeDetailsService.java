@@ -9,5 +9,6 @@ public interface GradeDetailsService {
     void save(GradeDetails gradeDetails);
     void deleteById(int id);
     List<GradeDetails> findByStudentIdAndCourseId(int studentId, int courseId);
+    void upsertAll(List<GradeDetails> gradeDetailsList);
 }
 
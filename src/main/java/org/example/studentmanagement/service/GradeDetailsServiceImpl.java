@@ -1,20 +1,40 @@
 package org.example.studentmanagement.service;
 
+import org.example.studentmanagement.dao.AssignmentKey;
+import org.example.studentmanagement.dao.GradeAnalyticsDAO;
 import org.example.studentmanagement.dao.GradeDetailsDAO;
+import org.example.studentmanagement.dao.GradeSelection;
+import org.example.studentmanagement.dao.GradebookDAO;
 import org.example.studentmanagement.entity.GradeDetails;
+import org.example.studentmanagement.event.DomainEvent;
+import org.example.studentmanagement.event.DomainEventPublisher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 @Service
 public class GradeDetailsServiceImpl implements GradeDetailsService {
 
     private final GradeDetailsDAO gradeDetailsDAO;
+    private final GradebookDAO gradebookDAO;
+    private final GradeAnalyticsDAO gradeAnalyticsDAO;
+    private final DomainEventPublisher eventPublisher;
 
     @Autowired
-    public GradeDetailsServiceImpl(GradeDetailsDAO gradeDetailsDAO) {
+    public GradeDetailsServiceImpl(GradeDetailsDAO gradeDetailsDAO, GradebookDAO gradebookDAO, GradeAnalyticsDAO gradeAnalyticsDAO,
+                                   DomainEventPublisher eventPublisher) {
         this.gradeDetailsDAO = gradeDetailsDAO;
+        this.gradebookDAO = gradebookDAO;
+        this.gradeAnalyticsDAO = gradeAnalyticsDAO;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -28,18 +48,78 @@ public class GradeDetailsServiceImpl implements GradeDetailsService {
     }
 
     @Override
+    @Transactional
     public void save(GradeDetails gradeDetails) {
+        // The course statistics take the grade out at its old value and back in at the new one
+        GradeSelection existing = gradeDetails.getId() != 0 ? GradeSelection.byId(gradeDetails.getId()) : null;
+        gradeAnalyticsDAO.lock(existing, List.of(new AssignmentKey(gradeDetails.getCourseId(), gradeDetails.getAssignmentName())));
+        if (existing != null) {
+            gradeAnalyticsDAO.subtract(existing);
+        }
         gradeDetailsDAO.save(gradeDetails);
+        gradeAnalyticsDAO.add(GradeSelection.byId(gradeDetails.getId()));
+        // Grades never move between students or courses, so only the saved pair's summary can change
+        gradebookDAO.refreshSummary(gradeDetails.getStudentId(), gradeDetails.getCourseId());
+        eventPublisher.publish(DomainEvent.gradeSaved(gradeDetails));
     }
 
     @Override
+    @Transactional
     public void deleteById(int id) {
+        GradeDetails gradeDetails = gradeDetailsDAO.findById(id);
+        if (gradeDetails != null) {
+            gradeAnalyticsDAO.lock(GradeSelection.byId(id), List.of());
+            gradeAnalyticsDAO.subtract(GradeSelection.byId(id));
+        }
         gradeDetailsDAO.deleteById(id);
+        if (gradeDetails != null) {
+            gradebookDAO.refreshSummary(gradeDetails.getStudentId(), gradeDetails.getCourseId());
+            eventPublisher.publish(DomainEvent.gradeDeleted(gradeDetails));
+        }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<GradeDetails> findByStudentIdAndCourseId(int studentId, int courseId) {
         return gradeDetailsDAO.findByStudentIdAndCourseId(studentId, courseId);
     }
-}
 
+    @Override
+    @Transactional
+    public void upsertAll(List<GradeDetails> gradeDetailsList) {
+        if (gradeDetailsList == null || gradeDetailsList.isEmpty()) {
+            return;
+        }
+
+        // Upserts are keyed by (student, course, assignment), so each assignment's selection is exactly the rows written
+        Map<AssignmentKey, Set<Integer>> studentsByAssignment = new TreeMap<>();
+        for (GradeDetails gradeDetails : gradeDetailsList) {
+            studentsByAssignment.computeIfAbsent(new AssignmentKey(gradeDetails.getCourseId(), gradeDetails.getAssignmentName()),
+                    key -> new HashSet<>()).add(gradeDetails.getStudentId());
+        }
+        List<GradeSelection> written = new ArrayList<>();
+        for (Map.Entry<AssignmentKey, Set<Integer>> assignment : studentsByAssignment.entrySet()) {
+            written.add(GradeSelection.byAssignment(assignment.getKey().courseId(), assignment.getKey().assignmentName(),
+                    assignment.getValue()));
+        }
+
+        gradeAnalyticsDAO.lock(GradeSelection.anyOf(written), studentsByAssignment.keySet());
+        written.forEach(gradeAnalyticsDAO::subtract);
+        gradeDetailsDAO.upsertAll(gradeDetailsList);
+        written.forEach(gradeAnalyticsDAO::add);
+
+        // Whole-class grading rebuilds the course's summaries in one statement instead of one refresh per student
+        Map<Integer, Set<Integer>> studentsByCourse = new LinkedHashMap<>();
+        for (GradeDetails gradeDetails : gradeDetailsList) {
+            studentsByCourse.computeIfAbsent(gradeDetails.getCourseId(), id -> new HashSet<>()).add(gradeDetails.getStudentId());
+        }
+        for (Map.Entry<Integer, Set<Integer>> course : studentsByCourse.entrySet()) {
+            if (course.getValue().size() == 1) {
+                gradebookDAO.refreshSummary(course.getValue().iterator().next(), course.getKey());
+            } else {
+                gradebookDAO.refreshCourseSummaries(course.getKey());
+            }
+        }
+        eventPublisher.publish(gradeDetailsList.stream().map(DomainEvent::gradeSaved).toList());
+    }
+}
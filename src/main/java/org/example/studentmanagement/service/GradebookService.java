@@ -0,0 +1,10 @@
+package org.example.studentmanagement.service;
+
+import org.example.studentmanagement.dto.GradebookRow;
+
+import java.util.List;
+
+public interface GradebookService {
+    // Every enrolled student with their course final grade and assignment totals, from one query
+    List<GradebookRow> getGradebook(int courseId);
+}
@@ -0,0 +1,26 @@
+package org.example.studentmanagement.service;
+
+import org.example.studentmanagement.dao.GradebookDAO;
+import org.example.studentmanagement.dto.GradebookRow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+public class GradebookServiceImpl implements GradebookService {
+
+    private final GradebookDAO gradebookDAO;
+
+    @Autowired
+    public GradebookServiceImpl(GradebookDAO gradebookDAO) {
+        this.gradebookDAO = gradebookDAO;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<GradebookRow> getGradebook(int courseId) {
+        return gradebookDAO.findByCourseId(courseId);
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.studentmanagement.service;
+
+import org.example.studentmanagement.dto.AdminStatistics;
+
+public interface StatisticsService {
+    AdminStatistics getAdminStatistics();
+}
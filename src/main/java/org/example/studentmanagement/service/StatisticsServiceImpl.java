@@ -0,0 +1,41 @@
+package org.example.studentmanagement.service;
+
+import org.example.studentmanagement.config.CacheConfig;
+import org.example.studentmanagement.dao.StatisticsDAO;
+import org.example.studentmanagement.dto.AdminStatistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+
+@Service
+public class StatisticsServiceImpl implements StatisticsService {
+
+    // Number of courses listed in the enrollment breakdown on the admin info page
+    static final int TOP_COURSES = 10;
+
+    private final StatisticsDAO statisticsDAO;
+
+    @Autowired
+    public StatisticsServiceImpl(StatisticsDAO statisticsDAO) {
+        this.statisticsDAO = statisticsDAO;
+    }
+
+    // Cached for a few seconds only (see app.cache.statistics.spec): writes do not evict it,
+    // so the dashboard may lag behind by at most one TTL
+    @Override
+    @Cacheable(CacheConfig.STATISTICS)
+    public AdminStatistics getAdminStatistics() {
+        Map<String, Long> counts = statisticsDAO.countRows();
+        return new AdminStatistics(
+                counts.getOrDefault(StatisticsDAO.COURSES, 0L),
+                counts.getOrDefault(StatisticsDAO.STUDENTS, 0L),
+                counts.getOrDefault(StatisticsDAO.TEACHERS, 0L),
+                counts.getOrDefault(StatisticsDAO.ENROLLMENTS, 0L),
+                counts.getOrDefault(StatisticsDAO.ASSIGNMENTS, 0L),
+                statisticsDAO.findTopEnrollments(TOP_COURSES),
+                statisticsDAO.countAssignmentsByStatus(),
+                statisticsDAO.countGradesByLetter());
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.studentmanagement.service;
+
+import org.example.studentmanagement.dao.AssignmentDAO;
+import org.example.studentmanagement.dto.StudentAssignmentResponse;
+import org.example.studentmanagement.dto.StudentAssignmentRow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+public class StudentAssignmentServiceImpl implements StudentAssignmentService {
+
+    private final AssignmentDAO assignmentDAO;
+    private final DeadlineCalculator deadlineCalculator;
+
+    @Autowired
+    public StudentAssignmentServiceImpl(AssignmentDAO assignmentDAO, DeadlineCalculator deadlineCalculator) {
+        this.assignmentDAO = assignmentDAO;
+        this.deadlineCalculator = deadlineCalculator;
+    }
+
+    // Whole feed comes from one query, already in due-date order; a blank filter means every course
+    @Override
+    public List<StudentAssignmentResponse> getAssignmentsForStudent(Long studentId, Optional<String> courseNameFilter) {
+        String courseName = courseNameFilter.map(String::trim).filter(name -> !name.isEmpty()).orElse(null);
+        List<StudentAssignmentRow> rows = assignmentDAO.findRowsForStudent(studentId.intValue(), courseName);
+
+        List<StudentAssignmentResponse> responses = new ArrayList<>(rows.size());
+        for (StudentAssignmentRow row : rows) {
+            StudentAssignmentResponse response = new StudentAssignmentResponse();
+            response.setAssignmentId(row.getAssignmentId());
+            response.setTitle(row.getTitle());
+            response.setDescription(row.getDescription());
+            response.setDueDate(row.getDueDate());
+            response.setDaysRemaining(deadlineCalculator.daysRemaining(row.getDueDate()));
+            response.setDeadlineStatus(deadlineCalculator.status(row.getDueDate()));
+            response.setCourseId(row.getCourseId());
+            response.setCourseName(row.getCourseName());
+            response.setStatus(row.isDone() ? "completed" : "incomplete");
+            responses.add(response);
+        }
+        return responses;
+    }
+}
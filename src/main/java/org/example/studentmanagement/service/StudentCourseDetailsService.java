@@ -7,9 +7,8 @@ public interface StudentCourseDetailsService {
     StudentCourseDetails findByStudentAndCourseId(int studentId, int courseId);
     List<StudentCourseDetails> findAll();
     List<StudentCourseDetails> findByStudentId(int studentId);
+    List<StudentCourseDetails> findByCourseId(int courseId);
     void save(StudentCourseDetails studentCourseDetails);
     void deleteById(int id);
-    void deleteByStudentId(int studentId);
-    void deleteByStudentAndCourseId(int studentId, int courseId);
 }
 
@@ -1,9 +1,13 @@
 package org.example.studentmanagement.service;
 
+import org.example.studentmanagement.config.CacheConfig;
 import org.example.studentmanagement.dao.StudentCourseDetailsDAO;
 import org.example.studentmanagement.entity.StudentCourseDetails;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -18,6 +22,7 @@ public class StudentCourseDetailsServiceImpl implements StudentCourseDetailsServ
     }
 
     @Override
+    @Transactional(readOnly = true)
     public StudentCourseDetails findByStudentAndCourseId(int studentId, int courseId) {
         return studentCourseDetailsDAO.findByStudentIdAndCourseId(studentId, courseId);
     }
@@ -33,29 +38,28 @@ public class StudentCourseDetailsServiceImpl implements StudentCourseDetailsServ
     }
 
     @Override
+    public List<StudentCourseDetails> findByCourseId(int courseId) {
+        return studentCourseDetailsDAO.findByCourseId(courseId);
+    }
+
+    // Enrollment changes alter both course rosters and students' course lists
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.COURSES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.STUDENTS, allEntries = true)
+    })
     public void save(StudentCourseDetails studentCourseDetails) {
         studentCourseDetailsDAO.save(studentCourseDetails);
     }
 
     @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.COURSES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.STUDENTS, allEntries = true)
+    })
     public void deleteById(int id) {
         studentCourseDetailsDAO.deleteById(id);
     }
-
-    @Override
-    public void deleteByStudentId(int studentId) {
-        List<StudentCourseDetails> details = studentCourseDetailsDAO.findByStudentId(studentId);
-        for (StudentCourseDetails detail : details) {
-            studentCourseDetailsDAO.deleteById(detail.getId());
-        }
-    }
-
-    @Override
-    public void deleteByStudentAndCourseId(int studentId, int courseId) {
-        StudentCourseDetails detail = studentCourseDetailsDAO.findByStudentIdAndCourseId(studentId, courseId);
-        if (detail != null) {
-            studentCourseDetailsDAO.deleteById(detail.getId());
-        }
-    }
 }
-
@@ -1,5 +1,7 @@
 package org.example.studentmanagement.service;
 
+import org.example.studentmanagement.dto.KeysetPage;
+import org.example.studentmanagement.dto.PageQuery;
 import org.example.studentmanagement.entity.Student;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -14,6 +16,7 @@ public interface StudentService {
 
     Student findByStudentId(int id);
     List<Student> findAllStudents();
+    KeysetPage<Student> findStudentPage(PageQuery query);
     void save(Student student);
     void deleteById(int id);
 }
@@ -1,13 +1,20 @@
 package org.example.studentmanagement.service;
 
+import org.example.studentmanagement.config.CacheConfig;
 import org.example.studentmanagement.dao.StudentDAO;
+import org.example.studentmanagement.dto.KeysetPage;
+import org.example.studentmanagement.dto.PageQuery;
 import org.example.studentmanagement.entity.Student;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -39,16 +46,31 @@ public class StudentServiceImpl implements StudentService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.STUDENTS, key = "#id", unless = "#result == null")
     public Student findByStudentId(int id) {
         return studentDAO.findById(id);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Student> findAllStudents() {
         return studentDAO.findAll();
     }
 
     @Override
+    public KeysetPage<Student> findStudentPage(PageQuery query) {
+        return studentDAO.findPage(query);
+    }
+
+    // Cached course rosters carry the student's name, so they are invalidated as well.
+    // Left out of a transaction so the BCrypt hash is not computed while holding a pooled connection.
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.STUDENTS, key = "#student.id"),
+            @CacheEvict(cacheNames = CacheConfig.USERS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.COURSES, allEntries = true)
+    })
     public void save(Student student) {
         String rawPassword = student.getPassword();
         if (rawPassword != null && !rawPassword.isBlank()) {
@@ -61,6 +83,12 @@ public class StudentServiceImpl implements StudentService {
     }
 
     @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.STUDENTS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.USERS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.COURSES, allEntries = true)
+    })
     public void deleteById(int id) {
         studentDAO.deleteById(id);
     }
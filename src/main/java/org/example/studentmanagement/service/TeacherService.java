@@ -1,5 +1,7 @@
 package org.example.studentmanagement.service;
 
+import org.example.studentmanagement.dto.KeysetPage;
+import org.example.studentmanagement.dto.PageQuery;
 import org.example.studentmanagement.entity.Teacher;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
@@ -9,6 +11,7 @@ import java.util.Optional;
 public interface TeacherService extends UserDetailsService {
     Teacher findByTeacherId(int id);
     List<Teacher> findAllTeachers();
+    KeysetPage<Teacher> findTeacherPage(PageQuery query);
     void save(Teacher teacher);
     void deleteById(int id);
     void deleteTeacherById(int id);
@@ -1,13 +1,20 @@
 package org.example.studentmanagement.service;
 
+import org.example.studentmanagement.config.CacheConfig;
 import org.example.studentmanagement.dao.TeacherDAO;
+import org.example.studentmanagement.dto.KeysetPage;
+import org.example.studentmanagement.dto.PageQuery;
 import org.example.studentmanagement.entity.Teacher;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -25,6 +32,8 @@ public class TeacherServiceImpl implements TeacherService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.TEACHERS, key = "#id", unless = "#result == null")
     public Teacher findByTeacherId(int id) {
         return teacherDAO.findById(id);
     }
@@ -35,6 +44,18 @@ public class TeacherServiceImpl implements TeacherService {
     }
 
     @Override
+    public KeysetPage<Teacher> findTeacherPage(PageQuery query) {
+        return teacherDAO.findPage(query);
+    }
+
+    // Cached courses and students carry the teacher's name, so they are invalidated as well
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.TEACHERS, key = "#teacher.id"),
+            @CacheEvict(cacheNames = CacheConfig.USERS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.COURSES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.STUDENTS, allEntries = true)
+    })
     public void save(Teacher teacher) {
         String rawPassword = teacher.getPassword();
         if (rawPassword != null && !rawPassword.isBlank()) {
@@ -47,11 +68,25 @@ public class TeacherServiceImpl implements TeacherService {
     }
 
     @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.TEACHERS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.USERS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.COURSES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.STUDENTS, allEntries = true)
+    })
     public void deleteById(int id) {
         teacherDAO.deleteById(id);
     }
 
     @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.TEACHERS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.USERS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.COURSES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.STUDENTS, allEntries = true)
+    })
     public void deleteTeacherById(int id) {
         teacherDAO.deleteById(id);
     }
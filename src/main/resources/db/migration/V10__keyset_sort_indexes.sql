@@ -0,0 +1,14 @@
+-- Built CONCURRENTLY so the tables stay writable; the statements are idempotent (see V3).
+
+-- Keyset pages order by (sort column, id) and continue after the last row's pair,
+-- so each sortable column gets an index with id as its second key
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_student_first_name_id ON students(first_name, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_student_last_name_id ON students(last_name, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_student_email_id ON students(email, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_teacher_first_name_id ON teachers(first_name, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_teacher_last_name_id ON teachers(last_name, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_teacher_email_id ON teachers(email, id);
+
+-- (name, id) also serves the lookups by course name, so it replaces V4's single-column index
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_course_name_id ON courses(name, id);
+DROP INDEX CONCURRENTLY IF EXISTS idx_course_name;
@@ -0,0 +1,4 @@
+-- A dispatcher claims a batch by setting claimed_until and commits before delivering it, so no transaction or row
+-- lock is held while the listeners run. It deletes the rows once they are delivered, or releases the claim and counts
+-- the attempt if delivery failed; a batch whose dispatcher died is claimed again once claimed_until has passed.
+ALTER TABLE domain_event_outbox ADD COLUMN IF NOT EXISTS claimed_until TIMESTAMP;
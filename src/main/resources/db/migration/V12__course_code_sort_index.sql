@@ -0,0 +1,5 @@
+-- Built CONCURRENTLY so the table stays writable; the statement is idempotent (see V3).
+
+-- The course list also pages by code, which needs the same (sort column, id) index as the V10 sorts;
+-- the unique index on code alone cannot serve the (code, id) row comparison
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_course_code_id ON courses(code, id);
@@ -0,0 +1,5 @@
+-- Dates were stored as 'yyyy-MM-dd' text; blank values become NULL.
+-- Casting through text first keeps this a no-op on databases that were already converted by hand.
+ALTER TABLE assignments ALTER COLUMN due_date TYPE DATE USING NULLIF(TRIM(due_date::text), '')::DATE;
+ALTER TABLE assignments ALTER COLUMN created_date TYPE DATE USING NULLIF(TRIM(created_date::text), '')::DATE;
+ALTER TABLE grade_details ALTER COLUMN graded_date TYPE DATE USING NULLIF(TRIM(graded_date::text), '')::DATE;
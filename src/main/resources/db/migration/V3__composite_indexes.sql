@@ -0,0 +1,11 @@
+-- Built CONCURRENTLY so the tables stay writable; the runner executes this script outside a transaction.
+-- Every statement is idempotent, so an interrupted run can be repeated; drop any index a failed
+-- concurrent build left INVALID first, or IF NOT EXISTS will keep it.
+
+-- Course pages list a course's assignments by status and due date
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_assignment_course_status_due ON assignments(course_id, status, due_date);
+
+-- Grade lookups by student, course and assignment use the unique (student_id, course_id, assignment_name) index
+-- that V9 builds; the original init.sql had no such key (see V8). Only a database created from a later init.sql that
+-- declared the key inline has it already, under PostgreSQL's generated name, which is changed to the one V9 checks for.
+ALTER INDEX IF EXISTS grade_details_student_id_course_id_assignment_name_key RENAME TO uq_grade_student_course_assignment;
@@ -0,0 +1,4 @@
+-- Built CONCURRENTLY so courses stays writable; the statement is idempotent (see V3).
+
+-- The student assignment feed filters a student's courses by name
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_course_name ON courses(name);
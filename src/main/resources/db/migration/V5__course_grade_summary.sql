@@ -0,0 +1,20 @@
+-- Running totals of each student's assignment grades in a course, so the gradebook page reads one row per student
+-- instead of aggregating grade_details. Kept current by GradebookDAO on every grade write; the course final grade
+-- (the grade_details row without an assignment_name) is not part of the totals.
+CREATE TABLE course_grade_summary (
+    course_id INTEGER NOT NULL REFERENCES courses(id) ON DELETE CASCADE,
+    student_id INTEGER NOT NULL REFERENCES students(id) ON DELETE CASCADE,
+    graded_count INTEGER NOT NULL,
+    total_score DECIMAL(9,2) NOT NULL,
+    total_max_score DECIMAL(9,2) NOT NULL,
+    updated_on TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (course_id, student_id)
+);
+
+CREATE INDEX idx_course_grade_summary_student ON course_grade_summary(student_id);
+
+INSERT INTO course_grade_summary (course_id, student_id, graded_count, total_score, total_max_score)
+SELECT course_id, student_id, COUNT(*), COALESCE(SUM(score), 0), COALESCE(SUM(max_score), 0)
+FROM grade_details
+WHERE assignment_name IS NOT NULL
+GROUP BY course_id, student_id;
@@ -0,0 +1,13 @@
+-- Transactional outbox for domain events: services insert a row in the transaction that changes the data, and
+-- DomainEventDispatcher delivers committed rows to the listeners in batches and deletes them. Rows left behind by a
+-- restart are picked up by the dispatcher's poll; a batch whose delivery failed is retried up to
+-- app.events.max-attempts times and then left in place for inspection.
+CREATE TABLE domain_event_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    event_type VARCHAR(50) NOT NULL,
+    entity_id INTEGER,
+    course_id INTEGER,
+    student_id INTEGER,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    created_on TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
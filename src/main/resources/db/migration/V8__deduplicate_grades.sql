@@ -0,0 +1,35 @@
+-- The original init.sql had no unique key on (student_id, course_id, assignment_name), so concurrent bulk upserts
+-- could store an assignment grade twice. Keep the newest row of each and rebuild the maintained summaries (V5, V6)
+-- of the affected courses from the rows that are left; V9 then adds the unique key.
+CREATE TABLE grade_dedupe_courses AS
+SELECT DISTINCT course_id FROM grade_details g
+WHERE EXISTS (SELECT 1 FROM grade_details d
+              WHERE d.student_id = g.student_id AND d.course_id = g.course_id
+                AND d.assignment_name = g.assignment_name AND d.id > g.id);
+
+DELETE FROM grade_details g
+WHERE EXISTS (SELECT 1 FROM grade_details d
+              WHERE d.student_id = g.student_id AND d.course_id = g.course_id
+                AND d.assignment_name = g.assignment_name AND d.id > g.id);
+
+DELETE FROM course_grade_summary WHERE course_id IN (SELECT course_id FROM grade_dedupe_courses);
+
+INSERT INTO course_grade_summary (course_id, student_id, graded_count, total_score, total_max_score)
+SELECT course_id, student_id, COUNT(*), COALESCE(SUM(score), 0), COALESCE(SUM(max_score), 0)
+FROM grade_details
+WHERE assignment_name IS NOT NULL AND course_id IN (SELECT course_id FROM grade_dedupe_courses)
+GROUP BY course_id, student_id;
+
+DELETE FROM grade_distribution WHERE course_id IN (SELECT course_id FROM grade_dedupe_courses);
+
+INSERT INTO grade_distribution (course_id, assignment_key, bucket, graded_count, percentage_sum, percentage_sum_sq)
+SELECT course_id, assignment_key, bucket, COUNT(*), SUM(percentage), SUM(percentage * percentage)
+FROM (SELECT course_id, assignment_key, percentage,
+             LEAST(GREATEST(CAST(FLOOR(percentage / 5) AS INTEGER), 0), 19) AS bucket
+      FROM (SELECT course_id, COALESCE(assignment_name, '') AS assignment_key,
+                   CASE WHEN max_score > 0 THEN ROUND(COALESCE(score, 0) * 100 / max_score, 2) ELSE 0 END AS percentage
+            FROM grade_details
+            WHERE course_id IN (SELECT course_id FROM grade_dedupe_courses)) p) b
+GROUP BY course_id, assignment_key, bucket;
+
+DROP TABLE grade_dedupe_courses;
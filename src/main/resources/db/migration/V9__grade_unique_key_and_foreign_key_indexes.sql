@@ -0,0 +1,22 @@
+-- Built CONCURRENTLY so the tables stay writable; the statements are idempotent (see V3). If the unique index build
+-- fails on a duplicate grade written since V8, delete it, drop the INVALID index and restart.
+
+-- One grade per student per assignment, which bulk upserts rely on. The original init.sql had no such key, so it is
+-- built here once V8 has removed the duplicates; a database that already has it under this name (see V3) is left as is.
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uq_grade_student_course_assignment
+    ON grade_details(student_id, course_id, assignment_name);
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uq_grade_student_course_assignment') THEN
+        ALTER TABLE grade_details ADD CONSTRAINT uq_grade_student_course_assignment
+            UNIQUE USING INDEX uq_grade_student_course_assignment;
+    END IF;
+END
+$$;
+
+-- Foreign keys are not indexed automatically; these keep cascading deletes from scanning assignment_details
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_assignment_details_assignment ON assignment_details(assignment_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_assignment_details_enrollment ON assignment_details(student_course_details_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_assignment_created_by ON assignments(created_by_teacher_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_grade_graded_by ON grade_details(graded_by_teacher_id);
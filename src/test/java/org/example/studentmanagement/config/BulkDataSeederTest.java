@@ -0,0 +1,161 @@
+package org.example.studentmanagement.config;
+
+import org.example.studentmanagement.security.PlainTextOrBCryptPasswordEncoder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkDataSeederTest {
+
+    private EmbeddedDatabase dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Create an in-memory H2 database with the schema from the shipped migrations
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("seeder_" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE")
+                .build();
+        new SchemaMigrator(dataSource, "classpath:db/migration", 1).migrate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dataSource != null) {
+            dataSource.shutdown();
+        }
+    }
+
+    private BulkDataSeeder seeder(long randomSeed) {
+        return new BulkDataSeeder(dataSource, new PlainTextOrBCryptPasswordEncoder(4), 5, 50, 12, 3, 4, randomSeed);
+    }
+
+    @Test
+    void seed_generatesConfiguredRowCounts() throws Exception {
+        // Act
+        seeder(42).seed();
+
+        // Assert
+        assertEquals(5, count("teachers"));
+        assertEquals(50, count("students"));
+        assertEquals(12, count("courses"));
+        assertEquals(150, count("student_course_details"));
+        assertEquals(48, count("assignments"));
+        assertEquals(600, count("assignment_details"));
+    }
+
+    @Test
+    void seed_linksAssignmentDetailsToAssignmentsOfTheEnrolledCourse() throws Exception {
+        // Act
+        seeder(42).seed();
+
+        // Assert
+        assertEquals(0, queryLong("SELECT COUNT(*) FROM assignment_details ad " +
+                "JOIN assignments a ON a.id = ad.assignment_id " +
+                "JOIN student_course_details scd ON scd.id = ad.student_course_details_id " +
+                "WHERE a.course_id <> scd.course_id"));
+    }
+
+    @Test
+    void seed_isDeterministicForTheSameSeed() throws Exception {
+        // Arrange
+        seeder(7).seed();
+        List<String> first = enrollments();
+        clearTables();
+
+        // Act
+        seeder(7).seed();
+
+        // Assert
+        assertEquals(first, enrollments());
+    }
+
+    @Test
+    void seed_resetsIdentityPastSeededRows() throws Exception {
+        // Arrange
+        seeder(42).seed();
+
+        // Act
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("INSERT INTO students (username, password, first_name, last_name, email) " +
+                    "VALUES ('new_student', 'pass', 'New', 'Student', 'new@example.com')");
+        }
+
+        // Assert
+        assertEquals(51, queryLong("SELECT id FROM students WHERE username = 'new_student'"));
+    }
+
+    @Test
+    void seed_skipsWhenStudentsAlreadyExist() throws Exception {
+        // Arrange
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("INSERT INTO students (username, password, first_name, last_name, email) " +
+                    "VALUES ('existing', 'pass', 'Existing', 'Student', 'existing@example.com')");
+        }
+
+        // Act
+        seeder(42).seed();
+
+        // Assert
+        assertEquals(1, count("students"));
+        assertEquals(0, count("teachers"));
+    }
+
+    @Test
+    void constructor_rejectsMoreEnrollmentsThanCourses() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+                new BulkDataSeeder(dataSource, new PlainTextOrBCryptPasswordEncoder(4), 1, 1, 2, 3, 1, 42));
+    }
+
+    private long count(String table) throws Exception {
+        return queryLong("SELECT COUNT(*) FROM " + table);
+    }
+
+    private long queryLong(String sql) throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private List<String> enrollments() throws Exception {
+        List<String> rows = new ArrayList<>();
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT id, student_id, course_id FROM student_course_details ORDER BY id")) {
+            while (rs.next()) {
+                rows.add(rs.getInt(1) + ":" + rs.getInt(2) + ":" + rs.getInt(3));
+            }
+        }
+        return rows;
+    }
+
+    private void clearTables() throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DELETE FROM assignment_details");
+            stmt.execute("DELETE FROM assignments");
+            stmt.execute("DELETE FROM student_course_details");
+            stmt.execute("DELETE FROM courses");
+            stmt.execute("DELETE FROM students");
+            stmt.execute("DELETE FROM teachers");
+        }
+    }
+}
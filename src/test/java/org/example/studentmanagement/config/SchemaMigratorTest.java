@@ -0,0 +1,187 @@
+package org.example.studentmanagement.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchemaMigratorTest {
+
+    @TempDir
+    Path migrations;
+
+    private EmbeddedDatabase dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("migrator_" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE")
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dataSource != null) {
+            dataSource.shutdown();
+        }
+    }
+
+    private SchemaMigrator migrator() {
+        return new SchemaMigrator(dataSource, "file:" + migrations.toAbsolutePath(), 1);
+    }
+
+    private void script(String name, String sql) throws Exception {
+        Files.writeString(migrations.resolve(name), sql);
+    }
+
+    private long count(String sql) throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+
+    @Test
+    void migrate_appliesShippedMigrationsOnEmptyDatabase() throws Exception {
+        SchemaMigrator migrator = new SchemaMigrator(dataSource, "classpath:db/migration", 1);
+
+        List<Integer> applied = migrator.migrate();
+
+        // Every shipped version, in order, starting from the baseline
+        assertEquals(1, applied.get(0));
+        assertEquals(applied.stream().sorted().toList(), applied);
+        assertEquals(0, count("SELECT COUNT(*) FROM students"));
+        assertEquals(1, count("SELECT COUNT(*) FROM information_schema.indexes WHERE index_name = 'idx_assignment_course_status_due'"));
+        assertEquals(1, count("SELECT COUNT(*) FROM information_schema.columns WHERE column_name = 'due_date' AND UPPER(data_type) = 'DATE'"));
+        assertTrue(migrator.migrate().isEmpty(), "Second run should find nothing to apply");
+    }
+
+    @Test
+    void migrate_appliesOnlyNewVersionsInOrder() throws Exception {
+        script("V1__create_notes.sql", "CREATE TABLE notes (id INT PRIMARY KEY);");
+        script("V10__add_body.sql", "ALTER TABLE notes ADD COLUMN body VARCHAR(100);");
+        script("V2__add_title.sql", "-- versions sort numerically, not by file name\nALTER TABLE notes ADD COLUMN title VARCHAR(100);");
+        assertEquals(List.of(1, 2, 10), migrator().migrate());
+
+        script("V11__seed.sql", "INSERT INTO notes (id, title, body) VALUES (1, 'a;b', 'c');\nINSERT INTO notes (id) VALUES (2);");
+
+        assertEquals(List.of(11), migrator().migrate());
+        assertEquals(2, count("SELECT COUNT(*) FROM notes"));
+        assertEquals(4, count("SELECT COUNT(*) FROM schema_version"));
+    }
+
+    @Test
+    void migrate_baselinesExistingSchemaWithoutRunningIt() throws Exception {
+        execute("CREATE TABLE students (id INT PRIMARY KEY)");
+        script("V1__baseline.sql", "CREATE TABLE students (id INT PRIMARY KEY);");
+        script("V2__add_email.sql", "ALTER TABLE students ADD COLUMN email VARCHAR(100);");
+
+        assertEquals(List.of(2), migrator().migrate());
+        assertEquals(1, count("SELECT COUNT(*) FROM schema_version WHERE version = 1 AND baseline"));
+        assertEquals(0, count("SELECT COUNT(email) FROM students"));
+    }
+
+    @Test
+    void migrate_rejectsScriptChangedAfterItWasApplied() throws Exception {
+        script("V1__create_notes.sql", "CREATE TABLE notes (id INT PRIMARY KEY);");
+        migrator().migrate();
+
+        script("V1__create_notes.sql", "CREATE TABLE notes (id BIGINT PRIMARY KEY);");
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> migrator().migrate());
+        assertTrue(e.getMessage().contains("V1__create_notes.sql"));
+    }
+
+    @Test
+    void migrate_rejectsDuplicateVersions() throws Exception {
+        script("V1__create_notes.sql", "CREATE TABLE notes (id INT PRIMARY KEY);");
+        script("V01__create_other.sql", "CREATE TABLE other (id INT PRIMARY KEY);");
+
+        assertThrows(IllegalStateException.class, () -> migrator().migrate());
+    }
+
+    @Test
+    void migrate_doesNotRecordFailedMigration() throws Exception {
+        script("V1__create_notes.sql", "CREATE TABLE notes (id INT PRIMARY KEY);");
+        script("V2__broken.sql", "INSERT INTO notes (id) VALUES (1);\nINSERT INTO missing_table (id) VALUES (1);");
+
+        assertThrows(IllegalStateException.class, () -> migrator().migrate());
+
+        assertEquals(0, count("SELECT COUNT(*) FROM schema_version WHERE version = 2"));
+        assertEquals(0, count("SELECT COUNT(*) FROM notes"), "The failed script's earlier statements should be rolled back");
+    }
+
+    @Test
+    void migrate_runsConcurrentIndexScriptsOnH2() throws Exception {
+        script("V1__create_notes.sql", "CREATE TABLE notes (id INT PRIMARY KEY, title VARCHAR(100));");
+        script("V2__index_title.sql", "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_notes_title ON notes(title);");
+
+        assertEquals(List.of(1, 2), migrator().migrate());
+        assertEquals(1, count("SELECT COUNT(*) FROM information_schema.indexes WHERE index_name = 'idx_notes_title'"));
+    }
+
+    @Test
+    void migrate_skipsPostgresDoBlocksOnH2() throws Exception {
+        script("V1__create_notes.sql", "CREATE TABLE notes (id INT PRIMARY KEY, title VARCHAR(100));");
+        script("V2__guarded.sql", "CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uq_notes_title ON notes(title);\n"
+                + "DO $$\nBEGIN\n    IF NOT EXISTS (SELECT 1 FROM pg_constraint) THEN\n        SELECT 1;\n    END IF;\nEND\n$$;\n"
+                + "INSERT INTO notes (id, title) VALUES (1, 'after the block');");
+
+        assertEquals(List.of(1, 2), migrator().migrate());
+        assertEquals(1, count("SELECT COUNT(*) FROM notes"));
+        assertEquals(1, count("SELECT COUNT(*) FROM information_schema.indexes WHERE index_name = 'uq_notes_title'"));
+    }
+
+    @Test
+    void migrate_deduplicatesGradesOfBaselinedInitSqlDatabase() throws Exception {
+        // A database built by the original init.sql: baseline schema, no grade unique key, duplicate grades
+        try (Connection conn = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(conn, new ClassPathResource("db/migration/V1__baseline.sql"));
+        }
+        execute("INSERT INTO students (id, username, password, first_name, last_name, email) VALUES (1, 'ann', 'x', 'Ann', 'A', 'ann@example.com')");
+        execute("INSERT INTO courses (id, code, name) VALUES (1, 'MATH101', 'Calculus')");
+        execute("INSERT INTO grade_details (student_id, course_id, assignment_name, score, max_score, graded_date) VALUES "
+                + "(1, 1, 'Quiz', 40, 100, '2025-03-01'), (1, 1, 'Quiz', 90, 100, '2025-03-02'), "
+                + "(1, 1, 'Essay', 70, 100, '2025-03-01'), (1, 1, NULL, 80, 100, NULL), (1, 1, NULL, 85, 100, NULL)");
+
+        List<Integer> applied = new SchemaMigrator(dataSource, "classpath:db/migration", 1).migrate();
+
+        assertEquals(2, applied.get(0));
+        assertEquals(1, count("SELECT COUNT(*) FROM grade_details WHERE assignment_name = 'Quiz'"));
+        assertEquals(90, count("SELECT score FROM grade_details WHERE assignment_name = 'Quiz'"));
+        assertEquals(2, count("SELECT COUNT(*) FROM grade_details WHERE assignment_name IS NULL"), "Final grades are not keyed by assignment");
+        assertEquals(2, count("SELECT graded_count FROM course_grade_summary WHERE course_id = 1 AND student_id = 1"));
+        assertEquals(160, count("SELECT total_score FROM course_grade_summary WHERE course_id = 1 AND student_id = 1"));
+        assertEquals(1, count("SELECT SUM(graded_count) FROM grade_distribution WHERE assignment_key = 'Quiz'"));
+        assertEquals(0, count("SELECT COUNT(*) FROM information_schema.tables WHERE table_name = 'grade_dedupe_courses'"));
+        assertEquals(5, count("SELECT COUNT(*) FROM information_schema.indexes WHERE index_name IN ('uq_grade_student_course_assignment', "
+                + "'idx_assignment_details_assignment', 'idx_assignment_details_enrollment', 'idx_assignment_created_by', 'idx_grade_graded_by')"));
+        assertThrows(SQLException.class, () -> execute("INSERT INTO grade_details (student_id, course_id, assignment_name) VALUES (1, 1, 'Quiz')"));
+    }
+}
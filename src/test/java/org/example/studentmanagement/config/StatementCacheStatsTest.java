@@ -0,0 +1,123 @@
+package org.example.studentmanagement.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatementCacheStatsTest {
+
+    private EmbeddedDatabase dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("statement_cache_" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE")
+                .build();
+        new SchemaMigrator(dataSource, "classpath:db/migration", 1).migrate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dataSource != null) {
+            dataSource.shutdown();
+        }
+    }
+
+    private static void prepare(Connection conn, String sql) throws Exception {
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, 1);
+        }
+    }
+
+    @Test
+    void repeatedSqlOnTheSameConnectionIsAHit() throws Exception {
+        StatementCacheStats stats = new StatementCacheStats(256);
+        StatementCacheMetricsDataSource tracked = new StatementCacheMetricsDataSource(dataSource, stats);
+
+        try (Connection conn = tracked.getConnection()) {
+            prepare(conn, "SELECT id FROM grade_details WHERE student_id = ?");
+            prepare(conn, "SELECT id FROM grade_details WHERE student_id = ?");
+            prepare(conn, "SELECT id FROM grade_details WHERE course_id = ?");
+        }
+
+        assertEquals(1, stats.getHits());
+        assertEquals(2, stats.getMisses());
+    }
+
+    @Test
+    void eachPhysicalConnectionHasItsOwnCache() throws Exception {
+        StatementCacheStats stats = new StatementCacheStats(256);
+        StatementCacheMetricsDataSource tracked = new StatementCacheMetricsDataSource(dataSource, stats);
+
+        // The embedded data source opens a new physical connection every time
+        try (Connection conn = tracked.getConnection()) {
+            prepare(conn, "SELECT id FROM grade_details WHERE student_id = ?");
+        }
+        try (Connection conn = tracked.getConnection()) {
+            prepare(conn, "SELECT id FROM grade_details WHERE student_id = ?");
+        }
+
+        assertEquals(0, stats.getHits());
+        assertEquals(2, stats.getMisses());
+    }
+
+    @Test
+    void fullCacheEvictsLeastRecentlyUsedStatement() throws Exception {
+        StatementCacheStats stats = new StatementCacheStats(1);
+        StatementCacheMetricsDataSource tracked = new StatementCacheMetricsDataSource(dataSource, stats);
+
+        try (Connection conn = tracked.getConnection()) {
+            prepare(conn, "SELECT id FROM grade_details WHERE student_id = ?");
+            prepare(conn, "SELECT id FROM grade_details WHERE course_id = ?");
+            prepare(conn, "SELECT id FROM grade_details WHERE student_id = ?");
+        }
+
+        assertEquals(0, stats.getHits());
+        assertEquals(3, stats.getMisses());
+        assertEquals(2, stats.getEvictions());
+    }
+
+    @Test
+    void disabledCacheCountsEveryPrepareAsMiss() throws Exception {
+        StatementCacheStats stats = new StatementCacheStats(0);
+        StatementCacheMetricsDataSource tracked = new StatementCacheMetricsDataSource(dataSource, stats);
+
+        try (Connection conn = tracked.getConnection()) {
+            prepare(conn, "SELECT id FROM grade_details WHERE student_id = ?");
+            prepare(conn, "SELECT id FROM grade_details WHERE student_id = ?");
+        }
+
+        assertEquals(0, stats.getHits());
+        assertEquals(2, stats.getMisses());
+        assertEquals(0.0, stats.getHitRatio());
+    }
+
+    @Test
+    void bindTo_publishesHitAndMissCounters() throws Exception {
+        StatementCacheStats stats = new StatementCacheStats(256);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        stats.bindTo(registry);
+        StatementCacheMetricsDataSource tracked = new StatementCacheMetricsDataSource(dataSource, stats);
+
+        try (Connection conn = tracked.getConnection()) {
+            prepare(conn, "SELECT id FROM grade_details WHERE student_id = ?");
+            prepare(conn, "SELECT id FROM grade_details WHERE student_id = ?");
+        }
+
+        assertEquals(1.0, registry.get("jdbc.statement.cache.requests").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("jdbc.statement.cache.requests").tag("result", "miss").functionCounter().count());
+        assertEquals(0.5, registry.get("jdbc.statement.cache.hit.ratio").gauge().value());
+    }
+}
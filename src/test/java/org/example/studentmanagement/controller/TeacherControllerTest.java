@@ -0,0 +1,145 @@
+package org.example.studentmanagement.controller;
+
+import org.example.studentmanagement.entity.Assignment;
+import org.example.studentmanagement.entity.GradeDetails;
+import org.example.studentmanagement.entity.StudentCourseDetails;
+import org.example.studentmanagement.service.AssignmentService;
+import org.example.studentmanagement.service.GradeDetailsService;
+import org.example.studentmanagement.service.StudentCourseDetailsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+
+class TeacherControllerTest {
+
+    private MockMvc mockMvc;
+    private AssignmentService assignmentService;
+    private GradeDetailsService gradeDetailsService;
+    private StudentCourseDetailsService studentCourseDetailsService;
+    private AutoCloseable captors;
+
+    @Captor
+    private ArgumentCaptor<List<GradeDetails>> gradesCaptor;
+
+    @BeforeEach
+    void setUp() {
+        captors = MockitoAnnotations.openMocks(this);
+        assignmentService = mock(AssignmentService.class);
+        gradeDetailsService = mock(GradeDetailsService.class);
+        studentCourseDetailsService = mock(StudentCourseDetailsService.class);
+
+        TeacherController controller = new TeacherController();
+        ReflectionTestUtils.setField(controller, "assignmentService", assignmentService);
+        ReflectionTestUtils.setField(controller, "gradeDetailsService", gradeDetailsService);
+        ReflectionTestUtils.setField(controller, "studentCourseDetailsService", studentCourseDetailsService);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+        when(assignmentService.findById(5)).thenReturn(new Assignment(5, 10, "Quiz", "Description",
+                LocalDate.of(2025, 3, 1), 100.0, LocalDate.of(2025, 2, 1), "active", 1));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        captors.close();
+    }
+
+    private void enroll(int courseId, int students) {
+        List<StudentCourseDetails> roster = new ArrayList<>();
+        for (int studentId = 1; studentId <= students; studentId++) {
+            roster.add(new StudentCourseDetails(studentId, studentId, courseId, null, null));
+        }
+        when(studentCourseDetailsService.findByCourseId(courseId)).thenReturn(roster);
+    }
+
+    private static MockHttpServletRequestBuilder gradeAll(int... studentIds) {
+        MockHttpServletRequestBuilder request = post("/teacher/1/courses/10/assignments/5/gradeAll");
+        for (int i = 0; i < studentIds.length; i++) {
+            request.param("grades[" + i + "].studentId", String.valueOf(studentIds[i]))
+                    .param("grades[" + i + "].score", "90")
+                    .param("grades[" + i + "].maxScore", "100")
+                    .param("grades[" + i + "].grade", "A");
+        }
+        return request;
+    }
+
+    @Test
+    void gradeAll_bindsClassesLargerThanTheDefaultCollectionLimit() throws Exception {
+        // Arrange
+        enroll(10, 300);
+        int[] studentIds = new int[300];
+        for (int i = 0; i < studentIds.length; i++) {
+            studentIds[i] = i + 1;
+        }
+
+        // Act
+        mockMvc.perform(gradeAll(studentIds))
+                .andExpect(redirectedUrl("/teacher/1/courses/10/assignments/5"));
+
+        // Assert
+        verify(gradeDetailsService).upsertAll(gradesCaptor.capture());
+        List<GradeDetails> grades = gradesCaptor.getValue();
+        assertEquals(300, grades.size());
+        assertEquals(300, grades.get(299).getStudentId());
+        assertEquals(10, grades.get(299).getCourseId());
+        assertEquals("Quiz", grades.get(299).getAssignmentName());
+        assertEquals(1, grades.get(299).getGradedByTeacherId());
+    }
+
+    @Test
+    void gradeAll_ignoresStudentsNotEnrolledInTheCourse() throws Exception {
+        // Arrange
+        enroll(10, 2);
+
+        // Act
+        mockMvc.perform(gradeAll(1, 99, 2));
+
+        // Assert
+        verify(gradeDetailsService).upsertAll(gradesCaptor.capture());
+        assertEquals(List.of(1, 2), gradesCaptor.getValue().stream().map(GradeDetails::getStudentId).toList());
+    }
+
+    @Test
+    void gradeAll_rejectsAssignmentOfAnotherCourse() throws Exception {
+        // Arrange
+        enroll(11, 2);
+
+        // Act
+        mockMvc.perform(post("/teacher/1/courses/11/assignments/5/gradeAll")
+                        .param("grades[0].studentId", "1").param("grades[0].score", "90"))
+                .andExpect(redirectedUrl("/teacher/1/courses/11"));
+
+        // Assert
+        verify(gradeDetailsService, never()).upsertAll(anyList());
+    }
+
+    @Test
+    void gradeStudent_rejectsStudentNotEnrolledInTheCourse() throws Exception {
+        // Arrange
+        enroll(10, 2);
+
+        // Act
+        mockMvc.perform(post("/teacher/1/courses/10/assignments/5/gradeStudent/99")
+                        .param("score", "90").param("maxScore", "100"))
+                .andExpect(redirectedUrl("/teacher/1/courses/10"));
+
+        // Assert
+        verify(gradeDetailsService, never()).upsertAll(anyList());
+    }
+}
@@ -2,17 +2,25 @@ package org.example.studentmanagement.dao;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.sql.Connection;
 import java.sql.Statement;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.UUID;
+import org.example.studentmanagement.config.SchemaMigrator;
+import org.example.studentmanagement.dto.StudentAssignmentRow;
+import org.example.studentmanagement.dto.UpcomingDeadline;
 import org.example.studentmanagement.entity.Assignment;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
@@ -26,21 +34,17 @@ class AssignmentDAOImplTest {
     void setUp() throws Exception {
         dataSource = new EmbeddedDatabaseBuilder()
                 .setType(EmbeddedDatabaseType.H2)
+                .setName("assignment_" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE")
                 .build();
+        new SchemaMigrator(dataSource, "classpath:db/migration", 1).migrate();
 
+        // The teachers and courses the assignments below refer to
         try (Connection conn = dataSource.getConnection();
              Statement stmt = conn.createStatement()) {
-            stmt.execute("CREATE TABLE assignments (" +
-                    "id INT AUTO_INCREMENT PRIMARY KEY, " +
-                    "course_id INT NOT NULL, " +
-                    "title VARCHAR(255) NOT NULL, " +
-                    "description TEXT, " +
-                    "due_date VARCHAR(255), " +
-                    "max_score DOUBLE, " +
-                    "created_date VARCHAR(255), " +
-                    "status VARCHAR(50), " +
-                    "created_by_teacher_id INT" +
-                    ")");
+            stmt.execute("INSERT INTO teachers (id, username, password, first_name, last_name, email) "
+                    + "SELECT x, 'teacher' || x, 'x', 'Teacher', 'T', 'teacher' || x || '@example.com' FROM SYSTEM_RANGE(5, 14) AS r(x)");
+            stmt.execute("INSERT INTO courses (id, code, name, teacher_id) "
+                    + "SELECT x, 'C' || x, 'Course ' || x, 10 FROM SYSTEM_RANGE(201, 205) AS r(x)");
         }
 
         assignmentDAO = new AssignmentDAOImpl(dataSource);
@@ -59,9 +63,9 @@ class AssignmentDAOImplTest {
         assignment.setCourseId(201);
         assignment.setTitle("Homework 1");
         assignment.setDescription("Complete exercises 1-5");
-        assignment.setDueDate("2025-12-15");
+        assignment.setDueDate(LocalDate.of(2025, 12, 15));
         assignment.setMaxScore(100.0);
-        assignment.setCreatedDate("2025-12-01");
+        assignment.setCreatedDate(LocalDate.of(2025, 12, 1));
         assignment.setStatus("active");
         assignment.setCreatedByTeacherId(10);
 
@@ -73,9 +77,9 @@ class AssignmentDAOImplTest {
         assertEquals(201, found.getCourseId());
         assertEquals("Homework 1", found.getTitle());
         assertEquals("Complete exercises 1-5", found.getDescription());
-        assertEquals("2025-12-15", found.getDueDate());
+        assertEquals(LocalDate.of(2025, 12, 15), found.getDueDate());
         assertEquals(100.0, found.getMaxScore());
-        assertEquals("2025-12-01", found.getCreatedDate());
+        assertEquals(LocalDate.of(2025, 12, 1), found.getCreatedDate());
         assertEquals("active", found.getStatus());
         assertEquals(10, found.getCreatedByTeacherId());
     }
@@ -86,9 +90,9 @@ class AssignmentDAOImplTest {
         assignment.setCourseId(202);
         assignment.setTitle("Project Draft");
         assignment.setDescription("Submit initial draft");
-        assignment.setDueDate("2025-12-10");
+        assignment.setDueDate(LocalDate.of(2025, 12, 10));
         assignment.setMaxScore(50.0);
-        assignment.setCreatedDate("2025-11-20");
+        assignment.setCreatedDate(LocalDate.of(2025, 11, 20));
         assignment.setStatus("draft");
         assignment.setCreatedByTeacherId(11);
         assignmentDAO.save(assignment);
@@ -113,9 +117,9 @@ class AssignmentDAOImplTest {
         assignment1.setCourseId(201);
         assignment1.setTitle("Assignment 1");
         assignment1.setDescription("Description 1");
-        assignment1.setDueDate("2025-12-05");
+        assignment1.setDueDate(LocalDate.of(2025, 12, 5));
         assignment1.setMaxScore(100.0);
-        assignment1.setCreatedDate("2025-11-25");
+        assignment1.setCreatedDate(LocalDate.of(2025, 11, 25));
         assignment1.setStatus("active");
         assignment1.setCreatedByTeacherId(10);
 
@@ -123,9 +127,9 @@ class AssignmentDAOImplTest {
         assignment2.setCourseId(202);
         assignment2.setTitle("Assignment 2");
         assignment2.setDescription("Description 2");
-        assignment2.setDueDate("2025-12-10");
+        assignment2.setDueDate(LocalDate.of(2025, 12, 10));
         assignment2.setMaxScore(100.0);
-        assignment2.setCreatedDate("2025-11-28");
+        assignment2.setCreatedDate(LocalDate.of(2025, 11, 28));
         assignment2.setStatus("active");
         assignment2.setCreatedByTeacherId(11);
 
@@ -133,9 +137,9 @@ class AssignmentDAOImplTest {
         assignment3.setCourseId(203);
         assignment3.setTitle("Assignment 3");
         assignment3.setDescription("Description 3");
-        assignment3.setDueDate("2025-12-20");
+        assignment3.setDueDate(LocalDate.of(2025, 12, 20));
         assignment3.setMaxScore(150.0);
-        assignment3.setCreatedDate("2025-12-01");
+        assignment3.setCreatedDate(LocalDate.of(2025, 12, 1));
         assignment3.setStatus("closed");
         assignment3.setCreatedByTeacherId(12);
 
@@ -165,9 +169,9 @@ class AssignmentDAOImplTest {
         assignment.setCourseId(204);
         assignment.setTitle("Midterm Exam");
         assignment.setDescription("Comprehensive exam");
-        assignment.setDueDate("2025-11-30");
+        assignment.setDueDate(LocalDate.of(2025, 11, 30));
         assignment.setMaxScore(200.0);
-        assignment.setCreatedDate("2025-11-10");
+        assignment.setCreatedDate(LocalDate.of(2025, 11, 10));
         assignment.setStatus("active");
         assignment.setCreatedByTeacherId(13);
         assignmentDAO.save(assignment);
@@ -194,9 +198,9 @@ class AssignmentDAOImplTest {
         assignment.setCourseId(205);
         assignment.setTitle("To Be Deleted");
         assignment.setDescription("This assignment will be deleted");
-        assignment.setDueDate("2025-12-25");
+        assignment.setDueDate(LocalDate.of(2025, 12, 25));
         assignment.setMaxScore(100.0);
-        assignment.setCreatedDate("2025-12-05");
+        assignment.setCreatedDate(LocalDate.of(2025, 12, 5));
         assignment.setStatus("draft");
         assignment.setCreatedByTeacherId(14);
         assignmentDAO.save(assignment);
@@ -220,9 +224,9 @@ class AssignmentDAOImplTest {
         assignment1.setCourseId(201);
         assignment1.setTitle("Quiz 1");
         assignment1.setDescription("Chapter 1-3");
-        assignment1.setDueDate("2025-11-20");
+        assignment1.setDueDate(LocalDate.of(2025, 11, 20));
         assignment1.setMaxScore(50.0);
-        assignment1.setCreatedDate("2025-11-10");
+        assignment1.setCreatedDate(LocalDate.of(2025, 11, 10));
         assignment1.setStatus("active");
         assignment1.setCreatedByTeacherId(10);
 
@@ -230,9 +234,9 @@ class AssignmentDAOImplTest {
         assignment2.setCourseId(201);
         assignment2.setTitle("Quiz 2");
         assignment2.setDescription("Chapter 4-6");
-        assignment2.setDueDate("2025-12-05");
+        assignment2.setDueDate(LocalDate.of(2025, 12, 5));
         assignment2.setMaxScore(50.0);
-        assignment2.setCreatedDate("2025-11-25");
+        assignment2.setCreatedDate(LocalDate.of(2025, 11, 25));
         assignment2.setStatus("active");
         assignment2.setCreatedByTeacherId(10);
 
@@ -240,9 +244,9 @@ class AssignmentDAOImplTest {
         assignment3.setCourseId(202);
         assignment3.setTitle("Quiz 1");
         assignment3.setDescription("Introduction");
-        assignment3.setDueDate("2025-11-22");
+        assignment3.setDueDate(LocalDate.of(2025, 11, 22));
         assignment3.setMaxScore(50.0);
-        assignment3.setCreatedDate("2025-11-12");
+        assignment3.setCreatedDate(LocalDate.of(2025, 11, 12));
         assignment3.setStatus("active");
         assignment3.setCreatedByTeacherId(11);
 
@@ -272,9 +276,9 @@ class AssignmentDAOImplTest {
         assignment1.setCourseId(201);
         assignment1.setTitle("Active Assignment 1");
         assignment1.setDescription("Active");
-        assignment1.setDueDate("2025-12-10");
+        assignment1.setDueDate(LocalDate.of(2025, 12, 10));
         assignment1.setMaxScore(100.0);
-        assignment1.setCreatedDate("2025-11-20");
+        assignment1.setCreatedDate(LocalDate.of(2025, 11, 20));
         assignment1.setStatus("active");
         assignment1.setCreatedByTeacherId(10);
 
@@ -282,9 +286,9 @@ class AssignmentDAOImplTest {
         assignment2.setCourseId(202);
         assignment2.setTitle("Active Assignment 2");
         assignment2.setDescription("Active");
-        assignment2.setDueDate("2025-12-15");
+        assignment2.setDueDate(LocalDate.of(2025, 12, 15));
         assignment2.setMaxScore(100.0);
-        assignment2.setCreatedDate("2025-11-22");
+        assignment2.setCreatedDate(LocalDate.of(2025, 11, 22));
         assignment2.setStatus("active");
         assignment2.setCreatedByTeacherId(11);
 
@@ -292,9 +296,9 @@ class AssignmentDAOImplTest {
         assignment3.setCourseId(203);
         assignment3.setTitle("Closed Assignment");
         assignment3.setDescription("Closed");
-        assignment3.setDueDate("2025-11-30");
+        assignment3.setDueDate(LocalDate.of(2025, 11, 30));
         assignment3.setMaxScore(100.0);
-        assignment3.setCreatedDate("2025-11-10");
+        assignment3.setCreatedDate(LocalDate.of(2025, 11, 10));
         assignment3.setStatus("closed");
         assignment3.setCreatedByTeacherId(12);
 
@@ -322,9 +326,9 @@ class AssignmentDAOImplTest {
         assignment1.setCourseId(201);
         assignment1.setTitle("Active for 201");
         assignment1.setDescription("Description");
-        assignment1.setDueDate("2025-12-10");
+        assignment1.setDueDate(LocalDate.of(2025, 12, 10));
         assignment1.setMaxScore(100.0);
-        assignment1.setCreatedDate("2025-11-20");
+        assignment1.setCreatedDate(LocalDate.of(2025, 11, 20));
         assignment1.setStatus("active");
         assignment1.setCreatedByTeacherId(10);
 
@@ -332,9 +336,9 @@ class AssignmentDAOImplTest {
         assignment2.setCourseId(201);
         assignment2.setTitle("Closed for 201");
         assignment2.setDescription("Description");
-        assignment2.setDueDate("2025-11-30");
+        assignment2.setDueDate(LocalDate.of(2025, 11, 30));
         assignment2.setMaxScore(100.0);
-        assignment2.setCreatedDate("2025-11-10");
+        assignment2.setCreatedDate(LocalDate.of(2025, 11, 10));
         assignment2.setStatus("closed");
         assignment2.setCreatedByTeacherId(10);
 
@@ -342,9 +346,9 @@ class AssignmentDAOImplTest {
         assignment3.setCourseId(202);
         assignment3.setTitle("Active for 202");
         assignment3.setDescription("Description");
-        assignment3.setDueDate("2025-12-12");
+        assignment3.setDueDate(LocalDate.of(2025, 12, 12));
         assignment3.setMaxScore(100.0);
-        assignment3.setCreatedDate("2025-11-22");
+        assignment3.setCreatedDate(LocalDate.of(2025, 11, 22));
         assignment3.setStatus("active");
         assignment3.setCreatedByTeacherId(11);
 
@@ -374,9 +378,9 @@ class AssignmentDAOImplTest {
         activeAssignment.setCourseId(201);
         activeAssignment.setTitle("Active");
         activeAssignment.setDescription("Active assignment");
-        activeAssignment.setDueDate("2025-12-10");
+        activeAssignment.setDueDate(LocalDate.of(2025, 12, 10));
         activeAssignment.setMaxScore(100.0);
-        activeAssignment.setCreatedDate("2025-11-20");
+        activeAssignment.setCreatedDate(LocalDate.of(2025, 11, 20));
         activeAssignment.setStatus("active");
         activeAssignment.setCreatedByTeacherId(10);
 
@@ -384,9 +388,9 @@ class AssignmentDAOImplTest {
         closedAssignment.setCourseId(202);
         closedAssignment.setTitle("Closed");
         closedAssignment.setDescription("Closed assignment");
-        closedAssignment.setDueDate("2025-11-30");
+        closedAssignment.setDueDate(LocalDate.of(2025, 11, 30));
         closedAssignment.setMaxScore(100.0);
-        closedAssignment.setCreatedDate("2025-11-10");
+        closedAssignment.setCreatedDate(LocalDate.of(2025, 11, 10));
         closedAssignment.setStatus("closed");
         closedAssignment.setCreatedByTeacherId(11);
 
@@ -394,9 +398,9 @@ class AssignmentDAOImplTest {
         draftAssignment.setCourseId(203);
         draftAssignment.setTitle("Draft");
         draftAssignment.setDescription("Draft assignment");
-        draftAssignment.setDueDate("2025-12-20");
+        draftAssignment.setDueDate(LocalDate.of(2025, 12, 20));
         draftAssignment.setMaxScore(100.0);
-        draftAssignment.setCreatedDate("2025-12-01");
+        draftAssignment.setCreatedDate(LocalDate.of(2025, 12, 1));
         draftAssignment.setStatus("draft");
         draftAssignment.setCreatedByTeacherId(12);
 
@@ -410,4 +414,116 @@ class AssignmentDAOImplTest {
         assertTrue(allAssignments.stream().anyMatch(a -> a.getStatus().equals("closed")));
         assertTrue(allAssignments.stream().anyMatch(a -> a.getStatus().equals("draft")));
     }
+
+    @Test
+    void save_translatesConstraintViolationToDataAccessException() {
+        Assignment assignment = new Assignment();
+        assignment.setCourseId(201);
+        assignment.setStatus("active");
+
+        // title is NOT NULL, so the insert is rejected by the database
+        assertThrows(DataIntegrityViolationException.class, () -> assignmentDAO.save(assignment));
+    }
+
+    private Assignment saveAssignment(int courseId, String title, LocalDate dueDate) {
+        Assignment assignment = new Assignment();
+        assignment.setCourseId(courseId);
+        assignment.setTitle(title);
+        assignment.setDueDate(dueDate);
+        assignment.setStatus("active");
+        assignment.setCreatedByTeacherId(5);
+        assignmentDAO.save(assignment);
+        return assignment;
+    }
+
+    private void seedEnrollments() throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            // Teacher 5 teaches courses 1 and 2
+            stmt.execute("INSERT INTO courses (id, code, name, teacher_id) VALUES (1, 'MATH101', 'Calculus', 5), (2, 'HIST101', 'History', 5), (3, 'ART101', 'Art', 6)");
+            // Student 7 takes courses 1 and 2; student 8 takes course 3
+            stmt.execute("INSERT INTO students (id, username, password, first_name, last_name, email) "
+                    + "VALUES (7, 'ann', 'x', 'Ann', 'A', 'ann@example.com'), (8, 'bob', 'x', 'Bob', 'B', 'bob@example.com')");
+            stmt.execute("INSERT INTO student_course_details (id, student_id, course_id) VALUES (11, 7, 1), (12, 7, 2), (13, 8, 3)");
+        }
+    }
+
+    @Test
+    void findRowsForStudent_returnsAssignmentsAcrossCoursesByDueDate() throws Exception {
+        seedEnrollments();
+        Assignment essay = saveAssignment(2, "Essay", LocalDate.of(2026, 3, 1));
+        Assignment quiz = saveAssignment(1, "Quiz", LocalDate.of(2026, 2, 1));
+        saveAssignment(1, "Reading", null);
+        saveAssignment(3, "Sketch", LocalDate.of(2026, 1, 1));
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("INSERT INTO assignment_details (assignment_id, student_course_details_id, is_done) VALUES ("
+                    + quiz.getId() + ", 11, 1)");
+        }
+
+        List<StudentAssignmentRow> rows = assignmentDAO.findRowsForStudent(7, null);
+
+        assertEquals(List.of("Quiz", "Essay", "Reading"), rows.stream().map(StudentAssignmentRow::getTitle).toList(),
+                "Other students' courses are excluded and undated assignments sort last");
+        assertTrue(rows.get(0).isDone());
+        assertEquals("Calculus", rows.get(0).getCourseName());
+        assertEquals(1, rows.get(0).getCourseId());
+        assertEquals(LocalDate.of(2026, 2, 1), rows.get(0).getDueDate());
+        assertFalse(rows.get(1).isDone(), "Assignments without a completion record are not done");
+        assertEquals(essay.getId(), rows.get(1).getAssignmentId().intValue());
+    }
+
+    @Test
+    void findRowsForStudent_filtersByCourseName() throws Exception {
+        seedEnrollments();
+        saveAssignment(1, "Quiz", LocalDate.of(2026, 2, 1));
+        saveAssignment(2, "Essay", LocalDate.of(2026, 3, 1));
+        saveAssignment(3, "Sketch", LocalDate.of(2026, 1, 1));
+
+        List<StudentAssignmentRow> rows = assignmentDAO.findRowsForStudent(7, "History");
+
+        assertEquals(1, rows.size());
+        assertEquals("Essay", rows.get(0).getTitle());
+        assertTrue(assignmentDAO.findRowsForStudent(7, "Art").isEmpty(), "Courses the student is not enrolled in match nothing");
+    }
+
+    @Test
+    void findUpcomingForStudent_returnsOpenActiveAssignmentsFromDateUpToLimit() throws Exception {
+        seedEnrollments();
+        saveAssignment(1, "Past", LocalDate.of(2026, 2, 28));
+        Assignment done = saveAssignment(1, "Done", LocalDate.of(2026, 3, 2));
+        saveAssignment(2, "Essay", LocalDate.of(2026, 3, 20));
+        saveAssignment(1, "Quiz", LocalDate.of(2026, 3, 5));
+        saveAssignment(1, "Final", LocalDate.of(2026, 4, 1));
+        saveAssignment(1, "Reading", null);
+        saveAssignment(3, "Sketch", LocalDate.of(2026, 3, 3));
+        Assignment draft = saveAssignment(2, "Draft", LocalDate.of(2026, 3, 4));
+        draft.setStatus("draft");
+        assignmentDAO.save(draft);
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("INSERT INTO assignment_details (assignment_id, student_course_details_id, is_done) VALUES ("
+                    + done.getId() + ", 11, 1)");
+        }
+
+        List<UpcomingDeadline> deadlines = assignmentDAO.findUpcomingForStudent(7, LocalDate.of(2026, 3, 1), 2);
+
+        assertEquals(List.of("Quiz", "Essay"), deadlines.stream().map(UpcomingDeadline::getTitle).toList());
+        assertEquals("Calculus", deadlines.get(0).getCourseName());
+        assertEquals(LocalDate.of(2026, 3, 5), deadlines.get(0).getDueDate());
+    }
+
+    @Test
+    void findUpcomingForTeacher_returnsAssignmentsOfTeachersCoursesByDueDate() throws Exception {
+        seedEnrollments();
+        saveAssignment(1, "Past", LocalDate.of(2026, 2, 28));
+        saveAssignment(2, "Essay", LocalDate.of(2026, 3, 20));
+        saveAssignment(1, "Quiz", LocalDate.of(2026, 3, 5));
+        saveAssignment(3, "Sketch", LocalDate.of(2026, 3, 3));
+
+        List<UpcomingDeadline> deadlines = assignmentDAO.findUpcomingForTeacher(5, LocalDate.of(2026, 3, 1), 10);
+
+        assertEquals(List.of("Quiz", "Essay"), deadlines.stream().map(UpcomingDeadline::getTitle).toList());
+        assertEquals(2, deadlines.get(1).getCourseId());
+    }
 }
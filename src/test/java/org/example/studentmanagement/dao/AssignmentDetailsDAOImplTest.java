@@ -5,12 +5,17 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.sql.Connection;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
+import org.example.studentmanagement.config.SchemaMigrator;
+import org.example.studentmanagement.dto.AssignmentStatusRow;
 import org.example.studentmanagement.entity.AssignmentDetails;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,25 +27,33 @@ import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
 class AssignmentDetailsDAOImplTest {
 
     private EmbeddedDatabase dataSource;
+    private StatementCountingDataSource countingDataSource;
     private AssignmentDetailsDAOImpl assignmentDetailsDAO;
 
     @BeforeEach
     void setUp() throws Exception {
         dataSource = new EmbeddedDatabaseBuilder()
                 .setType(EmbeddedDatabaseType.H2)
+                .setName("assignment_details_" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE")
                 .build();
+        new SchemaMigrator(dataSource, "classpath:db/migration", 1).migrate();
 
+        // The assignments and enrollments the rows below refer to: enrollment x belongs to student 10000 + x
         try (Connection conn = dataSource.getConnection();
              Statement stmt = conn.createStatement()) {
-            stmt.execute("CREATE TABLE assignment_details (" +
-                    "id INT AUTO_INCREMENT PRIMARY KEY, " +
-                    "assignment_id INT NOT NULL, " +
-                    "student_course_details_id INT NOT NULL, " +
-                    "is_done INT NOT NULL" +
-                    ")");
+            stmt.execute("INSERT INTO courses (id, code, name) VALUES (100, 'SEED100', 'Seed course')");
+            stmt.execute("INSERT INTO assignments (id, course_id, title) "
+                    + "SELECT x, 100, 'Assignment ' || x FROM SYSTEM_RANGE(101, 107) AS r(x) "
+                    + "UNION ALL SELECT x, 100, 'Assignment ' || x FROM SYSTEM_RANGE(500, 502) AS r(x)");
+            stmt.execute("INSERT INTO students (id, username, password, first_name, last_name, email) "
+                    + "SELECT 10000 + x, 'seed' || x, 'x', 'Seed', 'S', 'seed' || x || '@example.com' FROM "
+                    + "(SELECT x FROM SYSTEM_RANGE(201, 207) AS a(x) UNION ALL SELECT x FROM SYSTEM_RANGE(1000, 2199) AS b(x) "
+                    + "UNION ALL SELECT 3001) AS r(x)");
+            stmt.execute("INSERT INTO student_course_details (id, student_id, course_id) SELECT id - 10000, id, 100 FROM students");
         }
 
-        assignmentDetailsDAO = new AssignmentDetailsDAOImpl(dataSource);
+        countingDataSource = new StatementCountingDataSource(dataSource);
+        assignmentDetailsDAO = new AssignmentDetailsDAOImpl(countingDataSource);
     }
 
     @AfterEach
@@ -417,4 +430,102 @@ class AssignmentDetailsDAOImplTest {
         assertEquals(2, completedCount, "Should have 2 completed");
         assertEquals(1, incompleteCount, "Should have 1 incomplete");
     }
+
+    @Test
+    void saveAll_insertsAllRowsWithGeneratedIds() {
+        List<AssignmentDetails> detailsList = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            detailsList.add(new AssignmentDetails(0, 500, 1000 + i, 0));
+        }
+        countingDataSource.reset();
+
+        assignmentDetailsDAO.saveAll(detailsList);
+
+        assertEquals(2, countingDataSource.getStatementCount(),
+                "saveAll should prepare one insert and one update statement, not one per row");
+        assertEquals(1200, assignmentDetailsDAO.findByAssignmentId(500).size());
+        assertTrue(detailsList.stream().allMatch(d -> d.getId() != 0), "Generated IDs should be set");
+        assertEquals(1200, detailsList.stream().mapToInt(AssignmentDetails::getId).distinct().count());
+    }
+
+    @Test
+    void saveAll_updatesExistingRows() {
+        AssignmentDetails existing = new AssignmentDetails(0, 501, 2001, 0);
+        assignmentDetailsDAO.save(existing);
+        existing.setIsDone(1);
+
+        assignmentDetailsDAO.saveAll(List.of(existing, new AssignmentDetails(0, 501, 2002, 0)));
+
+        assertEquals(1, assignmentDetailsDAO.findById(existing.getId()).getIsDone());
+        assertEquals(2, assignmentDetailsDAO.findByAssignmentId(501).size());
+    }
+
+    @Test
+    void saveAll_rollsBackWholeBatchOnFailure() {
+        List<AssignmentDetails> detailsList = List.of(
+                new AssignmentDetails(0, 502, 3001, 0),
+                new AssignmentDetails(0, 502, 3001, 0)
+        );
+
+        assertThrows(RuntimeException.class, () -> assignmentDetailsDAO.saveAll(detailsList));
+
+        assertTrue(assignmentDetailsDAO.findByAssignmentId(502).isEmpty(),
+                "A failed batch should not leave the assignment half-populated");
+    }
+
+    @Test
+    void saveAll_doesNothingForEmptyList() {
+        countingDataSource.reset();
+
+        assertDoesNotThrow(() -> assignmentDetailsDAO.saveAll(List.of()));
+
+        assertEquals(0, countingDataSource.getStatementCount());
+    }
+
+    @Test
+    void findStatusRowsByCourseIdAndAssignmentId_returnsStatusAndGradeForWholeRoster() throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("INSERT INTO students (id, username, password, first_name, last_name, email) VALUES " +
+                    "(1, 'alice', 'x', 'Alice', 'A', 'alice@example.com'), (2, 'bob', 'x', 'Bob', 'B', 'bob@example.com'), " +
+                    "(3, 'carol', 'x', 'Carol', 'C', 'carol@example.com'), (4, 'dave', 'x', 'Dave', 'D', 'dave@example.com')");
+            stmt.execute("INSERT INTO courses (id, code, name) VALUES (7, 'MATH101', 'Calculus'), (8, 'HIST101', 'History')");
+            stmt.execute("INSERT INTO student_course_details (id, student_id, course_id) VALUES " +
+                    "(11, 1, 7), (12, 2, 7), (13, 3, 7), (14, 4, 8)");
+            stmt.execute("INSERT INTO assignments (id, course_id, title) VALUES (70, 7, 'Essay'), (71, 7, 'Lab')");
+            stmt.execute("INSERT INTO assignment_details (assignment_id, student_course_details_id, is_done) VALUES " +
+                    "(70, 11, 1), (70, 12, 0), (71, 13, 1)");
+            stmt.execute("INSERT INTO grade_details (student_id, course_id, assignment_name, score, max_score, grade) VALUES " +
+                    "(1, 7, 'Essay', 88, 100, 'B'), (2, 7, 'Lab', 50, 100, 'F')");
+        }
+        countingDataSource.reset();
+
+        List<AssignmentStatusRow> rows = assignmentDetailsDAO.findStatusRowsByCourseIdAndAssignmentId(7, 70);
+
+        assertEquals(1, countingDataSource.getStatementCount(), "Whole roster should be loaded with one statement");
+        assertEquals(3, rows.size(), "Only students enrolled in the course should be returned");
+
+        AssignmentStatusRow alice = rows.get(0);
+        assertEquals("alice@example.com", alice.getStudent().getEmail());
+        assertEquals("completed", alice.getStatus());
+        assertNotNull(alice.getGrade());
+        assertEquals(88.0, alice.getGrade().getScore());
+
+        AssignmentStatusRow bob = rows.get(1);
+        assertEquals("incomplete", bob.getStatus());
+        assertNull(bob.getGrade(), "Grades for other assignments should not be matched");
+
+        AssignmentStatusRow carol = rows.get(2);
+        assertEquals("not assigned", carol.getStatus());
+        assertNull(carol.getAssignmentDetails());
+    }
+
+    @Test
+    void findStatusRowsByCourseIdAndAssignmentId_returnsEmptyListForCourseWithoutStudents() throws Exception {
+
+        List<AssignmentStatusRow> rows = assignmentDetailsDAO.findStatusRowsByCourseIdAndAssignmentId(99, 1);
+
+        assertNotNull(rows);
+        assertTrue(rows.isEmpty());
+    }
 }
@@ -0,0 +1,171 @@
+package org.example.studentmanagement.dao;
+
+import org.example.studentmanagement.config.SchemaMigrator;
+import org.example.studentmanagement.dto.ImportAccountRow;
+import org.example.studentmanagement.dto.ImportEnrollmentRow;
+import org.example.studentmanagement.dto.ImportError;
+import org.example.studentmanagement.dto.ImportResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkImportDAOImplTest {
+
+    private EmbeddedDatabase dataSource;
+    private BulkImportDAOImpl bulkImportDAO;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Create an in-memory H2 database with the schema from the shipped migrations
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("bulk_import_" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE")
+                .build();
+        new SchemaMigrator(dataSource, "classpath:db/migration", 1).migrate();
+
+        // One teacher, one student enrolled in one of two courses
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("INSERT INTO teachers (username, password, first_name, last_name, email) " +
+                    "VALUES ('prof_smith', 'x', 'John', 'Smith', 'smith@example.com')");
+            stmt.execute("INSERT INTO students (username, password, first_name, last_name, email) " +
+                    "VALUES ('alice', 'x', 'Alice', 'Wonder', 'alice@example.com')");
+            stmt.execute("INSERT INTO courses (code, name) VALUES ('MATH101', 'Mathematics'), ('PHYS101', 'Physics')");
+            stmt.execute("INSERT INTO student_course_details (student_id, course_id) VALUES (1, 1)");
+        }
+
+        bulkImportDAO = new BulkImportDAOImpl(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dataSource != null) {
+            dataSource.shutdown();
+        }
+    }
+
+    @Test
+    void importStudents_insertsNewAccountsAndReportsClashes() throws Exception {
+        // Arrange
+        Iterator<ImportAccountRow> rows = List.of(
+                account(2, "bob", "bob@example.com"),
+                account(3, "alice", "alice2@example.com"),
+                account(4, "prof_smith", "other@example.com"),
+                account(5, "carol", "alice@example.com"),
+                account(6, "dave", "dave@example.com")).iterator();
+        ImportResult result = new ImportResult();
+
+        // Act
+        bulkImportDAO.importStudents(rows, result);
+
+        // Assert
+        assertEquals(2, result.getImportedRows());
+        Map<Integer, String> errors = errorsByLine(result);
+        assertEquals(Map.of(3, "Username already exists", 4, "Username already exists", 5, "Email already exists"), errors);
+        assertEquals(List.of("alice", "bob", "dave"), query("SELECT username FROM students ORDER BY id"));
+    }
+
+    @Test
+    void importTeachers_insertsIntoTeachersTable() throws Exception {
+        // Arrange
+        ImportResult result = new ImportResult();
+
+        // Act
+        bulkImportDAO.importTeachers(List.of(account(2, "prof_jones", "jones@example.com")).iterator(), result);
+
+        // Assert
+        assertEquals(1, result.getImportedRows());
+        assertEquals(List.of("prof_smith", "prof_jones"), query("SELECT username FROM teachers ORDER BY id"));
+        assertEquals(List.of("alice"), query("SELECT username FROM students"));
+    }
+
+    @Test
+    void importEnrollments_mergesKnownPairsAndReportsTheRest() throws Exception {
+        // Arrange
+        Iterator<ImportEnrollmentRow> rows = List.of(
+                new ImportEnrollmentRow(2, "alice", "PHYS101"),
+                new ImportEnrollmentRow(3, "alice", "MATH101"),
+                new ImportEnrollmentRow(4, "nobody", "MATH101"),
+                new ImportEnrollmentRow(5, "alice", "BIO101"),
+                new ImportEnrollmentRow(6, "alice", "PHYS101")).iterator();
+        ImportResult result = new ImportResult();
+
+        // Act
+        bulkImportDAO.importEnrollments(rows, result);
+
+        // Assert
+        assertEquals(1, result.getImportedRows());
+        assertEquals(Map.of(
+                3, "Student is already enrolled in this course",
+                4, "Unknown student",
+                5, "Unknown course",
+                6, "Duplicate enrollment in file"), errorsByLine(result));
+        assertEquals(List.of("1", "2"), query("SELECT course_id FROM student_course_details ORDER BY course_id"));
+    }
+
+    @Test
+    void importStudents_rollsBackWhenTheSourceFails() throws Exception {
+        // Arrange
+        Iterator<ImportAccountRow> failing = new Iterator<>() {
+            private int served;
+
+            @Override
+            public boolean hasNext() {
+                if (served == 1) {
+                    throw new IllegalStateException("source failed");
+                }
+                return true;
+            }
+
+            @Override
+            public ImportAccountRow next() {
+                served++;
+                return account(2, "bob", "bob@example.com");
+            }
+        };
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> bulkImportDAO.importStudents(failing, new ImportResult()));
+        assertEquals(List.of("alice"), query("SELECT username FROM students"));
+
+        // The staging table was dropped, so the next import on a pooled connection starts clean
+        ImportResult result = new ImportResult();
+        bulkImportDAO.importStudents(List.of(account(2, "bob", "bob@example.com")).iterator(), result);
+        assertEquals(1, result.getImportedRows());
+    }
+
+    private ImportAccountRow account(int line, String userName, String email) {
+        return new ImportAccountRow(line, userName, "$2a$10$hash", "First", "Last", email);
+    }
+
+    private Map<Integer, String> errorsByLine(ImportResult result) {
+        return result.getErrors().stream().collect(Collectors.toMap(ImportError::getLine, ImportError::getMessage));
+    }
+
+    private List<String> query(String sql) throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            List<String> values = new ArrayList<>();
+            while (rs.next()) {
+                values.add(rs.getString(1));
+            }
+            return values;
+        }
+    }
+}
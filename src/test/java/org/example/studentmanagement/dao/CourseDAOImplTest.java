@@ -1,5 +1,8 @@
 package org.example.studentmanagement.dao;
 
+import org.example.studentmanagement.config.SchemaMigrator;
+import org.example.studentmanagement.dto.KeysetPage;
+import org.example.studentmanagement.dto.PageQuery;
 import org.example.studentmanagement.entity.Course;
 import org.example.studentmanagement.entity.Teacher;
 import org.junit.jupiter.api.AfterEach;
@@ -12,49 +15,34 @@ import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
 import java.sql.Connection;
 import java.sql.Statement;
 import java.util.List;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class CourseDAOImplTest {
 
     private EmbeddedDatabase dataSource;
+    private StatementCountingDataSource countingDataSource;
     private CourseDAOImpl courseDAO;
 
     @BeforeEach
     void setUp() throws Exception {
-        // Create an in-memory H2 database
+        // Create an in-memory H2 database with the schema from the shipped migrations
         dataSource = new EmbeddedDatabaseBuilder()
                 .setType(EmbeddedDatabaseType.H2)
+                .setName("course_" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE")
                 .build();
+        new SchemaMigrator(dataSource, "classpath:db/migration", 1).migrate();
 
-        // Create tables
         try (Connection conn = dataSource.getConnection();
              Statement stmt = conn.createStatement()) {
-            // Create teachers table first (foreign key dependency)
-            stmt.execute("CREATE TABLE teachers (" +
-                    "id INT AUTO_INCREMENT PRIMARY KEY, " +
-                    "username VARCHAR(255) NOT NULL, " +
-                    "password VARCHAR(255) NOT NULL, " +
-                    "first_name VARCHAR(255), " +
-                    "last_name VARCHAR(255), " +
-                    "email VARCHAR(255)" +
-                    ")");
-
-            // Create courses table with foreign key to teachers
-            stmt.execute("CREATE TABLE courses (" +
-                    "id INT AUTO_INCREMENT PRIMARY KEY, " +
-                    "code VARCHAR(255) NOT NULL, " +
-                    "name VARCHAR(255) NOT NULL, " +
-                    "teacher_id INT, " +
-                    "FOREIGN KEY (teacher_id) REFERENCES teachers(id)" +
-                    ")");
-
             // Insert a test teacher
             stmt.execute("INSERT INTO teachers (username, password, first_name, last_name, email) " +
                     "VALUES ('prof_smith', 'pass123', 'John', 'Smith', 'smith@example.com')");
         }
 
-        courseDAO = new CourseDAOImpl(dataSource);
+        countingDataSource = new StatementCountingDataSource(dataSource);
+        courseDAO = new CourseDAOImpl(countingDataSource);
     }
 
     @AfterEach
@@ -253,5 +241,102 @@ class CourseDAOImplTest {
                 .count();
         assertEquals(2, programmingCount, "Should handle multiple courses with same name");
     }
-}
 
+    @Test
+    void findAll_loadsRostersForEachCourse() throws Exception {
+        // Arrange
+        Course course1 = new Course();
+        course1.setCode("CS101");
+        course1.setName("Programming");
+        Course course2 = new Course();
+        course2.setCode("CS102");
+        course2.setName("Data Structures");
+        Course course3 = new Course();
+        course3.setCode("CS103");
+        course3.setName("Algorithms");
+        courseDAO.save(course1);
+        courseDAO.save(course2);
+        courseDAO.save(course3);
+
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("INSERT INTO students (username, password, first_name, last_name, email) VALUES " +
+                    "('alice', 'pass', 'Alice', 'A', 'alice@example.com'), " +
+                    "('bob', 'pass', 'Bob', 'B', 'bob@example.com')");
+            stmt.execute("INSERT INTO student_course_details (student_id, course_id) VALUES " +
+                    "(1, " + course1.getId() + "), (2, " + course1.getId() + "), (2, " + course2.getId() + ")");
+        }
+
+        // Act
+        List<Course> courses = courseDAO.findAll();
+
+        // Assert
+        Course found1 = courses.stream().filter(c -> c.getId() == course1.getId()).findFirst().orElseThrow();
+        Course found2 = courses.stream().filter(c -> c.getId() == course2.getId()).findFirst().orElseThrow();
+        Course found3 = courses.stream().filter(c -> c.getId() == course3.getId()).findFirst().orElseThrow();
+        assertEquals(2, found1.getStudents().size());
+        assertEquals(1, found2.getStudents().size());
+        assertEquals("Bob", found2.getStudents().get(0).getFirstName());
+        assertNotNull(found3.getStudents(), "Courses without enrollments should have an empty roster");
+        assertTrue(found3.getStudents().isEmpty());
+    }
+
+    @Test
+    void findAll_usesConstantNumberOfStatementsRegardlessOfCourseCount() {
+        // Arrange
+        for (int i = 0; i < 25; i++) {
+            Course course = new Course();
+            course.setCode("BULK" + i);
+            course.setName("Bulk Course " + i);
+            courseDAO.save(course);
+        }
+        countingDataSource.reset();
+
+        // Act
+        List<Course> courses = courseDAO.findAll();
+
+        // Assert
+        assertEquals(25, courses.size());
+        assertEquals(2, countingDataSource.getStatementCount(),
+                "findAll should load courses and rosters with two statements, not one per course");
+    }
+
+    @Test
+    void findPage_sortsByCodeAndIncludesTeacher() throws Exception {
+        // Arrange
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("INSERT INTO courses (code, name, teacher_id) VALUES ('PHYS101', 'Physics', 1)");
+            stmt.execute("INSERT INTO courses (code, name, teacher_id) VALUES ('CHEM101', 'Chemistry', NULL)");
+            stmt.execute("INSERT INTO courses (code, name, teacher_id) VALUES ('MATH101', 'Mathematics', 1)");
+        }
+
+        // Act
+        KeysetPage<Course> first = courseDAO.findPage(new PageQuery("code", false, null, 2, null));
+        KeysetPage<Course> second = courseDAO.findPage(new PageQuery("code", false, null, 2, first.getNextCursor()));
+
+        // Assert
+        assertEquals(List.of("CHEM101", "MATH101"), first.getItems().stream().map(Course::getCode).toList());
+        assertNull(first.getItems().get(0).getTeacher());
+        assertEquals("Smith", first.getItems().get(1).getTeacher().getLastName());
+        assertEquals(List.of("PHYS101"), second.getItems().stream().map(Course::getCode).toList());
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    void findPage_filtersByCodeOrName() throws Exception {
+        // Arrange
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("INSERT INTO courses (code, name, teacher_id) VALUES ('PHYS101', 'Physics', 1)");
+            stmt.execute("INSERT INTO courses (code, name, teacher_id) VALUES ('MATH101', 'Mathematics', 1)");
+        }
+
+        // Act
+        KeysetPage<Course> page = courseDAO.findPage(new PageQuery(null, false, "math", null, null));
+
+        // Assert
+        assertEquals(1, page.getItems().size());
+        assertEquals("MATH101", page.getItems().get(0).getCode());
+    }
+}
@@ -0,0 +1,226 @@
+package org.example.studentmanagement.dao;
+
+import org.example.studentmanagement.config.SchemaMigrator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeletionDAOImplTest {
+
+    private EmbeddedDatabase dataSource;
+    private StatementCountingDataSource countingDataSource;
+    private DeletionDAOImpl deletionDAO;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Build the schema from the shipped migrations, so the foreign key actions are the real ones
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("deletion_" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE")
+                .build();
+        new SchemaMigrator(dataSource, "classpath:db/migration", 1).migrate();
+
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            // Two students in two courses taught by one teacher, one assignment per course
+            stmt.execute("INSERT INTO teachers (username, password, first_name, last_name, email) "
+                    + "VALUES ('t1', 'x', 'Tom', 'T', 't1@example.com')");
+            stmt.execute("INSERT INTO students (username, password, first_name, last_name, email) "
+                    + "VALUES ('s1', 'x', 'Ann', 'A', 's1@example.com'), ('s2', 'x', 'Bob', 'B', 's2@example.com')");
+            stmt.execute("INSERT INTO courses (code, name, teacher_id) VALUES ('MATH101', 'Calculus', 1), ('PHYS101', 'Physics', 1)");
+            stmt.execute("INSERT INTO student_course_details (student_id, course_id) VALUES (1, 1), (1, 2), (2, 1), (2, 2)");
+            stmt.execute("INSERT INTO assignments (course_id, title, created_by_teacher_id) VALUES (1, 'Quiz', 1), (2, 'Lab', 1)");
+            stmt.execute("INSERT INTO assignment_details (assignment_id, student_course_details_id) VALUES (1, 1), (2, 2), (1, 3), (2, 4)");
+            stmt.execute("INSERT INTO grade_details (student_id, course_id, graded_by_teacher_id) VALUES (1, 1, 1), (1, 2, 1), (2, 1, 1), (2, 2, 1)");
+            stmt.execute("INSERT INTO course_grade_summary (course_id, student_id, graded_count, total_score, total_max_score) "
+                    + "VALUES (1, 1, 1, 90, 100), (2, 1, 1, 90, 100), (1, 2, 1, 90, 100), (2, 2, 1, 90, 100)");
+        }
+
+        countingDataSource = new StatementCountingDataSource(dataSource);
+        deletionDAO = new DeletionDAOImpl(countingDataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dataSource != null) {
+            dataSource.shutdown();
+        }
+    }
+
+    @Test
+    void deleteStudent_removesEnrollmentsGradesAndAssignmentDetails() throws Exception {
+        // Act
+        boolean deleted = deletionDAO.deleteStudent(1);
+
+        // Assert
+        assertTrue(deleted);
+        assertEquals(1, count("SELECT COUNT(*) FROM students"));
+        assertEquals(0, count("SELECT COUNT(*) FROM student_course_details WHERE student_id = 1"));
+        assertEquals(0, count("SELECT COUNT(*) FROM grade_details WHERE student_id = 1"));
+        assertEquals(2, count("SELECT COUNT(*) FROM assignment_details"));
+        assertEquals(2, count("SELECT COUNT(*) FROM grade_details"));
+    }
+
+    @Test
+    void deleteStudent_usesSingleStatement() {
+        // Act
+        deletionDAO.deleteStudent(1);
+
+        // Assert
+        assertEquals(1, countingDataSource.getStatementCount());
+    }
+
+    @Test
+    void deleteStudent_returnsFalseWhenNotFound() throws Exception {
+        // Act
+        boolean deleted = deletionDAO.deleteStudent(99);
+
+        // Assert
+        assertFalse(deleted);
+        assertEquals(2, count("SELECT COUNT(*) FROM students"));
+    }
+
+    @Test
+    void deleteTeacher_keepsCoursesWithoutTeacher() throws Exception {
+        // Act
+        boolean deleted = deletionDAO.deleteTeacher(1);
+
+        // Assert
+        assertTrue(deleted);
+        assertEquals(0, count("SELECT COUNT(*) FROM teachers"));
+        assertEquals(2, count("SELECT COUNT(*) FROM courses WHERE teacher_id IS NULL"));
+        assertEquals(2, count("SELECT COUNT(*) FROM assignments WHERE created_by_teacher_id IS NULL"));
+        assertEquals(4, count("SELECT COUNT(*) FROM grade_details WHERE graded_by_teacher_id IS NULL"));
+    }
+
+    @Test
+    void deleteCourse_removesEnrollmentsAssignmentsAndGrades() throws Exception {
+        // Act
+        boolean deleted = deletionDAO.deleteCourse(1);
+
+        // Assert
+        assertTrue(deleted);
+        assertEquals(1, count("SELECT COUNT(*) FROM courses"));
+        assertEquals(0, count("SELECT COUNT(*) FROM student_course_details WHERE course_id = 1"));
+        assertEquals(0, count("SELECT COUNT(*) FROM assignments WHERE course_id = 1"));
+        assertEquals(0, count("SELECT COUNT(*) FROM grade_details WHERE course_id = 1"));
+        assertEquals(2, count("SELECT COUNT(*) FROM assignment_details"));
+        assertEquals(2, count("SELECT COUNT(*) FROM students"));
+    }
+
+    @Test
+    void deleteEnrollment_removesOnlyThatStudentsCourseData() throws Exception {
+        // Act
+        boolean deleted = deletionDAO.deleteEnrollment(1, 2);
+
+        // Assert
+        assertTrue(deleted);
+        assertEquals(3, count("SELECT COUNT(*) FROM student_course_details"));
+        assertEquals(0, count("SELECT COUNT(*) FROM grade_details WHERE student_id = 1 AND course_id = 2"));
+        assertEquals(3, count("SELECT COUNT(*) FROM grade_details"));
+        assertEquals(0, count("SELECT COUNT(*) FROM assignment_details WHERE student_course_details_id = 2"));
+        assertEquals(3, count("SELECT COUNT(*) FROM assignment_details"));
+        assertEquals(0, count("SELECT COUNT(*) FROM course_grade_summary WHERE student_id = 1 AND course_id = 2"));
+        assertEquals(3, count("SELECT COUNT(*) FROM course_grade_summary"));
+        assertEquals(3, countingDataSource.getStatementCount());
+    }
+
+    @Test
+    void deleteEnrollment_returnsFalseWhenNotEnrolled() {
+        // Act
+        boolean deleted = deletionDAO.deleteEnrollment(1, 99);
+
+        // Assert
+        assertFalse(deleted);
+    }
+
+    @Test
+    void deleteStudents_ignoresDuplicateAndMissingIds() throws Exception {
+        // Act
+        int deleted = deletionDAO.deleteStudents(List.of(1, 2, 2, 99));
+
+        // Assert
+        assertEquals(2, deleted);
+        assertEquals(0, count("SELECT COUNT(*) FROM students"));
+        assertEquals(0, count("SELECT COUNT(*) FROM student_course_details"));
+        assertEquals(0, count("SELECT COUNT(*) FROM grade_details"));
+        assertEquals(0, count("SELECT COUNT(*) FROM assignment_details"));
+    }
+
+    @Test
+    void deleteStudents_returnsZeroForEmptyInput() {
+        // Act
+        int deleted = deletionDAO.deleteStudents(List.of());
+
+        // Assert
+        assertEquals(0, deleted);
+        assertEquals(0, countingDataSource.getStatementCount());
+    }
+
+    @Test
+    void deleteStudents_reusesOneStatementAcrossChunks() throws Exception {
+        // Arrange
+        List<Integer> ids = new ArrayList<>();
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("INSERT INTO students (username, password, first_name, last_name, email) "
+                    + "SELECT 'bulk' || x, 'x', 'Bulk', 'B', 'bulk' || x || '@example.com' FROM SYSTEM_RANGE(1, " + DeletionDAO.CHUNK_SIZE + ") AS r(x)");
+        }
+        for (int id = 1; id <= DeletionDAO.CHUNK_SIZE + 2; id++) {
+            ids.add(id);
+        }
+
+        // Act
+        int deleted = deletionDAO.deleteStudents(ids);
+
+        // Assert
+        assertEquals(DeletionDAO.CHUNK_SIZE + 2, deleted);
+        assertEquals(0, count("SELECT COUNT(*) FROM students"));
+        assertEquals(1, countingDataSource.getStatementCount());
+    }
+
+    @Test
+    void deleteCourses_removesAllDependentRows() throws Exception {
+        // Act
+        int deleted = deletionDAO.deleteCourses(List.of(1, 2));
+
+        // Assert
+        assertEquals(2, deleted);
+        assertEquals(0, count("SELECT COUNT(*) FROM assignments"));
+        assertEquals(0, count("SELECT COUNT(*) FROM student_course_details"));
+        assertEquals(0, count("SELECT COUNT(*) FROM grade_details"));
+        assertEquals(2, count("SELECT COUNT(*) FROM students"));
+        assertEquals(1, count("SELECT COUNT(*) FROM teachers"));
+    }
+
+    @Test
+    void deleteTeachers_clearsTeacherReferences() throws Exception {
+        // Act
+        int deleted = deletionDAO.deleteTeachers(List.of(1));
+
+        // Assert
+        assertEquals(1, deleted);
+        assertEquals(2, count("SELECT COUNT(*) FROM courses WHERE teacher_id IS NULL"));
+    }
+
+    private long count(String sql) throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
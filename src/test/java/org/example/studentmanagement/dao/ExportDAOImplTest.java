@@ -0,0 +1,142 @@
+package org.example.studentmanagement.dao;
+
+import org.example.studentmanagement.config.SchemaMigrator;
+import org.example.studentmanagement.dto.ExportDataset;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExportDAOImplTest {
+
+    private EmbeddedDatabase dataSource;
+    private ExportDAOImpl exportDAO;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Create an in-memory H2 database with the schema from the shipped migrations
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("export_" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE")
+                .build();
+        new SchemaMigrator(dataSource, "classpath:db/migration", 1).migrate();
+
+        // Two students in one course
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("INSERT INTO students (username, password, first_name, last_name, email) VALUES " +
+                    "('alice', 'x', 'Alice', 'Wonder', 'alice@example.com'), ('bob', 'x', 'Bob', 'Builder', 'bob@example.com')");
+            stmt.execute("INSERT INTO courses (code, name) VALUES ('MATH101', 'Mathematics')");
+            stmt.execute("INSERT INTO student_course_details (student_id, course_id) VALUES (1, 1), (2, 1)");
+            stmt.execute("INSERT INTO assignments (course_id, title, due_date) VALUES (1, 'HW1', '2026-01-15')");
+            stmt.execute("INSERT INTO assignment_details (assignment_id, student_course_details_id, is_done) " +
+                    "VALUES (1, 2, 1)");
+            stmt.execute("INSERT INTO grade_details (student_id, course_id, assignment_name, score, max_score, grade) " +
+                    "VALUES (2, 1, 'HW1', 91.5, 100, 'A'), (1, 1, 'HW1', 72, 100, 'C')");
+        }
+
+        // A fetch size smaller than the table makes the driver page through the cursor
+        exportDAO = new ExportDAOImpl(dataSource, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dataSource != null) {
+            dataSource.shutdown();
+        }
+    }
+
+    @Test
+    void stream_grades_emitsHeaderThenRowsInIdOrder() throws Exception {
+        // Arrange
+        RecordingHandler handler = new RecordingHandler();
+
+        // Act
+        exportDAO.stream(ExportDataset.GRADES, handler);
+
+        // Assert
+        assertEquals("id", handler.columns[0]);
+        assertTrue(Arrays.asList(handler.columns).contains("course_code"));
+        assertEquals(2, handler.rows.size());
+        assertEquals("bob", handler.value(0, "username"));
+        assertEquals("MATH101", handler.value(0, "course_code"));
+        assertEquals("alice", handler.value(1, "username"));
+    }
+
+    @Test
+    void stream_enrollments_joinsStudentAndCourse() throws Exception {
+        // Arrange
+        RecordingHandler handler = new RecordingHandler();
+
+        // Act
+        exportDAO.stream(ExportDataset.ENROLLMENTS, handler);
+
+        // Assert
+        assertEquals(2, handler.rows.size());
+        assertEquals("alice@example.com", handler.value(0, "email"));
+        assertEquals("Mathematics", handler.value(1, "course_name"));
+    }
+
+    @Test
+    void stream_assignmentCompletion_reportsStudentAndStatus() throws Exception {
+        // Arrange
+        RecordingHandler handler = new RecordingHandler();
+
+        // Act
+        exportDAO.stream(ExportDataset.ASSIGNMENT_COMPLETION, handler);
+
+        // Assert
+        assertEquals(1, handler.rows.size());
+        assertEquals("bob", handler.value(0, "username"));
+        assertEquals("HW1", handler.value(0, "title"));
+        assertEquals(1, ((Number) handler.value(0, "is_done")).intValue());
+    }
+
+    @Test
+    void stream_restoresAutoCommitOnPooledConnection() throws Exception {
+        // Arrange
+        StatementCountingDataSource countingDataSource = new StatementCountingDataSource(dataSource);
+        ExportDAOImpl dao = new ExportDAOImpl(countingDataSource, 10);
+
+        // Act
+        dao.stream(ExportDataset.GRADES, new RecordingHandler());
+
+        // Assert
+        try (Connection conn = dataSource.getConnection()) {
+            assertTrue(conn.getAutoCommit());
+        }
+        assertEquals(1, countingDataSource.getStatementCount());
+    }
+
+    // Copies each row, since the DAO reuses its value array between rows
+    private static class RecordingHandler implements ExportRowHandler {
+
+        private String[] columns;
+        private final List<Object[]> rows = new ArrayList<>();
+
+        @Override
+        public void header(String[] columns) {
+            this.columns = columns;
+        }
+
+        @Override
+        public void row(Object[] values) {
+            rows.add(values.clone());
+        }
+
+        Object value(int row, String column) {
+            return rows.get(row)[Arrays.asList(columns).indexOf(column)];
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package org.example.studentmanagement.dao;
+
+import org.example.studentmanagement.config.SchemaMigrator;
+import org.example.studentmanagement.dto.GradeStatistics;
+import org.example.studentmanagement.entity.GradeDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GradeAnalyticsDAOImplTest {
+
+    private EmbeddedDatabase dataSource;
+    private GradeAnalyticsDAOImpl gradeAnalyticsDAO;
+    private GradeDetailsDAOImpl gradeDetailsDAO;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("analytics_" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE")
+                .build();
+        new SchemaMigrator(dataSource, "classpath:db/migration", 1).migrate();
+
+        execute("INSERT INTO students (id, username, password, first_name, last_name, email) VALUES "
+                + "(1, 'ann', 'x', 'Ann', 'A', 'ann@example.com'), "
+                + "(2, 'bob', 'x', 'Bob', 'B', 'bob@example.com'), "
+                + "(3, 'cat', 'x', 'Cat', 'C', 'cat@example.com')");
+        execute("INSERT INTO teachers (id, username, password, first_name, last_name, email) VALUES "
+                + "(1, 'tom', 'x', 'Tom', 'T', 'tom@example.com')");
+        execute("INSERT INTO courses (id, code, name) VALUES (1, 'MATH101', 'Calculus'), (2, 'HIST101', 'History')");
+
+        gradeAnalyticsDAO = new GradeAnalyticsDAOImpl(dataSource);
+        gradeDetailsDAO = new GradeDetailsDAOImpl(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dataSource != null) {
+            dataSource.shutdown();
+        }
+    }
+
+    private void execute(String sql) throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+
+    private long count(String sql) throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private GradeDetails grade(int studentId, int courseId, String assignmentName, double score, double maxScore) {
+        GradeDetails gradeDetails = new GradeDetails(0, studentId, courseId, assignmentName, score, maxScore,
+                null, null, LocalDate.of(2025, 3, 1), 1);
+        gradeDetailsDAO.save(gradeDetails);
+        gradeAnalyticsDAO.add(GradeSelection.byId(gradeDetails.getId()));
+        return gradeDetails;
+    }
+
+    private GradeStatistics statistics(int courseId, String assignmentName) {
+        return gradeAnalyticsDAO.findByCourseId(courseId).stream()
+                .filter(s -> Objects.equals(s.getAssignmentName(), assignmentName))
+                .findFirst().orElse(null);
+    }
+
+    @Test
+    void findByCourseId_returnsFinalGradesFirstThenAssignmentsByName() {
+        grade(1, 1, "Quiz", 45, 50);
+        grade(2, 1, "Quiz", 35, 50);
+        grade(1, 1, "Essay", 72, 100);
+        grade(1, 1, null, 88, 100);
+        grade(3, 2, "Paper", 10, 100);
+
+        List<GradeStatistics> course = gradeAnalyticsDAO.findByCourseId(1);
+
+        assertEquals(3, course.size());
+        assertNull(course.get(0).getAssignmentName());
+        assertEquals("Essay", course.get(1).getAssignmentName());
+        assertEquals("Quiz", course.get(2).getAssignmentName());
+
+        GradeStatistics quiz = course.get(2);
+        assertEquals(2, quiz.getCount());
+        assertEquals(80.0, quiz.getMean(), 1e-9);
+        assertEquals(10.0, quiz.getStandardDeviation(), 1e-9);
+        assertEquals(1, quiz.getHistogram()[14]);
+        assertEquals(1, quiz.getHistogram()[18]);
+    }
+
+    @Test
+    void updatingAGradeMovesItBetweenBuckets() {
+        GradeDetails quiz = grade(1, 1, "Quiz", 40, 100);
+        grade(2, 1, "Quiz", 80, 100);
+
+        gradeAnalyticsDAO.subtract(GradeSelection.byId(quiz.getId()));
+        quiz.setScore(95);
+        gradeDetailsDAO.save(quiz);
+        gradeAnalyticsDAO.add(GradeSelection.byId(quiz.getId()));
+
+        GradeStatistics statistics = statistics(1, "Quiz");
+        assertEquals(2, statistics.getCount());
+        assertEquals(87.5, statistics.getMean(), 1e-9);
+        assertEquals(0, statistics.getHistogram()[8]);
+        assertEquals(1, statistics.getHistogram()[19]);
+    }
+
+    @Test
+    void subtractingEveryGradeOfAnAssignmentDropsItFromTheCourse() throws Exception {
+        GradeDetails quiz = grade(1, 1, "Quiz", 40, 100);
+        grade(1, 1, "Essay", 70, 100);
+
+        gradeAnalyticsDAO.subtract(GradeSelection.byId(quiz.getId()));
+        gradeDetailsDAO.deleteById(quiz.getId());
+
+        assertNull(statistics(1, "Quiz"));
+        assertEquals(1, statistics(1, "Essay").getCount());
+        assertEquals(0, count("SELECT COALESCE(SUM(graded_count), 0) FROM grade_distribution WHERE assignment_key = 'Quiz'"));
+    }
+
+    @Test
+    void bulkUpsertKeepsStatisticsEqualToTheStoredGrades() throws Exception {
+        grade(1, 1, "Quiz", 50, 100);
+        grade(2, 1, "Quiz", 60, 100);
+        grade(3, 1, "Essay", 90, 100);
+
+        // Re-grade two students and add a third, the way the grade-all form does
+        List<GradeDetails> regrade = List.of(
+                new GradeDetails(0, 1, 1, "Quiz", 70, 100, "C", null, LocalDate.of(2025, 3, 2), 1),
+                new GradeDetails(0, 2, 1, "Quiz", 100, 100, "A", null, LocalDate.of(2025, 3, 2), 1),
+                new GradeDetails(0, 3, 1, "Quiz", 85, 100, "B", null, LocalDate.of(2025, 3, 2), 1));
+        GradeSelection written = GradeSelection.byAssignment(1, "Quiz", Set.of(1, 2, 3));
+        gradeAnalyticsDAO.subtract(written);
+        gradeDetailsDAO.upsertAll(regrade);
+        gradeAnalyticsDAO.add(written);
+
+        GradeStatistics quiz = statistics(1, "Quiz");
+        assertEquals(3, quiz.getCount());
+        assertEquals(85.0, quiz.getMean(), 1e-9);
+        assertEquals(3, count("SELECT COUNT(*) FROM grade_details WHERE assignment_name = 'Quiz'"));
+        assertEquals(1, statistics(1, "Essay").getCount());
+    }
+
+    @Test
+    void subtractByStudentsCoversEveryCourseOfThoseStudents() throws Exception {
+        grade(1, 1, "Quiz", 50, 100);
+        grade(2, 1, "Quiz", 90, 100);
+        grade(1, 2, "Paper", 75, 100);
+
+        gradeAnalyticsDAO.subtract(GradeSelection.byStudents(List.of(1)));
+        execute("DELETE FROM students WHERE id = 1");
+
+        GradeStatistics quiz = statistics(1, "Quiz");
+        assertEquals(1, quiz.getCount());
+        assertEquals(90.0, quiz.getMean(), 1e-9);
+        assertTrue(gradeAnalyticsDAO.findByCourseId(2).isEmpty());
+    }
+
+    @Test
+    void extraCreditAndZeroMaxScoreStayInsideTheHistogram() {
+        grade(1, 1, "Quiz", 55, 50);
+        grade(2, 1, "Quiz", 10, 0);
+
+        GradeStatistics quiz = statistics(1, "Quiz");
+        assertEquals(1, quiz.getHistogram()[19]);
+        assertEquals(1, quiz.getHistogram()[0]);
+        assertEquals(55.0, quiz.getMean(), 1e-9);
+    }
+
+    @Test
+    void lockCreatesEmptyBucketRowsForAssignmentsWithoutGrades() throws Exception {
+        gradeAnalyticsDAO.lock(null, List.of(new AssignmentKey(1, "Quiz"), new AssignmentKey(1, null)));
+
+        assertEquals(2 * GradeStatistics.BUCKETS, count("SELECT COUNT(*) FROM grade_distribution WHERE course_id = 1"));
+        assertEquals(0, count("SELECT COALESCE(SUM(graded_count), 0) FROM grade_distribution"));
+        assertTrue(gradeAnalyticsDAO.findByCourseId(1).isEmpty());
+    }
+
+    @Test
+    void concurrentFirstGradesOfTheSameAssignmentsAllCommit() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CyclicBarrier start = new CyclicBarrier(2);
+        int rounds = 20;
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int studentId = 1; studentId <= 2; studentId++) {
+                int student = studentId;
+                writers.add(executor.submit(() -> {
+                    for (int round = 0; round < rounds; round++) {
+                        // Each round grades two assignments nobody has graded yet, the writers in opposite order
+                        List<String> names = student == 1
+                                ? List.of("Quiz " + round, "Essay " + round)
+                                : List.of("Essay " + round, "Quiz " + round);
+                        start.await(5, TimeUnit.SECONDS);
+                        transaction.executeWithoutResult(status -> {
+                            List<GradeDetails> grades = names.stream()
+                                    .map(name -> new GradeDetails(0, student, 1, name, 70, 100,
+                                            null, null, LocalDate.of(2025, 3, 1), 1))
+                                    .toList();
+                            List<GradeSelection> written = names.stream()
+                                    .map(name -> GradeSelection.byAssignment(1, name, Set.of(student)))
+                                    .toList();
+                            gradeAnalyticsDAO.lock(GradeSelection.anyOf(written),
+                                    names.stream().map(name -> new AssignmentKey(1, name)).toList());
+                            written.forEach(gradeAnalyticsDAO::subtract);
+                            gradeDetailsDAO.upsertAll(grades);
+                            written.forEach(gradeAnalyticsDAO::add);
+                        });
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int round = 0; round < rounds; round++) {
+            for (String name : List.of("Quiz " + round, "Essay " + round)) {
+                GradeStatistics statistics = statistics(1, name);
+                assertEquals(2, statistics.getCount(), name);
+                assertEquals(70.0, statistics.getMean(), 1e-9, name);
+            }
+        }
+        assertEquals(4 * rounds, count("SELECT SUM(graded_count) FROM grade_distribution"));
+    }
+}
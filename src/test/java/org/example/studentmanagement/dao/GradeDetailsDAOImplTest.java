@@ -5,10 +5,19 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.sql.Connection;
 import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.example.studentmanagement.config.SchemaMigrator;
 import org.example.studentmanagement.entity.GradeDetails;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,31 +29,30 @@ import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
 class GradeDetailsDAOImplTest {
 
     private EmbeddedDatabase dataSource;
+    private StatementCountingDataSource countingDataSource;
     private GradeDetailsDAOImpl gradeDetailsDAO;
 
     @BeforeEach
     void setUp() throws Exception {
         dataSource = new EmbeddedDatabaseBuilder()
                 .setType(EmbeddedDatabaseType.H2)
+                .setName("grade_details_" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE")
                 .build();
+        new SchemaMigrator(dataSource, "classpath:db/migration", 1).migrate();
 
+        // The students, courses and grading teachers the grades below refer to
         try (Connection conn = dataSource.getConnection();
              Statement stmt = conn.createStatement()) {
-            stmt.execute("CREATE TABLE grade_details (" +
-                    "id INT AUTO_INCREMENT PRIMARY KEY, " +
-                    "student_id INT NOT NULL, " +
-                    "course_id INT NOT NULL, " +
-                    "assignment_name VARCHAR(255), " +
-                    "score DOUBLE, " +
-                    "max_score DOUBLE, " +
-                    "grade VARCHAR(10), " +
-                    "feedback TEXT, " +
-                    "graded_date VARCHAR(255), " +
-                    "graded_by_teacher_id INT" +
-                    ")");
+            stmt.execute("INSERT INTO teachers (id, username, password, first_name, last_name, email) "
+                    + "SELECT x, 'teacher' || x, 'x', 'Teacher', 'T', 'teacher' || x || '@example.com' FROM SYSTEM_RANGE(1, 13) AS r(x)");
+            stmt.execute("INSERT INTO students (id, username, password, first_name, last_name, email) "
+                    + "SELECT x, 'student' || x, 'x', 'Student', 'S', 'student' || x || '@example.com' FROM SYSTEM_RANGE(1, 300) AS r(x)");
+            stmt.execute("INSERT INTO courses (id, code, name) "
+                    + "SELECT x, 'C' || x, 'Course ' || x FROM SYSTEM_RANGE(201, 204) AS r(x) UNION ALL SELECT 301, 'C301', 'Course 301'");
         }
 
-        gradeDetailsDAO = new GradeDetailsDAOImpl(dataSource);
+        countingDataSource = new StatementCountingDataSource(dataSource);
+        gradeDetailsDAO = new GradeDetailsDAOImpl(countingDataSource);
     }
 
     @AfterEach
@@ -64,7 +72,7 @@ class GradeDetailsDAOImplTest {
         grade.setMaxScore(100.0);
         grade.setGrade("B");
         grade.setFeedback("Good work");
-        grade.setGradedDate("2025-12-01");
+        grade.setGradedDate(LocalDate.of(2025, 12, 1));
         grade.setGradedByTeacherId(10);
 
         gradeDetailsDAO.save(grade);
@@ -79,7 +87,7 @@ class GradeDetailsDAOImplTest {
         assertEquals(100.0, found.getMaxScore());
         assertEquals("B", found.getGrade());
         assertEquals("Good work", found.getFeedback());
-        assertEquals("2025-12-01", found.getGradedDate());
+        assertEquals(LocalDate.of(2025, 12, 1), found.getGradedDate());
         assertEquals(10, found.getGradedByTeacherId());
     }
 
@@ -93,7 +101,7 @@ class GradeDetailsDAOImplTest {
         grade.setMaxScore(100.0);
         grade.setGrade("C");
         grade.setFeedback("Needs improvement");
-        grade.setGradedDate("2025-11-15");
+        grade.setGradedDate(LocalDate.of(2025, 11, 15));
         grade.setGradedByTeacherId(11);
         gradeDetailsDAO.save(grade);
 
@@ -120,7 +128,7 @@ class GradeDetailsDAOImplTest {
         grade1.setMaxScore(100.0);
         grade1.setGrade("B");
         grade1.setFeedback("Good");
-        grade1.setGradedDate("2025-12-01");
+        grade1.setGradedDate(LocalDate.of(2025, 12, 1));
         grade1.setGradedByTeacherId(10);
 
         GradeDetails grade2 = new GradeDetails();
@@ -131,7 +139,7 @@ class GradeDetailsDAOImplTest {
         grade2.setMaxScore(100.0);
         grade2.setGrade("A");
         grade2.setFeedback("Excellent");
-        grade2.setGradedDate("2025-12-02");
+        grade2.setGradedDate(LocalDate.of(2025, 12, 2));
         grade2.setGradedByTeacherId(11);
 
         gradeDetailsDAO.save(grade1);
@@ -162,7 +170,7 @@ class GradeDetailsDAOImplTest {
         grade.setMaxScore(100.0);
         grade.setGrade("B+");
         grade.setFeedback("Well done");
-        grade.setGradedDate("2025-12-10");
+        grade.setGradedDate(LocalDate.of(2025, 12, 10));
         grade.setGradedByTeacherId(12);
         gradeDetailsDAO.save(grade);
 
@@ -192,7 +200,7 @@ class GradeDetailsDAOImplTest {
         grade.setMaxScore(100.0);
         grade.setGrade("A");
         grade.setFeedback("Outstanding");
-        grade.setGradedDate("2025-12-05");
+        grade.setGradedDate(LocalDate.of(2025, 12, 5));
         grade.setGradedByTeacherId(13);
         gradeDetailsDAO.save(grade);
         int gradeId = grade.getId();
@@ -219,7 +227,7 @@ class GradeDetailsDAOImplTest {
         grade1.setMaxScore(100.0);
         grade1.setGrade("B");
         grade1.setFeedback("Good");
-        grade1.setGradedDate("2025-11-01");
+        grade1.setGradedDate(LocalDate.of(2025, 11, 1));
         grade1.setGradedByTeacherId(10);
 
         GradeDetails grade2 = new GradeDetails();
@@ -230,7 +238,7 @@ class GradeDetailsDAOImplTest {
         grade2.setMaxScore(100.0);
         grade2.setGrade("A");
         grade2.setFeedback("Excellent");
-        grade2.setGradedDate("2025-11-15");
+        grade2.setGradedDate(LocalDate.of(2025, 11, 15));
         grade2.setGradedByTeacherId(11);
 
         GradeDetails grade3 = new GradeDetails();
@@ -241,7 +249,7 @@ class GradeDetailsDAOImplTest {
         grade3.setMaxScore(100.0);
         grade3.setGrade("C");
         grade3.setFeedback("Needs work");
-        grade3.setGradedDate("2025-11-01");
+        grade3.setGradedDate(LocalDate.of(2025, 11, 1));
         grade3.setGradedByTeacherId(10);
 
         gradeDetailsDAO.save(grade1);
@@ -272,7 +280,7 @@ class GradeDetailsDAOImplTest {
         grade1.setMaxScore(100.0);
         grade1.setGrade("B");
         grade1.setFeedback("Good");
-        grade1.setGradedDate("2025-11-10");
+        grade1.setGradedDate(LocalDate.of(2025, 11, 10));
         grade1.setGradedByTeacherId(10);
 
         GradeDetails grade2 = new GradeDetails();
@@ -283,7 +291,7 @@ class GradeDetailsDAOImplTest {
         grade2.setMaxScore(100.0);
         grade2.setGrade("C+");
         grade2.setFeedback("Satisfactory");
-        grade2.setGradedDate("2025-11-10");
+        grade2.setGradedDate(LocalDate.of(2025, 11, 10));
         grade2.setGradedByTeacherId(10);
 
         GradeDetails grade3 = new GradeDetails();
@@ -294,7 +302,7 @@ class GradeDetailsDAOImplTest {
         grade3.setMaxScore(100.0);
         grade3.setGrade("A");
         grade3.setFeedback("Excellent");
-        grade3.setGradedDate("2025-11-12");
+        grade3.setGradedDate(LocalDate.of(2025, 11, 12));
         grade3.setGradedByTeacherId(11);
 
         gradeDetailsDAO.save(grade1);
@@ -325,7 +333,7 @@ class GradeDetailsDAOImplTest {
         grade1.setMaxScore(100.0);
         grade1.setGrade("B");
         grade1.setFeedback("Good");
-        grade1.setGradedDate("2025-11-01");
+        grade1.setGradedDate(LocalDate.of(2025, 11, 1));
         grade1.setGradedByTeacherId(10);
 
         GradeDetails grade2 = new GradeDetails();
@@ -336,7 +344,7 @@ class GradeDetailsDAOImplTest {
         grade2.setMaxScore(100.0);
         grade2.setGrade("A");
         grade2.setFeedback("Excellent");
-        grade2.setGradedDate("2025-11-15");
+        grade2.setGradedDate(LocalDate.of(2025, 11, 15));
         grade2.setGradedByTeacherId(10);
 
         GradeDetails grade3 = new GradeDetails();
@@ -347,7 +355,7 @@ class GradeDetailsDAOImplTest {
         grade3.setMaxScore(100.0);
         grade3.setGrade("B+");
         grade3.setFeedback("Very good");
-        grade3.setGradedDate("2025-11-05");
+        grade3.setGradedDate(LocalDate.of(2025, 11, 5));
         grade3.setGradedByTeacherId(11);
 
         GradeDetails grade4 = new GradeDetails();
@@ -358,7 +366,7 @@ class GradeDetailsDAOImplTest {
         grade4.setMaxScore(100.0);
         grade4.setGrade("C");
         grade4.setFeedback("Needs work");
-        grade4.setGradedDate("2025-11-01");
+        grade4.setGradedDate(LocalDate.of(2025, 11, 1));
         grade4.setGradedByTeacherId(10);
 
         gradeDetailsDAO.save(grade1);
@@ -379,4 +387,105 @@ class GradeDetailsDAOImplTest {
         assertNotNull(grades);
         assertEquals(0, grades.size(), "Should return empty list when no grades exist for student and course");
     }
+
+    @Test
+    void upsertAll_insertsNewGradesAndUpdatesExistingOnes() {
+        GradeDetails existing = new GradeDetails(0, 101, 201, "Quiz 1", 50.0, 100.0, "F", null, LocalDate.of(2024, 1, 1), 1);
+        gradeDetailsDAO.save(existing);
+
+        GradeDetails updated = new GradeDetails(0, 101, 201, "Quiz 1", 90.0, 100.0, "A", "Much better", LocalDate.of(2024, 1, 2), 1);
+        GradeDetails inserted = new GradeDetails(0, 102, 201, "Quiz 1", 75.0, 100.0, "C", null, LocalDate.of(2024, 1, 2), 1);
+
+        gradeDetailsDAO.upsertAll(List.of(updated, inserted));
+
+        List<GradeDetails> student101 = gradeDetailsDAO.findByStudentIdAndCourseId(101, 201);
+        assertEquals(1, student101.size(), "Existing grade should be updated, not duplicated");
+        assertEquals(existing.getId(), student101.get(0).getId());
+        assertEquals(90.0, student101.get(0).getScore());
+        assertEquals("A", student101.get(0).getGrade());
+        assertEquals("Much better", student101.get(0).getFeedback());
+
+        assertNotEquals(0, inserted.getId(), "Generated ID should be set on inserted grades");
+        assertEquals(75.0, gradeDetailsDAO.findById(inserted.getId()).getScore());
+    }
+
+    @Test
+    void upsertAll_usesConstantNumberOfStatementsForWholeClass() {
+        List<GradeDetails> grades = new ArrayList<>();
+        for (int studentId = 1; studentId <= 300; studentId++) {
+            grades.add(new GradeDetails(0, studentId, 301, "Final", 80.0, 100.0, "B", null, LocalDate.of(2024, 6, 1), 1));
+        }
+        countingDataSource.reset();
+
+        gradeDetailsDAO.upsertAll(grades);
+
+        assertEquals(2, countingDataSource.getStatementCount(),
+                "Grading 300 students should prepare one update and one insert statement");
+        assertEquals(300, gradeDetailsDAO.findByCourseId(301).size());
+    }
+
+    @Test
+    void upsertAll_keepsGradesForOtherAssignmentsUntouched() {
+        GradeDetails other = new GradeDetails(0, 103, 202, "Homework", 60.0, 100.0, "D", null, LocalDate.of(2024, 1, 1), 1);
+        gradeDetailsDAO.save(other);
+
+        gradeDetailsDAO.upsertAll(List.of(
+                new GradeDetails(0, 103, 202, "Project", 100.0, 100.0, "A", null, LocalDate.of(2024, 1, 2), 1)));
+
+        assertEquals(2, gradeDetailsDAO.findByStudentIdAndCourseId(103, 202).size());
+        assertEquals(60.0, gradeDetailsDAO.findById(other.getId()).getScore());
+    }
+
+    @Test
+    void upsertAll_keepsTheLastGradeOfAStudentListedTwice() {
+        gradeDetailsDAO.upsertAll(List.of(
+                new GradeDetails(0, 105, 203, "Lab", 40.0, 100.0, "F", null, LocalDate.of(2024, 1, 2), 1),
+                new GradeDetails(0, 106, 203, "Lab", 70.0, 100.0, "C", null, LocalDate.of(2024, 1, 2), 1),
+                new GradeDetails(0, 105, 203, "Lab", 95.0, 100.0, "A", null, LocalDate.of(2024, 1, 2), 1)));
+
+        List<GradeDetails> student105 = gradeDetailsDAO.findByStudentIdAndCourseId(105, 203);
+        assertEquals(1, student105.size());
+        assertEquals(95.0, student105.get(0).getScore());
+        assertEquals(2, gradeDetailsDAO.findByCourseId(203).size());
+    }
+
+    @Test
+    void upsertAll_updatesAGradeAnotherGraderInsertedFirst() throws Exception {
+        GradeDetails grade = new GradeDetails(0, 107, 204, "Lab", 88.0, 100.0, "B", null, LocalDate.of(2024, 1, 2), 2);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (Connection other = dataSource.getConnection();
+             Statement stmt = other.createStatement()) {
+            // The other grader's row is not yet committed when this upsert looks for it
+            other.setAutoCommit(false);
+            stmt.execute("INSERT INTO grade_details (student_id, course_id, assignment_name, score, max_score, graded_by_teacher_id) "
+                    + "VALUES (107, 204, 'Lab', 10, 100, 1)");
+            Future<?> upsert = executor.submit(() -> gradeDetailsDAO.upsertAll(List.of(grade)));
+            Thread.sleep(200);
+            other.commit();
+            upsert.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<GradeDetails> student107 = gradeDetailsDAO.findByStudentIdAndCourseId(107, 204);
+        assertEquals(1, student107.size());
+        assertEquals(88.0, student107.get(0).getScore());
+        assertEquals(2, student107.get(0).getGradedByTeacherId());
+    }
+
+    @Test
+    void upsertAll_rejectsGradesWithoutAssignmentName() {
+        GradeDetails grade = new GradeDetails(0, 104, 203, null, 60.0, 100.0, "D", null, LocalDate.of(2024, 1, 1), 1);
+
+        assertThrows(IllegalArgumentException.class, () -> gradeDetailsDAO.upsertAll(List.of(grade)));
+    }
+
+    @Test
+    void upsertAll_doesNothingForEmptyList() {
+        countingDataSource.reset();
+
+        assertDoesNotThrow(() -> gradeDetailsDAO.upsertAll(List.of()));
+
+        assertEquals(0, countingDataSource.getStatementCount());
+    }
 }
@@ -0,0 +1,141 @@
+package org.example.studentmanagement.dao;
+
+import org.example.studentmanagement.config.SchemaMigrator;
+import org.example.studentmanagement.dto.GradebookRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GradebookDAOImplTest {
+
+    private EmbeddedDatabase dataSource;
+    private GradebookDAOImpl gradebookDAO;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("gradebook_" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE")
+                .build();
+        new SchemaMigrator(dataSource, "classpath:db/migration", 1).migrate();
+
+        // Three students in course 1, enrolled in the order 2, 1, 3; student 1 is also in course 2
+        execute("INSERT INTO students (id, username, password, first_name, last_name, email) VALUES "
+                + "(1, 'ann', 'x', 'Ann', 'A', 'ann@example.com'), "
+                + "(2, 'bob', 'x', 'Bob', 'B', 'bob@example.com'), "
+                + "(3, 'cat', 'x', 'Cat', 'C', 'cat@example.com')");
+        execute("INSERT INTO courses (id, code, name) VALUES (1, 'MATH101', 'Calculus'), (2, 'HIST101', 'History')");
+        execute("INSERT INTO student_course_details (id, student_id, course_id) VALUES (1, 2, 1), (2, 1, 1), (3, 3, 1), (4, 1, 2)");
+
+        gradebookDAO = new GradebookDAOImpl(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dataSource != null) {
+            dataSource.shutdown();
+        }
+    }
+
+    private void execute(String sql) throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+
+    private long count(String sql) throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private void grade(int studentId, int courseId, String assignmentName, double score, double maxScore) throws Exception {
+        execute("INSERT INTO grade_details (student_id, course_id, assignment_name, score, max_score, grade) VALUES ("
+                + studentId + ", " + courseId + ", " + (assignmentName == null ? "NULL" : "'" + assignmentName + "'")
+                + ", " + score + ", " + maxScore + ", 'B')");
+    }
+
+    @Test
+    void findByCourseId_returnsRosterInEnrollmentOrderWithFinalGradeAndTotals() throws Exception {
+        grade(1, 1, null, 88, 100);
+        grade(1, 1, "Quiz", 45, 50);
+        grade(1, 1, "Essay", 90, 100);
+        grade(1, 2, "Paper", 10, 100);
+        gradebookDAO.refreshSummary(1, 1);
+        gradebookDAO.refreshSummary(1, 2);
+
+        List<GradebookRow> gradebook = gradebookDAO.findByCourseId(1);
+
+        assertEquals(List.of(2, 1, 3), gradebook.stream().map(row -> row.getStudent().getId()).toList());
+        GradebookRow ann = gradebook.get(1);
+        assertEquals("Ann", ann.getStudent().getFirstName());
+        assertNotEquals(0, ann.getCourseGrade().getId());
+        assertEquals(88.0, ann.getCourseGrade().getScore());
+        assertNull(ann.getCourseGrade().getAssignmentName());
+        assertEquals(1, ann.getCourseGrade().getCourseId());
+        assertEquals(2, ann.getGradedCount(), "The final grade is not an assignment");
+        assertEquals(135.0, ann.getTotalScore());
+        assertEquals(150.0, ann.getTotalMaxScore());
+        assertEquals(90.0, ann.getPercentage(), 1e-9);
+        assertEquals("A", ann.getLetterGrade());
+    }
+
+    @Test
+    void findByCourseId_givesUngradedStudentsABlankFinalGrade() {
+        List<GradebookRow> gradebook = gradebookDAO.findByCourseId(1);
+
+        GradebookRow bob = gradebook.get(0);
+        assertEquals(0, bob.getCourseGrade().getId());
+        assertEquals(2, bob.getCourseGrade().getStudentId());
+        assertEquals(1, bob.getCourseGrade().getCourseId());
+        assertEquals(100.0, bob.getCourseGrade().getMaxScore());
+        assertEquals(0, bob.getGradedCount());
+        assertNull(bob.getLetterGrade());
+    }
+
+    @Test
+    void refreshSummary_tracksChangedAndDeletedGrades() throws Exception {
+        grade(2, 1, "Quiz", 25, 50);
+        gradebookDAO.refreshSummary(2, 1);
+        assertEquals("F", gradebookDAO.findByCourseId(1).get(0).getLetterGrade());
+
+        execute("UPDATE grade_details SET score = 42 WHERE student_id = 2");
+        gradebookDAO.refreshSummary(2, 1);
+        assertEquals("B", gradebookDAO.findByCourseId(1).get(0).getLetterGrade());
+
+        execute("DELETE FROM grade_details WHERE student_id = 2");
+        gradebookDAO.refreshSummary(2, 1);
+        assertEquals(0, count("SELECT COUNT(*) FROM course_grade_summary WHERE student_id = 2"));
+    }
+
+    @Test
+    void refreshCourseSummaries_rebuildsOnlyThatCourse() throws Exception {
+        grade(1, 1, "Quiz", 40, 50);
+        grade(2, 1, "Quiz", 35, 50);
+        grade(3, 1, "Quiz", 25, 50);
+        grade(1, 2, "Paper", 70, 100);
+        gradebookDAO.refreshSummary(1, 2);
+
+        gradebookDAO.refreshCourseSummaries(1);
+
+        assertEquals(3, count("SELECT COUNT(*) FROM course_grade_summary WHERE course_id = 1"));
+        assertEquals(1, count("SELECT COUNT(*) FROM course_grade_summary WHERE course_id = 2"));
+        List<GradebookRow> gradebook = gradebookDAO.findByCourseId(1);
+        assertEquals(List.of("C", "B", "F"), gradebook.stream().map(GradebookRow::getLetterGrade).toList());
+    }
+}
@@ -0,0 +1,159 @@
+package org.example.studentmanagement.dao;
+
+import org.example.studentmanagement.config.SchemaMigrator;
+import org.example.studentmanagement.event.DomainEvent;
+import org.example.studentmanagement.event.DomainEventType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutboxDAOImplTest {
+
+    private EmbeddedDatabase dataSource;
+    private OutboxDAOImpl outboxDAO;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("outbox_" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE")
+                .build();
+        new SchemaMigrator(dataSource, "classpath:db/migration", 1).migrate();
+        outboxDAO = new OutboxDAOImpl(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dataSource != null) {
+            dataSource.shutdown();
+        }
+    }
+
+    private long count(String sql) throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static DomainEvent grade(int gradeId) {
+        return new DomainEvent(null, DomainEventType.GRADE_SAVED, gradeId, 10, 20, null);
+    }
+
+    @Test
+    void dispatch_handsOutEventsInOrderAndDeletesThem() throws Exception {
+        outboxDAO.append(List.of(grade(1), grade(2), grade(3)));
+        outboxDAO.append(List.of(new DomainEvent(null, DomainEventType.ASSIGNMENT_STATUS_SAVED, 4, null, null, null)));
+
+        List<DomainEvent> first = new ArrayList<>();
+        assertEquals(3, outboxDAO.dispatch(3, 5, 60, first::addAll));
+        List<DomainEvent> second = new ArrayList<>();
+        assertEquals(1, outboxDAO.dispatch(3, 5, 60, second::addAll));
+
+        assertEquals(List.of(1, 2, 3), first.stream().map(DomainEvent::entityId).toList());
+        assertEquals(DomainEventType.GRADE_SAVED, first.get(0).type());
+        assertEquals(10, first.get(0).courseId());
+        assertNotNull(first.get(0).createdOn());
+        assertEquals(DomainEventType.ASSIGNMENT_STATUS_SAVED, second.get(0).type());
+        assertNull(second.get(0).courseId());
+        assertEquals(0, count("SELECT COUNT(*) FROM domain_event_outbox"));
+        assertEquals(0, outboxDAO.dispatch(3, 5, 60, events -> fail("Nothing should be pending")));
+    }
+
+    @Test
+    void dispatch_keepsFailedBatchAndCountsTheAttempt() throws Exception {
+        outboxDAO.append(List.of(grade(1), grade(2)));
+
+        assertThrows(IllegalStateException.class, () -> outboxDAO.dispatch(10, 2, 60, events -> {
+            throw new IllegalStateException("listener down");
+        }));
+
+        assertEquals(2, count("SELECT COUNT(*) FROM domain_event_outbox WHERE attempts = 1"));
+        assertEquals(2, outboxDAO.dispatch(10, 2, 60, events -> { }));
+        assertEquals(0, count("SELECT COUNT(*) FROM domain_event_outbox"));
+    }
+
+    @Test
+    void dispatch_skipsEventsThatRanOutOfAttempts() throws Exception {
+        outboxDAO.append(List.of(grade(1)));
+        for (int attempt = 0; attempt < 2; attempt++) {
+            assertThrows(IllegalStateException.class, () -> outboxDAO.dispatch(10, 2, 60, events -> {
+                throw new IllegalStateException("listener down");
+            }));
+        }
+        outboxDAO.append(List.of(grade(2)));
+
+        List<DomainEvent> delivered = new ArrayList<>();
+        assertEquals(1, outboxDAO.dispatch(10, 2, 60, delivered::addAll));
+
+        assertEquals(2, delivered.get(0).entityId());
+        assertEquals(1, count("SELECT COUNT(*) FROM domain_event_outbox WHERE entity_id = 1 AND attempts = 2"));
+    }
+
+    @Test
+    void dispatch_commitsTheClaimBeforeDelivering() throws Exception {
+        outboxDAO.append(List.of(grade(1), grade(2)));
+
+        long[] claimed = new long[1];
+        int[] concurrent = new int[1];
+        assertEquals(2, outboxDAO.dispatch(10, 2, 60, events -> {
+            try {
+                // Visible to other connections and skipped by other dispatchers while the listeners run
+                claimed[0] = count("SELECT COUNT(*) FROM domain_event_outbox WHERE claimed_until IS NOT NULL");
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            concurrent[0] = outboxDAO.dispatch(10, 2, 60, others -> fail("Claimed events were handed out twice"));
+        }));
+
+        assertEquals(2, claimed[0]);
+        assertEquals(0, concurrent[0]);
+        assertEquals(0, count("SELECT COUNT(*) FROM domain_event_outbox"));
+    }
+
+    @Test
+    void dispatch_releasesTheClaimOfAFailedBatch() throws Exception {
+        outboxDAO.append(List.of(grade(1)));
+
+        assertThrows(IllegalStateException.class, () -> outboxDAO.dispatch(10, 2, 60, events -> {
+            throw new IllegalStateException("listener down");
+        }));
+
+        assertEquals(1, count("SELECT COUNT(*) FROM domain_event_outbox WHERE claimed_until IS NULL AND attempts = 1"));
+    }
+
+    @Test
+    void dispatch_reclaimsEventsWhoseClaimRanOut() throws Exception {
+        outboxDAO.append(List.of(grade(1), grade(2)));
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            // A dispatcher that died while delivering entity 1 left its claim behind
+            stmt.execute("UPDATE domain_event_outbox SET claimed_until = CURRENT_TIMESTAMP + INTERVAL '1' HOUR WHERE entity_id = 1");
+        }
+
+        List<DomainEvent> delivered = new ArrayList<>();
+        assertEquals(1, outboxDAO.dispatch(10, 2, 60, delivered::addAll));
+        assertEquals(List.of(2), delivered.stream().map(DomainEvent::entityId).toList());
+
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("UPDATE domain_event_outbox SET claimed_until = CURRENT_TIMESTAMP - INTERVAL '1' SECOND");
+        }
+        assertEquals(1, outboxDAO.dispatch(10, 2, 60, delivered::addAll));
+        assertEquals(List.of(2, 1), delivered.stream().map(DomainEvent::entityId).toList());
+    }
+}
@@ -0,0 +1,174 @@
+package org.example.studentmanagement.dao;
+
+import org.example.studentmanagement.config.SchemaMigrator;
+import org.example.studentmanagement.dto.PageQuery;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Builds the schema from the shipped migrations and checks with EXPLAIN that the DAO queries for the hot access paths
+ * are answered from the intended index instead of a table scan.
+ */
+class SchemaIndexTest {
+
+    // Every test only runs EXPLAIN, so the schema is built once
+    private static EmbeddedDatabase dataSource;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("schema_index_test;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE")
+                .build();
+        new SchemaMigrator(dataSource, "classpath:db/migration", 1).migrate();
+
+        // H2 backs every foreign key with an index of its own, PostgreSQL does not. Drop the foreign keys
+        // so the planner only sees the indexes the migrations create.
+        List<String> dropStatements = new ArrayList<>();
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            try (ResultSet rs = stmt.executeQuery("SELECT table_name, constraint_name FROM information_schema.table_constraints "
+                    + "WHERE constraint_type = 'FOREIGN KEY' AND table_schema = 'public'")) {
+                while (rs.next()) {
+                    dropStatements.add("ALTER TABLE \"" + rs.getString(1) + "\" DROP CONSTRAINT \"" + rs.getString(2) + "\"");
+                }
+            }
+            for (String sql : dropStatements) {
+                stmt.execute(sql);
+            }
+
+            // Give the hot tables a realistic spread of keys, or the cost-based planner has no reason to prefer any index
+            stmt.execute("INSERT INTO students (username, password, first_name, last_name, email) "
+                    + "SELECT 'student' || x, 'x', 'First ' || MOD(x, 300), 'Last ' || MOD(x, 700), 'student' || x || '@example.com' "
+                    + "FROM SYSTEM_RANGE(1, 2000) AS r(x)");
+            stmt.execute("INSERT INTO courses (code, name, teacher_id) "
+                    + "SELECT 'C' || x, 'Course ' || x, MOD(x, 50) + 1 FROM SYSTEM_RANGE(1, 500) AS r(x)");
+            stmt.execute("INSERT INTO assignments (course_id, title, due_date, status) "
+                    + "SELECT MOD(x, 500) + 1, 'Generated ' || x, DATE '2026-01-01' + MOD(x, 120), "
+                    + "CASE MOD(x, 3) WHEN 0 THEN 'active' WHEN 1 THEN 'closed' ELSE 'draft' END FROM SYSTEM_RANGE(1, 20000) AS r(x)");
+            stmt.execute("INSERT INTO grade_details (student_id, course_id, assignment_name, score) "
+                    + "SELECT MOD(x, 2000) + 1, MOD(x / 7, 500) + 1, 'Generated ' || x, 80 FROM SYSTEM_RANGE(1, 20000) AS r(x)");
+            stmt.execute("INSERT INTO assignment_details (assignment_id, student_course_details_id) "
+                    + "SELECT x, MOD(x, 2000) + 100 FROM SYSTEM_RANGE(1, 20000) AS r(x)");
+            stmt.execute("ANALYZE");
+        }
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (dataSource != null) {
+            dataSource.shutdown();
+        }
+    }
+
+    private static String explain(String sql, Object... params) throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < params.length; i++) {
+                pstmt.setObject(i + 1, params[i]);
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                assertTrue(rs.next());
+                return rs.getString(1).toLowerCase(Locale.ROOT);
+            }
+        }
+    }
+
+    // Passes when the plan reads through any of the given indexes rather than scanning the table
+    private static void assertUsesIndex(String plan, String... indexes) {
+        boolean used = false;
+        for (String index : indexes) {
+            used |= plan.contains(index);
+        }
+        assertTrue(used, () -> "expected one of " + String.join(", ", indexes) + " in plan:\n" + plan);
+        assertFalse(plan.contains("tablescan"), () -> "unexpected table scan in plan:\n" + plan);
+    }
+
+    @Test
+    void gradesByStudentAndCourse_useStudentLeadingIndex() throws Exception {
+        String plan = explain(GradeDetailsDAOImpl.BY_STUDENT_AND_COURSE_SQL, 1, 1);
+
+        // Both start with student_id; which one wins is up to the planner's statistics
+        assertUsesIndex(plan, "uq_grade_student_course_assignment", "idx_grade_student");
+    }
+
+    @Test
+    void gradeUpsert_updatesThroughUniqueGradeIndex() throws Exception {
+        String plan = explain(GradeDetailsDAOImpl.UPSERT_UPDATE_SQL,
+                90.0, 100.0, "A", null, LocalDate.of(2026, 1, 20), 1, 1, 1, "Mid-term Exam");
+
+        assertUsesIndex(plan, "uq_grade_student_course_assignment");
+    }
+
+    @Test
+    void assignmentDetailsByEnrollment_useEnrollmentIndex() throws Exception {
+        String plan = explain(AssignmentDetailsDAOImpl.BY_ENROLLMENT_SQL, 1);
+
+        assertUsesIndex(plan, "idx_assignment_details_enrollment");
+    }
+
+    @Test
+    void dateColumns_areTypedAsDate() throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(
+                     "SELECT table_name, column_name, data_type FROM information_schema.columns "
+                             + "WHERE column_name IN ('due_date', 'created_date', 'graded_date')");
+             ResultSet rs = pstmt.executeQuery()) {
+            int columns = 0;
+            while (rs.next()) {
+                assertEquals("date", rs.getString("data_type").toLowerCase(Locale.ROOT), rs.getString("table_name") + "." + rs.getString("column_name"));
+                columns++;
+            }
+            assertEquals(3, columns);
+        }
+    }
+
+    @Test
+    void studentFeedByCourseName_usesCourseNameIndex() throws Exception {
+        String plan = explain(AssignmentDAOImpl.STUDENT_FEED_BY_COURSE_SQL, 1, "Course 42");
+
+        assertUsesIndex(plan, "idx_course_name_id");
+    }
+
+    @Test
+    void teacherUpcomingDeadlines_rangeScanPerCourse() throws Exception {
+        String plan = explain(AssignmentDAOImpl.UPCOMING_FOR_TEACHER_SQL, LocalDate.of(2026, 3, 1), 1, 10);
+
+        assertUsesIndex(plan, "idx_assignment_course_status_due");
+    }
+
+    @Test
+    void studentPageAfterCursor_seeksSortColumnIdIndex() throws Exception {
+        KeysetSql.Page page = new KeysetSql("id", Map.of("lastName", "last_name"), List.of())
+                .prepare(cursorQuery("lastName", "Last 42", 42));
+
+        String plan = explain("SELECT id, last_name FROM students" + page.sql(), "Last 42", 42, 21);
+
+        assertUsesIndex(plan, "idx_student_last_name_id");
+    }
+
+    // The cursor a page sorted ascending by the given key hands out after the row (lastId, lastValue)
+    private static PageQuery cursorQuery(String sortKey, String lastValue, int lastId) {
+        String raw = sortKey + "|a|" + lastId + "|" + lastValue;
+        String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        return new PageQuery(sortKey, false, null, 20, cursor);
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.studentmanagement.dao;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test DataSource that counts how many statements the DAO under test prepares,
+ * so N+1 regressions show up as a failing assertion instead of a slow page.
+ */
+class StatementCountingDataSource extends DelegatingDataSource {
+
+    private final AtomicInteger statementCount = new AtomicInteger();
+
+    StatementCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingProxy(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countingProxy(super.getConnection(username, password));
+    }
+
+    int getStatementCount() {
+        return statementCount.get();
+    }
+
+    void reset() {
+        statementCount.set(0);
+    }
+
+    private Connection countingProxy(Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.equals("prepareStatement") || name.equals("prepareCall") || name.equals("createStatement")) {
+                        statementCount.incrementAndGet();
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
@@ -0,0 +1,161 @@
+package org.example.studentmanagement.dao;
+
+import org.example.studentmanagement.config.SchemaMigrator;
+import org.example.studentmanagement.dto.CourseEnrollmentCount;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatisticsDAOImplTest {
+
+    // Inserts students 1..n; format with the student count
+    private static final String STUDENTS_SQL =
+            "INSERT INTO students (username, password, first_name, last_name, email) "
+            + "SELECT 's' || x, 'x', 'Student', 'S' || x, 's' || x || '@example.com' FROM SYSTEM_RANGE(1, %d) AS r(x)";
+
+    private EmbeddedDatabase dataSource;
+    private StatementCountingDataSource countingDataSource;
+    private StatisticsDAOImpl statisticsDAO;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Create an in-memory H2 database with the schema from the shipped migrations
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("statistics_" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE")
+                .build();
+        new SchemaMigrator(dataSource, "classpath:db/migration", 1).migrate();
+
+        countingDataSource = new StatementCountingDataSource(dataSource);
+        statisticsDAO = new StatisticsDAOImpl(countingDataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dataSource != null) {
+            dataSource.shutdown();
+        }
+    }
+
+    @Test
+    void countRows_countsEveryTableInOneStatement() throws Exception {
+        // Arrange
+        execute("INSERT INTO teachers (username, password, first_name, last_name, email) "
+                        + "VALUES ('t1', 'x', 'Tina', 'Teacher', 't1@example.com')",
+                STUDENTS_SQL.formatted(2),
+                "INSERT INTO courses (code, name) VALUES ('MATH101', 'Mathematics')",
+                "INSERT INTO student_course_details (student_id, course_id) VALUES (1, 1)",
+                "INSERT INTO student_course_details (student_id, course_id) VALUES (2, 1)",
+                "INSERT INTO assignments (course_id, title, status) VALUES (1, 'HW1', 'active')");
+        countingDataSource.reset();
+
+        // Act
+        Map<String, Long> counts = statisticsDAO.countRows();
+
+        // Assert
+        assertEquals(1L, counts.get(StatisticsDAO.COURSES));
+        assertEquals(2L, counts.get(StatisticsDAO.STUDENTS));
+        assertEquals(1L, counts.get(StatisticsDAO.TEACHERS));
+        assertEquals(2L, counts.get(StatisticsDAO.ENROLLMENTS));
+        assertEquals(1L, counts.get(StatisticsDAO.ASSIGNMENTS));
+        assertEquals(1, countingDataSource.getStatementCount());
+    }
+
+    @Test
+    void countRows_returnsZerosForEmptyTables() {
+        // Act
+        Map<String, Long> counts = statisticsDAO.countRows();
+
+        // Assert
+        assertEquals(0L, counts.get(StatisticsDAO.COURSES));
+        assertEquals(0L, counts.get(StatisticsDAO.STUDENTS));
+    }
+
+    @Test
+    void findTopEnrollments_ordersByEnrollmentsAndIncludesEmptyCourses() throws Exception {
+        // Arrange
+        execute(STUDENTS_SQL.formatted(2),
+                "INSERT INTO courses (code, name) VALUES ('MATH101', 'Mathematics')",
+                "INSERT INTO courses (code, name) VALUES ('PHYS101', 'Physics')",
+                "INSERT INTO courses (code, name) VALUES ('CHEM101', 'Chemistry')",
+                "INSERT INTO student_course_details (student_id, course_id) VALUES (1, 2)",
+                "INSERT INTO student_course_details (student_id, course_id) VALUES (2, 2)",
+                "INSERT INTO student_course_details (student_id, course_id) VALUES (1, 1)");
+
+        // Act
+        List<CourseEnrollmentCount> result = statisticsDAO.findTopEnrollments(10);
+
+        // Assert
+        assertEquals(List.of("PHYS101", "MATH101", "CHEM101"),
+                result.stream().map(CourseEnrollmentCount::getCode).toList());
+        assertEquals(2L, result.get(0).getEnrollments());
+        assertEquals(0L, result.get(2).getEnrollments());
+    }
+
+    @Test
+    void findTopEnrollments_respectsLimit() throws Exception {
+        // Arrange
+        execute("INSERT INTO courses (code, name) VALUES ('MATH101', 'Mathematics')",
+                "INSERT INTO courses (code, name) VALUES ('PHYS101', 'Physics')");
+
+        // Act
+        List<CourseEnrollmentCount> result = statisticsDAO.findTopEnrollments(1);
+
+        // Assert
+        assertEquals(1, result.size());
+    }
+
+    @Test
+    void countAssignmentsByStatus_groupsAndLabelsMissingStatus() throws Exception {
+        // Arrange
+        execute("INSERT INTO courses (code, name) VALUES ('MATH101', 'Mathematics')",
+                "INSERT INTO assignments (course_id, title, status) VALUES (1, 'HW1', 'active')",
+                "INSERT INTO assignments (course_id, title, status) VALUES (1, 'HW2', 'active')",
+                "INSERT INTO assignments (course_id, title, status) VALUES (1, 'HW3', 'closed')",
+                "INSERT INTO assignments (course_id, title, status) VALUES (1, 'HW4', NULL)");
+
+        // Act
+        Map<String, Long> result = statisticsDAO.countAssignmentsByStatus();
+
+        // Assert
+        assertEquals(Map.of("active", 2L, "closed", 1L, "unknown", 1L), result);
+    }
+
+    @Test
+    void countGradesByLetter_returnsDistributionInGradeOrder() throws Exception {
+        // Arrange
+        execute(STUDENTS_SQL.formatted(4),
+                "INSERT INTO courses (code, name) VALUES ('MATH101', 'Mathematics')",
+                "INSERT INTO grade_details (student_id, course_id, grade) VALUES (1, 1, 'B')",
+                "INSERT INTO grade_details (student_id, course_id, grade) VALUES (2, 1, 'A')",
+                "INSERT INTO grade_details (student_id, course_id, grade) VALUES (3, 1, 'A')",
+                "INSERT INTO grade_details (student_id, course_id, grade) VALUES (4, 1, NULL)");
+
+        // Act
+        Map<String, Long> result = statisticsDAO.countGradesByLetter();
+
+        // Assert
+        assertEquals(List.of("A", "B", "Ungraded"), List.copyOf(result.keySet()));
+        assertEquals(2L, result.get("A"));
+    }
+
+    private void execute(String... statements) throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            for (String sql : statements) {
+                stmt.execute(sql);
+            }
+        }
+    }
+}
@@ -3,7 +3,9 @@ package org.example.studentmanagement.dao;
 import java.sql.Connection;
 import java.sql.Statement;
 import java.util.List;
+import java.util.UUID;
 
+import org.example.studentmanagement.config.SchemaMigrator;
 import org.example.studentmanagement.entity.StudentCourseDetails;
 import org.junit.jupiter.api.AfterEach;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -27,15 +29,16 @@ class StudentCourseDetailImplTest {
     void setUp() throws Exception {
         dataSource = new EmbeddedDatabaseBuilder()
                 .setType(EmbeddedDatabaseType.H2)
+                .setName("student_course_detail_" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE")
                 .build();
+        new SchemaMigrator(dataSource, "classpath:db/migration", 1).migrate();
 
+        // The students and courses the enrollments below refer to
         try (Connection conn = dataSource.getConnection();
              Statement stmt = conn.createStatement()) {
-            stmt.execute("CREATE TABLE student_course_details (" +
-                    "id INT AUTO_INCREMENT PRIMARY KEY, " +
-                    "student_id INT NOT NULL, " +
-                    "course_id INT NOT NULL" +
-                    ")");
+            stmt.execute("INSERT INTO students (id, username, password, first_name, last_name, email) "
+                    + "SELECT x, 'student' || x, 'x', 'Student', 'S', 'student' || x || '@example.com' FROM SYSTEM_RANGE(101, 105) AS r(x)");
+            stmt.execute("INSERT INTO courses (id, code, name) SELECT x, 'C' || x, 'Course ' || x FROM SYSTEM_RANGE(201, 205) AS r(x)");
         }
 
         studentCourseDetailsDAO = new StudentCourseDetailsDAOImpl(dataSource);
@@ -1,5 +1,8 @@
 package org.example.studentmanagement.dao;
 
+import org.example.studentmanagement.config.SchemaMigrator;
+import org.example.studentmanagement.dto.KeysetPage;
+import org.example.studentmanagement.dto.PageQuery;
 import org.example.studentmanagement.entity.Student;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,9 +11,9 @@ import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
 
-import java.sql.Connection;
-import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -21,23 +24,12 @@ class StudentDAOImplTest {
 
     @BeforeEach
     void setUp() throws Exception {
-        // Create an in-memory H2 database
+        // Create an in-memory H2 database with the schema from the shipped migrations
         dataSource = new EmbeddedDatabaseBuilder()
                 .setType(EmbeddedDatabaseType.H2)
+                .setName("student_" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE")
                 .build();
-
-        // Create students table
-        try (Connection conn = dataSource.getConnection();
-             Statement stmt = conn.createStatement()) {
-            stmt.execute("CREATE TABLE students (" +
-                    "id INT AUTO_INCREMENT PRIMARY KEY, " +
-                    "username VARCHAR(255) NOT NULL, " +
-                    "password VARCHAR(255) NOT NULL, " +
-                    "first_name VARCHAR(255), " +
-                    "last_name VARCHAR(255), " +
-                    "email VARCHAR(255)" +
-                    ")");
-        }
+        new SchemaMigrator(dataSource, "classpath:db/migration", 1).migrate();
 
         studentDAO = new StudentDAOImpl(dataSource);
     }
@@ -194,6 +186,24 @@ class StudentDAOImplTest {
         assertNull(found, "Student should be deleted");
     }
 
+    @Test
+    void delete_removesStudent() {
+        // Arrange
+        Student student = new Student();
+        student.setUserName("to_delete");
+        student.setPassword("pass");
+        student.setFirstName("Delete");
+        student.setLastName("Me");
+        student.setEmail("delete@example.com");
+        studentDAO.save(student);
+
+        // Act
+        studentDAO.delete(student);
+
+        // Assert
+        assertNull(studentDAO.findById(student.getId()), "Student should be deleted");
+    }
+
     @Test
     void deleteById_doesNotThrowExceptionWhenStudentDoesNotExist() {
         // Act & Assert
@@ -230,5 +240,111 @@ class StudentDAOImplTest {
                 .count();
         assertEquals(2, johnCount, "Should handle multiple students with same first name");
     }
-}
 
+    @Test
+    void findPage_walksAllStudentsWithCursors() {
+        // Arrange
+        for (int i = 1; i <= 7; i++) {
+            insertStudent("user" + i, "First" + i, "Last" + i);
+        }
+        List<Integer> seen = new ArrayList<>();
+        String cursor = null;
+
+        // Act
+        do {
+            KeysetPage<Student> page = studentDAO.findPage(new PageQuery("id", false, null, 3, cursor));
+            page.getItems().forEach(student -> seen.add(student.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // Assert
+        assertEquals(List.of(1, 2, 3, 4, 5, 6, 7), seen);
+    }
+
+    @Test
+    void findPage_sortsByLastNameWithIdTieBreakAcrossPages() {
+        // Arrange
+        insertStudent("u1", "Ann", "Brown");
+        insertStudent("u2", "Bob", "Adams");
+        insertStudent("u3", "Cat", "Brown");
+        insertStudent("u4", "Dan", "Clark");
+
+        // Act
+        KeysetPage<Student> first = studentDAO.findPage(new PageQuery("lastName", false, null, 2, null));
+        KeysetPage<Student> second = studentDAO.findPage(new PageQuery("lastName", false, null, 2, first.getNextCursor()));
+
+        // Assert
+        assertEquals(List.of("Bob", "Ann"), first.getItems().stream().map(Student::getFirstName).toList());
+        assertEquals(List.of("Cat", "Dan"), second.getItems().stream().map(Student::getFirstName).toList());
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    void findPage_sortsDescending() {
+        // Arrange
+        insertStudent("u1", "Ann", "Adams");
+        insertStudent("u2", "Bob", "Brown");
+        insertStudent("u3", "Cat", "Clark");
+
+        // Act
+        KeysetPage<Student> first = studentDAO.findPage(new PageQuery("id", true, null, 2, null));
+        KeysetPage<Student> second = studentDAO.findPage(new PageQuery("id", true, null, 2, first.getNextCursor()));
+
+        // Assert
+        assertEquals(List.of(3, 2), first.getItems().stream().map(Student::getId).toList());
+        assertEquals(List.of(1), second.getItems().stream().map(Student::getId).toList());
+    }
+
+    @Test
+    void findPage_filtersByNameOrEmailCaseInsensitively() {
+        // Arrange
+        insertStudent("alice", "Alice", "Wonder");
+        insertStudent("bob", "Bob", "Builder");
+        insertStudent("carol", "Carol", "Alison");
+
+        // Act
+        KeysetPage<Student> page = studentDAO.findPage(new PageQuery(null, false, "ALI", null, null));
+
+        // Assert
+        assertEquals(List.of("alice", "carol"), page.getItems().stream().map(Student::getUserName).toList());
+    }
+
+    @Test
+    void findPage_treatsLikeWildcardsInFilterLiterally() {
+        // Arrange
+        insertStudent("alice", "Alice", "Wonder");
+
+        // Act
+        KeysetPage<Student> page = studentDAO.findPage(new PageQuery(null, false, "%", null, null));
+
+        // Assert
+        assertTrue(page.getItems().isEmpty());
+    }
+
+    @Test
+    void findPage_restartsFromFirstPageForCursorOfAnotherSort() {
+        // Arrange
+        for (int i = 1; i <= 3; i++) {
+            insertStudent("user" + i, "First" + i, "Last" + i);
+        }
+        String idCursor = studentDAO.findPage(new PageQuery("id", false, null, 1, null)).getNextCursor();
+
+        // Act
+        KeysetPage<Student> page = studentDAO.findPage(new PageQuery("email", false, null, 1, idCursor));
+        KeysetPage<Student> garbage = studentDAO.findPage(new PageQuery("id", false, null, 1, "not-a-cursor"));
+
+        // Assert
+        assertEquals(1, page.getItems().get(0).getId());
+        assertEquals(1, garbage.getItems().get(0).getId());
+    }
+
+    private void insertStudent(String userName, String firstName, String lastName) {
+        Student student = new Student();
+        student.setUserName(userName);
+        student.setPassword("pass");
+        student.setFirstName(firstName);
+        student.setLastName(lastName);
+        student.setEmail(userName + "@example.com");
+        studentDAO.save(student);
+    }
+}
@@ -1,5 +1,9 @@
 package org.example.studentmanagement.dao;
 
+import org.example.studentmanagement.config.SchemaMigrator;
+import org.example.studentmanagement.dto.KeysetPage;
+import org.example.studentmanagement.dto.PageQuery;
+import org.example.studentmanagement.entity.Course;
 import org.example.studentmanagement.entity.Teacher;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,35 +15,27 @@ import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
 import java.sql.Connection;
 import java.sql.Statement;
 import java.util.List;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class TeacherDAOImplTest {
 
     private EmbeddedDatabase dataSource;
+    private StatementCountingDataSource countingDataSource;
     private TeacherDAOImpl teacherDAO;
 
     @BeforeEach
     void setUp() throws Exception {
-        // Create an in-memory H2 database
+        // Create an in-memory H2 database with the schema from the shipped migrations
         dataSource = new EmbeddedDatabaseBuilder()
                 .setType(EmbeddedDatabaseType.H2)
+                .setName("teacher_" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE")
                 .build();
+        new SchemaMigrator(dataSource, "classpath:db/migration", 1).migrate();
 
-        // Create teachers table
-        try (Connection conn = dataSource.getConnection();
-             Statement stmt = conn.createStatement()) {
-            stmt.execute("CREATE TABLE teachers (" +
-                    "id INT AUTO_INCREMENT PRIMARY KEY, " +
-                    "username VARCHAR(255) NOT NULL, " +
-                    "password VARCHAR(255) NOT NULL, " +
-                    "first_name VARCHAR(255), " +
-                    "last_name VARCHAR(255), " +
-                    "email VARCHAR(255)" +
-                    ")");
-        }
-
-        teacherDAO = new TeacherDAOImpl(dataSource);
+        countingDataSource = new StatementCountingDataSource(dataSource);
+        teacherDAO = new TeacherDAOImpl(countingDataSource);
     }
 
     @AfterEach
@@ -191,5 +187,122 @@ class TeacherDAOImplTest {
         assertDoesNotThrow(() -> teacherDAO.deleteById(999),
                 "Deleting non-existent teacher should not throw exception");
     }
-}
 
+    @Test
+    void findAll_groupsCoursesByTeacher() throws Exception {
+        // Arrange
+        Teacher teacher1 = createTeacher("teacher1");
+        Teacher teacher2 = createTeacher("teacher2");
+        Teacher teacher3 = createTeacher("teacher3");
+        insertCourse("CS101", teacher1.getId());
+        insertCourse("CS102", teacher1.getId());
+        insertCourse("MATH101", teacher2.getId());
+
+        // Act
+        List<Teacher> teachers = teacherDAO.findAll();
+
+        // Assert
+        assertEquals(2, findTeacher(teachers, teacher1.getId()).getCourses().size());
+        assertEquals("MATH101", findTeacher(teachers, teacher2.getId()).getCourses().get(0).getCode());
+        assertTrue(findTeacher(teachers, teacher3.getId()).getCourses().isEmpty(),
+                "Teachers without courses should have an empty course list");
+    }
+
+    @Test
+    void findAll_usesConstantNumberOfStatementsRegardlessOfTeacherCount() throws Exception {
+        // Arrange
+        for (int i = 0; i < 20; i++) {
+            Teacher teacher = createTeacher("bulk" + i);
+            insertCourse("BULK" + i, teacher.getId());
+        }
+        countingDataSource.reset();
+
+        // Act
+        List<Teacher> teachers = teacherDAO.findAll();
+
+        // Assert
+        assertEquals(20, teachers.size());
+        assertTrue(teachers.stream().allMatch(t -> t.getCourses().size() == 1));
+        assertEquals(2, countingDataSource.getStatementCount(),
+                "findAll should load teachers and their courses with two statements, not one per teacher");
+    }
+
+    @Test
+    void findByUserName_loadsCourses() throws Exception {
+        // Arrange
+        Teacher teacher = createTeacher("login_teacher");
+        insertCourse("PHY101", teacher.getId());
+
+        // Act
+        Teacher found = teacherDAO.findByUserName("login_teacher").orElseThrow();
+
+        // Assert
+        List<Course> courses = found.getCourses();
+        assertEquals(1, courses.size());
+        assertEquals("PHY101", courses.get(0).getCode());
+    }
+
+    @Test
+    void findByUserName_returnsEmptyWhenTeacherDoesNotExist() {
+        // Act & Assert
+        assertTrue(teacherDAO.findByUserName("missing").isEmpty());
+    }
+
+    @Test
+    void findPage_returnsPageWithCoursesAndCursor() throws Exception {
+        // Arrange
+        Teacher first = createTeacher("t1");
+        createTeacher("t2");
+        Teacher third = createTeacher("t3");
+        insertCourse("MATH", first.getId());
+        insertCourse("PHYS", third.getId());
+
+        // Act
+        KeysetPage<Teacher> page1 = teacherDAO.findPage(new PageQuery("id", false, null, 2, null));
+        KeysetPage<Teacher> page2 = teacherDAO.findPage(new PageQuery("id", false, null, 2, page1.getNextCursor()));
+
+        // Assert
+        assertEquals(2, page1.getItems().size());
+        assertEquals(1, findTeacher(page1.getItems(), first.getId()).getCourses().size());
+        assertTrue(page1.hasNext());
+        assertEquals(1, page2.getItems().size());
+        assertEquals("PHYS", page2.getItems().get(0).getCourses().get(0).getCode());
+        assertFalse(page2.hasNext());
+    }
+
+    @Test
+    void findPage_filtersByEmail() {
+        // Arrange
+        createTeacher("smith");
+        createTeacher("jones");
+
+        // Act
+        KeysetPage<Teacher> page = teacherDAO.findPage(new PageQuery(null, false, "jones@", null, null));
+
+        // Assert
+        assertEquals(1, page.getItems().size());
+        assertEquals("jones", page.getItems().get(0).getUserName());
+    }
+
+    private Teacher createTeacher(String userName) {
+        Teacher teacher = new Teacher();
+        teacher.setUserName(userName);
+        teacher.setPassword("pass");
+        teacher.setFirstName("First");
+        teacher.setLastName("Last");
+        teacher.setEmail(userName + "@example.com");
+        teacherDAO.save(teacher);
+        return teacher;
+    }
+
+    private void insertCourse(String code, int teacherId) throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("INSERT INTO courses (code, name, teacher_id) VALUES ('" + code + "', '" + code + " course', " + teacherId + ")");
+        }
+    }
+
+    private Teacher findTeacher(List<Teacher> teachers, int id) {
+        return teachers.stream().filter(t -> t.getId() == id).findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,133 @@
+package org.example.studentmanagement.dao;
+
+import org.example.studentmanagement.config.SchemaMigrator;
+import org.example.studentmanagement.dto.UserAccount;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserDirectoryDAOImplTest {
+
+    private EmbeddedDatabase dataSource;
+    private StatementCountingDataSource countingDataSource;
+    private UserDirectoryDAOImpl userDirectoryDAO;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Create an in-memory H2 database with the schema from the shipped migrations
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("user_directory_" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE")
+                .build();
+        new SchemaMigrator(dataSource, "classpath:db/migration", 1).migrate();
+
+        // One teacher and one student
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("INSERT INTO teachers (username, password, first_name, last_name, email) " +
+                    "VALUES ('prof_smith', 'teachpass', 'John', 'Smith', 'smith@example.com')");
+            stmt.execute("INSERT INTO students (username, password, first_name, last_name, email) " +
+                    "VALUES ('alice', 'alicepass', 'Alice', 'Wonder', 'alice@example.com')");
+        }
+
+        countingDataSource = new StatementCountingDataSource(dataSource);
+        userDirectoryDAO = new UserDirectoryDAOImpl(countingDataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dataSource != null) {
+            dataSource.shutdown();
+        }
+    }
+
+    @Test
+    void findByLogin_resolvesTeacherByUsername() {
+        // Act
+        Optional<UserAccount> result = userDirectoryDAO.findByLogin("prof_smith");
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals("prof_smith", result.get().getUserName());
+        assertEquals("teachpass", result.get().getPassword());
+        assertEquals("TEACHER", result.get().getRole());
+    }
+
+    @Test
+    void findByLogin_resolvesStudentByUsernameOrEmail() {
+        // Act
+        Optional<UserAccount> byUsername = userDirectoryDAO.findByLogin("alice");
+        Optional<UserAccount> byEmail = userDirectoryDAO.findByLogin("alice@example.com");
+
+        // Assert
+        assertTrue(byUsername.isPresent());
+        assertEquals("STUDENT", byUsername.get().getRole());
+        assertTrue(byEmail.isPresent());
+        assertEquals("alice", byEmail.get().getUserName());
+        assertEquals("alicepass", byEmail.get().getPassword());
+    }
+
+    @Test
+    void findByLogin_prefersTeacherWhenUsernameExistsInBothTables() throws Exception {
+        // Arrange
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("INSERT INTO students (username, password, first_name, last_name, email) " +
+                    "VALUES ('prof_smith', 'studentpass', 'John', 'Smith', 'js@example.com')");
+        }
+
+        // Act
+        Optional<UserAccount> result = userDirectoryDAO.findByLogin("prof_smith");
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals("TEACHER", result.get().getRole());
+        assertEquals("teachpass", result.get().getPassword());
+    }
+
+    @Test
+    void findByLogin_returnsEmptyWhenNotFound() {
+        // Act
+        Optional<UserAccount> result = userDirectoryDAO.findByLogin("nobody");
+
+        // Assert
+        assertFalse(result.isPresent());
+    }
+
+    @Test
+    void findByLogin_usesSingleStatement() {
+        // Act
+        userDirectoryDAO.findByLogin("alice");
+
+        // Assert
+        assertEquals(1, countingDataSource.getStatementCount());
+    }
+
+    @Test
+    void updatePassword_updatesRowForRole() {
+        // Act
+        userDirectoryDAO.updatePassword("alice", "STUDENT", "$2a$10$hash");
+        userDirectoryDAO.updatePassword("prof_smith", "TEACHER", "$2a$10$other");
+
+        // Assert
+        assertEquals("$2a$10$hash", userDirectoryDAO.findByLogin("alice").get().getPassword());
+        assertEquals("$2a$10$other", userDirectoryDAO.findByLogin("prof_smith").get().getPassword());
+    }
+
+    @Test
+    void updatePassword_rejectsUnknownRole() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> userDirectoryDAO.updatePassword("alice", "ADMIN", "$2a$10$hash"));
+    }
+}
@@ -5,20 +5,22 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDate;
+
 class AssignmentTest {
 
     @Test
     void constructor_setsAllFields() {
         Assignment assignment = new Assignment(1, 101, "Homework 1", "Complete exercises 1-5",
-                                              "2025-12-15", 100.0, "2025-12-01", "active", 10);
+                                              LocalDate.of(2025, 12, 15), 100.0, LocalDate.of(2025, 12, 1), "active", 10);
 
         assertEquals(1, assignment.getId());
         assertEquals(101, assignment.getCourseId());
         assertEquals("Homework 1", assignment.getTitle());
         assertEquals("Complete exercises 1-5", assignment.getDescription());
-        assertEquals("2025-12-15", assignment.getDueDate());
+        assertEquals(LocalDate.of(2025, 12, 15), assignment.getDueDate());
         assertEquals(100.0, assignment.getMaxScore());
-        assertEquals("2025-12-01", assignment.getCreatedDate());
+        assertEquals(LocalDate.of(2025, 12, 1), assignment.getCreatedDate());
         assertEquals("active", assignment.getStatus());
         assertEquals(10, assignment.getCreatedByTeacherId());
     }
@@ -31,9 +33,9 @@ class AssignmentTest {
         assignment.setCourseId(102);
         assignment.setTitle("Final Project");
         assignment.setDescription("Build a web application");
-        assignment.setDueDate("2025-12-20");
+        assignment.setDueDate(LocalDate.of(2025, 12, 20));
         assignment.setMaxScore(200.0);
-        assignment.setCreatedDate("2025-12-05");
+        assignment.setCreatedDate(LocalDate.of(2025, 12, 5));
         assignment.setStatus("closed");
         assignment.setCreatedByTeacherId(20);
 
@@ -41,9 +43,9 @@ class AssignmentTest {
         assertEquals(102, assignment.getCourseId());
         assertEquals("Final Project", assignment.getTitle());
         assertEquals("Build a web application", assignment.getDescription());
-        assertEquals("2025-12-20", assignment.getDueDate());
+        assertEquals(LocalDate.of(2025, 12, 20), assignment.getDueDate());
         assertEquals(200.0, assignment.getMaxScore());
-        assertEquals("2025-12-05", assignment.getCreatedDate());
+        assertEquals(LocalDate.of(2025, 12, 5), assignment.getCreatedDate());
         assertEquals("closed", assignment.getStatus());
         assertEquals(20, assignment.getCreatedByTeacherId());
     }
@@ -2,6 +2,8 @@ package org.example.studentmanagement.entity;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDate;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class GradeDetailsTest {
@@ -10,7 +12,7 @@ class GradeDetailsTest {
     void constructor_setsAllFields() {
         GradeDetails gradeDetails = new GradeDetails(1, 101, 201, "Midterm Exam",
                                                      85.0, 100.0, "B", "Good work",
-                                                     "2025-12-10", 10);
+                                                     LocalDate.of(2025, 12, 10), 10);
 
         assertEquals(1, gradeDetails.getId());
         assertEquals(101, gradeDetails.getStudentId());
@@ -20,7 +22,7 @@ class GradeDetailsTest {
         assertEquals(100.0, gradeDetails.getMaxScore());
         assertEquals("B", gradeDetails.getGrade());
         assertEquals("Good work", gradeDetails.getFeedback());
-        assertEquals("2025-12-10", gradeDetails.getGradedDate());
+        assertEquals(LocalDate.of(2025, 12, 10), gradeDetails.getGradedDate());
         assertEquals(10, gradeDetails.getGradedByTeacherId());
     }
 
@@ -36,7 +38,7 @@ class GradeDetailsTest {
         gradeDetails.setMaxScore(100.0);
         gradeDetails.setGrade("A");
         gradeDetails.setFeedback("Excellent");
-        gradeDetails.setGradedDate("2025-12-15");
+        gradeDetails.setGradedDate(LocalDate.of(2025, 12, 15));
         gradeDetails.setGradedByTeacherId(20);
 
         assertEquals(2, gradeDetails.getId());
@@ -47,7 +49,7 @@ class GradeDetailsTest {
         assertEquals(100.0, gradeDetails.getMaxScore());
         assertEquals("A", gradeDetails.getGrade());
         assertEquals("Excellent", gradeDetails.getFeedback());
-        assertEquals("2025-12-15", gradeDetails.getGradedDate());
+        assertEquals(LocalDate.of(2025, 12, 15), gradeDetails.getGradedDate());
         assertEquals(20, gradeDetails.getGradedByTeacherId());
     }
 
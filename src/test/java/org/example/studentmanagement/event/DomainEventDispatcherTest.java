@@ -0,0 +1,130 @@
+package org.example.studentmanagement.event;
+
+import org.example.studentmanagement.config.SchemaMigrator;
+import org.example.studentmanagement.dao.OutboxDAOImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DomainEventDispatcherTest {
+
+    private EmbeddedDatabase dataSource;
+    private OutboxDAOImpl outboxDAO;
+    private DomainEventDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("events_" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE")
+                .build();
+        new SchemaMigrator(dataSource, "classpath:db/migration", 1).migrate();
+        outboxDAO = new OutboxDAOImpl(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (dispatcher != null) {
+            dispatcher.destroy();
+        }
+        if (dataSource != null) {
+            dataSource.shutdown();
+        }
+    }
+
+    // No poll, so only the publisher's wake-up delivers anything
+    private DomainEventPublisher start(int batchSize, DomainEventListener... listeners) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        for (int i = 0; i < listeners.length; i++) {
+            beans.addBean("listener" + i, listeners[i]);
+        }
+        dispatcher = new DomainEventDispatcher(outboxDAO, beans.getBeanProvider(DomainEventListener.class), 1, batchSize, 3, 60, 0);
+        dispatcher.afterPropertiesSet();
+        beans.addBean("dispatcher", dispatcher);
+        return new DomainEventPublisher(outboxDAO, beans.getBeanProvider(DomainEventDispatcher.class));
+    }
+
+    private static List<DomainEvent> grades(int count) {
+        List<DomainEvent> events = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            events.add(new DomainEvent(null, DomainEventType.GRADE_SAVED, i, 1, i, null));
+        }
+        return events;
+    }
+
+    @Test
+    void publish_deliversEveryEventToEveryListenerInBatches() throws Exception {
+        List<List<DomainEvent>> batches = new CopyOnWriteArrayList<>();
+        CountDownLatch delivered = new CountDownLatch(5);
+        List<DomainEvent> second = new CopyOnWriteArrayList<>();
+
+        DomainEventPublisher publisher = start(2,
+                batches::add,
+                events -> {
+                    second.addAll(events);
+                    events.forEach(event -> delivered.countDown());
+                });
+        publisher.publish(grades(5));
+
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(2, 2, 1), batches.stream().map(List::size).toList());
+        assertEquals(List.of(1, 2, 3, 4, 5), batches.stream().flatMap(List::stream).map(DomainEvent::entityId).toList());
+        assertEquals(5, second.size());
+    }
+
+    @Test
+    void publish_doesNotWaitForSlowListeners() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(2);
+        DomainEventPublisher publisher = start(10, events -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            events.forEach(event -> delivered.countDown());
+        });
+
+        long start = System.nanoTime();
+        publisher.publish(grades(1));
+        publisher.publish(grades(1));
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        release.countDown();
+
+        assertTrue(elapsedMs < 1000, "Publishing waited " + elapsedMs + " ms for the listener");
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void drain_leavesFailedBatchInOutboxForTheNextPoll() throws Exception {
+        List<DomainEvent> received = new CopyOnWriteArrayList<>();
+        boolean[] failing = {true};
+        start(10, events -> {
+            if (failing[0]) {
+                throw new IllegalStateException("listener down");
+            }
+            received.addAll(events);
+        });
+        outboxDAO.append(grades(3));
+
+        dispatcher.drain();
+        assertTrue(received.isEmpty());
+
+        failing[0] = false;
+        dispatcher.drain();
+        assertEquals(3, received.size());
+    }
+}
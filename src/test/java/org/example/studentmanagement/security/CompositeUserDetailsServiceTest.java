@@ -0,0 +1,188 @@
+package org.example.studentmanagement.security;
+
+import org.example.studentmanagement.config.CacheConfig;
+import org.example.studentmanagement.dao.UserDirectoryDAO;
+import org.example.studentmanagement.dto.UserAccount;
+import org.example.studentmanagement.entity.Admin;
+import org.example.studentmanagement.service.AdminService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class CompositeUserDetailsServiceTest {
+
+    private CompositeUserDetailsService userDetailsService;
+    private AdminService adminService;
+    private UserDirectoryDAO userDirectoryDAO;
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        adminService = mock(AdminService.class);
+        userDirectoryDAO = mock(UserDirectoryDAO.class);
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.USERS);
+        when(adminService.findByUserName(anyString())).thenReturn(Optional.empty());
+        userDetailsService = new CompositeUserDetailsService(adminService, userDirectoryDAO, cacheManager);
+    }
+
+    @Test
+    void loadUserByUsername_returnsAdminWithoutDirectoryLookup() {
+        // Arrange
+        Admin admin = new Admin(1000, "admin", "adminpass", "Admin", "System", "admin@example.com");
+        when(adminService.findByUserName("admin")).thenReturn(Optional.of(admin));
+
+        // Act
+        UserDetails userDetails = userDetailsService.loadUserByUsername("admin");
+
+        // Assert
+        assertEquals("admin", userDetails.getUsername());
+        assertTrue(userDetails.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN")));
+        verifyNoInteractions(userDirectoryDAO);
+    }
+
+    @Test
+    void loadUserByUsername_resolvesRoleFromDirectory() {
+        // Arrange
+        when(userDirectoryDAO.findByLogin("alice"))
+                .thenReturn(Optional.of(new UserAccount("alice", "alicepass", "STUDENT")));
+
+        // Act
+        UserDetails userDetails = userDetailsService.loadUserByUsername("alice");
+
+        // Assert
+        assertEquals("alice", userDetails.getUsername());
+        assertEquals("alicepass", userDetails.getPassword());
+        assertTrue(userDetails.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_STUDENT")));
+    }
+
+    @Test
+    void loadUserByUsername_servesRepeatLoginsFromCache() {
+        // Arrange
+        when(userDirectoryDAO.findByLogin("prof_smith"))
+                .thenReturn(Optional.of(new UserAccount("prof_smith", "teachpass", "TEACHER")));
+
+        // Act
+        userDetailsService.loadUserByUsername("prof_smith");
+        userDetailsService.loadUserByUsername("prof_smith");
+
+        // Assert
+        verify(userDirectoryDAO, times(1)).findByLogin("prof_smith");
+    }
+
+    @Test
+    void loadUserByUsername_erasingCredentialsDoesNotAffectCachedAccount() {
+        // Arrange
+        when(userDirectoryDAO.findByLogin("alice"))
+                .thenReturn(Optional.of(new UserAccount("alice", "alicepass", "STUDENT")));
+
+        // Act
+        ((User) userDetailsService.loadUserByUsername("alice")).eraseCredentials();
+        UserDetails second = userDetailsService.loadUserByUsername("alice");
+
+        // Assert
+        assertEquals("alicepass", second.getPassword());
+    }
+
+    @Test
+    void loadUserByUsername_doesNotCacheUnknownLogins() {
+        // Arrange
+        when(userDirectoryDAO.findByLogin("nobody")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("nobody"));
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("nobody"));
+        verify(userDirectoryDAO, times(2)).findByLogin("nobody");
+    }
+
+    @Test
+    void loadUserByUsername_reloadsAfterCacheIsCleared() {
+        // Arrange
+        when(userDirectoryDAO.findByLogin("alice"))
+                .thenReturn(Optional.of(new UserAccount("alice", "oldpass", "STUDENT")))
+                .thenReturn(Optional.of(new UserAccount("alice", "newpass", "STUDENT")));
+        userDetailsService.loadUserByUsername("alice");
+
+        // Act
+        cacheManager.getCache(CacheConfig.USERS).clear();
+        UserDetails userDetails = userDetailsService.loadUserByUsername("alice");
+
+        // Assert
+        assertEquals("newpass", userDetails.getPassword());
+    }
+
+    @Test
+    void updatePassword_persistsUpgradedHashAndEvictsCachedAccount() {
+        // Arrange
+        when(userDirectoryDAO.findByLogin("alice"))
+                .thenReturn(Optional.of(new UserAccount("alice", "alicepass", "STUDENT")));
+        UserDetails user = userDetailsService.loadUserByUsername("alice");
+
+        // Act
+        UserDetails updated = userDetailsService.updatePassword(user, "$2a$10$upgraded");
+
+        // Assert
+        assertEquals("$2a$10$upgraded", updated.getPassword());
+        assertEquals("alice", updated.getUsername());
+        verify(userDirectoryDAO).updatePassword("alice", "STUDENT", "$2a$10$upgraded");
+        assertNull(cacheManager.getCache(CacheConfig.USERS).get("alice"));
+    }
+
+    @Test
+    void loadUserByUsername_servesEmailAndUsernameLoginsFromOneCachedAccount() {
+        // Arrange
+        when(userDirectoryDAO.findByLogin("alice@example.com"))
+                .thenReturn(Optional.of(new UserAccount("alice", "alicepass", "STUDENT")));
+
+        // Act
+        userDetailsService.loadUserByUsername("alice@example.com");
+        UserDetails byEmail = userDetailsService.loadUserByUsername("alice@example.com");
+        UserDetails byUsername = userDetailsService.loadUserByUsername("alice");
+
+        // Assert
+        assertEquals("alice", byEmail.getUsername());
+        assertEquals("alicepass", byUsername.getPassword());
+        verify(userDirectoryDAO, times(1)).findByLogin(anyString());
+    }
+
+    @Test
+    void updatePassword_evictsAccountCachedUnderEmailLogin() {
+        // Arrange
+        when(userDirectoryDAO.findByLogin("alice@example.com"))
+                .thenReturn(Optional.of(new UserAccount("alice", "plainpass", "STUDENT")))
+                .thenReturn(Optional.of(new UserAccount("alice", "$2a$10$upgraded", "STUDENT")));
+        UserDetails user = userDetailsService.loadUserByUsername("alice@example.com");
+
+        // Act
+        userDetailsService.updatePassword(user, "$2a$10$upgraded");
+        UserDetails reloaded = userDetailsService.loadUserByUsername("alice@example.com");
+
+        // Assert
+        assertEquals("$2a$10$upgraded", reloaded.getPassword());
+        verify(userDirectoryDAO, times(2)).findByLogin("alice@example.com");
+    }
+
+    @Test
+    void updatePassword_updatesInMemoryAdmin() {
+        // Arrange
+        Admin admin = new Admin(1000, "admin", "adminpass", "Admin", "System", "admin@example.com");
+        when(adminService.findByUserName("admin")).thenReturn(Optional.of(admin));
+        UserDetails user = userDetailsService.loadUserByUsername("admin");
+
+        // Act
+        userDetailsService.updatePassword(user, "$2a$10$upgraded");
+
+        // Assert
+        assertEquals("$2a$10$upgraded", admin.getPassword());
+        verify(userDirectoryDAO, never()).updatePassword(anyString(), anyString(), anyString());
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.studentmanagement.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlainTextOrBCryptPasswordEncoderTest {
+
+    private final PlainTextOrBCryptPasswordEncoder encoder = new PlainTextOrBCryptPasswordEncoder(4);
+
+    @Test
+    void encode_producesBCryptHashAtConfiguredStrength() {
+        // Act
+        String encoded = encoder.encode("secret");
+
+        // Assert
+        assertTrue(encoded.startsWith("$2a$04$"));
+        assertTrue(encoder.matches("secret", encoded));
+    }
+
+    @Test
+    void matches_acceptsBCryptHashFromOtherStrength() {
+        // Arrange
+        String encoded = new BCryptPasswordEncoder(5).encode("secret");
+
+        // Act & Assert
+        assertTrue(encoder.matches("secret", encoded));
+        assertFalse(encoder.matches("wrong", encoded));
+    }
+
+    @Test
+    void matches_comparesPlainTextPasswords() {
+        // Act & Assert
+        assertTrue(encoder.matches("password123", "password123"));
+        assertFalse(encoder.matches("password124", "password123"));
+    }
+
+    @Test
+    void matches_doesNotTreatBCryptHashAsPlainText() {
+        // Arrange
+        String encoded = encoder.encode("secret");
+
+        // Act & Assert
+        assertFalse(encoder.matches(encoded, encoded));
+    }
+
+    @Test
+    void matches_returnsFalseForNullInput() {
+        // Act & Assert
+        assertFalse(encoder.matches(null, "secret"));
+        assertFalse(encoder.matches("secret", null));
+    }
+
+    @Test
+    void upgradeEncoding_trueForPlainTextAndWeakerHashes() {
+        // Arrange
+        PlainTextOrBCryptPasswordEncoder strongEncoder = new PlainTextOrBCryptPasswordEncoder(5);
+
+        // Act & Assert
+        assertTrue(strongEncoder.upgradeEncoding("password123"));
+        assertTrue(strongEncoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secret")));
+        assertFalse(strongEncoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("secret")));
+        assertFalse(strongEncoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("secret")));
+        assertFalse(strongEncoder.upgradeEncoding(null));
+    }
+
+    @Test
+    void calibrateStrength_staysWithinBounds() {
+        // Act
+        int lowTarget = PlainTextOrBCryptPasswordEncoder.calibrateStrength(0, 4, 6);
+        int highTarget = PlainTextOrBCryptPasswordEncoder.calibrateStrength(Long.MAX_VALUE / 4, 4, 6);
+
+        // Assert
+        assertEquals(4, lowTarget);
+        assertEquals(6, highTarget);
+    }
+}
@@ -3,6 +3,9 @@ package org.example.studentmanagement.service;
 import java.util.Optional;
 
 import org.example.studentmanagement.dao.AdminDAO;
+import org.example.studentmanagement.dao.DeletionDAO;
+import org.example.studentmanagement.dao.GradeAnalyticsDAO;
+import org.example.studentmanagement.dao.GradeSelection;
 import org.example.studentmanagement.dao.StudentDAO;
 import org.example.studentmanagement.dao.TeacherDAO;
 import org.example.studentmanagement.entity.Admin;
@@ -16,11 +19,13 @@ import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 import java.util.ArrayList;
+import java.util.List;
 
 class AdminServiceTest {
 
@@ -28,21 +33,21 @@ class AdminServiceTest {
     private AdminDAO adminDAO;
     private StudentDAO studentDAO;
     private TeacherDAO teacherDAO;
+    private DeletionDAO deletionDAO;
+    private GradeAnalyticsDAO gradeAnalyticsDAO;
     private StudentService studentService;
     private TeacherService teacherService;
-    private StudentCourseDetailsService studentCourseDetailsService;
-    private GradeDetailsService gradeDetailsService;
 
     @BeforeEach
     void setUp() {
         adminDAO = mock(AdminDAO.class);
         studentDAO = mock(StudentDAO.class);
         teacherDAO = mock(TeacherDAO.class);
+        deletionDAO = mock(DeletionDAO.class);
+        gradeAnalyticsDAO = mock(GradeAnalyticsDAO.class);
         studentService = mock(StudentService.class);
         teacherService = mock(TeacherService.class);
-        studentCourseDetailsService = mock(StudentCourseDetailsService.class);
-        gradeDetailsService = mock(GradeDetailsService.class);
-        adminService = new AdminServiceImpl(adminDAO, studentDAO, teacherDAO, studentService, teacherService, studentCourseDetailsService, gradeDetailsService);
+        adminService = new AdminServiceImpl(adminDAO, studentDAO, teacherDAO, deletionDAO, gradeAnalyticsDAO, studentService, teacherService);
     }
 
     @Test
@@ -197,5 +202,76 @@ class AdminServiceTest {
         // Assert
         verify(teacherService).save(updated);
     }
-}
 
+    @Test
+    void deleteStudentWithRelatedData_delegatesToDeletionDAO() {
+        // Act
+        adminService.deleteStudentWithRelatedData(1);
+
+        // Assert
+        verify(gradeAnalyticsDAO).lock(GradeSelection.byStudents(List.of(1)), List.of());
+        verify(gradeAnalyticsDAO).subtract(GradeSelection.byStudents(List.of(1)));
+        verify(deletionDAO).deleteStudent(1);
+        verifyNoInteractions(studentDAO, studentService);
+    }
+
+    @Test
+    void deleteTeacherWithRelatedData_delegatesToDeletionDAO() {
+        // Act
+        adminService.deleteTeacherWithRelatedData(1);
+
+        // Assert
+        verify(deletionDAO).deleteTeacher(1);
+        verifyNoInteractions(teacherDAO, teacherService);
+    }
+
+    @Test
+    void deleteCourseWithRelatedData_delegatesToDeletionDAO() {
+        // Act
+        adminService.deleteCourseWithRelatedData(3);
+
+        // Assert
+        verify(deletionDAO).deleteCourse(3);
+    }
+
+    @Test
+    void removeStudentFromCourse_delegatesToDeletionDAO() {
+        // Act
+        adminService.removeStudentFromCourse(1, 3);
+
+        // Assert
+        verify(gradeAnalyticsDAO).lock(GradeSelection.byEnrollment(1, 3), List.of());
+        verify(gradeAnalyticsDAO).subtract(GradeSelection.byEnrollment(1, 3));
+        verify(deletionDAO).deleteEnrollment(1, 3);
+    }
+
+    @Test
+    void deleteStudents_returnsDeletedCount() {
+        // Arrange
+        List<Integer> ids = List.of(1, 2, 3);
+        when(deletionDAO.deleteStudents(ids)).thenReturn(2);
+
+        // Act
+        int deleted = adminService.deleteStudents(ids);
+
+        // Assert
+        assertEquals(2, deleted);
+        verify(gradeAnalyticsDAO).lock(GradeSelection.byStudents(ids), List.of());
+        verify(gradeAnalyticsDAO).subtract(GradeSelection.byStudents(ids));
+        verify(deletionDAO).deleteStudents(ids);
+    }
+
+    @Test
+    void deleteCourses_returnsDeletedCount() {
+        // Arrange
+        List<Integer> ids = List.of(4, 5);
+        when(deletionDAO.deleteCourses(ids)).thenReturn(2);
+
+        // Act
+        int deleted = adminService.deleteCourses(ids);
+
+        // Assert
+        assertEquals(2, deleted);
+        verify(deletionDAO).deleteCourses(ids);
+    }
+}
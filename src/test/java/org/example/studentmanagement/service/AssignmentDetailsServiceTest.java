@@ -5,6 +5,8 @@ import java.util.List;
 
 import org.example.studentmanagement.dao.AssignmentDetailsDAO;
 import org.example.studentmanagement.entity.AssignmentDetails;
+import org.example.studentmanagement.event.DomainEvent;
+import org.example.studentmanagement.event.DomainEventPublisher;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -20,11 +22,13 @@ class AssignmentDetailsServiceTest {
 
     private AssignmentDetailsServiceImpl assignmentDetailsService;
     private AssignmentDetailsDAO assignmentDetailsDAO;
+    private DomainEventPublisher eventPublisher;
 
     @BeforeEach
     void setUp() {
         assignmentDetailsDAO = mock(AssignmentDetailsDAO.class);
-        assignmentDetailsService = new AssignmentDetailsServiceImpl(assignmentDetailsDAO);
+        eventPublisher = mock(DomainEventPublisher.class);
+        assignmentDetailsService = new AssignmentDetailsServiceImpl(assignmentDetailsDAO, eventPublisher);
     }
 
     @Test
@@ -105,6 +109,24 @@ class AssignmentDetailsServiceTest {
 
         // Assert
         verify(assignmentDetailsDAO).save(assignmentDetails);
+        verify(eventPublisher).publish(DomainEvent.assignmentStatusSaved(assignmentDetails));
+    }
+
+    @Test
+    void saveAll_delegatesToDAO() {
+        // Arrange
+        List<AssignmentDetails> detailsList = Arrays.asList(
+                new AssignmentDetails(0, 100, 200, 0),
+                new AssignmentDetails(0, 100, 201, 0)
+        );
+
+        // Act
+        assignmentDetailsService.saveAll(detailsList);
+
+        // Assert
+        verify(assignmentDetailsDAO).saveAll(detailsList);
+        verify(eventPublisher).publish(List.of(DomainEvent.assignmentStatusSaved(detailsList.get(0)),
+                DomainEvent.assignmentStatusSaved(detailsList.get(1))));
     }
 
     @Test
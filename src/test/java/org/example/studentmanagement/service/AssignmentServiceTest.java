@@ -1,16 +1,29 @@
 package org.example.studentmanagement.service;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 
 import org.example.studentmanagement.dao.AssignmentDAO;
+import org.example.studentmanagement.dao.AssignmentDetailsDAO;
+import org.example.studentmanagement.dao.StudentCourseDetailsDAO;
 import org.example.studentmanagement.entity.Assignment;
+import org.example.studentmanagement.entity.AssignmentDetails;
+import org.example.studentmanagement.entity.StudentCourseDetails;
+import org.example.studentmanagement.event.DomainEvent;
+import org.example.studentmanagement.event.DomainEventPublisher;
+import org.example.studentmanagement.event.DomainEventType;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.MockitoAnnotations;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -20,18 +33,34 @@ class AssignmentServiceTest {
 
     private AssignmentServiceImpl assignmentService;
     private AssignmentDAO assignmentDAO;
+    private StudentCourseDetailsDAO studentCourseDetailsDAO;
+    private AssignmentDetailsDAO assignmentDetailsDAO;
+    private DomainEventPublisher eventPublisher;
+    private AutoCloseable captors;
+
+    @Captor
+    private ArgumentCaptor<List<AssignmentDetails>> detailsCaptor;
 
     @BeforeEach
     void setUp() {
+        captors = MockitoAnnotations.openMocks(this);
         assignmentDAO = mock(AssignmentDAO.class);
-        assignmentService = new AssignmentServiceImpl(assignmentDAO);
+        studentCourseDetailsDAO = mock(StudentCourseDetailsDAO.class);
+        assignmentDetailsDAO = mock(AssignmentDetailsDAO.class);
+        eventPublisher = mock(DomainEventPublisher.class);
+        assignmentService = new AssignmentServiceImpl(assignmentDAO, studentCourseDetailsDAO, assignmentDetailsDAO, eventPublisher);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        captors.close();
     }
 
     @Test
     void findById_returnsAssignmentWhenExists() {
         // Arrange
         Assignment assignment = new Assignment(1, 100, "Test Assignment", "Description", 
-                "2024-12-31", 100.0, "2024-01-01", "active", 200);
+                LocalDate.of(2024, 12, 31), 100.0, LocalDate.of(2024, 1, 1), "active", 200);
         when(assignmentDAO.findById(1)).thenReturn(assignment);
 
         // Act
@@ -62,9 +91,9 @@ class AssignmentServiceTest {
     void findAll_returnsAllAssignments() {
         // Arrange
         Assignment assignment1 = new Assignment(1, 100, "Assignment 1", "Description 1", 
-                "2024-12-31", 100.0, "2024-01-01", "active", 200);
+                LocalDate.of(2024, 12, 31), 100.0, LocalDate.of(2024, 1, 1), "active", 200);
         Assignment assignment2 = new Assignment(2, 100, "Assignment 2", "Description 2", 
-                "2024-12-31", 100.0, "2024-01-01", "active", 200);
+                LocalDate.of(2024, 12, 31), 100.0, LocalDate.of(2024, 1, 1), "active", 200);
         List<Assignment> assignments = Arrays.asList(assignment1, assignment2);
         when(assignmentDAO.findAll()).thenReturn(assignments);
 
@@ -97,20 +126,21 @@ class AssignmentServiceTest {
     void save_delegatesToDAO() {
         // Arrange
         Assignment assignment = new Assignment(1, 100, "New Assignment", "Description", 
-                "2024-12-31", 100.0, "2024-01-01", "active", 200);
+                LocalDate.of(2024, 12, 31), 100.0, LocalDate.of(2024, 1, 1), "active", 200);
 
         // Act
         assignmentService.save(assignment);
 
         // Assert
         verify(assignmentDAO).save(assignment);
+        verify(eventPublisher).publish(DomainEvent.assignmentSaved(assignment));
     }
 
     @Test
     void save_handlesNewAssignment() {
         // Arrange
         Assignment newAssignment = new Assignment(0, 100, "New Assignment", "Description", 
-                "2024-12-31", 100.0, "2024-01-01", "draft", 200);
+                LocalDate.of(2024, 12, 31), 100.0, LocalDate.of(2024, 1, 1), "draft", 200);
 
         // Act
         assignmentService.save(newAssignment);
@@ -124,7 +154,7 @@ class AssignmentServiceTest {
     void save_handlesExistingAssignment() {
         // Arrange
         Assignment existingAssignment = new Assignment(1, 100, "Updated Assignment", "Updated Description", 
-                "2024-12-31", 100.0, "2024-01-01", "active", 200);
+                LocalDate.of(2024, 12, 31), 100.0, LocalDate.of(2024, 1, 1), "active", 200);
 
         // Act
         assignmentService.save(existingAssignment);
@@ -155,7 +185,7 @@ class AssignmentServiceTest {
     void allMethods_delegateToDAO() {
         // Arrange
         Assignment assignment = new Assignment(1, 100, "Test", "Desc", 
-                "2024-12-31", 100.0, "2024-01-01", "active", 200);
+                LocalDate.of(2024, 12, 31), 100.0, LocalDate.of(2024, 1, 1), "active", 200);
         when(assignmentDAO.findById(1)).thenReturn(assignment);
         when(assignmentDAO.findAll()).thenReturn(Arrays.asList(assignment));
 
@@ -172,5 +202,32 @@ class AssignmentServiceTest {
         assignmentService.deleteAssignmentById(1);
         verify(assignmentDAO).deleteById(1);
     }
-}
 
+    @Test
+    void createAssignment_addsIncompleteDetailsForEveryEnrollment() {
+        // Arrange
+        Assignment assignment = new Assignment(0, 100, "Essay", "Description",
+                LocalDate.of(2024, 12, 31), 100.0, LocalDate.of(2024, 1, 1), "active", 200);
+        doAnswer(invocation -> {
+            invocation.<Assignment>getArgument(0).setId(7);
+            return null;
+        }).when(assignmentDAO).save(assignment);
+        when(studentCourseDetailsDAO.findByCourseId(100)).thenReturn(Arrays.asList(
+                new StudentCourseDetails(11, 1, 100, null, null),
+                new StudentCourseDetails(12, 2, 100, null, null)));
+
+        // Act
+        assignmentService.createAssignment(assignment);
+
+        // Assert
+        verify(assignmentDetailsDAO).saveAll(detailsCaptor.capture());
+        List<AssignmentDetails> details = detailsCaptor.getValue();
+        assertEquals(2, details.size());
+        assertEquals(7, details.get(0).getAssignmentId());
+        assertEquals(11, details.get(0).getStudentCourseDetailsId());
+        assertEquals(12, details.get(1).getStudentCourseDetailsId());
+        assertEquals(0, details.get(1).getIsDone());
+        // One event for the assignment, none for the initial status rows
+        verify(eventPublisher).publish(new DomainEvent(null, DomainEventType.ASSIGNMENT_SAVED, 7, 100, null, null));
+    }
+}
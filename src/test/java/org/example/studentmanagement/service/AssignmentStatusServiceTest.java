@@ -0,0 +1,61 @@
+package org.example.studentmanagement.service;
+
+import org.example.studentmanagement.dao.AssignmentDetailsDAO;
+import org.example.studentmanagement.dto.AssignmentStatusRow;
+import org.example.studentmanagement.entity.AssignmentDetails;
+import org.example.studentmanagement.entity.GradeDetails;
+import org.example.studentmanagement.entity.Student;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AssignmentStatusServiceTest {
+
+    private AssignmentStatusServiceImpl assignmentStatusService;
+    private AssignmentDetailsDAO assignmentDetailsDAO;
+
+    @BeforeEach
+    void setUp() {
+        assignmentDetailsDAO = mock(AssignmentDetailsDAO.class);
+        assignmentStatusService = new AssignmentStatusServiceImpl(assignmentDetailsDAO);
+    }
+
+    @Test
+    void getStatusMatrix_returnsRowsFromDAO() {
+        // Arrange
+        Student student = new Student(1, "alice", "pass", "Alice", "A", "alice@example.com", null);
+        AssignmentStatusRow row = new AssignmentStatusRow(student, new AssignmentDetails(5, 70, 11, 1),
+                new GradeDetails(9, 1, 7, "Essay", 88.0, 100.0, "B", null, null, 2));
+        when(assignmentDetailsDAO.findStatusRowsByCourseIdAndAssignmentId(7, 70)).thenReturn(List.of(row));
+
+        // Act
+        List<AssignmentStatusRow> result = assignmentStatusService.getStatusMatrix(7, 70);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals("completed", result.get(0).getStatus());
+        verify(assignmentDetailsDAO).findStatusRowsByCourseIdAndAssignmentId(7, 70);
+    }
+
+    @Test
+    void getStatusMatrix_reportsStatusForEachRow() {
+        // Arrange
+        Student student = new Student();
+        List<AssignmentStatusRow> rows = List.of(
+                new AssignmentStatusRow(student, new AssignmentDetails(1, 70, 11, 0), null),
+                new AssignmentStatusRow(student, null, null)
+        );
+        when(assignmentDetailsDAO.findStatusRowsByCourseIdAndAssignmentId(7, 70)).thenReturn(rows);
+
+        // Act
+        List<AssignmentStatusRow> result = assignmentStatusService.getStatusMatrix(7, 70);
+
+        // Assert
+        assertEquals("incomplete", result.get(0).getStatus());
+        assertEquals("not assigned", result.get(1).getStatus());
+    }
+}
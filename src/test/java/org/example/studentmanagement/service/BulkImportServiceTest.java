@@ -0,0 +1,187 @@
+package org.example.studentmanagement.service;
+
+import jakarta.validation.Validation;
+import org.example.studentmanagement.dao.BulkImportDAO;
+import org.example.studentmanagement.dto.ImportAccountRow;
+import org.example.studentmanagement.dto.ImportEnrollmentRow;
+import org.example.studentmanagement.dto.ImportError;
+import org.example.studentmanagement.dto.ImportResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BulkImportServiceTest {
+
+    private static final String ACCOUNT_HEADER = "username,password,first_name,last_name,email\n";
+
+    private BulkImportServiceImpl bulkImportService;
+    private BulkImportDAO bulkImportDAO;
+    private PasswordEncoder passwordEncoder;
+    private final List<ImportAccountRow> stagedAccounts = new ArrayList<>();
+    private final List<ImportEnrollmentRow> stagedEnrollments = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        bulkImportDAO = mock(BulkImportDAO.class);
+        passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.encode(any())).thenAnswer(invocation -> "hashed:" + invocation.getArgument(0));
+        bulkImportService = new BulkImportServiceImpl(bulkImportDAO, passwordEncoder,
+                Validation.buildDefaultValidatorFactory().getValidator(), 4);
+
+        // The DAO drains the pipeline the way the real one stages rows, and accepts all of them
+        doAnswer(invocation -> {
+            Iterator<ImportAccountRow> rows = invocation.getArgument(0);
+            rows.forEachRemaining(stagedAccounts::add);
+            ImportResult result = invocation.getArgument(1);
+            result.setImportedRows(stagedAccounts.size());
+            return null;
+        }).when(bulkImportDAO).importStudents(any(), any());
+        doAnswer(invocation -> {
+            Iterator<ImportEnrollmentRow> rows = invocation.getArgument(0);
+            rows.forEachRemaining(stagedEnrollments::add);
+            return null;
+        }).when(bulkImportDAO).importEnrollments(any(), any());
+    }
+
+    @Test
+    void importStudents_hashesPasswordsAndKeepsFileOrder() throws Exception {
+        // Arrange
+        String csv = ACCOUNT_HEADER
+                + "bob,secret1,Bob,Builder,bob@example.com\n"
+                + "carol,secret2,Carol,King,carol@example.com\n";
+
+        // Act
+        ImportResult result = bulkImportService.importStudents(new StringReader(csv));
+
+        // Assert
+        assertEquals(2, result.getTotalRows());
+        assertEquals(2, result.getImportedRows());
+        assertEquals(0, result.getErrorCount());
+        assertEquals(List.of("bob", "carol"), stagedAccounts.stream().map(ImportAccountRow::getUserName).toList());
+        assertEquals(List.of(2, 3), stagedAccounts.stream().map(ImportAccountRow::getLine).toList());
+        assertEquals("hashed:secret1", stagedAccounts.get(0).getPassword());
+    }
+
+    @Test
+    void importStudents_keepsPasswordsThatAreAlreadyBCryptHashes() throws Exception {
+        // Arrange
+        String hash = "$2a$10$abcdefghijklmnopqrstuuABCDEFGHIJKLMNOPQRSTUVWXYZ01234";
+        String csv = ACCOUNT_HEADER + "bob," + hash + ",Bob,Builder,bob@example.com\n";
+
+        // Act
+        bulkImportService.importStudents(new StringReader(csv));
+
+        // Assert
+        assertEquals(hash, stagedAccounts.get(0).getPassword());
+        verify(passwordEncoder, never()).encode(any());
+    }
+
+    @Test
+    void importStudents_reportsInvalidAndDuplicateRowsByLine() throws Exception {
+        // Arrange
+        String csv = ACCOUNT_HEADER
+                + "bob,secret1,Bob,Builder,bob@example.com\n"
+                + "x,secret2,Short,Name,short@example.com\n"
+                + "carol,secret3,Carol,King,not-an-email\n"
+                + "bob,secret4,Bob,Again,bob2@example.com\n"
+                + "dave,secret5,Dave,Grohl,BOB@example.com\n"
+                + "erin,secret6\n";
+
+        // Act
+        ImportResult result = bulkImportService.importStudents(new StringReader(csv));
+
+        // Assert
+        assertEquals(6, result.getTotalRows());
+        assertEquals(1, result.getImportedRows());
+        List<Integer> lines = result.getErrors().stream().map(ImportError::getLine).toList();
+        assertEquals(List.of(3, 4, 5, 6, 7), lines);
+        assertEquals("Username must be between 3 and 50 characters", result.getErrors().get(0).getMessage());
+        assertEquals("Duplicate username, first used on line 2", result.getErrors().get(2).getMessage());
+        assertEquals("Duplicate email, first used on line 2", result.getErrors().get(3).getMessage());
+        assertTrue(result.getErrors().get(4).getMessage().startsWith("Expected at least 5 fields"));
+        // Rejected rows are never hashed
+        verify(passwordEncoder, times(1)).encode(any());
+    }
+
+    @Test
+    void importStudents_mapsColumnsByHeaderNameAndHandlesQuotedFields() throws Exception {
+        // Arrange
+        String csv = "Email,Last_Name,First_Name,Password,Username\r\n"
+                + "bob@example.com,\"Builder, Jr.\",\"Bob \"\"The\"\"\",secret1,bob\r\n";
+
+        // Act
+        bulkImportService.importStudents(new StringReader(csv));
+
+        // Assert
+        ImportAccountRow row = stagedAccounts.get(0);
+        assertEquals("bob", row.getUserName());
+        assertEquals("Bob \"The\"", row.getFirstName());
+        assertEquals("Builder, Jr.", row.getLastName());
+    }
+
+    @Test
+    void importStudents_rejectsFileWithoutRequiredColumns() throws Exception {
+        // Arrange
+        String csv = "username,email\nbob,bob@example.com\n";
+
+        // Act
+        ImportResult result = bulkImportService.importStudents(new StringReader(csv));
+
+        // Assert
+        assertEquals("Missing column(s): password, first_name, last_name", result.getErrors().get(0).getMessage());
+        verifyNoInteractions(bulkImportDAO);
+    }
+
+    @Test
+    void importStudents_hashesAcrossSeveralChunks() throws Exception {
+        // Arrange
+        int rows = BulkImportServiceImpl.HASH_CHUNK_SIZE * 2 + 5;
+        StringBuilder csv = new StringBuilder(ACCOUNT_HEADER);
+        for (int i = 0; i < rows; i++) {
+            csv.append("user").append(i).append(",secret").append(i).append(",First,Last,user")
+                    .append(i).append("@example.com\n");
+        }
+
+        // Act
+        ImportResult result = bulkImportService.importStudents(new StringReader(csv.toString()));
+
+        // Assert
+        assertEquals(rows, result.getImportedRows());
+        assertEquals("user0", stagedAccounts.get(0).getUserName());
+        assertEquals("hashed:secret" + (rows - 1), stagedAccounts.get(rows - 1).getPassword());
+    }
+
+    @Test
+    void importStudents_propagatesMalformedCsv() {
+        // Arrange
+        String csv = ACCOUNT_HEADER + "bob,\"unterminated,Bob,Builder,bob@example.com\n";
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> bulkImportService.importStudents(new StringReader(csv)));
+    }
+
+    @Test
+    void importEnrollments_trimsFieldsAndRejectsBlankOnes() throws Exception {
+        // Arrange
+        String csv = "username,course_code\n alice , MATH101 \n,PHYS101\n";
+
+        // Act
+        ImportResult result = bulkImportService.importEnrollments(new StringReader(csv));
+
+        // Assert
+        assertEquals(1, stagedEnrollments.size());
+        assertEquals("alice", stagedEnrollments.get(0).getUserName());
+        assertEquals("MATH101", stagedEnrollments.get(0).getCourseCode());
+        assertEquals(3, result.getErrors().get(0).getLine());
+    }
+}
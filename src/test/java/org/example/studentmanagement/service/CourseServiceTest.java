@@ -1,6 +1,8 @@
 package org.example.studentmanagement.service;
 
 import org.example.studentmanagement.dao.CourseDAO;
+import org.example.studentmanagement.dto.KeysetPage;
+import org.example.studentmanagement.dto.PageQuery;
 import org.example.studentmanagement.entity.Course;
 import org.example.studentmanagement.entity.Student;
 import org.example.studentmanagement.entity.Teacher;
@@ -244,5 +246,19 @@ class CourseServiceTest {
         assertEquals(1, result.getStudents().size());
         verify(courseDAO).findById(1);
     }
-}
 
+    @Test
+    void findCoursePage_delegatesToDAO() {
+        // Arrange
+        PageQuery query = PageQuery.firstPage();
+        KeysetPage<Course> page = new KeysetPage<>(new ArrayList<>(), null);
+        when(courseDAO.findPage(query)).thenReturn(page);
+
+        // Act
+        KeysetPage<Course> result = courseService.findCoursePage(query);
+
+        // Assert
+        assertSame(page, result);
+        verify(courseDAO).findPage(query);
+    }
+}
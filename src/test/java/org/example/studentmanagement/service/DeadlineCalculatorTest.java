@@ -0,0 +1,51 @@
+package org.example.studentmanagement.service;
+
+import org.example.studentmanagement.entity.Assignment;
+import org.example.studentmanagement.entity.DeadlineStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeadlineCalculatorTest {
+
+    // Today is 2026-03-10 for every test
+    private final DeadlineCalculator calculator = new DeadlineCalculator(
+            Clock.fixed(Instant.parse("2026-03-10T12:00:00Z"), ZoneOffset.UTC), 3);
+
+    @Test
+    void daysRemaining_countsCalendarDaysFromToday() {
+        assertEquals(5, calculator.daysRemaining(LocalDate.of(2026, 3, 15)));
+        assertEquals(0, calculator.daysRemaining(LocalDate.of(2026, 3, 10)));
+        assertEquals(-2, calculator.daysRemaining(LocalDate.of(2026, 3, 8)));
+        assertEquals(0, calculator.daysRemaining(null), "Undated assignments report no days remaining");
+    }
+
+    @Test
+    void status_bucketsByDueSoonWindow() {
+        assertEquals(DeadlineStatus.NO_DUE_DATE, calculator.status(null));
+        assertEquals(DeadlineStatus.OVERDUE, calculator.status(LocalDate.of(2026, 3, 9)));
+        assertEquals(DeadlineStatus.DUE_SOON, calculator.status(LocalDate.of(2026, 3, 10)));
+        assertEquals(DeadlineStatus.DUE_SOON, calculator.status(LocalDate.of(2026, 3, 13)));
+        assertEquals(DeadlineStatus.UPCOMING, calculator.status(LocalDate.of(2026, 3, 14)));
+    }
+
+    @Test
+    void applyAll_setsDaysAndStatusOnEachAssignment() {
+        Assignment overdue = new Assignment();
+        overdue.setDueDate(LocalDate.of(2026, 3, 1));
+        Assignment undated = new Assignment();
+
+        calculator.applyAll(List.of(overdue, undated));
+
+        assertEquals(-9, overdue.getDaysRemaining());
+        assertEquals(DeadlineStatus.OVERDUE, overdue.getDeadlineStatus());
+        assertEquals(0, undated.getDaysRemaining());
+        assertEquals(DeadlineStatus.NO_DUE_DATE, undated.getDeadlineStatus());
+    }
+}
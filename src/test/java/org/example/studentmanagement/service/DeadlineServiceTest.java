@@ -0,0 +1,63 @@
+package org.example.studentmanagement.service;
+
+import org.example.studentmanagement.dao.AssignmentDAO;
+import org.example.studentmanagement.dto.UpcomingDeadline;
+import org.example.studentmanagement.entity.DeadlineStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DeadlineServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 10);
+
+    private DeadlineServiceImpl deadlineService;
+    private AssignmentDAO assignmentDAO;
+
+    @BeforeEach
+    void setUp() {
+        assignmentDAO = mock(AssignmentDAO.class);
+        DeadlineCalculator calculator = new DeadlineCalculator(Clock.fixed(Instant.parse("2026-03-10T12:00:00Z"), ZoneOffset.UTC), 3);
+        deadlineService = new DeadlineServiceImpl(assignmentDAO, calculator);
+    }
+
+    @Test
+    void upcomingForStudent_queriesFromTodayAndFillsInDays() {
+        // Arrange
+        when(assignmentDAO.findUpcomingForStudent(7, TODAY, 5)).thenReturn(List.of(
+                new UpcomingDeadline(1, "Quiz", 2, "Calculus", LocalDate.of(2026, 3, 12)),
+                new UpcomingDeadline(2, "Essay", 3, "History", LocalDate.of(2026, 3, 30))));
+
+        // Act
+        List<UpcomingDeadline> result = deadlineService.upcomingForStudent(7, 5);
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals(2, result.get(0).getDaysRemaining());
+        assertEquals(DeadlineStatus.DUE_SOON, result.get(0).getDeadlineStatus());
+        assertEquals(20, result.get(1).getDaysRemaining());
+        assertEquals(DeadlineStatus.UPCOMING, result.get(1).getDeadlineStatus());
+    }
+
+    @Test
+    void upcomingForTeacher_clampsLimit() {
+        // Arrange
+        when(assignmentDAO.findUpcomingForTeacher(eq(4), eq(TODAY), anyInt())).thenReturn(List.of());
+
+        // Act
+        deadlineService.upcomingForTeacher(4, 10_000);
+        deadlineService.upcomingForTeacher(4, 0);
+
+        // Assert
+        verify(assignmentDAO).findUpcomingForTeacher(4, TODAY, DeadlineServiceImpl.MAX_LIMIT);
+        verify(assignmentDAO).findUpcomingForTeacher(4, TODAY, 1);
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.studentmanagement.service;
+
+import org.example.studentmanagement.dao.ExportDAO;
+import org.example.studentmanagement.dao.ExportRowHandler;
+import org.example.studentmanagement.dto.ExportDataset;
+import org.example.studentmanagement.dto.ExportFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ExportServiceTest {
+
+    private ExportServiceImpl exportService;
+    private ExportDAO exportDAO;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        exportDAO = mock(ExportDAO.class);
+        exportService = new ExportServiceImpl(exportDAO);
+
+        doAnswer(invocation -> {
+            ExportRowHandler handler = invocation.getArgument(1);
+            handler.header(new String[]{"id", "username", "score", "feedback"});
+            handler.row(new Object[]{1, "alice", new BigDecimal("91.5"), "Good, \"solid\" work"});
+            handler.row(new Object[]{2, "bob", 72.0, null});
+            return null;
+        }).when(exportDAO).stream(eq(ExportDataset.GRADES), any(ExportRowHandler.class));
+    }
+
+    @Test
+    void export_csv_writesHeaderAndQuotesFieldsThatNeedIt() throws Exception {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        exportService.export(ExportDataset.GRADES, ExportFormat.CSV, out);
+
+        // Assert
+        assertEquals("id,username,score,feedback\r\n"
+                        + "1,alice,91.5,\"Good, \"\"solid\"\" work\"\r\n"
+                        + "2,bob,72.0,\r\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void export_ndjson_writesOneTypedObjectPerLine() throws Exception {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        exportService.export(ExportDataset.GRADES, ExportFormat.NDJSON, out);
+
+        // Assert
+        assertEquals("{\"id\":1,\"username\":\"alice\",\"score\":91.5,\"feedback\":\"Good, \\\"solid\\\" work\"}\n"
+                        + "{\"id\":2,\"username\":\"bob\",\"score\":72.0,\"feedback\":null}\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void export_leavesOutputStreamOpenForTheCaller() throws Exception {
+        // Arrange
+        ByteArrayOutputStream out = spy(new ByteArrayOutputStream());
+
+        // Act
+        exportService.export(ExportDataset.GRADES, ExportFormat.CSV, out);
+
+        // Assert
+        verify(out, never()).close();
+    }
+
+    @Test
+    void csvEscape_leavesPlainValuesUntouched() {
+        // Act & Assert
+        assertEquals("MATH101", ExportServiceImpl.CsvRowWriter.escape("MATH101"));
+        assertEquals("\"line\nbreak\"", ExportServiceImpl.CsvRowWriter.escape("line\nbreak"));
+    }
+}
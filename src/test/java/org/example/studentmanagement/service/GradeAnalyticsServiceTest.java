@@ -0,0 +1,80 @@
+package org.example.studentmanagement.service;
+
+import org.example.studentmanagement.dao.GradeAnalyticsDAO;
+import org.example.studentmanagement.dto.CourseGradeAnalytics;
+import org.example.studentmanagement.dto.GradeStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GradeAnalyticsServiceTest {
+
+    private GradeAnalyticsDAO gradeAnalyticsDAO;
+    private GradeAnalyticsServiceImpl gradeAnalyticsService;
+
+    @BeforeEach
+    void setUp() {
+        gradeAnalyticsDAO = mock(GradeAnalyticsDAO.class);
+        gradeAnalyticsService = new GradeAnalyticsServiceImpl(gradeAnalyticsDAO);
+    }
+
+    @Test
+    void getCourseAnalytics_separatesFinalGradesFromAssignments() {
+        // Arrange
+        GradeStatistics finalGrades = new GradeStatistics(null);
+        finalGrades.addBucket(17, 1, 88.0, 7744.0);
+        GradeStatistics quiz = new GradeStatistics("Quiz");
+        quiz.addBucket(14, 1, 70.0, 4900.0);
+        when(gradeAnalyticsDAO.findByCourseId(1)).thenReturn(List.of(finalGrades, quiz));
+
+        // Act
+        CourseGradeAnalytics analytics = gradeAnalyticsService.getCourseAnalytics(1);
+
+        // Assert
+        assertEquals(1, analytics.getCourseId());
+        assertSame(finalGrades, analytics.getCourseGrades());
+        assertEquals(List.of(quiz), analytics.getAssignments());
+    }
+
+    @Test
+    void getCourseAnalytics_returnsEmptyFinalGradesWhenNoneEntered() {
+        // Arrange
+        when(gradeAnalyticsDAO.findByCourseId(1)).thenReturn(List.of());
+
+        // Act
+        CourseGradeAnalytics analytics = gradeAnalyticsService.getCourseAnalytics(1);
+
+        // Assert
+        assertNull(analytics.getCourseGrades().getAssignmentName());
+        assertEquals(0, analytics.getCourseGrades().getCount());
+        assertEquals(0.0, analytics.getCourseGrades().getMedian());
+        assertEquals(0, analytics.getAssignments().size());
+    }
+
+    @Test
+    void gradeStatistics_derivesMomentsExactlyAndPercentilesFromBuckets() {
+        // Arrange: 60, 70, 80 and 90 percent, one grade per bucket
+        GradeStatistics statistics = new GradeStatistics("Quiz");
+        statistics.addBucket(12, 1, 60.0, 3600.0);
+        statistics.addBucket(14, 1, 70.0, 4900.0);
+        statistics.addBucket(16, 1, 80.0, 6400.0);
+        statistics.addBucket(18, 1, 90.0, 8100.0);
+
+        // Act & Assert
+        assertEquals(4, statistics.getCount());
+        assertEquals(75.0, statistics.getMean(), 1e-9);
+        assertEquals(Math.sqrt(125.0), statistics.getStandardDeviation(), 1e-9);
+        // The second grade is the median rank, placed at the top of its 70-75 bucket
+        assertEquals(75.0, statistics.getMedian(), 1e-9);
+        assertEquals(65.0, statistics.getPercentile25(), 1e-9);
+        assertEquals(85.0, statistics.getPercentile75(), 1e-9);
+        assertEquals(93.0, statistics.getPercentile90(), 1e-9);
+    }
+}
@@ -1,37 +1,56 @@
 package org.example.studentmanagement.service;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
+import org.example.studentmanagement.dao.AssignmentKey;
+import org.example.studentmanagement.dao.GradeAnalyticsDAO;
 import org.example.studentmanagement.dao.GradeDetailsDAO;
+import org.example.studentmanagement.dao.GradeSelection;
+import org.example.studentmanagement.dao.GradebookDAO;
 import org.example.studentmanagement.entity.GradeDetails;
+import org.example.studentmanagement.event.DomainEvent;
+import org.example.studentmanagement.event.DomainEventPublisher;
+import org.example.studentmanagement.event.DomainEventType;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import org.mockito.InOrder;
 
 class GradeDetailsServiceTest {
 
     private GradeDetailsServiceImpl gradeDetailsService;
     private GradeDetailsDAO gradeDetailsDAO;
+    private GradebookDAO gradebookDAO;
+    private GradeAnalyticsDAO gradeAnalyticsDAO;
+    private DomainEventPublisher eventPublisher;
 
     @BeforeEach
     void setUp() {
         gradeDetailsDAO = mock(GradeDetailsDAO.class);
-        gradeDetailsService = new GradeDetailsServiceImpl(gradeDetailsDAO);
+        gradebookDAO = mock(GradebookDAO.class);
+        gradeAnalyticsDAO = mock(GradeAnalyticsDAO.class);
+        eventPublisher = mock(DomainEventPublisher.class);
+        gradeDetailsService = new GradeDetailsServiceImpl(gradeDetailsDAO, gradebookDAO, gradeAnalyticsDAO, eventPublisher);
     }
 
     @Test
     void findById_returnsGradeDetailsWhenExists() {
         // Arrange
         GradeDetails gradeDetails = new GradeDetails(1, 100, 200, "Assignment 1", 
-                85.0, 100.0, "B", "Good work", "2024-01-15", 300);
+                85.0, 100.0, "B", "Good work", LocalDate.of(2024, 1, 15), 300);
         when(gradeDetailsDAO.findById(1)).thenReturn(gradeDetails);
 
         // Act
@@ -66,11 +85,11 @@ class GradeDetailsServiceTest {
     void findAll_returnsAllGradeDetails() {
         // Arrange
         GradeDetails grade1 = new GradeDetails(1, 100, 200, "Assignment 1", 
-                85.0, 100.0, "B", "Good work", "2024-01-15", 300);
+                85.0, 100.0, "B", "Good work", LocalDate.of(2024, 1, 15), 300);
         GradeDetails grade2 = new GradeDetails(2, 100, 200, "Assignment 2", 
-                92.0, 100.0, "A", "Excellent", "2024-01-20", 300);
+                92.0, 100.0, "A", "Excellent", LocalDate.of(2024, 1, 20), 300);
         GradeDetails grade3 = new GradeDetails(3, 101, 200, "Assignment 1", 
-                78.0, 100.0, "C", "Needs improvement", "2024-01-15", 300);
+                78.0, 100.0, "C", "Needs improvement", LocalDate.of(2024, 1, 15), 300);
         List<GradeDetails> gradeDetailsList = Arrays.asList(grade1, grade2, grade3);
         when(gradeDetailsDAO.findAll()).thenReturn(gradeDetailsList);
 
@@ -104,13 +123,15 @@ class GradeDetailsServiceTest {
     void save_delegatesToDAO() {
         // Arrange
         GradeDetails gradeDetails = new GradeDetails(1, 100, 200, "Assignment 1", 
-                85.0, 100.0, "B", "Good work", "2024-01-15", 300);
+                85.0, 100.0, "B", "Good work", LocalDate.of(2024, 1, 15), 300);
 
         // Act
         gradeDetailsService.save(gradeDetails);
 
         // Assert
         verify(gradeDetailsDAO).save(gradeDetails);
+        verify(gradebookDAO).refreshSummary(100, 200);
+        verify(eventPublisher).publish(DomainEvent.gradeSaved(gradeDetails));
     }
 
     @Test
@@ -125,28 +146,35 @@ class GradeDetailsServiceTest {
         // Assert
         verify(gradeDetailsDAO).save(newGrade);
         verify(gradeDetailsDAO, never()).findById(anyInt());
+        verify(gradeAnalyticsDAO).lock(null, List.of(new AssignmentKey(200, "New Assignment")));
+        verify(gradeAnalyticsDAO, never()).subtract(any());
+        verify(gradeAnalyticsDAO).add(GradeSelection.byId(newGrade.getId()));
     }
 
     @Test
     void save_handlesExistingGradeDetails() {
         // Arrange
         GradeDetails existingGrade = new GradeDetails(1, 100, 200, "Assignment 1", 
-                90.0, 100.0, "A", "Updated feedback", "2024-01-15", 300);
+                90.0, 100.0, "A", "Updated feedback", LocalDate.of(2024, 1, 15), 300);
 
         // Act
         gradeDetailsService.save(existingGrade);
 
         // Assert
-        verify(gradeDetailsDAO).save(existingGrade);
+        InOrder order = inOrder(gradeAnalyticsDAO, gradeDetailsDAO);
+        order.verify(gradeAnalyticsDAO).lock(GradeSelection.byId(1), List.of(new AssignmentKey(200, "Assignment 1")));
+        order.verify(gradeAnalyticsDAO).subtract(GradeSelection.byId(1));
+        order.verify(gradeDetailsDAO).save(existingGrade);
+        order.verify(gradeAnalyticsDAO).add(GradeSelection.byId(1));
     }
 
     @Test
     void save_handlesGradeDetailsWithDifferentGrades() {
         // Arrange
         GradeDetails gradeA = new GradeDetails(1, 100, 200, "Assignment 1", 
-                95.0, 100.0, "A", "Excellent", "2024-01-15", 300);
+                95.0, 100.0, "A", "Excellent", LocalDate.of(2024, 1, 15), 300);
         GradeDetails gradeF = new GradeDetails(2, 100, 200, "Assignment 2", 
-                45.0, 100.0, "F", "Failed", "2024-01-15", 300);
+                45.0, 100.0, "F", "Failed", LocalDate.of(2024, 1, 15), 300);
 
         // Act
         gradeDetailsService.save(gradeA);
@@ -159,6 +187,68 @@ class GradeDetailsServiceTest {
         assertEquals("F", gradeF.getGrade());
     }
 
+    @Test
+    void upsertAll_delegatesToDAO() {
+        // Arrange
+        List<GradeDetails> grades = List.of(
+                new GradeDetails(0, 1, 10, "Quiz", 90.0, 100.0, "A", null, LocalDate.of(2024, 1, 1), 5),
+                new GradeDetails(0, 2, 10, "Quiz", 70.0, 100.0, "C", null, LocalDate.of(2024, 1, 1), 5)
+        );
+
+        // Act
+        gradeDetailsService.upsertAll(grades);
+
+        // Assert
+        GradeSelection quiz = GradeSelection.byAssignment(10, "Quiz", Set.of(1, 2));
+        InOrder order = inOrder(gradeAnalyticsDAO, gradeDetailsDAO);
+        order.verify(gradeAnalyticsDAO).lock(quiz, Set.of(new AssignmentKey(10, "Quiz")));
+        order.verify(gradeAnalyticsDAO).subtract(quiz);
+        order.verify(gradeDetailsDAO).upsertAll(grades);
+        order.verify(gradeAnalyticsDAO).add(quiz);
+        verify(gradebookDAO).refreshCourseSummaries(10);
+        verify(gradebookDAO, never()).refreshSummary(anyInt(), anyInt());
+        verify(eventPublisher).publish(List.of(DomainEvent.gradeSaved(grades.get(0)), DomainEvent.gradeSaved(grades.get(1))));
+    }
+
+    @Test
+    void upsertAll_refreshesSingleStudentSummaryPerCourse() {
+        // Arrange
+        List<GradeDetails> grades = List.of(
+                new GradeDetails(0, 1, 10, "Quiz", 90.0, 100.0, "A", null, LocalDate.of(2024, 1, 1), 5),
+                new GradeDetails(0, 1, 10, "Essay", 70.0, 100.0, "C", null, LocalDate.of(2024, 1, 1), 5)
+        );
+
+        // Act
+        gradeDetailsService.upsertAll(grades);
+
+        // Assert
+        verify(gradebookDAO).refreshSummary(1, 10);
+        verify(gradebookDAO, never()).refreshCourseSummaries(anyInt());
+        verify(gradeAnalyticsDAO).add(GradeSelection.byAssignment(10, "Quiz", Set.of(1)));
+        verify(gradeAnalyticsDAO).add(GradeSelection.byAssignment(10, "Essay", Set.of(1)));
+    }
+
+    @Test
+    void upsertAll_locksEveryWrittenAssignmentBeforeSubtracting() {
+        // Arrange
+        List<GradeDetails> grades = List.of(
+                new GradeDetails(0, 1, 20, "Quiz", 90.0, 100.0, "A", null, LocalDate.of(2024, 1, 1), 5),
+                new GradeDetails(0, 1, 10, "Quiz", 80.0, 100.0, "B", null, LocalDate.of(2024, 1, 1), 5),
+                new GradeDetails(0, 1, 10, "Essay", 70.0, 100.0, "C", null, LocalDate.of(2024, 1, 1), 5)
+        );
+
+        // Act
+        gradeDetailsService.upsertAll(grades);
+
+        // Assert
+        List<GradeSelection> written = List.of(GradeSelection.byAssignment(10, "Essay", Set.of(1)),
+                GradeSelection.byAssignment(10, "Quiz", Set.of(1)), GradeSelection.byAssignment(20, "Quiz", Set.of(1)));
+        InOrder order = inOrder(gradeAnalyticsDAO);
+        order.verify(gradeAnalyticsDAO).lock(GradeSelection.anyOf(written),
+                Set.of(new AssignmentKey(10, "Essay"), new AssignmentKey(10, "Quiz"), new AssignmentKey(20, "Quiz")));
+        written.forEach(selection -> order.verify(gradeAnalyticsDAO).subtract(selection));
+    }
+
     @Test
     void deleteById_delegatesToDAO() {
         // Act
@@ -166,6 +256,26 @@ class GradeDetailsServiceTest {
 
         // Assert
         verify(gradeDetailsDAO).deleteById(1);
+        verify(gradebookDAO, never()).refreshSummary(anyInt(), anyInt());
+        verify(gradeAnalyticsDAO, never()).subtract(any());
+    }
+
+    @Test
+    void deleteById_refreshesSummaryOfDeletedGrade() {
+        // Arrange
+        when(gradeDetailsDAO.findById(1)).thenReturn(new GradeDetails(1, 100, 200, "Quiz",
+                85.0, 100.0, "B", null, LocalDate.of(2024, 1, 15), 300));
+
+        // Act
+        gradeDetailsService.deleteById(1);
+
+        // Assert
+        InOrder order = inOrder(gradeAnalyticsDAO, gradeDetailsDAO);
+        order.verify(gradeAnalyticsDAO).lock(GradeSelection.byId(1), List.of());
+        order.verify(gradeAnalyticsDAO).subtract(GradeSelection.byId(1));
+        order.verify(gradeDetailsDAO).deleteById(1);
+        verify(gradebookDAO).refreshSummary(100, 200);
+        verify(eventPublisher).publish(new DomainEvent(null, DomainEventType.GRADE_DELETED, 1, 200, 100, null));
     }
 
     @Test
@@ -175,13 +285,14 @@ class GradeDetailsServiceTest {
 
         // Assert
         verify(gradeDetailsDAO).deleteById(999);
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
     void allMethods_delegateToDAO() {
         // Arrange
         GradeDetails gradeDetails = new GradeDetails(1, 100, 200, "Assignment 1", 
-                85.0, 100.0, "B", "Good work", "2024-01-15", 300);
+                85.0, 100.0, "B", "Good work", LocalDate.of(2024, 1, 15), 300);
         when(gradeDetailsDAO.findById(1)).thenReturn(gradeDetails);
         when(gradeDetailsDAO.findAll()).thenReturn(Arrays.asList(gradeDetails));
 
@@ -203,7 +314,7 @@ class GradeDetailsServiceTest {
     void findById_handlesGradeDetailsWithPercentage() {
         // Arrange
         GradeDetails gradeDetails = new GradeDetails(1, 100, 200, "Assignment 1", 
-                85.0, 100.0, "B", "Good work", "2024-01-15", 300);
+                85.0, 100.0, "B", "Good work", LocalDate.of(2024, 1, 15), 300);
         when(gradeDetailsDAO.findById(1)).thenReturn(gradeDetails);
 
         // Act
@@ -0,0 +1,281 @@
+package org.example.studentmanagement.service;
+
+import org.example.studentmanagement.config.CacheConfig;
+import org.example.studentmanagement.dao.AdminDAO;
+import org.example.studentmanagement.dao.CourseDAO;
+import org.example.studentmanagement.dao.DeletionDAO;
+import org.example.studentmanagement.dao.GradeAnalyticsDAO;
+import org.example.studentmanagement.dao.StatisticsDAO;
+import org.example.studentmanagement.dao.StudentCourseDetailsDAO;
+import org.example.studentmanagement.dao.StudentDAO;
+import org.example.studentmanagement.dao.TeacherDAO;
+import org.example.studentmanagement.dto.AdminStatistics;
+import org.example.studentmanagement.dto.UserAccount;
+import org.example.studentmanagement.entity.Course;
+import org.example.studentmanagement.entity.Student;
+import org.example.studentmanagement.entity.StudentCourseDetails;
+import org.example.studentmanagement.entity.Teacher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig(ServiceCacheTest.TestConfig.class)
+class ServiceCacheTest {
+
+    @Configuration
+    @Import({CacheConfig.class, CourseServiceImpl.class, TeacherServiceImpl.class, StudentServiceImpl.class,
+            StudentCourseDetailsServiceImpl.class, StatisticsServiceImpl.class, AdminServiceImpl.class})
+    static class TestConfig {
+
+        @Bean
+        CourseDAO courseDAO() {
+            return mock(CourseDAO.class);
+        }
+
+        @Bean
+        TeacherDAO teacherDAO() {
+            return mock(TeacherDAO.class);
+        }
+
+        @Bean
+        StudentDAO studentDAO() {
+            return mock(StudentDAO.class);
+        }
+
+        @Bean
+        StudentCourseDetailsDAO studentCourseDetailsDAO() {
+            return mock(StudentCourseDetailsDAO.class);
+        }
+
+        @Bean
+        StatisticsDAO statisticsDAO() {
+            return mock(StatisticsDAO.class);
+        }
+
+        @Bean
+        AdminDAO adminDAO() {
+            return mock(AdminDAO.class);
+        }
+
+        @Bean
+        DeletionDAO deletionDAO() {
+            return mock(DeletionDAO.class);
+        }
+
+        @Bean
+        GradeAnalyticsDAO gradeAnalyticsDAO() {
+            return mock(GradeAnalyticsDAO.class);
+        }
+
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return mock(PasswordEncoder.class);
+        }
+    }
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private TeacherService teacherService;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private StudentCourseDetailsService studentCourseDetailsService;
+
+    @Autowired
+    private CourseDAO courseDAO;
+
+    @Autowired
+    private TeacherDAO teacherDAO;
+
+    @Autowired
+    private StudentDAO studentDAO;
+
+    @Autowired
+    private StatisticsService statisticsService;
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private StatisticsDAO statisticsDAO;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        reset(courseDAO, teacherDAO, studentDAO, statisticsDAO);
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void findCourseById_readsThroughCacheOnRepeatedLookups() {
+        // Arrange
+        when(courseDAO.findById(1)).thenReturn(new Course(1, "MATH101", "Mathematics", null, new ArrayList<>()));
+
+        // Act
+        Course first = courseService.findCourseById(1);
+        Course second = courseService.findCourseById(1);
+
+        // Assert
+        assertSame(first, second);
+        verify(courseDAO, times(1)).findById(1);
+    }
+
+    @Test
+    void findCourseById_doesNotCacheMissingCourse() {
+        // Arrange
+        when(courseDAO.findById(999)).thenReturn(null);
+
+        // Act
+        courseService.findCourseById(999);
+        courseService.findCourseById(999);
+
+        // Assert
+        verify(courseDAO, times(2)).findById(999);
+    }
+
+    @Test
+    void saveCourse_evictsCourseTeacherAndStudentCaches() {
+        // Arrange
+        when(courseDAO.findById(1)).thenReturn(new Course(1, "MATH101", "Mathematics", null, new ArrayList<>()));
+        when(teacherDAO.findById(2)).thenReturn(new Teacher(2, "teacher1", "pass", "John", "Teacher", "t@test.com", new ArrayList<>()));
+        when(studentDAO.findById(3)).thenReturn(new Student(3, "student1", "pass", "Jane", "Student", "s@test.com", new ArrayList<>()));
+        courseService.findCourseById(1);
+        teacherService.findByTeacherId(2);
+        studentService.findByStudentId(3);
+
+        // Act
+        courseService.save(new Course(1, "MATH101", "Advanced Mathematics", null, new ArrayList<>()));
+        courseService.findCourseById(1);
+        teacherService.findByTeacherId(2);
+        studentService.findByStudentId(3);
+
+        // Assert
+        verify(courseDAO, times(2)).findById(1);
+        verify(teacherDAO, times(2)).findById(2);
+        verify(studentDAO, times(2)).findById(3);
+    }
+
+    @Test
+    void saveStudent_evictsOnlyThatStudentAndCourseRosters() {
+        // Arrange
+        when(studentDAO.findById(3)).thenReturn(new Student(3, "student1", "pass", "Jane", "Student", "s@test.com", new ArrayList<>()));
+        when(studentDAO.findById(4)).thenReturn(new Student(4, "student2", "pass", "Tom", "Student", "t@test.com", new ArrayList<>()));
+        when(courseDAO.findById(1)).thenReturn(new Course(1, "MATH101", "Mathematics", null, new ArrayList<>()));
+        studentService.findByStudentId(3);
+        studentService.findByStudentId(4);
+        courseService.findCourseById(1);
+
+        // Act
+        studentService.save(new Student(3, "student1", "pass", "Janet", "Student", "s@test.com", new ArrayList<>()));
+        studentService.findByStudentId(3);
+        studentService.findByStudentId(4);
+        courseService.findCourseById(1);
+
+        // Assert
+        verify(studentDAO, times(2)).findById(3);
+        verify(studentDAO, times(1)).findById(4);
+        verify(courseDAO, times(2)).findById(1);
+    }
+
+    @Test
+    void enrollmentChange_evictsCourseAndStudentCaches() {
+        // Arrange
+        when(studentDAO.findById(3)).thenReturn(new Student(3, "student1", "pass", "Jane", "Student", "s@test.com", new ArrayList<>()));
+        when(courseDAO.findById(1)).thenReturn(new Course(1, "MATH101", "Mathematics", null, new ArrayList<>()));
+        studentService.findByStudentId(3);
+        courseService.findCourseById(1);
+
+        // Act
+        studentCourseDetailsService.deleteById(7);
+        studentService.findByStudentId(3);
+        courseService.findCourseById(1);
+
+        // Assert
+        verify(studentDAO, times(2)).findById(3);
+        verify(courseDAO, times(2)).findById(1);
+    }
+
+    @Test
+    void cacheStats_recordHitsAndMisses() {
+        // Arrange
+        when(teacherDAO.findById(2)).thenReturn(new Teacher(2, "teacher1", "pass", "John", "Teacher", "t@test.com", new ArrayList<>()));
+        CaffeineCache cache = (CaffeineCache) cacheManager.getCache(CacheConfig.TEACHERS);
+        long hitsBefore = cache.getNativeCache().stats().hitCount();
+        long missesBefore = cache.getNativeCache().stats().missCount();
+
+        // Act
+        teacherService.findByTeacherId(2);
+        teacherService.findByTeacherId(2);
+        teacherService.findByTeacherId(2);
+
+        // Assert
+        assertEquals(2, cache.getNativeCache().stats().hitCount() - hitsBefore);
+        assertEquals(1, cache.getNativeCache().stats().missCount() - missesBefore);
+    }
+
+    @Test
+    void saveStudent_evictsCachedLoginAccounts() {
+        // Arrange
+        cacheManager.getCache(CacheConfig.USERS).put("student1", new UserAccount("student1", "pass", "STUDENT"));
+
+        // Act
+        studentService.save(new Student(3, "student1", "newpass", "Jane", "Student", "s@test.com", new ArrayList<>()));
+
+        // Assert
+        assertNull(cacheManager.getCache(CacheConfig.USERS).get("student1"));
+    }
+
+    @Test
+    void getAdminStatistics_servesRepeatedDashboardLoadsFromCache() {
+        // Arrange
+        when(statisticsDAO.countRows()).thenReturn(Map.of());
+        when(statisticsDAO.findTopEnrollments(anyInt())).thenReturn(new ArrayList<>());
+        when(statisticsDAO.countAssignmentsByStatus()).thenReturn(Map.of());
+        when(statisticsDAO.countGradesByLetter()).thenReturn(Map.of());
+
+        // Act
+        AdminStatistics first = statisticsService.getAdminStatistics();
+        AdminStatistics second = statisticsService.getAdminStatistics();
+
+        // Assert
+        assertSame(first, second);
+        verify(statisticsDAO, times(1)).countRows();
+    }
+
+    @Test
+    void deleteTeacher_evictsCachedStatistics() {
+        // Arrange
+        when(statisticsDAO.countRows()).thenReturn(Map.of());
+        when(statisticsDAO.findTopEnrollments(anyInt())).thenReturn(new ArrayList<>());
+        when(statisticsDAO.countAssignmentsByStatus()).thenReturn(Map.of());
+        when(statisticsDAO.countGradesByLetter()).thenReturn(Map.of());
+        statisticsService.getAdminStatistics();
+
+        // Act
+        adminService.deleteTeacherWithRelatedData(2);
+        statisticsService.getAdminStatistics();
+
+        // Assert
+        verify(statisticsDAO, times(2)).countRows();
+    }
+}
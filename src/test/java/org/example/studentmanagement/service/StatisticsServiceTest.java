@@ -0,0 +1,66 @@
+package org.example.studentmanagement.service;
+
+import org.example.studentmanagement.dao.StatisticsDAO;
+import org.example.studentmanagement.dto.AdminStatistics;
+import org.example.studentmanagement.dto.CourseEnrollmentCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class StatisticsServiceTest {
+
+    private StatisticsServiceImpl statisticsService;
+    private StatisticsDAO statisticsDAO;
+
+    @BeforeEach
+    void setUp() {
+        statisticsDAO = mock(StatisticsDAO.class);
+        statisticsService = new StatisticsServiceImpl(statisticsDAO);
+    }
+
+    @Test
+    void getAdminStatistics_assemblesCountsAndAggregates() {
+        // Arrange
+        when(statisticsDAO.countRows()).thenReturn(Map.of(
+                StatisticsDAO.COURSES, 3L, StatisticsDAO.STUDENTS, 40L, StatisticsDAO.TEACHERS, 2L,
+                StatisticsDAO.ENROLLMENTS, 55L, StatisticsDAO.ASSIGNMENTS, 7L));
+        List<CourseEnrollmentCount> top = List.of(new CourseEnrollmentCount(1, "MATH101", "Mathematics", 30));
+        when(statisticsDAO.findTopEnrollments(StatisticsServiceImpl.TOP_COURSES)).thenReturn(top);
+        when(statisticsDAO.countAssignmentsByStatus()).thenReturn(Map.of("active", 7L));
+        when(statisticsDAO.countGradesByLetter()).thenReturn(Map.of("A", 4L));
+
+        // Act
+        AdminStatistics result = statisticsService.getAdminStatistics();
+
+        // Assert
+        assertEquals(3L, result.getCourseCount());
+        assertEquals(40L, result.getStudentCount());
+        assertEquals(2L, result.getTeacherCount());
+        assertEquals(55L, result.getEnrollmentCount());
+        assertEquals(7L, result.getAssignmentCount());
+        assertEquals("MATH101", result.getTopEnrollments().get(0).getCode());
+        assertEquals(7L, result.getAssignmentsByStatus().get("active"));
+        assertEquals(4L, result.getGradeDistribution().get("A"));
+    }
+
+    @Test
+    void getAdminStatistics_defaultsMissingCountsToZero() {
+        // Arrange
+        when(statisticsDAO.countRows()).thenReturn(Map.of());
+        when(statisticsDAO.findTopEnrollments(anyInt())).thenReturn(List.of());
+        when(statisticsDAO.countAssignmentsByStatus()).thenReturn(Map.of());
+        when(statisticsDAO.countGradesByLetter()).thenReturn(Map.of());
+
+        // Act
+        AdminStatistics result = statisticsService.getAdminStatistics();
+
+        // Assert
+        assertEquals(0L, result.getCourseCount());
+        assertTrue(result.getTopEnrollments().isEmpty());
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.studentmanagement.service;
+
+import org.example.studentmanagement.dao.AssignmentDAO;
+import org.example.studentmanagement.dto.StudentAssignmentResponse;
+import org.example.studentmanagement.dto.StudentAssignmentRow;
+import org.example.studentmanagement.entity.DeadlineStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class StudentAssignmentServiceTest {
+
+    private StudentAssignmentServiceImpl studentAssignmentService;
+    private AssignmentDAO assignmentDAO;
+
+    @BeforeEach
+    void setUp() {
+        assignmentDAO = mock(AssignmentDAO.class);
+        studentAssignmentService = new StudentAssignmentServiceImpl(assignmentDAO, new DeadlineCalculator(3));
+    }
+
+    @Test
+    void getAssignmentsForStudent_mapsRowsInFeedOrder() {
+        // Arrange
+        LocalDate dueDate = LocalDate.now().plusDays(3);
+        when(assignmentDAO.findRowsForStudent(7, null)).thenReturn(List.of(
+                new StudentAssignmentRow(1L, "Quiz", "Chapter 1", dueDate, 2, "Calculus", true),
+                new StudentAssignmentRow(2L, "Essay", null, null, 3, "History", false)));
+
+        // Act
+        List<StudentAssignmentResponse> result = studentAssignmentService.getAssignmentsForStudent(7L, Optional.empty());
+
+        // Assert
+        assertEquals(2, result.size());
+        StudentAssignmentResponse quiz = result.get(0);
+        assertEquals(1L, quiz.getAssignmentId());
+        assertEquals("Quiz", quiz.getTitle());
+        assertEquals(dueDate, quiz.getDueDate());
+        assertEquals(3, quiz.getDaysRemaining());
+        assertEquals(2, quiz.getCourseId());
+        assertEquals("Calculus", quiz.getCourseName());
+        assertEquals(DeadlineStatus.DUE_SOON, quiz.getDeadlineStatus());
+        assertEquals("completed", quiz.getStatus());
+        assertEquals("incomplete", result.get(1).getStatus());
+        assertEquals(DeadlineStatus.NO_DUE_DATE, result.get(1).getDeadlineStatus());
+    }
+
+    @Test
+    void getAssignmentsForStudent_passesCourseFilterToDAO() {
+        // Arrange
+        when(assignmentDAO.findRowsForStudent(7, "History")).thenReturn(List.of());
+
+        // Act
+        studentAssignmentService.getAssignmentsForStudent(7L, Optional.of(" History "));
+
+        // Assert
+        verify(assignmentDAO).findRowsForStudent(7, "History");
+    }
+
+    @Test
+    void getAssignmentsForStudent_treatsBlankFilterAsAllCourses() {
+        // Arrange
+        when(assignmentDAO.findRowsForStudent(7, null)).thenReturn(List.of());
+
+        // Act
+        studentAssignmentService.getAssignmentsForStudent(7L, Optional.of(""));
+
+        // Assert
+        verify(assignmentDAO).findRowsForStudent(7, null);
+    }
+}
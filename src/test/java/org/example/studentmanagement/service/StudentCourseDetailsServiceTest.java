@@ -6,6 +6,7 @@ import org.example.studentmanagement.entity.StudentCourseDetails;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -26,7 +27,7 @@ class StudentCourseDetailsServiceTest {
     @Test
     void findByStudentAndCourseId_returnsDetailsWhenExists() {
         // Arrange
-        GradeDetails grade = new GradeDetails(1, 10, 20, "Midterm", 85.0, 100.0, "B+", "Good work", "2024-01-15", 5);
+        GradeDetails grade = new GradeDetails(1, 10, 20, "Midterm", 85.0, 100.0, "B+", "Good work", LocalDate.of(2024, 1, 15), 5);
         StudentCourseDetails details = new StudentCourseDetails(1, 10, 20, grade, new ArrayList<>());
         when(studentCourseDetailsDAO.findByStudentIdAndCourseId(10, 20)).thenReturn(details);
 
@@ -123,6 +124,23 @@ class StudentCourseDetailsServiceTest {
         verify(studentCourseDetailsDAO).findByStudentId(999);
     }
 
+    @Test
+    void findByCourseId_returnsEnrollmentsForCourse() {
+        // Arrange
+        List<StudentCourseDetails> details = List.of(
+                new StudentCourseDetails(1, 10, 20, null, new ArrayList<>()),
+                new StudentCourseDetails(2, 11, 20, null, new ArrayList<>())
+        );
+        when(studentCourseDetailsDAO.findByCourseId(20)).thenReturn(details);
+
+        // Act
+        List<StudentCourseDetails> result = studentCourseDetailsService.findByCourseId(20);
+
+        // Assert
+        assertEquals(2, result.size());
+        verify(studentCourseDetailsDAO).findByCourseId(20);
+    }
+
     @Test
     void save_delegatesToDAO() {
         // Arrange
@@ -138,7 +156,7 @@ class StudentCourseDetailsServiceTest {
     @Test
     void save_savesDetailsWithGrade() {
         // Arrange
-        GradeDetails grade = new GradeDetails(1, 10, 20, "Final Exam", 90.0, 100.0, "A-", "Excellent", "2024-01-20", 5);
+        GradeDetails grade = new GradeDetails(1, 10, 20, "Final Exam", 90.0, 100.0, "A-", "Excellent", LocalDate.of(2024, 1, 20), 5);
         StudentCourseDetails details = new StudentCourseDetails(1, 10, 20, grade, new ArrayList<>());
 
         // Act
@@ -173,105 +191,6 @@ class StudentCourseDetailsServiceTest {
         verifyNoMoreInteractions(studentCourseDetailsDAO);
     }
 
-    @Test
-    void deleteByStudentId_deletesAllEnrollmentsForStudent() {
-        // Arrange
-        int studentId = 10;
-        List<StudentCourseDetails> detailsList = List.of(
-                new StudentCourseDetails(1, studentId, 20, new GradeDetails(), new ArrayList<>()),
-                new StudentCourseDetails(2, studentId, 21, new GradeDetails(), new ArrayList<>()),
-                new StudentCourseDetails(3, studentId, 22, new GradeDetails(), new ArrayList<>())
-        );
-        when(studentCourseDetailsDAO.findByStudentId(studentId)).thenReturn(detailsList);
-
-        // Act
-        studentCourseDetailsService.deleteByStudentId(studentId);
-
-        // Assert
-        verify(studentCourseDetailsDAO).findByStudentId(studentId);
-        verify(studentCourseDetailsDAO).deleteById(1);
-        verify(studentCourseDetailsDAO).deleteById(2);
-        verify(studentCourseDetailsDAO).deleteById(3);
-        verify(studentCourseDetailsDAO, times(3)).deleteById(anyInt());
-    }
-
-    @Test
-    void deleteByStudentId_doesNothingWhenNoEnrollments() {
-        // Arrange
-        int studentId = 999;
-        when(studentCourseDetailsDAO.findByStudentId(studentId)).thenReturn(new ArrayList<>());
-
-        // Act
-        studentCourseDetailsService.deleteByStudentId(studentId);
-
-        // Assert
-        verify(studentCourseDetailsDAO).findByStudentId(studentId);
-        verify(studentCourseDetailsDAO, never()).deleteById(anyInt());
-    }
-
-    @Test
-    void deleteByStudentId_deletesInLoop() {
-        // Arrange
-        int studentId = 5;
-        List<StudentCourseDetails> detailsList = List.of(
-                new StudentCourseDetails(100, studentId, 1, new GradeDetails(), new ArrayList<>()),
-                new StudentCourseDetails(200, studentId, 2, new GradeDetails(), new ArrayList<>())
-        );
-        when(studentCourseDetailsDAO.findByStudentId(studentId)).thenReturn(detailsList);
-
-        // Act
-        studentCourseDetailsService.deleteByStudentId(studentId);
-
-        // Assert
-        verify(studentCourseDetailsDAO).deleteById(100);
-        verify(studentCourseDetailsDAO).deleteById(200);
-    }
-
-    @Test
-    void deleteByStudentAndCourseId_deletesSpecificEnrollment() {
-        // Arrange
-        int studentId = 10;
-        int courseId = 20;
-        StudentCourseDetails details = new StudentCourseDetails(1, studentId, courseId, new GradeDetails(), new ArrayList<>());
-        when(studentCourseDetailsDAO.findByStudentIdAndCourseId(studentId, courseId)).thenReturn(details);
-
-        // Act
-        studentCourseDetailsService.deleteByStudentAndCourseId(studentId, courseId);
-
-        // Assert
-        verify(studentCourseDetailsDAO).findByStudentIdAndCourseId(studentId, courseId);
-        verify(studentCourseDetailsDAO).deleteById(1);
-    }
-
-    @Test
-    void deleteByStudentAndCourseId_doesNothingWhenNotFound() {
-        // Arrange
-        int studentId = 99;
-        int courseId = 99;
-        when(studentCourseDetailsDAO.findByStudentIdAndCourseId(studentId, courseId)).thenReturn(null);
-
-        // Act
-        studentCourseDetailsService.deleteByStudentAndCourseId(studentId, courseId);
-
-        // Assert
-        verify(studentCourseDetailsDAO).findByStudentIdAndCourseId(studentId, courseId);
-        verify(studentCourseDetailsDAO, never()).deleteById(anyInt());
-    }
-
-    @Test
-    void deleteByStudentAndCourseId_handlesNullCheck() {
-        // Arrange
-        when(studentCourseDetailsDAO.findByStudentIdAndCourseId(1, 1)).thenReturn(null);
-
-        // Act
-        studentCourseDetailsService.deleteByStudentAndCourseId(1, 1);
-
-        // Assert
-        // Should not throw exception
-        verify(studentCourseDetailsDAO).findByStudentIdAndCourseId(1, 1);
-        verifyNoMoreInteractions(studentCourseDetailsDAO);
-    }
-
     @Test
     void findByStudentAndCourseId_delegatesToDAO() {
         // Arrange
@@ -1,6 +1,8 @@
 package org.example.studentmanagement.service;
 
 import org.example.studentmanagement.dao.StudentDAO;
+import org.example.studentmanagement.dto.KeysetPage;
+import org.example.studentmanagement.dto.PageQuery;
 import org.example.studentmanagement.entity.Course;
 import org.example.studentmanagement.entity.Student;
 import org.junit.jupiter.api.BeforeEach;
@@ -243,4 +245,19 @@ class StudentServiceTest {
         // Assert
         verify(studentDAO).findByUserName("test");
     }
-}
\ No newline at end of file
+
+    @Test
+    void findStudentPage_delegatesToDAO() {
+        // Arrange
+        PageQuery query = PageQuery.firstPage();
+        KeysetPage<Student> page = new KeysetPage<>(new ArrayList<>(), null);
+        when(studentDAO.findPage(query)).thenReturn(page);
+
+        // Act
+        KeysetPage<Student> result = studentService.findStudentPage(query);
+
+        // Assert
+        assertSame(page, result);
+        verify(studentDAO).findPage(query);
+    }
+}
@@ -1,6 +1,8 @@
 package org.example.studentmanagement.service;
 
 import org.example.studentmanagement.dao.TeacherDAO;
+import org.example.studentmanagement.dto.KeysetPage;
+import org.example.studentmanagement.dto.PageQuery;
 import org.example.studentmanagement.entity.Course;
 import org.example.studentmanagement.entity.Teacher;
 import org.junit.jupiter.api.BeforeEach;
@@ -303,4 +305,19 @@ class TeacherServiceTest {
         assertEquals(1, result.getCourses().size());
         verify(teacherDAO).findById(1);
     }
-}
\ No newline at end of file
+
+    @Test
+    void findTeacherPage_delegatesToDAO() {
+        // Arrange
+        PageQuery query = PageQuery.firstPage();
+        KeysetPage<Teacher> page = new KeysetPage<>(new ArrayList<>(), null);
+        when(teacherDAO.findPage(query)).thenReturn(page);
+
+        // Act
+        KeysetPage<Teacher> result = teacherService.findTeacherPage(query);
+
+        // Assert
+        assertSame(page, result);
+        verify(teacherDAO).findPage(query);
+    }
+}